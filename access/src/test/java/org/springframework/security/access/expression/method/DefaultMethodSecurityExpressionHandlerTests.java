@@ -16,6 +16,7 @@
 
 package org.springframework.security.access.expression.method;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.TypedValue;
+import org.springframework.security.access.BatchPermissionEvaluator;
+import org.springframework.security.access.PermissionCacheOptimizer;
+import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.access.expression.SecurityExpressionRoot;
 import org.springframework.security.authentication.AuthenticationTrustResolver;
 import org.springframework.security.core.Authentication;
@@ -46,6 +50,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -174,6 +179,93 @@ public class DefaultMethodSecurityExpressionHandlerTests {
 		verify(upstream).close();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void filterWhenBatchPermissionEvaluatorThenPermissionsResolvedOnce() {
+		setupMocks();
+		BatchPermissionEvaluator batchEvaluator = mock(BatchPermissionEvaluator.class);
+		PermissionEvaluator preloaded = mock(PermissionEvaluator.class);
+		List<String> list = new ArrayList<>(List.of("1", "2", "3"));
+		given(batchEvaluator.forDomainObjects(this.authentication, list)).willReturn(preloaded);
+		given(preloaded.hasPermission(any(), any(), any()))
+			.willAnswer((invocation) -> !"2".equals(invocation.getArgument(1)));
+		this.handler.setPermissionEvaluator(batchEvaluator);
+		Expression expression = this.handler.getExpressionParser()
+			.parseExpression("hasPermission(filterObject, 'read')");
+		EvaluationContext context = this.handler.createEvaluationContext(this.authentication, this.methodInvocation);
+		List<String> filtered = (List<String>) this.handler.filter(list, expression, context);
+		assertThat(filtered).containsExactly("1", "3");
+		verify(batchEvaluator).forDomainObjects(any(), any());
+		verify(batchEvaluator, never()).hasPermission(any(), any(), any());
+		this.handler.getExpressionParser().parseExpression("hasPermission('1', 'read')").getValue(context);
+		verify(batchEvaluator).hasPermission(this.authentication, "1", "read");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void filterWhenBatchPermissionEvaluatorAndNoHasPermissionThenPermissionsNotResolved() {
+		setupMocks();
+		BatchPermissionEvaluator batchEvaluator = mock(BatchPermissionEvaluator.class);
+		List<String> list = new ArrayList<>(List.of("1", "2", "3"));
+		this.handler.setPermissionEvaluator(batchEvaluator);
+		Expression expression = this.handler.getExpressionParser().parseExpression("filterObject != '2'");
+		EvaluationContext context = this.handler.createEvaluationContext(this.authentication, this.methodInvocation);
+		List<String> filtered = (List<String>) this.handler.filter(list, expression, context);
+		assertThat(filtered).containsExactly("1", "3");
+		verify(batchEvaluator, never()).forDomainObjects(any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void filterWhenBatchPermissionEvaluatorAndHasPermissionNotOnFilterObjectThenPermissionsNotResolved() {
+		setupMocks();
+		BatchPermissionEvaluator batchEvaluator = mock(BatchPermissionEvaluator.class);
+		given(batchEvaluator.hasPermission(any(), any(), any(), any()))
+			.willAnswer((invocation) -> !"2".equals(invocation.getArgument(1)));
+		List<String> list = new ArrayList<>(List.of("1", "2", "3"));
+		this.handler.setPermissionEvaluator(batchEvaluator);
+		String expressionString = "hasPermission(filterObject.bytes, 'read')"
+				+ " or hasPermission(filterObject, 'String', 'read')";
+		Expression expression = this.handler.getExpressionParser().parseExpression(expressionString);
+		EvaluationContext context = this.handler.createEvaluationContext(this.authentication, this.methodInvocation);
+		List<String> filtered = (List<String>) this.handler.filter(list, expression, context);
+		assertThat(filtered).containsExactly("1", "3");
+		verify(batchEvaluator, never()).forDomainObjects(any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void filterWhenBatchPermissionEvaluatorAndPermissionCacheOptimizerThenPermissionsNotResolved() {
+		setupMocks();
+		BatchPermissionEvaluator batchEvaluator = mock(BatchPermissionEvaluator.class);
+		given(batchEvaluator.hasPermission(any(), any(), any()))
+			.willAnswer((invocation) -> !"2".equals(invocation.getArgument(1)));
+		List<String> list = new ArrayList<>(List.of("1", "2", "3"));
+		this.handler.setPermissionEvaluator(batchEvaluator);
+		this.handler.setPermissionCacheOptimizer(mock(PermissionCacheOptimizer.class));
+		Expression expression = this.handler.getExpressionParser()
+			.parseExpression("hasPermission(filterObject, 'read')");
+		EvaluationContext context = this.handler.createEvaluationContext(this.authentication, this.methodInvocation);
+		List<String> filtered = (List<String>) this.handler.filter(list, expression, context);
+		assertThat(filtered).containsExactly("1", "3");
+		verify(batchEvaluator, never()).forDomainObjects(any(), any());
+	}
+
+	@Test
+	public void filterWhenBatchPermissionEvaluatorThenRootPermissionEvaluatorRestored() {
+		setupMocks();
+		BatchPermissionEvaluator batchEvaluator = mock(BatchPermissionEvaluator.class);
+		List<String> list = new ArrayList<>(List.of("1"));
+		given(batchEvaluator.forDomainObjects(this.authentication, list)).willReturn(mock(PermissionEvaluator.class));
+		this.handler.setPermissionEvaluator(batchEvaluator);
+		Expression expression = this.handler.getExpressionParser()
+			.parseExpression("hasPermission(filterObject, 'read')");
+		EvaluationContext context = this.handler.createEvaluationContext(this.authentication, this.methodInvocation);
+		this.handler.filter(list, expression, context);
+		SecurityExpressionRoot root = (SecurityExpressionRoot) context.getRootObject().getValue();
+		assertThat(root.getPermissionEvaluator()).isSameAs(batchEvaluator);
+	}
+
 	@Test
 	public void createEvaluationContextSupplierAuthentication() {
 		setupMocks();
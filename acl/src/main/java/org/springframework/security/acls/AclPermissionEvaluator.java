@@ -17,17 +17,22 @@
 package org.springframework.security.acls;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.log.LogMessage;
+import org.springframework.security.access.BatchPermissionEvaluator;
 import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.acls.domain.DefaultPermissionFactory;
+import org.springframework.security.acls.domain.IdentityUnavailableException;
 import org.springframework.security.acls.domain.ObjectIdentityRetrievalStrategyImpl;
 import org.springframework.security.acls.domain.PermissionFactory;
 import org.springframework.security.acls.domain.SidRetrievalStrategyImpl;
@@ -46,11 +51,16 @@ import org.springframework.security.core.Authentication;
  * Used by Spring Security's expression-based access control implementation to evaluate
  * permissions for a particular object using the ACL module. Similar in behaviour to
  * <code> org.springframework.security.acls.AclEntryVoter AclEntryVoter </code>
+ * <p>
+ * When filtering with {@code @PreFilter} or {@code @PostFilter}, the ACLs of all the
+ * filter targets are read with a single {@link AclService#readAclsById(List, List)} call.
+ * If some of them have no ACL, that call fails and each ACL is instead read when its
+ * permission is checked, as without filtering.
  *
  * @author Luke Taylor
  * @since 3.0
  */
-public class AclPermissionEvaluator implements PermissionEvaluator {
+public class AclPermissionEvaluator implements BatchPermissionEvaluator {
 
 	private final Log logger = LogFactory.getLog(getClass());
 
@@ -89,6 +99,50 @@ public class AclPermissionEvaluator implements PermissionEvaluator {
 		return checkPermission(authentication, objectIdentity, permission);
 	}
 
+	/**
+	 * Reads the ACLs of the given domain objects at once and returns a
+	 * {@link PermissionEvaluator} that checks permissions against them. Domain objects
+	 * without an {@link ObjectIdentity} are skipped, and domain objects whose ACL was not
+	 * read are checked by this evaluator.
+	 * @since 7.1
+	 */
+	@Override
+	public PermissionEvaluator forDomainObjects(Authentication authentication, Collection<?> domainObjects) {
+		List<ObjectIdentity> oids = new ArrayList<>(domainObjects.size());
+		for (Object domainObject : domainObjects) {
+			ObjectIdentity oid = getObjectIdentity(domainObject);
+			if (oid != null) {
+				oids.add(oid);
+			}
+		}
+		if (oids.isEmpty()) {
+			return this;
+		}
+		List<Sid> sids = this.sidRetrievalStrategy.getSids(authentication);
+		this.logger.debug(LogMessage.of(() -> "Eagerly loading Acls for " + oids.size() + " objects"));
+		try {
+			Map<ObjectIdentity, Acl> acls = this.aclService.readAclsById(oids, sids);
+			return new PreloadedPermissionEvaluator(authentication, sids, acls);
+		}
+		catch (NotFoundException ex) {
+			this.logger.debug("Not all Acls were found, reading them one at a time instead");
+			return this;
+		}
+	}
+
+	private @Nullable ObjectIdentity getObjectIdentity(@Nullable Object domainObject) {
+		if (domainObject == null) {
+			return null;
+		}
+		try {
+			return this.objectIdentityRetrievalStrategy.getObjectIdentity(domainObject);
+		}
+		catch (IdentityUnavailableException ex) {
+			this.logger.trace(LogMessage.format("Skipping %s since it has no object identity", domainObject));
+			return null;
+		}
+	}
+
 	private boolean checkPermission(Authentication authentication, ObjectIdentity oid, Object permission) {
 		// Obtain the SIDs applicable to the principal
 		List<Sid> sids = this.sidRetrievalStrategy.getSids(authentication);
@@ -97,6 +151,16 @@ public class AclPermissionEvaluator implements PermissionEvaluator {
 		try {
 			// Lookup only ACLs for SIDs we're interested in
 			Acl acl = this.aclService.readAclById(oid, sids);
+			return isGranted(acl, sids, requiredPermission);
+		}
+		catch (NotFoundException nfe) {
+			this.logger.debug("Returning false - no ACLs apply for this principal");
+		}
+		return false;
+	}
+
+	private boolean isGranted(Acl acl, List<Sid> sids, List<Permission> requiredPermission) {
+		try {
 			if (acl.isGranted(requiredPermission, sids, false)) {
 				this.logger.debug("Access is granted");
 				return true;
@@ -137,6 +201,60 @@ public class AclPermissionEvaluator implements PermissionEvaluator {
 		}
 	}
 
+	/**
+	 * Checks permissions against ACLs read ahead of time, reading the ACLs of any other
+	 * domain object as usual.
+	 */
+	private final class PreloadedPermissionEvaluator implements PermissionEvaluator {
+
+		private final Authentication authentication;
+
+		private final List<Sid> sids;
+
+		private final Map<ObjectIdentity, Acl> acls;
+
+		private PreloadedPermissionEvaluator(Authentication authentication, List<Sid> sids,
+				Map<ObjectIdentity, Acl> acls) {
+			this.authentication = authentication;
+			this.sids = sids;
+			this.acls = acls;
+		}
+
+		@Override
+		public boolean hasPermission(Authentication authentication, @Nullable Object domainObject,
+				Object permission) {
+			if (domainObject == null) {
+				return false;
+			}
+			ObjectIdentity objectIdentity = AclPermissionEvaluator.this.objectIdentityRetrievalStrategy
+				.getObjectIdentity(domainObject);
+			return checkPermission(authentication, objectIdentity, permission);
+		}
+
+		@Override
+		public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType,
+				Object permission) {
+			ObjectIdentity objectIdentity = AclPermissionEvaluator.this.objectIdentityGenerator
+				.createObjectIdentity(targetId, targetType);
+			return checkPermission(authentication, objectIdentity, permission);
+		}
+
+		private boolean checkPermission(Authentication authentication, ObjectIdentity oid, Object permission) {
+			if (authentication != this.authentication) {
+				return AclPermissionEvaluator.this.checkPermission(authentication, oid, permission);
+			}
+			Acl acl = this.acls.get(oid);
+			if (acl == null) {
+				return AclPermissionEvaluator.this.checkPermission(authentication, oid, permission);
+			}
+			List<Permission> requiredPermission = resolvePermission(permission);
+			AclPermissionEvaluator.this.logger
+				.debug(LogMessage.of(() -> "Checking permission '" + permission + "' for object '" + oid + "'"));
+			return isGranted(acl, this.sids, requiredPermission);
+		}
+
+	}
+
 	public void setObjectIdentityRetrievalStrategy(ObjectIdentityRetrievalStrategy objectIdentityRetrievalStrategy) {
 		this.objectIdentityRetrievalStrategy = objectIdentityRetrievalStrategy;
 	}
@@ -16,12 +16,18 @@
 
 package org.springframework.security.acls;
 
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.acls.domain.IdentityUnavailableException;
+import org.springframework.security.acls.domain.ObjectIdentityImpl;
 import org.springframework.security.acls.model.Acl;
 import org.springframework.security.acls.model.AclService;
+import org.springframework.security.acls.model.NotFoundException;
 import org.springframework.security.acls.model.ObjectIdentity;
 import org.springframework.security.acls.model.ObjectIdentityRetrievalStrategy;
 import org.springframework.security.acls.model.SidRetrievalStrategy;
@@ -33,6 +39,8 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Luke Taylor
@@ -73,4 +81,71 @@ public class AclPermissionEvaluatorTests {
 		Locale.setDefault(systemLocale);
 	}
 
+	@Test
+	public void forDomainObjectsThenAclsReadOnce() {
+		AclService service = mock(AclService.class);
+		AclPermissionEvaluator pe = new AclPermissionEvaluator(service);
+		pe.setSidRetrievalStrategy(mock(SidRetrievalStrategy.class));
+		Object granted = new Object();
+		Object denied = new Object();
+		ObjectIdentity grantedOid = new ObjectIdentityImpl(Object.class, 1L);
+		ObjectIdentity deniedOid = new ObjectIdentityImpl(Object.class, 2L);
+		ObjectIdentityRetrievalStrategy oidStrategy = mock(ObjectIdentityRetrievalStrategy.class);
+		given(oidStrategy.getObjectIdentity(granted)).willReturn(grantedOid);
+		given(oidStrategy.getObjectIdentity(denied)).willReturn(deniedOid);
+		pe.setObjectIdentityRetrievalStrategy(oidStrategy);
+		Acl grantedAcl = mock(Acl.class);
+		Acl deniedAcl = mock(Acl.class);
+		given(grantedAcl.isGranted(anyList(), anyList(), eq(false))).willReturn(true);
+		given(service.readAclsById(anyList(), anyList()))
+			.willReturn(Map.of(grantedOid, grantedAcl, deniedOid, deniedAcl));
+		Authentication authentication = mock(Authentication.class);
+		PermissionEvaluator preloaded = pe.forDomainObjects(authentication, List.of(granted, denied));
+		assertThat(preloaded.hasPermission(authentication, granted, "READ")).isTrue();
+		assertThat(preloaded.hasPermission(authentication, denied, "READ")).isFalse();
+		assertThat(preloaded.hasPermission(authentication, null, "READ")).isFalse();
+		verify(service).readAclsById(anyList(), anyList());
+		verify(service, never()).readAclById(any(ObjectIdentity.class), anyList());
+	}
+
+	@Test
+	public void forDomainObjectsWhenSomeAclsNotFoundThenAclsReadOnDemand() {
+		AclService service = mock(AclService.class);
+		AclPermissionEvaluator pe = new AclPermissionEvaluator(service);
+		pe.setSidRetrievalStrategy(mock(SidRetrievalStrategy.class));
+		Object granted = new Object();
+		Object missing = new Object();
+		ObjectIdentity grantedOid = new ObjectIdentityImpl(Object.class, 1L);
+		ObjectIdentity missingOid = new ObjectIdentityImpl(Object.class, 2L);
+		ObjectIdentityRetrievalStrategy oidStrategy = mock(ObjectIdentityRetrievalStrategy.class);
+		given(oidStrategy.getObjectIdentity(granted)).willReturn(grantedOid);
+		given(oidStrategy.getObjectIdentity(missing)).willReturn(missingOid);
+		pe.setObjectIdentityRetrievalStrategy(oidStrategy);
+		Acl grantedAcl = mock(Acl.class);
+		given(grantedAcl.isGranted(anyList(), anyList(), eq(false))).willReturn(true);
+		given(service.readAclsById(anyList(), anyList())).willThrow(new NotFoundException("not found"));
+		given(service.readAclById(eq(grantedOid), anyList())).willReturn(grantedAcl);
+		given(service.readAclById(eq(missingOid), anyList())).willThrow(new NotFoundException("not found"));
+		Authentication authentication = mock(Authentication.class);
+		PermissionEvaluator preloaded = pe.forDomainObjects(authentication, List.of(granted, missing));
+		assertThat(preloaded.hasPermission(authentication, granted, "READ")).isTrue();
+		assertThat(preloaded.hasPermission(authentication, missing, "READ")).isFalse();
+		verify(service).readAclsById(anyList(), anyList());
+		verify(service).readAclById(eq(grantedOid), anyList());
+		verify(service).readAclById(eq(missingOid), anyList());
+	}
+
+	@Test
+	public void forDomainObjectsWhenNoObjectIdentityThenSkipped() {
+		AclService service = mock(AclService.class);
+		AclPermissionEvaluator pe = new AclPermissionEvaluator(service);
+		pe.setSidRetrievalStrategy(mock(SidRetrievalStrategy.class));
+		ObjectIdentityRetrievalStrategy oidStrategy = mock(ObjectIdentityRetrievalStrategy.class);
+		given(oidStrategy.getObjectIdentity(any())).willThrow(new IdentityUnavailableException("no identity"));
+		pe.setObjectIdentityRetrievalStrategy(oidStrategy);
+		Authentication authentication = mock(Authentication.class);
+		assertThat(pe.forDomainObjects(authentication, List.of(new Object()))).isSameAs(pe);
+		verify(service, never()).readAclsById(anyList(), anyList());
+	}
+
 }
@@ -24,6 +24,7 @@ import java.lang.annotation.Target;
 
 import org.springframework.context.annotation.AdviceMode;
 import org.springframework.context.annotation.Import;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.access.prepost.PostFilter;
@@ -97,4 +98,20 @@ public @interface EnableMethodSecurity {
 	 */
 	int offset() default 0;
 
+	/**
+	 * Indicate whether the expressions of the {@link PreAuthorize}, {@link PostAuthorize},
+	 * {@link PreFilter}, and {@link PostFilter} annotations should be compiled. The
+	 * default is {@link SpelCompilerMode#OFF}, in which expressions are interpreted on
+	 * every invocation. With {@link SpelCompilerMode#MIXED}, an expression is compiled
+	 * to bytecode once it has been evaluated a number of times, while the parts that
+	 * cannot be compiled remain interpreted.
+	 * <p>
+	 * Applies only to the default expression handler, not to a published
+	 * {@link org.springframework.security.access.expression.method.MethodSecurityExpressionHandler}
+	 * bean.
+	 * @return the {@link SpelCompilerMode} to use
+	 * @since 7.1
+	 */
+	SpelCompilerMode spelCompilerMode() default SpelCompilerMode.OFF;
+
 }
@@ -32,6 +32,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportAware;
 import org.springframework.context.annotation.Role;
 import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
 import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
@@ -204,6 +205,9 @@ final class PrePostMethodSecurityConfiguration implements ImportAware, Applicati
 		this.postAuthorizeMethodInterceptor
 			.setOrder(this.postAuthorizeMethodInterceptor.getOrder() + annotation.offset());
 		this.postFilterMethodInterceptor.setOrder(this.postFilterMethodInterceptor.getOrder() + annotation.offset());
+		if (annotation.spelCompilerMode() != SpelCompilerMode.OFF) {
+			this.expressionHandler.setSpelCompilerMode(annotation.spelCompilerMode());
+		}
 	}
 
 }
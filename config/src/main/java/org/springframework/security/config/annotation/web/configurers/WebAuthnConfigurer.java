@@ -38,6 +38,7 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
 import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.security.web.webauthn.api.PublicKeyCredentialRpEntity;
 import org.springframework.security.web.webauthn.authentication.PublicKeyCredentialRequestOptionsFilter;
+import org.springframework.security.web.webauthn.authentication.PublicKeyCredentialRequestOptionsRepository;
 import org.springframework.security.web.webauthn.authentication.WebAuthnAuthenticationFilter;
 import org.springframework.security.web.webauthn.authentication.WebAuthnAuthenticationProvider;
 import org.springframework.security.web.webauthn.management.CredentialRecordOwnerAuthorizationManager;
@@ -73,6 +74,8 @@ public class WebAuthnConfigurer<H extends HttpSecurityBuilder<H>>
 
 	private PublicKeyCredentialCreationOptionsRepository creationOptionsRepository;
 
+	private PublicKeyCredentialRequestOptionsRepository requestOptionsRepository;
+
 	private HttpMessageConverter<Object> converter;
 
 	/**
@@ -155,6 +158,19 @@ public class WebAuthnConfigurer<H extends HttpSecurityBuilder<H>>
 		return this;
 	}
 
+	/**
+	 * Sets PublicKeyCredentialRequestOptionsRepository
+	 * @param requestOptionsRepository the requestOptionsRepository
+	 * @return the {@link WebAuthnConfigurer} for further customization
+	 * @since 7.1
+	 */
+	public WebAuthnConfigurer<H> requestOptionsRepository(
+			PublicKeyCredentialRequestOptionsRepository requestOptionsRepository) {
+		Assert.notNull(requestOptionsRepository, "requestOptionsRepository can't be null");
+		this.requestOptionsRepository = requestOptionsRepository;
+		return this;
+	}
+
 	@Override
 	public void init(H http) {
 		ExceptionHandlingConfigurer<H> exceptions = http.getConfigurer(ExceptionHandlingConfigurer.class);
@@ -176,6 +192,7 @@ public class WebAuthnConfigurer<H extends HttpSecurityBuilder<H>>
 			.orElse(userCredentialRepository());
 		WebAuthnRelyingPartyOperations rpOperations = webAuthnRelyingPartyOperations(userEntities, userCredentials);
 		PublicKeyCredentialCreationOptionsRepository creationOptionsRepository = creationOptionsRepository();
+		PublicKeyCredentialRequestOptionsRepository requestOptionsRepository = requestOptionsRepository();
 		WebAuthnAuthenticationFilter webAuthnAuthnFilter = new WebAuthnAuthenticationFilter();
 		ProviderManager providerManager = new ProviderManager(
 				new WebAuthnAuthenticationProvider(rpOperations, userDetailsService));
@@ -192,6 +209,12 @@ public class WebAuthnConfigurer<H extends HttpSecurityBuilder<H>>
 			webAuthnRegistrationFilter.setCreationOptionsRepository(creationOptionsRepository);
 			creationOptionsFilter.setCreationOptionsRepository(creationOptionsRepository);
 		}
+		PublicKeyCredentialRequestOptionsFilter requestOptionsFilter = new PublicKeyCredentialRequestOptionsFilter(
+				rpOperations);
+		if (requestOptionsRepository != null) {
+			webAuthnAuthnFilter.setRequestOptionsRepository(requestOptionsRepository);
+			requestOptionsFilter.setRequestOptionsRepository(requestOptionsRepository);
+		}
 		if (this.converter != null) {
 			webAuthnRegistrationFilter.setConverter(this.converter);
 			creationOptionsFilter.setConverter(this.converter);
@@ -199,7 +222,7 @@ public class WebAuthnConfigurer<H extends HttpSecurityBuilder<H>>
 		http.addFilterBefore(webAuthnAuthnFilter, BasicAuthenticationFilter.class);
 		http.addFilterAfter(webAuthnRegistrationFilter, AuthorizationFilter.class);
 		http.addFilterBefore(creationOptionsFilter, AuthorizationFilter.class);
-		http.addFilterBefore(new PublicKeyCredentialRequestOptionsFilter(rpOperations), AuthorizationFilter.class);
+		http.addFilterBefore(requestOptionsFilter, AuthorizationFilter.class);
 
 		DefaultLoginPageGeneratingFilter loginPageGeneratingFilter = http
 			.getSharedObject(DefaultLoginPageGeneratingFilter.class);
@@ -233,6 +256,14 @@ public class WebAuthnConfigurer<H extends HttpSecurityBuilder<H>>
 		return context.getBeanProvider(PublicKeyCredentialCreationOptionsRepository.class).getIfUnique();
 	}
 
+	private PublicKeyCredentialRequestOptionsRepository requestOptionsRepository() {
+		if (this.requestOptionsRepository != null) {
+			return this.requestOptionsRepository;
+		}
+		ApplicationContext context = getBuilder().getSharedObject(ApplicationContext.class);
+		return context.getBeanProvider(PublicKeyCredentialRequestOptionsRepository.class).getIfUnique();
+	}
+
 	private <C> Optional<C> getSharedOrBean(H http, Class<C> type) {
 		C shared = http.getSharedObject(type);
 		return Optional.ofNullable(shared).or(() -> getBeanOrNull(type));
@@ -199,13 +199,21 @@ public final class OAuth2ClientAuthenticationConfigurer extends AbstractOAuth2Co
 				? OAuth2ConfigurerUtils
 					.withMultipleIssuersPattern(authorizationServerSettings.getPushedAuthorizationRequestEndpoint())
 				: authorizationServerSettings.getPushedAuthorizationRequestEndpoint();
-		this.requestMatcher = new OrRequestMatcher(
-				PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, tokenEndpointUri),
-				PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, tokenIntrospectionEndpointUri),
-				PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, tokenRevocationEndpointUri),
-				PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, deviceAuthorizationEndpointUri),
-				PathPatternRequestMatcher.withDefaults()
-					.matcher(HttpMethod.POST, pushedAuthorizationRequestEndpointUri));
+		List<RequestMatcher> requestMatchers = new ArrayList<>();
+		requestMatchers.add(PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, tokenEndpointUri));
+		requestMatchers
+			.add(PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, tokenIntrospectionEndpointUri));
+		requestMatchers
+			.add(PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, tokenRevocationEndpointUri));
+		requestMatchers
+			.add(PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, deviceAuthorizationEndpointUri));
+		requestMatchers.add(PathPatternRequestMatcher.withDefaults()
+			.matcher(HttpMethod.POST, pushedAuthorizationRequestEndpointUri));
+		addBatchEndpointRequestMatcher(requestMatchers, authorizationServerSettings,
+				authorizationServerSettings.getTokenIntrospectionBatchEndpoint());
+		addBatchEndpointRequestMatcher(requestMatchers, authorizationServerSettings,
+				authorizationServerSettings.getTokenRevocationBatchEndpoint());
+		this.requestMatcher = new OrRequestMatcher(requestMatchers);
 		List<AuthenticationProvider> authenticationProviders = createDefaultAuthenticationProviders(httpSecurity);
 		if (!this.authenticationProviders.isEmpty()) {
 			authenticationProviders.addAll(0, this.authenticationProviders);
@@ -242,6 +250,16 @@ public final class OAuth2ClientAuthenticationConfigurer extends AbstractOAuth2Co
 		return this.requestMatcher;
 	}
 
+	private static void addBatchEndpointRequestMatcher(List<RequestMatcher> requestMatchers,
+			AuthorizationServerSettings authorizationServerSettings, String batchEndpoint) {
+		if (batchEndpoint == null) {
+			return;
+		}
+		String batchEndpointUri = authorizationServerSettings.isMultipleIssuersAllowed()
+				? OAuth2ConfigurerUtils.withMultipleIssuersPattern(batchEndpoint) : batchEndpoint;
+		requestMatchers.add(PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, batchEndpointUri));
+	}
+
 	private static List<AuthenticationConverter> createDefaultAuthenticationConverters() {
 		List<AuthenticationConverter> authenticationConverters = new ArrayList<>();
 
@@ -32,7 +32,9 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenIntrospectionAuthenticationProvider;
 import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenIntrospectionAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenIntrospectionBatchAuthenticationProvider;
 import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.security.oauth2.server.authorization.web.OAuth2TokenIntrospectionBatchEndpointFilter;
 import org.springframework.security.oauth2.server.authorization.web.OAuth2TokenIntrospectionEndpointFilter;
 import org.springframework.security.oauth2.server.authorization.web.authentication.OAuth2TokenIntrospectionAuthenticationConverter;
 import org.springframework.security.web.access.intercept.AuthorizationFilter;
@@ -41,6 +43,7 @@ import org.springframework.security.web.authentication.AuthenticationFailureHand
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.authentication.DelegatingAuthenticationConverter;
 import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.Assert;
 
@@ -186,8 +189,15 @@ public final class OAuth2TokenIntrospectionEndpointConfigurer extends AbstractOA
 				: authorizationServerSettings.getTokenIntrospectionEndpoint();
 		this.requestMatcher = PathPatternRequestMatcher.withDefaults()
 			.matcher(HttpMethod.POST, tokenIntrospectionEndpointUri);
+		String tokenIntrospectionBatchEndpointUri = getTokenIntrospectionBatchEndpointUri(authorizationServerSettings);
+		if (tokenIntrospectionBatchEndpointUri != null) {
+			RequestMatcher batchRequestMatcher = PathPatternRequestMatcher.withDefaults()
+				.matcher(HttpMethod.POST, tokenIntrospectionBatchEndpointUri);
+			this.requestMatcher = new OrRequestMatcher(this.requestMatcher, batchRequestMatcher);
+		}
 
-		List<AuthenticationProvider> authenticationProviders = createDefaultAuthenticationProviders(httpSecurity);
+		List<AuthenticationProvider> authenticationProviders = createDefaultAuthenticationProviders(httpSecurity,
+				tokenIntrospectionBatchEndpointUri != null);
 		if (!this.authenticationProviders.isEmpty()) {
 			authenticationProviders.addAll(0, this.authenticationProviders);
 		}
@@ -221,6 +231,16 @@ public final class OAuth2TokenIntrospectionEndpointConfigurer extends AbstractOA
 			introspectionEndpointFilter.setAuthenticationFailureHandler(this.errorResponseHandler);
 		}
 		httpSecurity.addFilterAfter(postProcess(introspectionEndpointFilter), AuthorizationFilter.class);
+
+		String tokenIntrospectionBatchEndpointUri = getTokenIntrospectionBatchEndpointUri(authorizationServerSettings);
+		if (tokenIntrospectionBatchEndpointUri != null) {
+			OAuth2TokenIntrospectionBatchEndpointFilter introspectionBatchEndpointFilter = new OAuth2TokenIntrospectionBatchEndpointFilter(
+					authenticationManager, tokenIntrospectionBatchEndpointUri);
+			if (this.errorResponseHandler != null) {
+				introspectionBatchEndpointFilter.setAuthenticationFailureHandler(this.errorResponseHandler);
+			}
+			httpSecurity.addFilterAfter(postProcess(introspectionBatchEndpointFilter), AuthorizationFilter.class);
+		}
 	}
 
 	@Override
@@ -236,7 +256,19 @@ public final class OAuth2TokenIntrospectionEndpointConfigurer extends AbstractOA
 		return authenticationConverters;
 	}
 
-	private static List<AuthenticationProvider> createDefaultAuthenticationProviders(HttpSecurity httpSecurity) {
+	private static String getTokenIntrospectionBatchEndpointUri(
+			AuthorizationServerSettings authorizationServerSettings) {
+		String tokenIntrospectionBatchEndpoint = authorizationServerSettings.getTokenIntrospectionBatchEndpoint();
+		if (tokenIntrospectionBatchEndpoint == null) {
+			return null;
+		}
+		return authorizationServerSettings.isMultipleIssuersAllowed()
+				? OAuth2ConfigurerUtils.withMultipleIssuersPattern(tokenIntrospectionBatchEndpoint)
+				: tokenIntrospectionBatchEndpoint;
+	}
+
+	private static List<AuthenticationProvider> createDefaultAuthenticationProviders(HttpSecurity httpSecurity,
+			boolean batchEndpointEnabled) {
 		List<AuthenticationProvider> authenticationProviders = new ArrayList<>();
 
 		OAuth2TokenIntrospectionAuthenticationProvider tokenIntrospectionAuthenticationProvider = new OAuth2TokenIntrospectionAuthenticationProvider(
@@ -244,6 +276,13 @@ public final class OAuth2TokenIntrospectionEndpointConfigurer extends AbstractOA
 				OAuth2ConfigurerUtils.getAuthorizationService(httpSecurity));
 		authenticationProviders.add(tokenIntrospectionAuthenticationProvider);
 
+		if (batchEndpointEnabled) {
+			OAuth2TokenIntrospectionBatchAuthenticationProvider tokenIntrospectionBatchAuthenticationProvider = new OAuth2TokenIntrospectionBatchAuthenticationProvider(
+					OAuth2ConfigurerUtils.getRegisteredClientRepository(httpSecurity),
+					OAuth2ConfigurerUtils.getAuthorizationService(httpSecurity));
+			authenticationProviders.add(tokenIntrospectionBatchAuthenticationProvider);
+		}
+
 		return authenticationProviders;
 	}
 
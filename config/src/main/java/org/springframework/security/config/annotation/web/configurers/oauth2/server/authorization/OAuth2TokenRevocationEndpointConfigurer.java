@@ -31,7 +31,9 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationAuthenticationProvider;
 import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationBatchAuthenticationProvider;
 import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.security.oauth2.server.authorization.web.OAuth2TokenRevocationBatchEndpointFilter;
 import org.springframework.security.oauth2.server.authorization.web.OAuth2TokenRevocationEndpointFilter;
 import org.springframework.security.oauth2.server.authorization.web.authentication.OAuth2TokenRevocationAuthenticationConverter;
 import org.springframework.security.web.access.intercept.AuthorizationFilter;
@@ -40,6 +42,7 @@ import org.springframework.security.web.authentication.AuthenticationFailureHand
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.authentication.DelegatingAuthenticationConverter;
 import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.Assert;
 
@@ -185,8 +188,15 @@ public final class OAuth2TokenRevocationEndpointConfigurer extends AbstractOAuth
 				: authorizationServerSettings.getTokenRevocationEndpoint();
 		this.requestMatcher = PathPatternRequestMatcher.withDefaults()
 			.matcher(HttpMethod.POST, tokenRevocationEndpointUri);
+		String tokenRevocationBatchEndpointUri = getTokenRevocationBatchEndpointUri(authorizationServerSettings);
+		if (tokenRevocationBatchEndpointUri != null) {
+			RequestMatcher batchRequestMatcher = PathPatternRequestMatcher.withDefaults()
+				.matcher(HttpMethod.POST, tokenRevocationBatchEndpointUri);
+			this.requestMatcher = new OrRequestMatcher(this.requestMatcher, batchRequestMatcher);
+		}
 
-		List<AuthenticationProvider> authenticationProviders = createDefaultAuthenticationProviders(httpSecurity);
+		List<AuthenticationProvider> authenticationProviders = createDefaultAuthenticationProviders(httpSecurity,
+				tokenRevocationBatchEndpointUri != null);
 		if (!this.authenticationProviders.isEmpty()) {
 			authenticationProviders.addAll(0, this.authenticationProviders);
 		}
@@ -221,6 +231,16 @@ public final class OAuth2TokenRevocationEndpointConfigurer extends AbstractOAuth
 			revocationEndpointFilter.setAuthenticationFailureHandler(this.errorResponseHandler);
 		}
 		httpSecurity.addFilterAfter(postProcess(revocationEndpointFilter), AuthorizationFilter.class);
+
+		String tokenRevocationBatchEndpointUri = getTokenRevocationBatchEndpointUri(authorizationServerSettings);
+		if (tokenRevocationBatchEndpointUri != null) {
+			OAuth2TokenRevocationBatchEndpointFilter revocationBatchEndpointFilter = new OAuth2TokenRevocationBatchEndpointFilter(
+					authenticationManager, tokenRevocationBatchEndpointUri);
+			if (this.errorResponseHandler != null) {
+				revocationBatchEndpointFilter.setAuthenticationFailureHandler(this.errorResponseHandler);
+			}
+			httpSecurity.addFilterAfter(postProcess(revocationBatchEndpointFilter), AuthorizationFilter.class);
+		}
 	}
 
 	@Override
@@ -236,13 +256,31 @@ public final class OAuth2TokenRevocationEndpointConfigurer extends AbstractOAuth
 		return authenticationConverters;
 	}
 
-	private static List<AuthenticationProvider> createDefaultAuthenticationProviders(HttpSecurity httpSecurity) {
+	private static String getTokenRevocationBatchEndpointUri(
+			AuthorizationServerSettings authorizationServerSettings) {
+		String tokenRevocationBatchEndpoint = authorizationServerSettings.getTokenRevocationBatchEndpoint();
+		if (tokenRevocationBatchEndpoint == null) {
+			return null;
+		}
+		return authorizationServerSettings.isMultipleIssuersAllowed()
+				? OAuth2ConfigurerUtils.withMultipleIssuersPattern(tokenRevocationBatchEndpoint)
+				: tokenRevocationBatchEndpoint;
+	}
+
+	private static List<AuthenticationProvider> createDefaultAuthenticationProviders(HttpSecurity httpSecurity,
+			boolean batchEndpointEnabled) {
 		List<AuthenticationProvider> authenticationProviders = new ArrayList<>();
 
 		OAuth2TokenRevocationAuthenticationProvider tokenRevocationAuthenticationProvider = new OAuth2TokenRevocationAuthenticationProvider(
 				OAuth2ConfigurerUtils.getAuthorizationService(httpSecurity));
 		authenticationProviders.add(tokenRevocationAuthenticationProvider);
 
+		if (batchEndpointEnabled) {
+			OAuth2TokenRevocationBatchAuthenticationProvider tokenRevocationBatchAuthenticationProvider = new OAuth2TokenRevocationBatchAuthenticationProvider(
+					OAuth2ConfigurerUtils.getAuthorizationService(httpSecurity));
+			authenticationProviders.add(tokenRevocationBatchAuthenticationProvider);
+		}
+
 		return authenticationProviders;
 	}
 
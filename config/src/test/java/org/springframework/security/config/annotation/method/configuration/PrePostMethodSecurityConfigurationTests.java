@@ -71,6 +71,8 @@ import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.GeoPage;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
@@ -124,6 +126,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -713,6 +716,24 @@ public class PrePostMethodSecurityConfigurationTests {
 		assertThat(filtered).containsExactly("DoNotDrop");
 	}
 
+	@Test
+	@WithMockUser
+	public void preAuthorizeWhenSpelCompilerModeThenExpressionsCompiled() {
+		this.spring.register(SpelCompilerModeConfig.class).autowire();
+		PrePostMethodSecurityConfiguration configuration = this.spring.getContext()
+			.getBean(PrePostMethodSecurityConfiguration.class);
+		MethodSecurityExpressionHandler expressionHandler = (MethodSecurityExpressionHandler) ReflectionTestUtils
+			.getField(configuration, "expressionHandler");
+		SpelParserConfiguration parserConfiguration = (SpelParserConfiguration) ReflectionTestUtils
+			.getField(expressionHandler.getExpressionParser(), "configuration");
+		assertThat(parserConfiguration.getCompilerMode()).isEqualTo(SpelCompilerMode.IMMEDIATE);
+		for (int i = 0; i < 3; i++) {
+			this.methodSecurityService.preAuthorizeUser();
+			assertThatExceptionOfType(AccessDeniedException.class)
+				.isThrownBy(this.methodSecurityService::preAuthorizeAdmin);
+		}
+	}
+
 	@ParameterizedTest
 	@ValueSource(classes = { MetaAnnotationPlaceholderConfig.class })
 	@WithMockUser
@@ -1743,6 +1764,17 @@ public class PrePostMethodSecurityConfigurationTests {
 
 	}
 
+	@Configuration
+	@EnableMethodSecurity(spelCompilerMode = SpelCompilerMode.IMMEDIATE)
+	static class SpelCompilerModeConfig {
+
+		@Bean
+		MethodSecurityService methodSecurityService() {
+			return new MethodSecurityServiceImpl();
+		}
+
+	}
+
 	@Configuration
 	@EnableMethodSecurity
 	static class MetaAnnotationPlaceholderConfig {
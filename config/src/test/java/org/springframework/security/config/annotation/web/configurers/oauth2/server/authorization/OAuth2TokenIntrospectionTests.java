@@ -111,6 +111,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -456,6 +457,86 @@ public class OAuth2TokenIntrospectionTests {
 		// @formatter:on
 	}
 
+	@Test
+	public void requestWhenIntrospectBatchThenArrayInRequestOrder() throws Exception {
+		this.spring.register(AuthorizationServerConfigurationWithTokenIntrospectionBatchEndpoint.class).autowire();
+
+		RegisteredClient introspectRegisteredClient = TestRegisteredClients.registeredClient2()
+			.clientSecret("secret-2")
+			.build();
+		this.registeredClientRepository.save(introspectRegisteredClient);
+
+		RegisteredClient authorizedRegisteredClient = TestRegisteredClients.registeredClient().build();
+		this.registeredClientRepository.save(authorizedRegisteredClient);
+
+		OAuth2Authorization authorization = TestOAuth2Authorizations.authorization(authorizedRegisteredClient).build();
+		this.authorizationService.save(authorization);
+
+		OAuth2AccessToken accessToken = authorization.getAccessToken().getToken();
+
+		// @formatter:off
+		this.mvc.perform(post(this.authorizationServerSettings.getTokenIntrospectionBatchEndpoint())
+						.param(OAuth2ParameterNames.TOKEN, "unknown-token")
+						.param(OAuth2ParameterNames.TOKEN, accessToken.getTokenValue())
+						.header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(introspectRegisteredClient)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(2))
+				.andExpect(jsonPath("$[0].active").value(false))
+				.andExpect(jsonPath("$[1].active").value(true))
+				.andExpect(jsonPath("$[1].client_id").value(authorizedRegisteredClient.getClientId()));
+		// @formatter:on
+	}
+
+	@Test
+	public void requestWhenIntrospectBatchAndClientNotAuthenticatedThenUnauthorized() throws Exception {
+		this.spring.register(AuthorizationServerConfigurationWithTokenIntrospectionBatchEndpoint.class).autowire();
+
+		RegisteredClient introspectRegisteredClient = TestRegisteredClients.registeredClient2()
+			.clientSecret("secret-2")
+			.build();
+		this.registeredClientRepository.save(introspectRegisteredClient);
+		RegisteredClient invalidRegisteredClient = RegisteredClient.from(introspectRegisteredClient)
+			.clientSecret("invalid-secret")
+			.build();
+
+		// @formatter:off
+		this.mvc.perform(post(this.authorizationServerSettings.getTokenIntrospectionBatchEndpoint())
+						.param(OAuth2ParameterNames.TOKEN, "token")
+						.header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(invalidRegisteredClient)))
+				.andExpect(status().isUnauthorized())
+				.andExpect(jsonPath("$.error").value("invalid_client"));
+		// @formatter:on
+	}
+
+	@Test
+	public void requestWhenIntrospectBatchAndRequestIncludesIssuerPathThenArray() throws Exception {
+		this.spring.register(AuthorizationServerConfigurationWithBatchEndpointAndMultipleIssuers.class).autowire();
+
+		RegisteredClient introspectRegisteredClient = TestRegisteredClients.registeredClient2()
+			.clientSecret("secret-2")
+			.build();
+		this.registeredClientRepository.save(introspectRegisteredClient);
+
+		RegisteredClient authorizedRegisteredClient = TestRegisteredClients.registeredClient().build();
+		this.registeredClientRepository.save(authorizedRegisteredClient);
+
+		OAuth2Authorization authorization = TestOAuth2Authorizations.authorization(authorizedRegisteredClient).build();
+		this.authorizationService.save(authorization);
+
+		OAuth2AccessToken accessToken = authorization.getAccessToken().getToken();
+
+		String issuer = "https://example.com:8443/issuer1";
+
+		// @formatter:off
+		this.mvc.perform(post(issuer.concat(this.authorizationServerSettings.getTokenIntrospectionBatchEndpoint()))
+						.param(OAuth2ParameterNames.TOKEN, accessToken.getTokenValue())
+						.header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(introspectRegisteredClient)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(1))
+				.andExpect(jsonPath("$[0].active").value(true));
+		// @formatter:on
+	}
+
 	private static MultiValueMap<String, String> getTokenIntrospectionRequestParameters(OAuth2Token token,
 			OAuth2TokenType tokenType) {
 		MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
@@ -583,4 +664,33 @@ public class OAuth2TokenIntrospectionTests {
 
 	}
 
+	@EnableWebSecurity
+	@Configuration(proxyBeanMethods = false)
+	static class AuthorizationServerConfigurationWithTokenIntrospectionBatchEndpoint
+			extends AuthorizationServerConfiguration {
+
+		@Override
+		AuthorizationServerSettings authorizationServerSettings() {
+			return AuthorizationServerSettings.builder()
+				.tokenIntrospectionBatchEndpoint("/test/batch/introspect")
+				.build();
+		}
+
+	}
+
+	@EnableWebSecurity
+	@Configuration(proxyBeanMethods = false)
+	static class AuthorizationServerConfigurationWithBatchEndpointAndMultipleIssuers
+			extends AuthorizationServerConfiguration {
+
+		@Override
+		AuthorizationServerSettings authorizationServerSettings() {
+			return AuthorizationServerSettings.builder()
+				.multipleIssuersAllowed(true)
+				.tokenIntrospectionBatchEndpoint("/test/batch/introspect")
+				.build();
+		}
+
+	}
+
 }
@@ -87,6 +87,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -99,6 +100,8 @@ public class OAuth2TokenRevocationTests {
 
 	private static final String DEFAULT_TOKEN_REVOCATION_ENDPOINT_URI = "/oauth2/revoke";
 
+	private static final String TOKEN_REVOCATION_BATCH_ENDPOINT_URI = "/oauth2/batch/revoke";
+
 	private static EmbeddedDatabase db;
 
 	private static JWKSource<SecurityContext> jwkSource;
@@ -291,6 +294,79 @@ public class OAuth2TokenRevocationTests {
 		verify(authenticationSuccessHandler).onAuthenticationSuccess(any(), any(), eq(tokenRevocationAuthentication));
 	}
 
+	@Test
+	public void requestWhenRevokeBatchThenRevoked() throws Exception {
+		this.spring.register(AuthorizationServerConfigurationWithTokenRevocationBatchEndpoint.class).autowire();
+
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		this.registeredClientRepository.save(registeredClient);
+
+		OAuth2Authorization authorization = TestOAuth2Authorizations.authorization(registeredClient).build();
+		this.authorizationService.save(authorization);
+
+		// @formatter:off
+		this.mvc.perform(post(TOKEN_REVOCATION_BATCH_ENDPOINT_URI)
+						.param(OAuth2ParameterNames.TOKEN, authorization.getAccessToken().getToken().getTokenValue())
+						.param(OAuth2ParameterNames.TOKEN, "unknown-token")
+						.param(OAuth2ParameterNames.TOKEN, authorization.getRefreshToken().getToken().getTokenValue())
+						.header(HttpHeaders.AUTHORIZATION, "Basic " + encodeBasicAuth(
+								registeredClient.getClientId(), registeredClient.getClientSecret())))
+				.andExpect(status().isOk());
+		// @formatter:on
+
+		OAuth2Authorization updatedAuthorization = this.authorizationService.findById(authorization.getId());
+		assertThat(updatedAuthorization.getAccessToken().isInvalidated()).isTrue();
+		assertThat(updatedAuthorization.getRefreshToken().isInvalidated()).isTrue();
+	}
+
+	@Test
+	public void requestWhenRevokeBatchAndClientNotAuthenticatedThenUnauthorized() throws Exception {
+		this.spring.register(AuthorizationServerConfigurationWithTokenRevocationBatchEndpoint.class).autowire();
+
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		this.registeredClientRepository.save(registeredClient);
+
+		OAuth2Authorization authorization = TestOAuth2Authorizations.authorization(registeredClient).build();
+		this.authorizationService.save(authorization);
+
+		// @formatter:off
+		this.mvc.perform(post(TOKEN_REVOCATION_BATCH_ENDPOINT_URI)
+						.param(OAuth2ParameterNames.TOKEN, authorization.getAccessToken().getToken().getTokenValue())
+						.header(HttpHeaders.AUTHORIZATION, "Basic " + encodeBasicAuth(
+								registeredClient.getClientId(), "invalid-secret")))
+				.andExpect(status().isUnauthorized())
+				.andExpect(jsonPath("$.error").value("invalid_client"));
+		// @formatter:on
+
+		OAuth2Authorization updatedAuthorization = this.authorizationService.findById(authorization.getId());
+		assertThat(updatedAuthorization.getAccessToken().isInvalidated()).isFalse();
+	}
+
+	@Test
+	public void requestWhenRevokeBatchAndRequestIncludesIssuerPathThenRevoked() throws Exception {
+		this.spring.register(AuthorizationServerConfigurationWithBatchEndpointAndMultipleIssuers.class).autowire();
+
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		this.registeredClientRepository.save(registeredClient);
+
+		OAuth2Authorization authorization = TestOAuth2Authorizations.authorization(registeredClient).build();
+		this.authorizationService.save(authorization);
+
+		String issuer = "https://example.com:8443/issuer1";
+
+		// @formatter:off
+		this.mvc.perform(post(issuer.concat(TOKEN_REVOCATION_BATCH_ENDPOINT_URI))
+						.param(OAuth2ParameterNames.TOKEN, authorization.getAccessToken().getToken().getTokenValue())
+						.header(HttpHeaders.AUTHORIZATION, "Basic " + encodeBasicAuth(
+								registeredClient.getClientId(), registeredClient.getClientSecret())))
+				.andExpect(status().isOk());
+		// @formatter:on
+
+		OAuth2Authorization updatedAuthorization = this.authorizationService.findById(authorization.getId());
+		assertThat(updatedAuthorization.getAccessToken().isInvalidated()).isTrue();
+		assertThat(updatedAuthorization.getRefreshToken().isInvalidated()).isFalse();
+	}
+
 	private static MultiValueMap<String, String> getTokenRevocationRequestParameters(OAuth2Token token,
 			OAuth2TokenType tokenType) {
 		MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
@@ -384,4 +460,33 @@ public class OAuth2TokenRevocationTests {
 
 	}
 
+	@EnableWebSecurity
+	@Import(OAuth2AuthorizationServerConfiguration.class)
+	static class AuthorizationServerConfigurationWithTokenRevocationBatchEndpoint
+			extends AuthorizationServerConfiguration {
+
+		@Bean
+		AuthorizationServerSettings authorizationServerSettings() {
+			return AuthorizationServerSettings.builder()
+				.tokenRevocationBatchEndpoint(TOKEN_REVOCATION_BATCH_ENDPOINT_URI)
+				.build();
+		}
+
+	}
+
+	@EnableWebSecurity
+	@Import(OAuth2AuthorizationServerConfiguration.class)
+	static class AuthorizationServerConfigurationWithBatchEndpointAndMultipleIssuers
+			extends AuthorizationServerConfiguration {
+
+		@Bean
+		AuthorizationServerSettings authorizationServerSettings() {
+			return AuthorizationServerSettings.builder()
+				.multipleIssuersAllowed(true)
+				.tokenRevocationBatchEndpoint(TOKEN_REVOCATION_BATCH_ENDPOINT_URI)
+				.build();
+		}
+
+	}
+
 }
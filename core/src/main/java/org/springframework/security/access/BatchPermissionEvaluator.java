@@ -0,0 +1,52 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.access;
+
+import java.util.Collection;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * A {@link PermissionEvaluator} that can resolve the permissions of many domain objects
+ * in a single lookup.
+ *
+ * <p>
+ * When filtering a collection or an array with {@code @PreFilter} or
+ * {@code @PostFilter} whose expression calls {@code hasPermission}, the
+ * {@link org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler}
+ * asks the evaluator for a {@link PermissionEvaluator} scoped to all the filter targets
+ * and then evaluates {@code hasPermission} for each element against it, rather than
+ * looking up the permissions of each element separately. This is skipped when a
+ * {@link PermissionCacheOptimizer} is configured.
+ *
+ * @since 7.1
+ * @see PermissionCacheOptimizer
+ */
+public interface BatchPermissionEvaluator extends PermissionEvaluator {
+
+	/**
+	 * Resolves the permissions of the given domain objects for the given user and
+	 * returns a {@link PermissionEvaluator} that answers from them. Domain objects that
+	 * were not resolved must be delegated to this evaluator.
+	 * @param authentication the user for whom permissions should be resolved
+	 * @param domainObjects the domain objects for which permissions should be resolved,
+	 * may contain {@code null} elements
+	 * @return a {@link PermissionEvaluator} for the given domain objects
+	 */
+	PermissionEvaluator forDomainObjects(Authentication authentication, Collection<?> domainObjects);
+
+}
@@ -24,6 +24,8 @@ import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.expression.BeanResolver;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.security.access.PermissionEvaluator;
@@ -66,6 +68,25 @@ public abstract class AbstractSecurityExpressionHandler<T>
 		this.expressionParser = expressionParser;
 	}
 
+	/**
+	 * Uses a {@link SpelExpressionParser} with the given {@link SpelCompilerMode},
+	 * replacing the current {@link ExpressionParser}. By default, expressions are
+	 * interpreted on every evaluation.
+	 * <p>
+	 * With {@link SpelCompilerMode#MIXED}, an expression that has been evaluated a number
+	 * of times is compiled to bytecode, so later evaluations no longer walk its syntax
+	 * tree nor invoke the methods of the root object reflectively. Parts of an expression
+	 * that cannot be compiled remain interpreted.
+	 * <p>
+	 * Expressions parsed before this method is called are not affected.
+	 * @param compilerMode the {@link SpelCompilerMode} to use
+	 * @since 7.1
+	 */
+	public final void setSpelCompilerMode(SpelCompilerMode compilerMode) {
+		Assert.notNull(compilerMode, "compilerMode cannot be null");
+		this.expressionParser = new SpelExpressionParser(new SpelParserConfiguration(compilerMode, null));
+	}
+
 	/**
 	 * Invokes the internal template methods to create {@code StandardEvaluationContext}
 	 * and {@code SecurityExpressionRoot} objects.
@@ -306,4 +306,13 @@ public abstract class SecurityExpressionRoot<T extends @Nullable Object> impleme
 		this.permissionEvaluator = permissionEvaluator;
 	}
 
+	/**
+	 * Returns the {@link PermissionEvaluator} used by {@code hasPermission}.
+	 * @return the {@link PermissionEvaluator}
+	 * @since 7.1
+	 */
+	public PermissionEvaluator getPermissionEvaluator() {
+		return this.permissionEvaluator;
+	}
+
 }
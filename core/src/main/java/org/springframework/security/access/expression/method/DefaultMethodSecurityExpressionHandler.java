@@ -37,10 +37,17 @@ import org.springframework.core.log.LogMessage;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.BatchPermissionEvaluator;
 import org.springframework.security.access.PermissionCacheOptimizer;
+import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.access.expression.AbstractSecurityExpressionHandler;
 import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.SecurityExpressionRoot;
 import org.springframework.security.authentication.AuthenticationTrustResolver;
 import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
 import org.springframework.security.authorization.AuthorizationManagerFactory;
@@ -127,6 +134,12 @@ public class DefaultMethodSecurityExpressionHandler extends AbstractSecurityExpr
 	 * expression.
 	 * <p>
 	 * Returns new instances of the same type as the supplied {@code filterTarget} object
+	 * <p>
+	 * If the {@link PermissionEvaluator} is a {@link BatchPermissionEvaluator}, no
+	 * {@link PermissionCacheOptimizer} is set and the expression calls
+	 * {@code hasPermission(filterObject, permission)}, the permissions of all the elements
+	 * of a {@link Collection} or {@code Array} are resolved before the expression is
+	 * evaluated for each of them.
 	 * @return The filtered {@link Collection}, {@code Array}, {@link Map} or
 	 * {@link Stream}
 	 */
@@ -159,12 +172,18 @@ public class DefaultMethodSecurityExpressionHandler extends AbstractSecurityExpr
 		if (this.permissionCacheOptimizer != null) {
 			this.permissionCacheOptimizer.cachePermissionsFor(rootObject.getAuthentication(), filterTarget);
 		}
-		for (T filterObject : filterTarget) {
-			rootObject.setFilterObject(filterObject);
-			if (ExpressionUtils.evaluateAsBoolean(filterExpression, ctx)) {
-				retain.add(filterObject);
+		PermissionEvaluator replacedEvaluator = resolvePermissionsFor(filterTarget, filterExpression, rootObject);
+		try {
+			for (T filterObject : filterTarget) {
+				rootObject.setFilterObject(filterObject);
+				if (ExpressionUtils.evaluateAsBoolean(filterExpression, ctx)) {
+					retain.add(filterObject);
+				}
 			}
 		}
+		finally {
+			restorePermissionEvaluator(replacedEvaluator, rootObject);
+		}
 		this.logger.debug(LogMessage.format("Retaining elements: %s", retain));
 		try {
 			filterTarget.clear();
@@ -187,12 +206,19 @@ public class DefaultMethodSecurityExpressionHandler extends AbstractSecurityExpr
 			this.permissionCacheOptimizer.cachePermissionsFor(rootObject.getAuthentication(),
 					Arrays.asList(filterTarget));
 		}
-		for (Object filterObject : filterTarget) {
-			rootObject.setFilterObject(filterObject);
-			if (ExpressionUtils.evaluateAsBoolean(filterExpression, ctx)) {
-				retain.add(filterObject);
+		PermissionEvaluator replacedEvaluator = resolvePermissionsFor(Arrays.asList(filterTarget), filterExpression,
+				rootObject);
+		try {
+			for (Object filterObject : filterTarget) {
+				rootObject.setFilterObject(filterObject);
+				if (ExpressionUtils.evaluateAsBoolean(filterExpression, ctx)) {
+					retain.add(filterObject);
+				}
 			}
 		}
+		finally {
+			restorePermissionEvaluator(replacedEvaluator, rootObject);
+		}
 		this.logger.debug(LogMessage.format("Retaining elements: %s", retain));
 		Object[] filtered = (Object[]) Array.newInstance(filterTarget.getClass().getComponentType(), retain.size());
 		for (int i = 0; i < retain.size(); i++) {
@@ -201,6 +227,56 @@ public class DefaultMethodSecurityExpressionHandler extends AbstractSecurityExpr
 		return filtered;
 	}
 
+	/**
+	 * Replaces the {@link PermissionEvaluator} of the root object with one scoped to the
+	 * given filter targets, if the root object's {@link PermissionEvaluator} supports it
+	 * and the filter expression checks a permission on the {@code filterObject} itself,
+	 * rather than on one of its properties or by identifier. Nothing is resolved when a
+	 * {@link PermissionCacheOptimizer} already did.
+	 * @return the {@link PermissionEvaluator} to restore once filtering is done, or
+	 * {@code null} if the root object was left unchanged
+	 */
+	private @Nullable PermissionEvaluator resolvePermissionsFor(Collection<?> filterTarget,
+			Expression filterExpression, MethodSecurityExpressionOperations rootObject) {
+		if (this.permissionCacheOptimizer != null || filterTarget.isEmpty()
+				|| !checksFilterObjectPermission(filterExpression)
+				|| !(rootObject instanceof SecurityExpressionRoot root)) {
+			return null;
+		}
+		PermissionEvaluator permissionEvaluator = root.getPermissionEvaluator();
+		if (!(permissionEvaluator instanceof BatchPermissionEvaluator batchEvaluator)) {
+			return null;
+		}
+		root.setPermissionEvaluator(batchEvaluator.forDomainObjects(root.getAuthentication(), filterTarget));
+		return permissionEvaluator;
+	}
+
+	private static boolean checksFilterObjectPermission(Expression filterExpression) {
+		return filterExpression instanceof SpelExpression spelExpression
+				&& checksFilterObjectPermission(spelExpression.getAST());
+	}
+
+	private static boolean checksFilterObjectPermission(SpelNode node) {
+		if (node instanceof MethodReference method && "hasPermission".equals(method.getName())
+				&& method.getChildCount() == 2 && method.getChild(0) instanceof PropertyOrFieldReference target
+				&& "filterObject".equals(target.getName())) {
+			return true;
+		}
+		for (int i = 0; i < node.getChildCount(); i++) {
+			if (checksFilterObjectPermission(node.getChild(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void restorePermissionEvaluator(@Nullable PermissionEvaluator replacedEvaluator,
+			MethodSecurityExpressionOperations rootObject) {
+		if (replacedEvaluator != null) {
+			((SecurityExpressionRoot) rootObject).setPermissionEvaluator(replacedEvaluator);
+		}
+	}
+
 	private <K, V> Object filterMap(Map<K, V> filterTarget, Expression filterExpression, EvaluationContext ctx,
 			MethodSecurityExpressionOperations rootObject) {
 		Map<K, V> retain = new LinkedHashMap<>(filterTarget.size());
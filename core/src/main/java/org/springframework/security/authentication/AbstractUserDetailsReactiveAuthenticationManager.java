@@ -16,6 +16,8 @@
 
 package org.springframework.security.authentication;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
@@ -111,7 +113,9 @@ public abstract class AbstractUserDetailsReactiveAuthenticationManager
 				.flatMap((userDetails) -> checkCompromisedPassword(presentedPassword).thenReturn(userDetails))
 				.flatMap((userDetails) -> upgradeEncodingIfNecessary(userDetails, presentedPassword))
 				.doOnNext(this.postAuthenticationChecks::check)
-				.map(this::createUsernamePasswordAuthenticationToken);
+				.map(this::createUsernamePasswordAuthenticationToken)
+				.onErrorMap(RejectedExecutionException.class, (ex) -> new AuthenticationServiceException(
+						"Too many concurrent password checks, please try again later", ex));
 		// @formatter:on
 	}
 
@@ -159,7 +163,12 @@ public abstract class AbstractUserDetailsReactiveAuthenticationManager
 	 * of CPUs. Some applications may want to customize the {@link Scheduler}. For
 	 * example, if users are stuck using the insecure
 	 * {@link org.springframework.security.crypto.password.NoOpPasswordEncoder} they might
-	 * want to leverage {@code Schedulers.immediate()}.
+	 * want to leverage {@code Schedulers.immediate()}. To bound the number of concurrent
+	 * password checks, use {@code Schedulers.fromExecutor(encoder.getExecutor())} along
+	 * with an
+	 * {@link org.springframework.security.authentication.password.OffloadingPasswordEncoder}
+	 * {@code encoder}, in which case rejected checks fail with an
+	 * {@link AuthenticationServiceException}.
 	 * @param scheduler the {@link Scheduler} to use. Cannot be null.
 	 * @since 5.0.6
 	 */
@@ -18,55 +18,112 @@ package org.springframework.security.authentication.ott;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.util.Assert;
 
 /**
- * Provides an in-memory implementation of the {@link OneTimeTokenService} interface that
- * uses a {@link ConcurrentHashMap} to store the generated {@link OneTimeToken}. A random
- * {@link UUID} is used as the token value. A clean-up of the expired tokens is made if
- * there is more or equal than 100 tokens stored in the map.
+ * Provides an in-memory implementation of the {@link OneTimeTokenService} interface. A
+ * random {@link UUID} is used as the token value.
+ *
+ * <p>
+ * The generated {@link OneTimeToken}s are also ordered by expiry, so that generating a
+ * token only removes the tokens that expired since, rather than scanning all of them.
+ * The number of outstanding tokens can be bounded with {@link #setMaxTokens(int)}, and the
+ * number of outstanding tokens of a user with {@link #setMaxTokensPerUser(int)}.
  *
  * @author Marcus da Coregio
  * @since 6.4
  */
 public final class InMemoryOneTimeTokenService implements OneTimeTokenService {
 
-	private final Map<String, OneTimeToken> oneTimeTokenByToken = new ConcurrentHashMap<>();
+	private static final Comparator<OneTimeToken> EXPIRY_ORDER = Comparator.comparing(OneTimeToken::getExpiresAt)
+		.thenComparing(OneTimeToken::getTokenValue);
+
+	private final Object lock = new Object();
+
+	private final Map<String, OneTimeToken> oneTimeTokenByToken = new HashMap<>();
+
+	private final NavigableSet<OneTimeToken> oneTimeTokensByExpiry = new TreeSet<>(EXPIRY_ORDER);
+
+	private final Map<String, Deque<OneTimeToken>> oneTimeTokensByUsername = new HashMap<>();
 
 	private Clock clock = Clock.systemUTC();
 
+	private int maxTokens = Integer.MAX_VALUE;
+
+	private int maxTokensPerUser = Integer.MAX_VALUE;
+
+	/**
+	 * {@inheritDoc}
+	 * @throws IllegalStateException if {@link #setMaxTokens(int) the maximum number of
+	 * outstanding tokens} is reached
+	 */
 	@Override
 	public OneTimeToken generate(GenerateOneTimeTokenRequest request) {
 		String token = UUID.randomUUID().toString();
-		Instant expiresAt = this.clock.instant().plus(request.getExpiresIn());
-		OneTimeToken ott = new DefaultOneTimeToken(token, request.getUsername(), expiresAt);
-		this.oneTimeTokenByToken.put(token, ott);
-		cleanExpiredTokensIfNeeded();
+		Instant now = this.clock.instant();
+		OneTimeToken ott = new DefaultOneTimeToken(token, request.getUsername(), now.plus(request.getExpiresIn()));
+		synchronized (this.lock) {
+			removeExpiredTokens(now);
+			Deque<OneTimeToken> userTokens = this.oneTimeTokensByUsername.get(ott.getUsername());
+			int evicted = (userTokens != null) ? Math.max(userTokens.size() - this.maxTokensPerUser + 1, 0) : 0;
+			if (this.oneTimeTokenByToken.size() - evicted >= this.maxTokens) {
+				throw new IllegalStateException("Cannot generate a one-time token, the maximum of " + this.maxTokens
+						+ " outstanding tokens is reached");
+			}
+			while (userTokens != null && userTokens.size() >= this.maxTokensPerUser) {
+				remove(userTokens.getFirst());
+			}
+			this.oneTimeTokenByToken.put(token, ott);
+			this.oneTimeTokensByExpiry.add(ott);
+			this.oneTimeTokensByUsername.computeIfAbsent(ott.getUsername(), (username) -> new ArrayDeque<>(2))
+				.addLast(ott);
+		}
 		return ott;
 	}
 
 	@Override
 	public @Nullable OneTimeToken consume(OneTimeTokenAuthenticationToken authenticationToken) {
-		OneTimeToken ott = this.oneTimeTokenByToken.remove(authenticationToken.getTokenValue());
-		if (ott == null || isExpired(ott)) {
+		OneTimeToken ott;
+		synchronized (this.lock) {
+			ott = this.oneTimeTokenByToken.get(authenticationToken.getTokenValue());
+			if (ott == null) {
+				return null;
+			}
+			remove(ott);
+		}
+		if (isExpired(ott)) {
 			return null;
 		}
 		return ott;
 	}
 
-	private void cleanExpiredTokensIfNeeded() {
-		if (this.oneTimeTokenByToken.size() < 100) {
-			return;
+	private void removeExpiredTokens(Instant now) {
+		OneTimeToken oldest = this.oneTimeTokensByExpiry.isEmpty() ? null : this.oneTimeTokensByExpiry.first();
+		while (oldest != null && now.isAfter(oldest.getExpiresAt())) {
+			remove(oldest);
+			oldest = this.oneTimeTokensByExpiry.isEmpty() ? null : this.oneTimeTokensByExpiry.first();
 		}
-		for (Map.Entry<String, OneTimeToken> entry : this.oneTimeTokenByToken.entrySet()) {
-			if (isExpired(entry.getValue())) {
-				this.oneTimeTokenByToken.remove(entry.getKey());
+	}
+
+	private void remove(OneTimeToken ott) {
+		this.oneTimeTokenByToken.remove(ott.getTokenValue());
+		this.oneTimeTokensByExpiry.remove(ott);
+		Deque<OneTimeToken> userTokens = this.oneTimeTokensByUsername.get(ott.getUsername());
+		if (userTokens != null) {
+			userTokens.remove(ott);
+			if (userTokens.isEmpty()) {
+				this.oneTimeTokensByUsername.remove(ott.getUsername());
 			}
 		}
 	}
@@ -85,4 +142,31 @@ public final class InMemoryOneTimeTokenService implements OneTimeTokenService {
 		this.clock = clock;
 	}
 
+	/**
+	 * Sets the maximum number of outstanding tokens. Once it is reached,
+	 * {@link #generate(GenerateOneTimeTokenRequest)} throws an
+	 * {@link IllegalStateException} until tokens are consumed or expire, rather than
+	 * invalidating the outstanding tokens of other users. Combine it with
+	 * {@link #setMaxTokensPerUser(int)} to bound how much of it a single user can use.
+	 * Defaults to {@link Integer#MAX_VALUE}.
+	 * @param maxTokens the maximum number of outstanding tokens
+	 * @since 7.1
+	 */
+	public void setMaxTokens(int maxTokens) {
+		Assert.isTrue(maxTokens > 0, "maxTokens must be greater than 0");
+		this.maxTokens = maxTokens;
+	}
+
+	/**
+	 * Sets the maximum number of outstanding tokens of a user. Once it is reached,
+	 * generating a token for the user invalidates their oldest token. Defaults to
+	 * {@link Integer#MAX_VALUE}.
+	 * @param maxTokensPerUser the maximum number of outstanding tokens of a user
+	 * @since 7.1
+	 */
+	public void setMaxTokensPerUser(int maxTokensPerUser) {
+		Assert.isTrue(maxTokensPerUser > 0, "maxTokensPerUser must be greater than 0");
+		this.maxTokensPerUser = maxTokensPerUser;
+	}
+
 }
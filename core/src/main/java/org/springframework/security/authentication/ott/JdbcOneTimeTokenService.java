@@ -16,17 +16,22 @@
 
 package org.springframework.security.authentication.ott;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Function;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
@@ -54,6 +59,12 @@ import org.springframework.util.CollectionUtils;
  * "classpath:org/springframework/security/core/ott/jdbc/one-time-tokens-schema.sql" and
  * therefore MUST be defined in the database schema.
  *
+ * <p>
+ * Expired tokens are deleted by a single statement by default. On large tables, they can
+ * instead be deleted in chunks, see {@link #setCleanupChunkSize(int)}. Where the database
+ * supports it, tokens can also be consumed by a single statement, see
+ * {@link #setConsumeOneTimeTokenSql(String)}.
+ *
  * @author Max Batischev
  * @since 6.4
  */
@@ -71,6 +82,18 @@ public final class JdbcOneTimeTokenService implements OneTimeTokenService, Dispo
 
 	private @Nullable ThreadPoolTaskScheduler taskScheduler;
 
+	private @Nullable String consumeOneTimeTokenSql;
+
+	private int cleanupChunkSize;
+
+	private Duration cleanupChunkPause = Duration.ZERO;
+
+	private @Nullable String cleanupChunkSql;
+
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private static final String CLEANUP_OBSERVATION_NAME = "spring.security.one-time-tokens.cleanup";
+
 	private static final String DEFAULT_CLEANUP_CRON = "@hourly";
 
 	private static final String TABLE_NAME = "one_time_tokens";
@@ -102,6 +125,12 @@ public final class JdbcOneTimeTokenService implements OneTimeTokenService, Dispo
 			+ " WHERE expires_at < ?";
 	// @formatter:on
 
+	// @formatter:off
+	private static final String SELECT_EXPIRED_ONE_TIME_TOKEN_VALUES_QUERY = "SELECT token_value FROM "
+			+ TABLE_NAME
+			+ " WHERE expires_at < ?";
+	// @formatter:on
+
 	/**
 	 * Constructs a {@code JdbcOneTimeTokenService} using the provide parameters.
 	 * @param jdbcOperations the JDBC operations
@@ -148,12 +177,15 @@ public final class JdbcOneTimeTokenService implements OneTimeTokenService, Dispo
 	public @Nullable OneTimeToken consume(OneTimeTokenAuthenticationToken authenticationToken) {
 		Assert.notNull(authenticationToken, "authenticationToken cannot be null");
 
-		List<OneTimeToken> tokens = selectOneTimeToken(authenticationToken);
+		String consumeOneTimeTokenSql = this.consumeOneTimeTokenSql;
+		List<OneTimeToken> tokens = selectOneTimeToken(
+				(consumeOneTimeTokenSql != null) ? consumeOneTimeTokenSql : SELECT_ONE_TIME_TOKEN_SQL,
+				authenticationToken);
 		if (CollectionUtils.isEmpty(tokens)) {
 			return null;
 		}
 		OneTimeToken token = tokens.get(0);
-		if (deleteOneTimeToken(token) == 0) {
+		if (consumeOneTimeTokenSql == null && deleteOneTimeToken(token) == 0) {
 			return null;
 		}
 		if (isExpired(token)) {
@@ -166,11 +198,11 @@ public final class JdbcOneTimeTokenService implements OneTimeTokenService, Dispo
 		return this.clock.instant().isAfter(ott.getExpiresAt());
 	}
 
-	private List<OneTimeToken> selectOneTimeToken(OneTimeTokenAuthenticationToken authenticationToken) {
+	private List<OneTimeToken> selectOneTimeToken(String sql, OneTimeTokenAuthenticationToken authenticationToken) {
 		List<SqlParameterValue> parameters = List
 			.of(new SqlParameterValue(Types.VARCHAR, authenticationToken.getTokenValue()));
 		PreparedStatementSetter pss = new ArgumentPreparedStatementSetter(parameters.toArray());
-		return this.jdbcOperations.query(SELECT_ONE_TIME_TOKEN_SQL, pss, this.oneTimeTokenRowMapper);
+		return this.jdbcOperations.query(sql, pss, this.oneTimeTokenRowMapper);
 	}
 
 	private int deleteOneTimeToken(OneTimeToken oneTimeToken) {
@@ -191,13 +223,86 @@ public final class JdbcOneTimeTokenService implements OneTimeTokenService, Dispo
 		return taskScheduler;
 	}
 
+	/**
+	 * Deletes the expired tokens, in chunks if {@link #setCleanupChunkSize(int)} is set.
+	 * The cleanup is observed as {@code spring.security.one-time-tokens.cleanup}, with an
+	 * {@link OneTimeTokenCleanupObservationContext} holding the number of deleted tokens.
+	 */
 	public void cleanupExpiredTokens() {
-		List<SqlParameterValue> parameters = List
-			.of(new SqlParameterValue(Types.TIMESTAMP, Timestamp.from(Instant.now())));
-		PreparedStatementSetter pss = new ArgumentPreparedStatementSetter(parameters.toArray());
-		int deletedCount = this.jdbcOperations.update(DELETE_ONE_TIME_TOKENS_BY_EXPIRY_TIME_QUERY, pss);
-		if (this.logger.isDebugEnabled()) {
-			this.logger.debug("Cleaned up " + deletedCount + " expired tokens");
+		OneTimeTokenCleanupObservationContext context = new OneTimeTokenCleanupObservationContext();
+		Observation observation = Observation.createNotStarted(CLEANUP_OBSERVATION_NAME, () -> context,
+				this.observationRegistry);
+		observation.observe(() -> {
+			SqlParameterValue expiresAt = new SqlParameterValue(Types.TIMESTAMP, Timestamp.from(Instant.now()));
+			int deletedCount = (this.cleanupChunkSize > 0) ? deleteExpiredTokensInChunks(expiresAt)
+					: this.jdbcOperations.update(DELETE_ONE_TIME_TOKENS_BY_EXPIRY_TIME_QUERY,
+							new ArgumentPreparedStatementSetter(new Object[] { expiresAt }));
+			context.setDeletedCount(deletedCount);
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Cleaned up " + deletedCount + " expired tokens");
+			}
+		});
+	}
+
+	private int deleteExpiredTokensInChunks(SqlParameterValue expiresAt) {
+		int chunkSize = this.cleanupChunkSize;
+		String cleanupChunkSql = this.cleanupChunkSql;
+		PreparedStatementSetter pss = new ArgumentPreparedStatementSetter(
+				new Object[] { expiresAt, new SqlParameterValue(Types.INTEGER, chunkSize) });
+		int deletedCount = 0;
+		while (true) {
+			int chunkCount;
+			if (cleanupChunkSql != null) {
+				chunkCount = this.jdbcOperations.update(cleanupChunkSql, pss);
+				deletedCount += chunkCount;
+			}
+			else {
+				List<String> tokenValues = selectExpiredTokenValues(expiresAt, chunkSize);
+				chunkCount = tokenValues.size();
+				deletedCount += deleteOneTimeTokens(tokenValues);
+			}
+			if (chunkCount < chunkSize || !pauseBetweenChunks()) {
+				return deletedCount;
+			}
+		}
+	}
+
+	private List<String> selectExpiredTokenValues(SqlParameterValue expiresAt, int chunkSize) {
+		PreparedStatementSetter pss = new ArgumentPreparedStatementSetter(new Object[] { expiresAt });
+		return this.jdbcOperations.query((connection) -> {
+			PreparedStatement ps = connection.prepareStatement(SELECT_EXPIRED_ONE_TIME_TOKEN_VALUES_QUERY);
+			ps.setMaxRows(chunkSize);
+			pss.setValues(ps);
+			return ps;
+		}, (rs, rowNum) -> rs.getString("token_value"));
+	}
+
+	private int deleteOneTimeTokens(List<String> tokenValues) {
+		if (tokenValues.isEmpty()) {
+			return 0;
+		}
+		List<Object[]> batchArgs = new ArrayList<>(tokenValues.size());
+		for (String tokenValue : tokenValues) {
+			batchArgs.add(new Object[] { new SqlParameterValue(Types.VARCHAR, tokenValue) });
+		}
+		int deletedCount = 0;
+		for (int updateCount : this.jdbcOperations.batchUpdate(DELETE_ONE_TIME_TOKEN_SQL, batchArgs)) {
+			deletedCount += (updateCount == Statement.SUCCESS_NO_INFO) ? 1 : updateCount;
+		}
+		return deletedCount;
+	}
+
+	private boolean pauseBetweenChunks() {
+		if (this.cleanupChunkPause.isZero()) {
+			return true;
+		}
+		try {
+			Thread.sleep(this.cleanupChunkPause.toMillis());
+			return true;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
 		}
 	}
 
@@ -225,6 +330,98 @@ public final class JdbcOneTimeTokenService implements OneTimeTokenService, Dispo
 		this.clock = clock;
 	}
 
+	/**
+	 * Sets a statement that deletes the token whose value is its only parameter and
+	 * returns the deleted row, so that a token is consumed by a single statement rather
+	 * than selected and then deleted. For example, on PostgreSQL:
+	 *
+	 * <pre>
+	 * DELETE FROM one_time_tokens WHERE token_value = ? RETURNING token_value, username, expires_at
+	 * </pre>
+	 *
+	 * or on SQL Server:
+	 *
+	 * <pre>
+	 * DELETE FROM one_time_tokens OUTPUT DELETED.token_value, DELETED.username, DELETED.expires_at
+	 * WHERE token_value = ?
+	 * </pre>
+	 *
+	 * By default, the token is selected and then deleted.
+	 * @param consumeOneTimeTokenSql the statement that deletes and returns a token
+	 * @since 7.1
+	 */
+	public void setConsumeOneTimeTokenSql(String consumeOneTimeTokenSql) {
+		Assert.hasText(consumeOneTimeTokenSql, "consumeOneTimeTokenSql cannot be empty");
+		this.consumeOneTimeTokenSql = consumeOneTimeTokenSql;
+	}
+
+	/**
+	 * Sets the maximum number of expired tokens that {@link #cleanupExpiredTokens()}
+	 * deletes per statement, so that a cleanup of a large table does not hold its locks
+	 * for long. The default is {@code 0}, which deletes all expired tokens with a single
+	 * statement.
+	 * @param cleanupChunkSize the maximum number of tokens to delete per statement, or
+	 * {@code 0} to delete all expired tokens at once
+	 * @since 7.1
+	 * @see #setCleanupChunkPause(Duration)
+	 * @see #setCleanupChunkSql(String)
+	 */
+	public void setCleanupChunkSize(int cleanupChunkSize) {
+		Assert.isTrue(cleanupChunkSize >= 0, "cleanupChunkSize cannot be negative");
+		this.cleanupChunkSize = cleanupChunkSize;
+	}
+
+	/**
+	 * Sets the pause between two chunks of a cleanup. The default is no pause.
+	 * @param cleanupChunkPause the pause between two chunks
+	 * @since 7.1
+	 * @see #setCleanupChunkSize(int)
+	 */
+	public void setCleanupChunkPause(Duration cleanupChunkPause) {
+		Assert.notNull(cleanupChunkPause, "cleanupChunkPause cannot be null");
+		Assert.isTrue(!cleanupChunkPause.isNegative(), "cleanupChunkPause cannot be negative");
+		this.cleanupChunkPause = cleanupChunkPause;
+	}
+
+	/**
+	 * Sets the statement that deletes a chunk of expired tokens. Its parameters are the
+	 * current time and the chunk size. By default, a chunk of expired tokens is selected
+	 * with {@link PreparedStatement#setMaxRows(int)} and then deleted with a batch of
+	 * statements, which works on any database. A single database-specific statement can
+	 * be used instead, for example on MySQL:
+	 *
+	 * <pre>
+	 * DELETE FROM one_time_tokens WHERE expires_at &lt; ? LIMIT ?
+	 * </pre>
+	 *
+	 * or on PostgreSQL:
+	 *
+	 * <pre>
+	 * DELETE FROM one_time_tokens WHERE ctid IN (SELECT ctid FROM one_time_tokens WHERE expires_at &lt; ? LIMIT ?)
+	 * </pre>
+	 * @param cleanupChunkSql the statement that deletes a chunk of expired tokens
+	 * @since 7.1
+	 * @see #setCleanupChunkSize(int)
+	 */
+	public void setCleanupChunkSql(String cleanupChunkSql) {
+		Assert.hasText(cleanupChunkSql, "cleanupChunkSql cannot be empty");
+		this.cleanupChunkSql = cleanupChunkSql;
+	}
+
+	/**
+	 * Sets the {@link ObservationRegistry} used to observe {@link #cleanupExpiredTokens()}.
+	 * The number of deleted tokens is available from the
+	 * {@link OneTimeTokenCleanupObservationContext}, for example to record it from an
+	 * {@link io.micrometer.observation.ObservationHandler}. By default, cleanups are not
+	 * observed.
+	 * @param observationRegistry the {@link ObservationRegistry} to use
+	 * @since 7.1
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+		this.observationRegistry = observationRegistry;
+	}
+
 	/**
 	 * The default {@code Function} that maps {@link OneTimeToken} to a {@code List} of
 	 * {@link SqlParameterValue}.
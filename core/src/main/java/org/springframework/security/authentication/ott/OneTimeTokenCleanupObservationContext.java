@@ -0,0 +1,47 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.authentication.ott;
+
+import io.micrometer.observation.Observation;
+
+/**
+ * An {@link Observation.Context} used when deleting expired one-time tokens
+ *
+ * @since 7.1
+ * @see JdbcOneTimeTokenService#cleanupExpiredTokens()
+ */
+public class OneTimeTokenCleanupObservationContext extends Observation.Context {
+
+	private int deletedCount;
+
+	/**
+	 * Get the number of expired tokens that were deleted
+	 * @return the number of deleted tokens
+	 */
+	public int getDeletedCount() {
+		return this.deletedCount;
+	}
+
+	/**
+	 * Set the number of expired tokens that were deleted
+	 * @param deletedCount the number of deleted tokens
+	 */
+	public void setDeletedCount(int deletedCount) {
+		this.deletedCount = deletedCount;
+	}
+
+}
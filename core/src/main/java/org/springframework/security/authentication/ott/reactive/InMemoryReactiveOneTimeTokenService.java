@@ -58,4 +58,29 @@ public final class InMemoryReactiveOneTimeTokenService implements ReactiveOneTim
 		this.oneTimeTokenService.setClock(clock);
 	}
 
+	/**
+	 * Sets the maximum number of outstanding tokens. Once it is reached, generating a
+	 * token emits an {@link IllegalStateException} until tokens are consumed or expire,
+	 * rather than invalidating the outstanding tokens of other users. Defaults to
+	 * {@link Integer#MAX_VALUE}.
+	 * @param maxTokens the maximum number of outstanding tokens
+	 * @since 7.1
+	 * @see InMemoryOneTimeTokenService#setMaxTokens(int)
+	 */
+	public void setMaxTokens(int maxTokens) {
+		this.oneTimeTokenService.setMaxTokens(maxTokens);
+	}
+
+	/**
+	 * Sets the maximum number of outstanding tokens of a user. Once it is reached,
+	 * generating a token for the user invalidates their oldest token. Defaults to
+	 * {@link Integer#MAX_VALUE}.
+	 * @param maxTokensPerUser the maximum number of outstanding tokens of a user
+	 * @since 7.1
+	 * @see InMemoryOneTimeTokenService#setMaxTokensPerUser(int)
+	 */
+	public void setMaxTokensPerUser(int maxTokensPerUser) {
+		this.oneTimeTokenService.setMaxTokensPerUser(maxTokensPerUser);
+	}
+
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.authentication.password;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link PasswordEncoder} that encodes and matches passwords with a delegate
+ * {@link PasswordEncoder} on a dedicated, bounded pool of threads.
+ *
+ * <p>
+ * Adaptive password hashes such as bcrypt, scrypt or argon2 are CPU intensive on
+ * purpose. Running them on a pool of their own bounds the CPU that password checks can
+ * take from the rest of the application, for example during a credential stuffing
+ * attack. When all of the threads are busy and the queue of pending checks is full,
+ * {@link #encode(CharSequence)} and {@link #matches(CharSequence, String)} fail fast
+ * with an {@link AuthenticationServiceException} rather than wait.
+ *
+ * <p>
+ * Callers wait for the result of the delegate, so that this encoder can be used wherever
+ * a {@link PasswordEncoder} is expected, such as with
+ * {@link org.springframework.security.authentication.dao.DaoAuthenticationProvider}.
+ * Reactive applications can use {@link #getExecutor()} as the
+ * {@link reactor.core.scheduler.Scheduler} of a
+ * {@link org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager},
+ * in which case passwords are matched on the pool without waiting.
+ *
+ * @since 7.1
+ */
+public final class OffloadingPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+	private final PasswordEncoder delegate;
+
+	private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+	private final ThreadLocal<Boolean> offloaded = new ThreadLocal<>();
+
+	/**
+	 * Creates a new instance with a thread per available processor and a queue of 16
+	 * pending operations per thread
+	 * @param delegate the {@link PasswordEncoder} to delegate to
+	 */
+	public OffloadingPasswordEncoder(PasswordEncoder delegate) {
+		this(delegate, Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors() * 16);
+	}
+
+	/**
+	 * Creates a new instance
+	 * @param delegate the {@link PasswordEncoder} to delegate to
+	 * @param poolSize the number of threads that encode and match passwords
+	 * @param queueCapacity the maximum number of operations that wait for a thread,
+	 * beyond which operations are rejected
+	 */
+	public OffloadingPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.isTrue(poolSize > 0, "poolSize must be greater than 0");
+		Assert.isTrue(queueCapacity >= 0, "queueCapacity cannot be negative");
+		this.delegate = delegate;
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("spring-security-password-encoder-");
+		threadFactory.setDaemon(true);
+		this.executor.setThreadFactory((task) -> threadFactory.newThread(() -> {
+			this.offloaded.set(Boolean.TRUE);
+			task.run();
+		}));
+		this.executor.setCorePoolSize(poolSize);
+		this.executor.setMaxPoolSize(poolSize);
+		this.executor.setQueueCapacity(queueCapacity);
+		this.executor.initialize();
+	}
+
+	@Override
+	public @Nullable String encode(@Nullable CharSequence rawPassword) {
+		if (rawPassword == null) {
+			return null;
+		}
+		return offload(() -> this.delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(@Nullable CharSequence rawPassword, @Nullable String encodedPassword) {
+		return offload(() -> this.delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(@Nullable String encodedPassword) {
+		return this.delegate.upgradeEncoding(encodedPassword);
+	}
+
+	/**
+	 * Returns the {@link Executor} that encodes and matches passwords. Operations that
+	 * already run on it invoke the delegate directly. The {@link Executor} rejects tasks
+	 * with a {@link java.util.concurrent.RejectedExecutionException} once its queue is
+	 * full.
+	 * @return the {@link Executor} that encodes and matches passwords
+	 */
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdown();
+	}
+
+	private <T> T offload(Callable<T> operation) {
+		if (Boolean.TRUE.equals(this.offloaded.get())) {
+			return call(operation);
+		}
+		Future<T> result;
+		try {
+			result = this.executor.submit(operation);
+		}
+		catch (TaskRejectedException ex) {
+			throw new AuthenticationServiceException("Too many concurrent password checks, please try again later",
+					ex);
+		}
+		try {
+			return result.get();
+		}
+		catch (InterruptedException ex) {
+			result.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new AuthenticationServiceException("Interrupted while checking the password", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new AuthenticationServiceException("Failed to check the password", ex.getCause());
+		}
+	}
+
+	private static <T> T call(Callable<T> operation) {
+		try {
+			return operation.call();
+		}
+		catch (RuntimeException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw new AuthenticationServiceException("Failed to check the password", ex);
+		}
+	}
+
+}
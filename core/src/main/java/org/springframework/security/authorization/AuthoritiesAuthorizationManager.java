@@ -59,8 +59,13 @@ public final class AuthoritiesAuthorizationManager implements AuthorizationManag
 	@Override
 	public AuthorizationResult authorize(Supplier<? extends @Nullable Authentication> authentication,
 			Collection<String> authorities) {
+		return authorize(authentication, authorities, AuthorityUtils.createAuthorityList(authorities));
+	}
+
+	AuthorizationResult authorize(Supplier<? extends @Nullable Authentication> authentication,
+			Collection<String> authorities, Collection<GrantedAuthority> grantedAuthorities) {
 		boolean granted = isGranted(authentication.get(), authorities);
-		return new AuthorityAuthorizationDecision(granted, AuthorityUtils.createAuthorityList(authorities));
+		return new AuthorityAuthorizationDecision(granted, grantedAuthorities);
 	}
 
 	private boolean isGranted(Authentication authentication, Collection<String> authorities) {
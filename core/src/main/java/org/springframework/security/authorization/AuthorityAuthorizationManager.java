@@ -16,6 +16,8 @@
 
 package org.springframework.security.authorization;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -24,6 +26,8 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.security.access.hierarchicalroles.NullRoleHierarchy;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -43,8 +47,11 @@ public final class AuthorityAuthorizationManager<T> implements AuthorizationMana
 
 	private final Set<String> authorities;
 
+	private final List<GrantedAuthority> grantedAuthorities;
+
 	private AuthorityAuthorizationManager(String... authorities) {
 		this.authorities = Set.of(authorities);
+		this.grantedAuthorities = Collections.unmodifiableList(AuthorityUtils.createAuthorityList(authorities));
 	}
 
 	/**
@@ -141,7 +148,7 @@ public final class AuthorityAuthorizationManager<T> implements AuthorizationMana
 	 */
 	@Override
 	public AuthorizationResult authorize(Supplier<? extends @Nullable Authentication> authentication, T object) {
-		return this.delegate.authorize(authentication, this.authorities);
+		return this.delegate.authorize(authentication, this.authorities, this.grantedAuthorities);
 	}
 
 	@Override
@@ -46,13 +46,17 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.aop.Advisor;
 import org.springframework.aop.Pointcut;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AdvisorChainFactory;
 import org.springframework.aop.framework.AopInfrastructureBean;
+import org.springframework.aop.framework.DefaultAdvisorChainFactory;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.security.authorization.AuthorizationProxyFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * A proxy factory for applying authorization advice to an arbitrary object.
@@ -94,8 +98,14 @@ public final class AuthorizationAdvisorProxyFactory implements AuthorizationProx
 
 	private final AuthorizationProxyMethodInterceptor authorizationProxy = new AuthorizationProxyMethodInterceptor();
 
+	private final CachingAdvisorChainFactory advisorChainFactory = new CachingAdvisorChainFactory();
+
+	private final Map<Class<?>, Class<?>[]> interfaces = new ConcurrentReferenceHashMap<>();
+
 	private List<AuthorizationAdvisor> advisors;
 
+	private volatile @Nullable List<Advisor> sortedAdvisors;
+
 	private TargetVisitor visitor = DEFAULT_VISITOR;
 
 	/**
@@ -151,6 +161,7 @@ public final class AuthorizationAdvisorProxyFactory implements AuthorizationProx
 	@Override
 	public void afterSingletonsInstantiated() {
 		AnnotationAwareOrderComparator.sort(this.advisors);
+		advisorsChanged();
 	}
 
 	/**
@@ -183,17 +194,35 @@ public final class AuthorizationAdvisorProxyFactory implements AuthorizationProx
 		if (proxied != null) {
 			return (T) proxied;
 		}
-		ProxyFactory factory = new ProxyFactory(target);
-		factory.addAdvisors(this.authorizationProxy);
-		List<Advisor> advisors = new ArrayList<>(this.advisors);
-		AnnotationAwareOrderComparator.sort(advisors);
-		factory.addAdvisors(advisors);
+		Class<?> targetClass = target.getClass();
+		ProxyFactory factory = new ProxyFactory();
+		factory.setTarget(target);
+		factory.setInterfaces(this.interfaces.computeIfAbsent(targetClass, ClassUtils::getAllInterfacesForClass));
+		factory.setAdvisorChainFactory(this.advisorChainFactory);
+		factory.addAdvisors(sortedAdvisors());
 		factory.addInterface(AuthorizationProxy.class);
 		factory.setOpaque(true);
-		factory.setProxyTargetClass(!Modifier.isFinal(target.getClass().getModifiers()));
+		factory.setProxyTargetClass(!Modifier.isFinal(targetClass.getModifiers()));
 		return (T) factory.getProxy();
 	}
 
+	private List<Advisor> sortedAdvisors() {
+		List<Advisor> sorted = this.sortedAdvisors;
+		if (sorted == null) {
+			List<Advisor> advisors = new ArrayList<>(this.advisors);
+			AnnotationAwareOrderComparator.sort(advisors);
+			advisors.add(0, this.authorizationProxy);
+			sorted = List.copyOf(advisors);
+			this.sortedAdvisors = sorted;
+		}
+		return sorted;
+	}
+
+	private void advisorsChanged() {
+		this.sortedAdvisors = null;
+		this.advisorChainFactory.clear();
+	}
+
 	/**
 	 * Add advisors that should be included to each proxy created.
 	 *
@@ -205,6 +234,7 @@ public final class AuthorizationAdvisorProxyFactory implements AuthorizationProx
 	@Deprecated
 	public void setAdvisors(AuthorizationAdvisor... advisors) {
 		this.advisors = new ArrayList<>(List.of(advisors));
+		advisorsChanged();
 	}
 
 	/**
@@ -218,6 +248,7 @@ public final class AuthorizationAdvisorProxyFactory implements AuthorizationProx
 	@Deprecated
 	public void setAdvisors(Collection<AuthorizationAdvisor> advisors) {
 		this.advisors = new ArrayList<>(advisors);
+		advisorsChanged();
 	}
 
 	/**
@@ -235,6 +266,7 @@ public final class AuthorizationAdvisorProxyFactory implements AuthorizationProx
 	@Deprecated
 	public void addAdvisor(AuthorizationAdvisor advisor) {
 		this.advisors.add(advisor);
+		advisorsChanged();
 	}
 
 	/**
@@ -279,7 +311,26 @@ public final class AuthorizationAdvisorProxyFactory implements AuthorizationProx
 
 	@Override
 	public Iterator<AuthorizationAdvisor> iterator() {
-		return this.advisors.iterator();
+		Iterator<AuthorizationAdvisor> delegate = this.advisors.iterator();
+		return new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return delegate.hasNext();
+			}
+
+			@Override
+			public AuthorizationAdvisor next() {
+				return delegate.next();
+			}
+
+			@Override
+			public void remove() {
+				delegate.remove();
+				advisorsChanged();
+			}
+
+		};
 	}
 
 	/**
@@ -600,6 +651,35 @@ public final class AuthorizationAdvisorProxyFactory implements AuthorizationProx
 
 	}
 
+	/**
+	 * An {@link AdvisorChainFactory} shared by all the proxies of this factory. Since
+	 * they all have the same advisors, the interceptor chain of a method only depends on
+	 * the method and the target class, and so is computed once instead of once per
+	 * proxy.
+	 */
+	private static final class CachingAdvisorChainFactory implements AdvisorChainFactory {
+
+		private final AdvisorChainFactory delegate = new DefaultAdvisorChainFactory();
+
+		private final Map<ChainKey, List<Object>> chains = new ConcurrentReferenceHashMap<>();
+
+		@Override
+		public List<Object> getInterceptorsAndDynamicInterceptionAdvice(Advised config, Method method,
+				@Nullable Class<?> targetClass) {
+			return this.chains.computeIfAbsent(new ChainKey(method, targetClass), (key) -> List
+				.copyOf(this.delegate.getInterceptorsAndDynamicInterceptionAdvice(config, method, targetClass)));
+		}
+
+		void clear() {
+			this.chains.clear();
+		}
+
+		private record ChainKey(Method method, @Nullable Class<?> targetClass) {
+
+		}
+
+	}
+
 	private static final class AuthorizationProxyMethodInterceptor implements AuthorizationAdvisor {
 
 		private static final Method GET_TARGET_METHOD = ClassUtils.getMethod(AuthorizationProxy.class,
@@ -20,6 +20,7 @@ import java.util.concurrent.Callable;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.security.core.context.ScopedValueSecurityContextHolderStrategy;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
@@ -35,6 +36,10 @@ import org.springframework.util.Assert;
  * If there is a {@link SecurityContext} that already exists, it will be restored after
  * the {@link #call()} method is invoked.
  * </p>
+ * <p>
+ * With a {@link ScopedValueSecurityContextHolderStrategy}, the {@link SecurityContext}
+ * is instead bound to a new scope for the duration of the delegate.
+ * </p>
  *
  * @author Rob Winch
  * @since 3.2
@@ -92,6 +97,10 @@ public final class DelegatingSecurityContextCallable<V> implements Callable<V> {
 
 	@Override
 	public V call() throws Exception {
+		if (this.securityContextHolderStrategy instanceof ScopedValueSecurityContextHolderStrategy scoped) {
+			SecurityContext securityContext = this.delegateSecurityContext;
+			return scoped.callWhere(() -> securityContext, this.delegate);
+		}
 		this.originalSecurityContext = this.securityContextHolderStrategy.getContext();
 		try {
 			this.securityContextHolderStrategy.setContext(this.delegateSecurityContext);
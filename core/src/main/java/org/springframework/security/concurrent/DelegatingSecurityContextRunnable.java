@@ -18,6 +18,7 @@ package org.springframework.security.concurrent;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.security.core.context.ScopedValueSecurityContextHolderStrategy;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
@@ -33,6 +34,10 @@ import org.springframework.util.Assert;
  * If there is a {@link SecurityContext} that already exists, it will be restored after
  * the {@link #run()} method is invoked.
  * </p>
+ * <p>
+ * With a {@link ScopedValueSecurityContextHolderStrategy}, the {@link SecurityContext}
+ * is instead bound to a new scope for the duration of the delegate.
+ * </p>
  *
  * @author Rob Winch
  * @since 3.2
@@ -90,6 +95,11 @@ public final class DelegatingSecurityContextRunnable implements Runnable {
 
 	@Override
 	public void run() {
+		if (this.securityContextHolderStrategy instanceof ScopedValueSecurityContextHolderStrategy scoped) {
+			SecurityContext securityContext = this.delegateSecurityContext;
+			scoped.runWhere(() -> securityContext, this.delegate);
+			return;
+		}
 		this.originalSecurityContext = this.securityContextHolderStrategy.getContext();
 		try {
 			this.securityContextHolderStrategy.setContext(this.delegateSecurityContext);
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.core.context;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SecurityContextHolderStrategy} that binds the {@link SecurityContext} to a
+ * scope rather than to a thread.
+ *
+ * <p>
+ * {@link #runWhere(Supplier, Runnable)} and {@link #callWhere(Supplier, Callable)} bind a
+ * {@link SecurityContext} for the duration of an action. Within the action, the
+ * {@link SecurityContext} can be read and replaced as usual, and it is discarded when the
+ * action completes, so nothing needs to be cleared and nothing is retained by the thread
+ * afterwards. Scopes can be nested, the innermost one being current.
+ *
+ * <p>
+ * On Java 25 and later, scopes are backed by a {@code java.lang.ScopedValue}, which is cheap to
+ * bind on virtual threads and is inherited by the subtasks of a
+ * {@code StructuredTaskScope}. Those subtasks share the {@link SecurityContext} of the
+ * scope that forked them and should open their own scope to use a different one. On
+ * earlier versions, scopes are backed by a {@link ThreadLocal} that is restored when the
+ * action completes.
+ *
+ * <p>
+ * Outside of any scope, this strategy behaves like
+ * {@link SecurityContextHolder#MODE_THREADLOCAL}.
+ *
+ * @since 7.1
+ * @see SecurityContextHolder#MODE_SCOPED_VALUE
+ */
+public final class ScopedValueSecurityContextHolderStrategy implements SecurityContextHolderStrategy {
+
+	private final ThreadLocal<Supplier<SecurityContext>> unscopedContextHolder = new ThreadLocal<>();
+
+	private final Scope scope = createScope();
+
+	@Override
+	public void clearContext() {
+		Binding binding = this.scope.current();
+		if (binding != null) {
+			binding.context = null;
+		}
+		else {
+			this.unscopedContextHolder.remove();
+		}
+	}
+
+	@Override
+	public SecurityContext getContext() {
+		return getDeferredContext().get();
+	}
+
+	@Override
+	public Supplier<SecurityContext> getDeferredContext() {
+		Binding binding = this.scope.current();
+		@Nullable Supplier<SecurityContext> result = (binding != null) ? binding.context
+				: this.unscopedContextHolder.get();
+		if (result == null) {
+			SecurityContext context = createEmptyContext();
+			result = () -> context;
+			set(binding, result);
+		}
+		return result;
+	}
+
+	@Override
+	public void setContext(SecurityContext context) {
+		Assert.notNull(context, "Only non-null SecurityContext instances are permitted");
+		set(this.scope.current(), () -> context);
+	}
+
+	@Override
+	public void setDeferredContext(Supplier<SecurityContext> deferredContext) {
+		set(this.scope.current(), notNull(deferredContext));
+	}
+
+	@Override
+	public SecurityContext createEmptyContext() {
+		return new SecurityContextImpl();
+	}
+
+	/**
+	 * Indicates whether the current thread runs within a scope opened by this strategy
+	 * @return {@code true} if a {@link SecurityContext} is bound to a scope
+	 */
+	public boolean isBound() {
+		return this.scope.current() != null;
+	}
+
+	/**
+	 * Runs the given action in a new scope, in which the {@link SecurityContext} is
+	 * initially the one supplied by {@code deferredContext}
+	 * @param deferredContext the {@link Supplier} of the {@link SecurityContext} to bind
+	 * @param action the action to run
+	 */
+	public void runWhere(Supplier<SecurityContext> deferredContext, Runnable action) {
+		Assert.notNull(action, "action cannot be null");
+		this.scope.run(new Binding(notNull(deferredContext)), action);
+	}
+
+	/**
+	 * Calls the given action in a new scope, in which the {@link SecurityContext} is
+	 * initially the one supplied by {@code deferredContext}
+	 * @param deferredContext the {@link Supplier} of the {@link SecurityContext} to bind
+	 * @param action the action to call
+	 * @param <T> the type of the result of the action
+	 * @return the result of the action
+	 * @throws Exception if the action throws an exception
+	 */
+	public <T> T callWhere(Supplier<SecurityContext> deferredContext, Callable<T> action) throws Exception {
+		Assert.notNull(action, "action cannot be null");
+		CallResult<T> result = new CallResult<>();
+		runWhere(deferredContext, () -> {
+			try {
+				result.value = action.call();
+			}
+			catch (RuntimeException ex) {
+				throw ex;
+			}
+			catch (Exception ex) {
+				result.failure = ex;
+			}
+		});
+		if (result.failure != null) {
+			throw result.failure;
+		}
+		return result.value;
+	}
+
+	private static Scope createScope() {
+		ScopedValueHandles handles = ScopedValueHandles.INSTANCE;
+		return (handles != null) ? new ScopedValueScope(handles) : new ThreadLocalScope();
+	}
+
+	private void set(@Nullable Binding binding, Supplier<SecurityContext> deferredContext) {
+		if (binding != null) {
+			binding.context = deferredContext;
+		}
+		else {
+			this.unscopedContextHolder.set(deferredContext);
+		}
+	}
+
+	private static Supplier<SecurityContext> notNull(Supplier<SecurityContext> deferredContext) {
+		Assert.notNull(deferredContext, "Only non-null Supplier instances are permitted");
+		return () -> {
+			SecurityContext result = deferredContext.get();
+			Assert.notNull(result, "A Supplier<SecurityContext> returned null and is not allowed.");
+			return result;
+		};
+	}
+
+	/**
+	 * The {@link SecurityContext} of a scope
+	 */
+	private static final class Binding {
+
+		private volatile @Nullable Supplier<SecurityContext> context;
+
+		private Binding(Supplier<SecurityContext> context) {
+			this.context = context;
+		}
+
+	}
+
+	private static final class CallResult<T> {
+
+		@SuppressWarnings("NullAway.Init")
+		private T value;
+
+		private @Nullable Exception failure;
+
+	}
+
+	private interface Scope {
+
+		@Nullable Binding current();
+
+		void run(Binding binding, Runnable action);
+
+	}
+
+	private static final class ThreadLocalScope implements Scope {
+
+		private final ThreadLocal<Binding> bindings = new ThreadLocal<>();
+
+		@Override
+		public @Nullable Binding current() {
+			return this.bindings.get();
+		}
+
+		@Override
+		public void run(Binding binding, Runnable action) {
+			Binding previous = this.bindings.get();
+			this.bindings.set(binding);
+			try {
+				action.run();
+			}
+			finally {
+				if (previous != null) {
+					this.bindings.set(previous);
+				}
+				else {
+					this.bindings.remove();
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * A {@link Scope} backed by a {@code java.lang.ScopedValue}, which is invoked
+	 * reflectively since it is only final as of Java 25
+	 */
+	private static final class ScopedValueScope implements Scope {
+
+		private final ScopedValueHandles handles;
+
+		private final Object scopedValue;
+
+		private ScopedValueScope(ScopedValueHandles handles) {
+			this.handles = handles;
+			try {
+				this.scopedValue = handles.newInstance().invoke();
+			}
+			catch (Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+
+		@Override
+		public @Nullable Binding current() {
+			try {
+				if ((boolean) this.handles.isBound().invoke(this.scopedValue)) {
+					return (Binding) this.handles.get().invoke(this.scopedValue);
+				}
+				return null;
+			}
+			catch (Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+
+		@Override
+		public void run(Binding binding, Runnable action) {
+			try {
+				Object carrier = this.handles.where().invoke(this.scopedValue, binding);
+				this.handles.run().invoke(carrier, action);
+			}
+			catch (Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+
+		private static RuntimeException rethrow(Throwable ex) {
+			if (ex instanceof Error error) {
+				throw error;
+			}
+			if (ex instanceof RuntimeException runtime) {
+				return runtime;
+			}
+			return new IllegalStateException(ex);
+		}
+
+	}
+
+	private record ScopedValueHandles(MethodHandle newInstance, MethodHandle where, MethodHandle run,
+			MethodHandle isBound, MethodHandle get) {
+
+		private static final int SCOPED_VALUE_JAVA_VERSION = 25;
+
+		private static final @Nullable ScopedValueHandles INSTANCE = load();
+
+		private static @Nullable ScopedValueHandles load() {
+			if (Runtime.version().feature() < SCOPED_VALUE_JAVA_VERSION) {
+				return null;
+			}
+			try {
+				Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+				Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+				MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+				return new ScopedValueHandles(
+						lookup.findStatic(scopedValue, "newInstance", MethodType.methodType(scopedValue)),
+						lookup.findStatic(scopedValue, "where",
+								MethodType.methodType(carrier, scopedValue, Object.class)),
+						lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class)),
+						lookup.findVirtual(scopedValue, "isBound", MethodType.methodType(boolean.class)),
+						lookup.findVirtual(scopedValue, "get", MethodType.methodType(Object.class)));
+			}
+			catch (ReflectiveOperationException ex) {
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -25,10 +25,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.authorization.AuthorizationManagerFactory;
 import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -78,6 +82,27 @@ public class AbstractSecurityExpressionHandlerTests {
 		assertThat(parser == this.handler.getExpressionParser()).isTrue();
 	}
 
+	@Test
+	public void setSpelCompilerModeNull() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.handler.setSpelCompilerMode(null));
+	}
+
+	@Test
+	public void setSpelCompilerModeWhenImmediateThenExpressionsCompiled() {
+		this.handler.setSpelCompilerMode(SpelCompilerMode.IMMEDIATE);
+		Expression expression = this.handler.getExpressionParser()
+			.parseExpression("hasRole('USER') and authentication.name == 'user'");
+		Authentication user = new TestingAuthenticationToken("user", "password", "ROLE_USER");
+		Authentication admin = new TestingAuthenticationToken("admin", "password", "ROLE_USER");
+		for (int i = 0; i < 3; i++) {
+			EvaluationContext context = this.handler.createEvaluationContext(user, new Object());
+			assertThat(ExpressionUtils.evaluateAsBoolean(expression, context)).isTrue();
+		}
+		assertThat(ReflectionTestUtils.getField(expression, "compiledAst")).isNotNull();
+		EvaluationContext context = this.handler.createEvaluationContext(admin, new Object());
+		assertThat(ExpressionUtils.evaluateAsBoolean(expression, context)).isFalse();
+	}
+
 	@Test
 	public void setAuthorizationManagerFactoryNull() {
 		assertThatIllegalArgumentException().isThrownBy(() -> this.handler.setAuthorizationManagerFactory(null));
@@ -16,6 +16,8 @@
 
 package org.springframework.security.authentication;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -106,6 +108,16 @@ public class UserDetailsRepositoryReactiveAuthenticationManagerTests {
 		verify(this.scheduler).schedule(any());
 	}
 
+	@Test
+	public void authenticateWhenSchedulerRejectsThenAuthenticationServiceException() {
+		given(this.scheduler.schedule(any())).willThrow(new RejectedExecutionException("rejected"));
+		given(this.userDetailsService.findByUsername(any())).willReturn(Mono.just(this.user));
+		this.manager.setScheduler(this.scheduler);
+		UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.unauthenticated(this.user,
+				this.user.getPassword());
+		StepVerifier.create(this.manager.authenticate(token)).verifyError(AuthenticationServiceException.class);
+	}
+
 	@Test
 	public void authenticateWhenPasswordServiceThenUpdated() {
 		String encodedPassword = "encoded";
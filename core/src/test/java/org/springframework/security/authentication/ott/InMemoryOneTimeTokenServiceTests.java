@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
 /**
@@ -101,6 +102,60 @@ class InMemoryOneTimeTokenServiceTests {
 		// @formatter:on
 	}
 
+	@Test
+	void generateWhenMaxTokensReachedThenIllegalStateExceptionAndOutstandingTokensKept() {
+		this.oneTimeTokenService.setMaxTokens(2);
+		List<OneTimeToken> outstanding = generate(2);
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest("attacker")));
+		assertThat(outstanding).extracting(
+				(token) -> this.oneTimeTokenService.consume(new OneTimeTokenAuthenticationToken(token.getTokenValue())))
+			.noneMatch(Objects::isNull);
+	}
+
+	@Test
+	void generateWhenMaxTokensReachedAndTokensExpiredThenGenerated() {
+		this.oneTimeTokenService.setMaxTokens(2);
+		generate(2);
+		Clock sixMinutesFromNow = Clock.fixed(Instant.now().plus(6, ChronoUnit.MINUTES), ZoneOffset.UTC);
+		this.oneTimeTokenService.setClock(sixMinutesFromNow);
+		assertThat(generate(2)).hasSize(2);
+	}
+
+	@Test
+	void generateWhenMaxTokensPerUserReachedThenOldestTokenInvalidated() {
+		this.oneTimeTokenService.setMaxTokensPerUser(2);
+		OneTimeToken first = this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest("user"));
+		OneTimeToken second = this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest("user"));
+		OneTimeToken other = this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest("other"));
+		OneTimeToken third = this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest("user"));
+		assertThat(this.oneTimeTokenService.consume(new OneTimeTokenAuthenticationToken(first.getTokenValue())))
+			.isNull();
+		assertThat(List.of(second, other, third)).extracting(
+				(token) -> this.oneTimeTokenService.consume(new OneTimeTokenAuthenticationToken(token.getTokenValue())))
+			.noneMatch(Objects::isNull);
+	}
+
+	@Test
+	void generateWhenMaxTokensReachedAndMaxTokensPerUserReachedThenGenerated() {
+		this.oneTimeTokenService.setMaxTokens(1);
+		this.oneTimeTokenService.setMaxTokensPerUser(1);
+		OneTimeToken first = this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest("user"));
+		OneTimeToken second = this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest("user"));
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest("other")));
+		assertThat(this.oneTimeTokenService.consume(new OneTimeTokenAuthenticationToken(first.getTokenValue())))
+			.isNull();
+		assertThat(this.oneTimeTokenService.consume(new OneTimeTokenAuthenticationToken(second.getTokenValue())))
+			.isNotNull();
+	}
+
+	@Test
+	void setMaxTokensWhenZeroThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.oneTimeTokenService.setMaxTokens(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.oneTimeTokenService.setMaxTokensPerUser(0));
+	}
+
 	@Test
 	void setClockWhenNullThenThrowIllegalArgumentException() {
 		// @formatter:off
@@ -23,9 +23,13 @@ import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
 import org.springframework.jdbc.core.JdbcOperations;
@@ -39,8 +43,12 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link JdbcOneTimeTokenService}.
@@ -203,6 +211,94 @@ class JdbcOneTimeTokenServiceTests {
 		assertThat(deletedOneTimeToken2).isNull();
 	}
 
+	@Test
+	void cleanupExpiredTokensWhenChunkSizeThenDeletesExpiredTokensInChunks() {
+		Clock clock = mock(Clock.class);
+		given(clock.instant()).willReturn(Instant.now().minus(Duration.ofMinutes(10)));
+		this.oneTimeTokenService.setClock(clock);
+		for (int i = 0; i < 5; i++) {
+			this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest(USERNAME));
+		}
+		given(clock.instant()).willReturn(Instant.now());
+		OneTimeToken token = this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest(USERNAME));
+		this.oneTimeTokenService.setCleanupChunkSize(2);
+		this.oneTimeTokenService.setCleanupChunkPause(Duration.ofMillis(1));
+
+		this.oneTimeTokenService.cleanupExpiredTokens();
+
+		assertThat(this.jdbcOperations.queryForObject("SELECT COUNT(*) FROM one_time_tokens", Integer.class))
+			.isEqualTo(1);
+		assertThat(this.oneTimeTokenService.consume(new OneTimeTokenAuthenticationToken(token.getTokenValue())))
+			.isNotNull();
+	}
+
+	@Test
+	void cleanupExpiredTokensWhenChunkSqlThenDeletesExpiredTokensWithChunkSql() {
+		Clock clock = mock(Clock.class);
+		given(clock.instant()).willReturn(Instant.now().minus(Duration.ofMinutes(10)));
+		this.oneTimeTokenService.setClock(clock);
+		for (int i = 0; i < 3; i++) {
+			this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest(USERNAME));
+		}
+		this.oneTimeTokenService.setCleanupChunkSize(2);
+		this.oneTimeTokenService.setCleanupChunkSql("DELETE FROM one_time_tokens WHERE expires_at < ? LIMIT ?");
+
+		this.oneTimeTokenService.cleanupExpiredTokens();
+
+		assertThat(this.jdbcOperations.queryForObject("SELECT COUNT(*) FROM one_time_tokens", Integer.class))
+			.isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void cleanupExpiredTokensWhenObservationRegistryThenObservedWithDeletedCount() {
+		ObservationHandler<Observation.Context> handler = mock(ObservationHandler.class);
+		given(handler.supportsContext(any())).willReturn(true);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		this.oneTimeTokenService.setObservationRegistry(registry);
+		Clock clock = mock(Clock.class);
+		given(clock.instant()).willReturn(Instant.now().minus(Duration.ofMinutes(10)));
+		this.oneTimeTokenService.setClock(clock);
+		this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest(USERNAME));
+		this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest(USERNAME));
+
+		this.oneTimeTokenService.cleanupExpiredTokens();
+
+		ArgumentCaptor<Observation.Context> captor = ArgumentCaptor.forClass(Observation.Context.class);
+		verify(handler).onStop(captor.capture());
+		assertThat(captor.getValue().getName()).isEqualTo("spring.security.one-time-tokens.cleanup");
+		assertThat(captor.getValue()).isInstanceOfSatisfying(OneTimeTokenCleanupObservationContext.class,
+				(context) -> assertThat(context.getDeletedCount()).isEqualTo(2));
+	}
+
+	@Test
+	void consumeWhenConsumeOneTimeTokenSqlThenDeletesAndReturnsTokenWithSingleStatement() throws Exception {
+		String sql = "DELETE FROM one_time_tokens WHERE token_value = ? RETURNING token_value, username, expires_at";
+		JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+		Instant notExpired = Instant.now().plus(5, ChronoUnit.MINUTES);
+		OneTimeToken token = new DefaultOneTimeToken(TOKEN_VALUE, USERNAME, notExpired);
+		given(jdbcOperations.query(eq(sql), any(PreparedStatementSetter.class),
+				ArgumentMatchers.<RowMapper<OneTimeToken>>any()))
+			.willReturn(List.of(token));
+		JdbcOneTimeTokenService service = new JdbcOneTimeTokenService(jdbcOperations);
+		service.setConsumeOneTimeTokenSql(sql);
+		try {
+			OneTimeToken consumed = service.consume(new OneTimeTokenAuthenticationToken(TOKEN_VALUE));
+			assertThat(consumed).isEqualTo(token);
+			verify(jdbcOperations, never()).update(anyString(), any(PreparedStatementSetter.class));
+		}
+		finally {
+			service.destroy();
+		}
+	}
+
+	@Test
+	void setCleanupChunkSizeWhenNegativeThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.oneTimeTokenService.setCleanupChunkSize(-1))
+			.withMessage("cleanupChunkSize cannot be negative");
+	}
+
 	@Test
 	void setCleanupChronWhenNullThenNoException() {
 		this.oneTimeTokenService.setCleanupCron(null);
@@ -26,6 +26,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
 
 import org.springframework.security.authentication.ott.GenerateOneTimeTokenRequest;
 import org.springframework.security.authentication.ott.OneTimeToken;
@@ -118,6 +119,28 @@ public class InMemoryReactiveOneTimeTokenServiceTests {
 		// @formatter:on
 	}
 
+	@Test
+	void generateWhenMaxTokensReachedThenError() {
+		this.oneTimeTokenService.setMaxTokens(1);
+		this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest(USERNAME)).block();
+
+		StepVerifier.create(this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest("other")))
+			.verifyError(IllegalStateException.class);
+	}
+
+	@Test
+	void generateWhenMaxTokensPerUserReachedThenOldestTokenInvalidated() {
+		this.oneTimeTokenService.setMaxTokensPerUser(1);
+		OneTimeToken first = this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest(USERNAME)).block();
+		OneTimeToken second = this.oneTimeTokenService.generate(new GenerateOneTimeTokenRequest(USERNAME)).block();
+
+		assertThat(this.oneTimeTokenService.consume(new OneTimeTokenAuthenticationToken(first.getTokenValue())).block())
+			.isNull();
+		assertThat(
+				this.oneTimeTokenService.consume(new OneTimeTokenAuthenticationToken(second.getTokenValue())).block())
+			.isNotNull();
+	}
+
 	private List<OneTimeToken> generate(int howMany) {
 		List<OneTimeToken> generated = new ArrayList<>(howMany);
 		for (int i = 0; i < howMany; i++) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.authentication.password;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link OffloadingPasswordEncoder}
+ */
+class OffloadingPasswordEncoderTests {
+
+	private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+
+	private final OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(this.delegate, 1, 0);
+
+	@AfterEach
+	void destroy() {
+		this.encoder.destroy();
+	}
+
+	@Test
+	void matchesThenDelegatesOnPool() {
+		AtomicReference<String> threadName = new AtomicReference<>();
+		willAnswer((invocation) -> {
+			threadName.set(Thread.currentThread().getName());
+			return true;
+		}).given(this.delegate).matches("password", "encoded");
+		assertThat(this.encoder.matches("password", "encoded")).isTrue();
+		assertThat(threadName.get()).startsWith("spring-security-password-encoder-");
+	}
+
+	@Test
+	void encodeThenDelegatesOnPool() {
+		given(this.delegate.encode("password")).willReturn("encoded");
+		assertThat(this.encoder.encode("password")).isEqualTo("encoded");
+		assertThat(this.encoder.encode(null)).isNull();
+	}
+
+	@Test
+	void matchesWhenPoolBusyThenAuthenticationServiceException() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		willAnswer((invocation) -> {
+			started.countDown();
+			return release.await(10, TimeUnit.SECONDS);
+		}).given(this.delegate).matches(any(), any());
+		CompletableFuture<Boolean> busy = CompletableFuture.supplyAsync(() -> this.encoder.matches("busy", "busy"));
+		assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThatExceptionOfType(AuthenticationServiceException.class)
+			.isThrownBy(() -> this.encoder.matches("password", "encoded"));
+		release.countDown();
+		assertThat(busy.get(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void matchesWhenOnPoolThenDelegatesDirectly() throws Exception {
+		given(this.delegate.matches("password", "encoded")).willReturn(true);
+		CompletableFuture<Boolean> result = CompletableFuture
+			.supplyAsync(() -> this.encoder.matches("password", "encoded"), this.encoder.getExecutor());
+		assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void matchesWhenDelegateThrowsThenRethrows() {
+		given(this.delegate.matches(any(), any())).willThrow(new IllegalArgumentException("invalid"));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.encoder.matches("password", "encoded"))
+			.withMessage("invalid");
+	}
+
+	@Test
+	void upgradeEncodingThenDelegates() {
+		given(this.delegate.upgradeEncoding("encoded")).willReturn(true);
+		assertThat(this.encoder.upgradeEncoding("encoded")).isTrue();
+	}
+
+	@Test
+	void constructorWhenInvalidPoolSizeThenIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new OffloadingPasswordEncoder(this.delegate, 0, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> new OffloadingPasswordEncoder(this.delegate, 1, -1));
+	}
+
+}
@@ -266,6 +266,20 @@ public class AuthorityAuthorizationManagerTests {
 		assertThat(manager.authorize(authentication, object).isGranted()).isTrue();
 	}
 
+	@Test
+	public void authorizeWhenCalledTwiceThenSameRequiredAuthorities() {
+		AuthorityAuthorizationManager<Object> manager = AuthorityAuthorizationManager.hasAnyAuthority("ADMIN", "USER");
+		Supplier<Authentication> authentication = () -> new TestingAuthenticationToken("user", "password", "USER");
+		AuthorityAuthorizationDecision first = (AuthorityAuthorizationDecision) manager.authorize(authentication,
+				new Object());
+		AuthorityAuthorizationDecision second = (AuthorityAuthorizationDecision) manager.authorize(authentication,
+				new Object());
+		assertThat(first.isGranted()).isTrue();
+		assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+			.containsExactlyInAnyOrder("ADMIN", "USER");
+		assertThat(second.getAuthorities()).isSameAs(first.getAuthorities());
+	}
+
 	// gh-13079
 	@Test
 	void hasAnyRoleWhenEmptyRolePrefixThenNoException() {
@@ -34,10 +34,13 @@ import java.util.TreeSet;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.aopalliance.intercept.MethodInvocation;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.json.JsonMapper;
 
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.MethodMatcher;
 import org.springframework.aop.Pointcut;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.security.access.AccessDeniedException;
@@ -55,6 +58,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -322,6 +326,40 @@ public class AuthorizationAdvisorProxyFactoryTests {
 		verify(advisor, atLeastOnce()).getPointcut();
 	}
 
+	@Test
+	public void proxyWhenAdvisorRemovedWithIteratorThenNotApplied() {
+		AuthorizationAdvisorProxyFactory factory = AuthorizationAdvisorProxyFactory.withDefaults();
+		SecurityContextHolder.getContext().setAuthentication(this.user);
+		Flight secured = proxy(factory, this.flight);
+		assertThatExceptionOfType(AccessDeniedException.class).isThrownBy(secured::getAltitude);
+		Iterator<AuthorizationAdvisor> advisors = factory.iterator();
+		while (advisors.hasNext()) {
+			advisors.next();
+			advisors.remove();
+		}
+		Flight unsecured = proxy(factory, this.flight);
+		assertThat(unsecured.getAltitude()).isEqualTo(this.flight.getAltitude());
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void proxyWhenManyTargetsThenInterceptorChainComputedOnce() throws Exception {
+		MethodMatcher methodMatcher = mock(MethodMatcher.class);
+		given(methodMatcher.matches(any(), any())).willReturn(true);
+		Pointcut pointcut = mock(Pointcut.class);
+		given(pointcut.getClassFilter()).willReturn(ClassFilter.TRUE);
+		given(pointcut.getMethodMatcher()).willReturn(methodMatcher);
+		AuthorizationAdvisor advisor = mock(AuthorizationAdvisor.class);
+		given(advisor.getAdvice()).willReturn(advisor);
+		given(advisor.getPointcut()).willReturn(pointcut);
+		given(advisor.invoke(any())).willAnswer((invocation) -> invocation.<MethodInvocation>getArgument(0).proceed());
+		AuthorizationAdvisorProxyFactory factory = new AuthorizationAdvisorProxyFactory(List.of(advisor));
+		for (int i = 0; i < 10; i++) {
+			assertThat(proxy(factory, new Flight()).getAltitude()).isEqualTo(35000d);
+		}
+		verify(methodMatcher, atMost(1)).matches(Flight.class.getDeclaredMethod("getAltitude"), Flight.class);
+	}
+
 	@Test
 	public void setTargetVisitorThenUses() {
 		TargetVisitor visitor = mock(TargetVisitor.class);
@@ -31,6 +31,7 @@ import org.mockito.stubbing.Answer;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.support.ExecutorServiceAdapter;
 import org.springframework.security.core.context.MockSecurityContextHolderStrategy;
+import org.springframework.security.core.context.ScopedValueSecurityContextHolderStrategy;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
@@ -142,6 +143,23 @@ public class DelegatingSecurityContextRunnableTests {
 		verify(securityContextHolderStrategy, atLeastOnce()).getContext();
 	}
 
+	@Test
+	public void callWithScopedValueSecurityContextHolderStrategyThenContextBoundForDelegate() throws Exception {
+		ScopedValueSecurityContextHolderStrategy strategy = new ScopedValueSecurityContextHolderStrategy();
+		willAnswer((Answer<Object>) (invocation) -> {
+			assertThat(strategy.isBound()).isTrue();
+			assertThat(strategy.getContext()).isEqualTo(this.securityContext);
+			return null;
+		}).given(this.delegate).run();
+		DelegatingSecurityContextRunnable runnable = new DelegatingSecurityContextRunnable(this.delegate,
+				this.securityContext);
+		runnable.setSecurityContextHolderStrategy(strategy);
+		this.executor = synchronousExecutor();
+		this.executor.submit(runnable).get();
+		verify(this.delegate).run();
+		assertThat(strategy.isBound()).isFalse();
+	}
+
 	// SEC-3031
 	@Test
 	public void callOnSameThread() throws Exception {
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.core.context;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link ScopedValueSecurityContextHolderStrategy}
+ */
+class ScopedValueSecurityContextHolderStrategyTests {
+
+	ScopedValueSecurityContextHolderStrategy strategy = new ScopedValueSecurityContextHolderStrategy();
+
+	@AfterEach
+	void clearContext() {
+		this.strategy.clearContext();
+	}
+
+	@Test
+	void runWhereThenContextBoundForAction() {
+		SecurityContext context = new SecurityContextImpl(new TestingAuthenticationToken("user", "password"));
+		AtomicReference<SecurityContext> bound = new AtomicReference<>();
+		this.strategy.runWhere(() -> context, () -> bound.set(this.strategy.getContext()));
+		assertThat(bound.get()).isSameAs(context);
+		assertThat(this.strategy.isBound()).isFalse();
+		assertThat(this.strategy.getContext().getAuthentication()).isNull();
+	}
+
+	@Test
+	void runWhereWhenDeferredThenNotInvoked() {
+		Supplier<SecurityContext> deferredContext = mock(Supplier.class);
+		this.strategy.runWhere(deferredContext, () -> assertThat(this.strategy.isBound()).isTrue());
+		verifyNoInteractions(deferredContext);
+	}
+
+	@Test
+	void runWhereWhenContextChangedThenDiscardedAfterAction() {
+		SecurityContext outer = new SecurityContextImpl(new TestingAuthenticationToken("outer", "password"));
+		this.strategy.setContext(outer);
+		this.strategy.runWhere(SecurityContextImpl::new, () -> {
+			this.strategy.setContext(new SecurityContextImpl(new TestingAuthenticationToken("user", "password")));
+			assertThat(this.strategy.getContext().getAuthentication().getName()).isEqualTo("user");
+		});
+		assertThat(this.strategy.getContext()).isSameAs(outer);
+	}
+
+	@Test
+	void runWhereWhenNestedThenInnermostScopeCurrent() {
+		SecurityContext outer = new SecurityContextImpl(new TestingAuthenticationToken("outer", "password"));
+		SecurityContext inner = new SecurityContextImpl(new TestingAuthenticationToken("inner", "password"));
+		this.strategy.runWhere(() -> outer, () -> {
+			this.strategy.runWhere(() -> inner, () -> assertThat(this.strategy.getContext()).isSameAs(inner));
+			assertThat(this.strategy.getContext()).isSameAs(outer);
+		});
+	}
+
+	@Test
+	void runWhereWhenClearedThenEmptyContext() {
+		Authentication authentication = new TestingAuthenticationToken("user", "password");
+		this.strategy.runWhere(() -> new SecurityContextImpl(authentication), () -> {
+			this.strategy.clearContext();
+			assertThat(this.strategy.getContext().getAuthentication()).isNull();
+			assertThat(this.strategy.isBound()).isTrue();
+		});
+	}
+
+	@Test
+	void runWhereWhenDeferredContextNullThenIllegalArgumentException() {
+		this.strategy.runWhere(() -> null, () -> assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(this.strategy::getContext));
+	}
+
+	@Test
+	void callWhereThenReturnsResult() throws Exception {
+		SecurityContext context = new SecurityContextImpl(new TestingAuthenticationToken("user", "password"));
+		String name = this.strategy.callWhere(() -> context,
+				() -> this.strategy.getContext().getAuthentication().getName());
+		assertThat(name).isEqualTo("user");
+	}
+
+	@Test
+	void callWhereWhenExceptionThenPropagated() {
+		assertThatExceptionOfType(IOException.class)
+			.isThrownBy(() -> this.strategy.callWhere(SecurityContextImpl::new, () -> {
+				throw new IOException("failed");
+			}));
+		assertThat(this.strategy.isBound()).isFalse();
+	}
+
+	@Test
+	void contextWhenNotBoundThenThreadLocal() {
+		SecurityContext context = new SecurityContextImpl(new TestingAuthenticationToken("user", "password"));
+		this.strategy.setContext(context);
+		assertThat(this.strategy.getContext()).isSameAs(context);
+		this.strategy.clearContext();
+		assertThat(this.strategy.getContext()).isNotSameAs(context);
+	}
+
+}
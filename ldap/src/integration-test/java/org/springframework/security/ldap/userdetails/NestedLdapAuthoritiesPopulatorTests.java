@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.ldap.core.ContextSource;
 import org.springframework.ldap.core.DirContextAdapter;
 import org.springframework.security.core.GrantedAuthority;
@@ -115,6 +116,42 @@ public class NestedLdapAuthoritiesPopulatorTests {
 				this.groovyDevelopers, this.jDevelopers));
 	}
 
+	@Test
+	public void testScalaDudeJDevelopersAuthoritiesWhenBatchedGroupSearch() {
+		this.populator.setGroupSearchBatchSize(10);
+		DirContextAdapter ctx = new DirContextAdapter("uid=scaladude,ou=people,dc=springframework,dc=org");
+		Collection<GrantedAuthority> authorities = this.populator.getGrantedAuthorities(ctx, "scaladude");
+		assertThat(authorities).hasSize(5);
+		assertThat(authorities).isEqualTo(Arrays.asList(this.javaDevelopers, this.circularJavaDevelopers,
+				this.scalaDevelopers, this.groovyDevelopers, this.jDevelopers));
+	}
+
+	@Test
+	public void testGroovyDudeJDevelopersAuthoritiesWhenBatchedGroupSearchWithSearchLimit() {
+		this.populator.setGroupSearchBatchSize(10);
+		this.populator.setMaxSearchDepth(2);
+		DirContextAdapter ctx = new DirContextAdapter("uid=groovydude,ou=people,dc=springframework,dc=org");
+		Collection<GrantedAuthority> authorities = this.populator.getGrantedAuthorities(ctx, "groovydude");
+		assertThat(authorities).containsExactlyInAnyOrder(this.groovyDevelopers, this.javaDevelopers,
+				this.circularJavaDevelopers);
+	}
+
+	@Test
+	public void testJDevelopersAuthoritiesWhenGroupCacheThenParentsSharedAcrossUsers() {
+		ConcurrentMapCache cache = new ConcurrentMapCache("groups");
+		this.populator.setGroupCache(cache);
+		DirContextAdapter groovy = new DirContextAdapter("uid=groovydude,ou=people,dc=springframework,dc=org");
+		Collection<GrantedAuthority> authorities = this.populator.getGrantedAuthorities(groovy, "groovydude");
+		assertThat(authorities).isEqualTo(Arrays.asList(this.javaDevelopers, this.circularJavaDevelopers,
+				this.groovyDevelopers, this.jDevelopers));
+		assertThat(cache.get(this.groovyDevelopers.getDn())).isNotNull();
+		assertThat(cache.get(this.javaDevelopers.getDn())).isNotNull();
+		DirContextAdapter scala = new DirContextAdapter("uid=scaladude,ou=people,dc=springframework,dc=org");
+		authorities = this.populator.getGrantedAuthorities(scala, "scaladude");
+		assertThat(authorities).isEqualTo(Arrays.asList(this.javaDevelopers, this.circularJavaDevelopers,
+				this.scalaDevelopers, this.groovyDevelopers, this.jDevelopers));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void testClosureDudeJDevelopersWithMembershipAsAttributeValues() {
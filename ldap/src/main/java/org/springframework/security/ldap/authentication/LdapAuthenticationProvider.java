@@ -61,7 +61,9 @@ import org.springframework.util.Assert;
  *
  * <p>
  * A custom implementation could obtain the roles from a completely different source, for
- * example from a database.
+ * example from a database. To avoid obtaining the authorities on each authentication, the
+ * populator can be wrapped in a
+ * {@link org.springframework.security.ldap.userdetails.CachingLdapAuthoritiesPopulator}.
  *
  * <h3>Configuration</h3>
  *
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.ldap.userdetails;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cache.Cache;
+import org.springframework.core.log.LogMessage;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link LdapAuthoritiesPopulator} that caches the authorities obtained from a
+ * delegate {@link LdapAuthoritiesPopulator}, such as
+ * {@link DefaultLdapAuthoritiesPopulator} or
+ * {@link org.springframework.security.ldap.authentication.ad.DefaultActiveDirectoryAuthoritiesPopulator},
+ * in a Spring defined {@link Cache}. The authorities are keyed by the DN of the user.
+ *
+ * <p>
+ * This is useful when the same users authenticate repeatedly, for example API clients
+ * using HTTP Basic, so that the group search is not performed on each authentication.
+ * Caching policies, like expiry and size bounds, as well as statistics, like the hit
+ * ratio and the load time, are delegated to the {@link Cache} implementation, for
+ * example a Caffeine cache with statistics enabled. Since the authorities are loaded
+ * through {@link Cache#get(Object, java.util.concurrent.Callable)}, concurrent loads of
+ * the same user are deduplicated when supported by the {@link Cache}.
+ *
+ * <p>
+ * Note that changes to the group memberships of a user only take effect once the cached
+ * entry expires or is evicted with {@link #evict(String)} or {@link #evictAll()}.
+ *
+ * @since 7.1
+ */
+public final class CachingLdapAuthoritiesPopulator implements LdapAuthoritiesPopulator {
+
+	private static final Log logger = LogFactory.getLog(CachingLdapAuthoritiesPopulator.class);
+
+	private final LdapAuthoritiesPopulator delegate;
+
+	private final Cache cache;
+
+	/**
+	 * Creates a new instance
+	 * @param delegate the {@link LdapAuthoritiesPopulator} to obtain the authorities from
+	 * @param cache the {@link Cache} to store the authorities in
+	 */
+	public CachingLdapAuthoritiesPopulator(LdapAuthoritiesPopulator delegate, Cache cache) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(cache, "cache cannot be null");
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getGrantedAuthorities(DirContextOperations userData,
+			String username) {
+		String userDn = userData.getNameInNamespace();
+		List<GrantedAuthority> authorities = this.cache.get(userDn, () -> {
+			logger.debug(LogMessage.format("Cache miss; loading authorities for user %s", userDn));
+			return List.copyOf(this.delegate.getGrantedAuthorities(userData, username));
+		});
+		return (authorities != null) ? authorities : AuthorityUtils.NO_AUTHORITIES;
+	}
+
+	/**
+	 * Removes the cached authorities of the given user, so that they are obtained from
+	 * the delegate on the next authentication
+	 * @param userDn the DN of the user
+	 */
+	public void evict(String userDn) {
+		Assert.notNull(userDn, "userDn cannot be null");
+		logger.debug(LogMessage.format("Cache remove: %s", userDn));
+		this.cache.evict(userDn);
+	}
+
+	/**
+	 * Removes the cached authorities of all users
+	 */
+	public void evictAll() {
+		logger.debug("Cache clear");
+		this.cache.clear();
+	}
+
+}
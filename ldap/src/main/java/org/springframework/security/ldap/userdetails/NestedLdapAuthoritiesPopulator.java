@@ -16,20 +16,27 @@
 
 package org.springframework.security.ldap.userdetails;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
+import org.springframework.cache.Cache;
 import org.springframework.core.log.LogMessage;
 import org.springframework.ldap.core.ContextSource;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.ldap.SpringSecurityLdapTemplate;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -119,6 +126,13 @@ import org.springframework.util.StringUtils;
  *  member: uid=scaladude,ou=people,dc=springframework,dc=org *
  * </pre>
  *
+ * <p>
+ * The nested groups are searched level by level: first the groups of the user, then the
+ * parents of all those groups, and so on, up to {@link #setMaxSearchDepth(int)} levels.
+ * The groups of one level can be searched with a single query, see
+ * {@link #setGroupSearchBatchSize(int)}, and the parents of each group can be shared
+ * across users with {@link #setGroupCache(Cache)}.
+ *
  * @author Filip Hanik
  */
 
@@ -126,6 +140,8 @@ public class NestedLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopula
 
 	private static final Log logger = LogFactory.getLog(NestedLdapAuthoritiesPopulator.class);
 
+	private static final Pattern FILTER_PARAMETER = Pattern.compile("\\{([01])\\}");
+
 	/**
 	 * The attribute names to retrieve for each LDAP group
 	 */
@@ -136,6 +152,16 @@ public class NestedLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopula
 	 */
 	private int maxSearchDepth = 10;
 
+	/**
+	 * Maximum number of groups that are searched for their parents with a single query
+	 */
+	private int groupSearchBatchSize = 1;
+
+	/**
+	 * Cache of the parent group records, keyed by the group DN
+	 */
+	private @Nullable Cache groupCache;
+
 	/**
 	 * Constructor for group search scenarios. <tt>userRoleAttributes</tt> may still be
 	 * set as a property.
@@ -154,37 +180,104 @@ public class NestedLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopula
 			return new HashSet<>();
 		}
 		Set<GrantedAuthority> authorities = new HashSet<>();
-		performNestedSearch(base, userDn, username, authorities, getMaxSearchDepth());
+		if (getMaxSearchDepth() <= 0) {
+			logAbortedSearch(userDn, username);
+			return authorities;
+		}
+		if (StringUtils.hasText(getGroupRoleAttribute())) {
+			getAttributeNames().add(getGroupRoleAttribute());
+		}
+		logger.trace(LogMessage.of(() -> "Searching for roles for user " + username + " with DN " + userDn
+				+ " and filter " + getGroupSearchFilter() + " in search base " + getGroupSearchBase()));
+		Set<String> visited = new HashSet<>();
+		List<GroupMember> level = addAuthorities(search(base, List.of(new GroupMember(userDn, username))),
+				authorities, visited);
+		for (int depth = getMaxSearchDepth() - 1; !level.isEmpty(); depth--) {
+			if (depth == 0) {
+				logAbortedSearch(userDn, username);
+				break;
+			}
+			level = addAuthorities(searchParents(base, level), authorities, visited);
+		}
 		return authorities;
 	}
 
 	/**
-	 * Performs the nested group search
-	 * @param userDn - the userDN to search for, will become the group DN for subsequent
-	 * searches
-	 * @param username - the username of the user
-	 * @param authorities - the authorities set that will be populated, must not be null
-	 * @param depth - the depth remaining, when 0 recursion will end
+	 * Performs the group search for one level of the nested search, that is, for all
+	 * groups found in the previous level
+	 * @param base - the search base
+	 * @param level - the groups for which the parent groups are searched
+	 * @return the records of the parent groups
 	 */
-	private void performNestedSearch(String base, String userDn, String username, Set<GrantedAuthority> authorities,
-			int depth) {
-		if (depth == 0) {
-			// back out of recursion
-			logger.debug(LogMessage.of(() -> "Aborted search since max depth reached," + " for roles for user '"
-					+ username + " with DN = " + userDn + " and filter " + getGroupSearchFilter() + " in search base '"
-					+ getGroupSearchBase() + "'"));
-			return;
+	private Set<Map<String, List<String>>> searchParents(String base, List<GroupMember> level) {
+		Set<Map<String, List<String>>> parents = new HashSet<>();
+		if (this.groupCache != null) {
+			for (GroupMember group : level) {
+				Set<Map<String, List<String>>> cached = this.groupCache.get(group.dn(),
+						() -> Collections.unmodifiableSet(search(base, List.of(group))));
+				if (cached != null) {
+					parents.addAll(cached);
+				}
+			}
+			return parents;
 		}
-		logger.trace(LogMessage.of(() -> "Searching for roles for user " + username + " with DN " + userDn
-				+ " and filter " + getGroupSearchFilter() + " in search base " + getGroupSearchBase()));
-		if (StringUtils.hasText(getGroupRoleAttribute())) {
-			getAttributeNames().add(getGroupRoleAttribute());
+		for (int i = 0; i < level.size(); i += this.groupSearchBatchSize) {
+			parents.addAll(search(base, level.subList(i, Math.min(i + this.groupSearchBatchSize, level.size()))));
+		}
+		return parents;
+	}
+
+	/**
+	 * Searches for the groups that any of the given members belong to. When more than one
+	 * member is given, the group search filter is applied to each of them and the results
+	 * are combined into a single OR filter.
+	 * @param base - the search base
+	 * @param members - the members to search the groups for
+	 * @return the records of the groups found
+	 */
+	private Set<Map<String, List<String>>> search(String base, List<GroupMember> members) {
+		String filter = (members.size() == 1) ? getGroupSearchFilter() : getBatchSearchFilter(members.size());
+		Object[] params = new Object[members.size() * 2];
+		for (int i = 0; i < members.size(); i++) {
+			params[2 * i] = members.get(i).dn();
+			params[2 * i + 1] = members.get(i).name();
 		}
-		Set<Map<String, List<String>>> userRoles = getLdapTemplate().searchForMultipleAttributeValues(base,
-				getGroupSearchFilter(), new String[] { userDn, username }, getAttributeNames().toArray(new String[0]));
-		logger.debug(LogMessage.format("Found roles from search %s", userRoles));
-		for (Map<String, List<String>> record : userRoles) {
-			boolean circular = false;
+		Set<Map<String, List<String>>> records = getLdapTemplate().searchForMultipleAttributeValues(base, filter,
+				params, getAttributeNames().toArray(new String[0]));
+		logger.debug(LogMessage.format("Found roles from search %s", records));
+		return records;
+	}
+
+	private String getBatchSearchFilter(int size) {
+		String filter = getGroupSearchFilter();
+		if (!filter.startsWith("(")) {
+			filter = "(" + filter + ")";
+		}
+		StringBuilder batch = new StringBuilder("(|");
+		for (int i = 0; i < size; i++) {
+			Matcher matcher = FILTER_PARAMETER.matcher(filter);
+			while (matcher.find()) {
+				int index = 2 * i + Integer.parseInt(matcher.group(1));
+				matcher.appendReplacement(batch, "{" + index + "}");
+			}
+			matcher.appendTail(batch);
+		}
+		return batch.append(")").toString();
+	}
+
+	/**
+	 * Adds the authorities found in the given group records
+	 * @param records - the group records of the current level
+	 * @param authorities - the authorities set that will be populated, must not be null
+	 * @param visited - the DNs of the groups that have already been found; a group that
+	 * was already found is not searched for its parents again, which prevents a forever
+	 * loop for a misconfigured ldap directory
+	 * @return the groups for which the parent groups are to be searched next
+	 */
+	private List<GroupMember> addAuthorities(Set<Map<String, List<String>>> records,
+			Set<GrantedAuthority> authorities, Set<String> visited) {
+		List<GroupMember> next = new ArrayList<>();
+		for (Map<String, List<String>> record : records) {
 			String dn = Objects.requireNonNull(record.get(SpringSecurityLdapTemplate.DN_KEY)).get(0);
 			List<String> roleValues = record.get(getGroupRoleAttribute());
 			Set<String> roles = new HashSet<>();
@@ -195,16 +288,20 @@ public class NestedLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopula
 				if (isConvertToUpperCase()) {
 					role = role.toUpperCase(Locale.ROOT);
 				}
-				role = getRolePrefix() + role;
-				// if the group already exist, we will not search for it's parents again.
-				// this prevents a forever loop for a misconfigured ldap directory
-				circular = circular | (!authorities.add(new LdapAuthority(role, dn, record)));
+				authorities.add(new LdapAuthority(getRolePrefix() + role, dn, record));
 			}
-			String roleName = (!roles.isEmpty()) ? roles.iterator().next() : dn;
-			if (!circular) {
-				performNestedSearch(base, dn, roleName, authorities, (depth - 1));
+			if (visited.add(dn)) {
+				String roleName = (!roles.isEmpty()) ? roles.iterator().next() : dn;
+				next.add(new GroupMember(dn, roleName));
 			}
 		}
+		return next;
+	}
+
+	private void logAbortedSearch(String userDn, String username) {
+		logger.debug(LogMessage.of(() -> "Aborted search since max depth reached," + " for roles for user '"
+				+ username + " with DN = " + userDn + " and filter " + getGroupSearchFilter() + " in search base '"
+				+ getGroupSearchBase() + "'"));
 	}
 
 	/**
@@ -242,4 +339,41 @@ public class NestedLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopula
 		this.maxSearchDepth = maxSearchDepth;
 	}
 
+	/**
+	 * Sets the maximum number of groups of one nesting level that are searched for their
+	 * parent groups with a single query. When greater than one, the group search filter
+	 * is applied to each group and the results are combined into an OR filter, like
+	 * <tt>(|(member={0})(member={2}))</tt>. Defaults to 1, meaning that one search is
+	 * performed per group.
+	 * @param groupSearchBatchSize the maximum number of groups per search
+	 * @since 7.1
+	 */
+	public void setGroupSearchBatchSize(int groupSearchBatchSize) {
+		Assert.isTrue(groupSearchBatchSize > 0, "groupSearchBatchSize must be greater than 0");
+		this.groupSearchBatchSize = groupSearchBatchSize;
+	}
+
+	/**
+	 * Sets the {@link Cache} used to store the parent group records of each group, keyed
+	 * by the group DN. Since groups are commonly shared by many users, this allows the
+	 * parents of a group to be resolved once instead of once per authentication.
+	 * Expiry and size bounds are delegated to the {@link Cache} implementation.
+	 *
+	 * <p>
+	 * Since the cached records are attributed to a single group, each group that is not
+	 * yet cached is searched with its own query, regardless of
+	 * {@link #setGroupSearchBatchSize(int)}. The cache should be dedicated to this
+	 * populator. By default, no cache is used.
+	 * @param groupCache the {@link Cache} to use
+	 * @since 7.1
+	 */
+	public void setGroupCache(Cache groupCache) {
+		Assert.notNull(groupCache, "groupCache cannot be null");
+		this.groupCache = groupCache;
+	}
+
+	private record GroupMember(String dn, String name) {
+
+	}
+
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.ldap.userdetails;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.ldap.core.DirContextAdapter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link CachingLdapAuthoritiesPopulator}
+ */
+public class CachingLdapAuthoritiesPopulatorTests {
+
+	private final LdapAuthoritiesPopulator delegate = mock(LdapAuthoritiesPopulator.class);
+
+	private final ConcurrentMapCache cache = new ConcurrentMapCache("authorities");
+
+	private final DirContextAdapter user = new DirContextAdapter("uid=bob,ou=people,dc=springframework,dc=org");
+
+	private CachingLdapAuthoritiesPopulator populator;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		List authorities = AuthorityUtils.createAuthorityList("ROLE_DEVELOPER");
+		given(this.delegate.getGrantedAuthorities(any(), anyString())).willReturn(authorities);
+		this.populator = new CachingLdapAuthoritiesPopulator(this.delegate, this.cache);
+	}
+
+	@Test
+	public void constructorWhenNullDelegateThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CachingLdapAuthoritiesPopulator(null, this.cache));
+	}
+
+	@Test
+	public void constructorWhenNullCacheThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CachingLdapAuthoritiesPopulator(this.delegate, null));
+	}
+
+	@Test
+	public void getGrantedAuthoritiesWhenCachedThenDelegateInvokedOnce() {
+		Collection<? extends GrantedAuthority> first = this.populator.getGrantedAuthorities(this.user, "bob");
+		Collection<? extends GrantedAuthority> second = this.populator.getGrantedAuthorities(this.user, "bob");
+		assertThat(AuthorityUtils.authorityListToSet(first)).containsExactly("ROLE_DEVELOPER");
+		assertThat(second).isEqualTo(first);
+		assertThat(this.cache.get(this.user.getNameInNamespace())).isNotNull();
+		verify(this.delegate).getGrantedAuthorities(this.user, "bob");
+	}
+
+	@Test
+	public void getGrantedAuthoritiesWhenEvictedThenDelegateInvokedAgain() {
+		this.populator.getGrantedAuthorities(this.user, "bob");
+		this.populator.evict(this.user.getNameInNamespace());
+		this.populator.getGrantedAuthorities(this.user, "bob");
+		verify(this.delegate, times(2)).getGrantedAuthorities(this.user, "bob");
+	}
+
+	@Test
+	public void getGrantedAuthoritiesWhenAllEvictedThenDelegateInvokedAgain() {
+		this.populator.getGrantedAuthorities(this.user, "bob");
+		this.populator.evictAll();
+		this.populator.getGrantedAuthorities(this.user, "bob");
+		verify(this.delegate, times(2)).getGrantedAuthorities(this.user, "bob");
+	}
+
+}
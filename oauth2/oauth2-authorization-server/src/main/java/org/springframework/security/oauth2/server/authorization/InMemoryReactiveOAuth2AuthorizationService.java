@@ -0,0 +1,91 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ReactiveOAuth2AuthorizationService} that stores {@link OAuth2Authorization}'s
+ * in-memory.
+ *
+ * <p>
+ * <b>NOTE:</b> This implementation should ONLY be used during development/testing.
+ *
+ * @since 7.1
+ * @see ReactiveOAuth2AuthorizationService
+ * @see InMemoryOAuth2AuthorizationService
+ */
+public final class InMemoryReactiveOAuth2AuthorizationService implements ReactiveOAuth2AuthorizationService {
+
+	private final InMemoryOAuth2AuthorizationService delegate;
+
+	/**
+	 * Constructs an {@code InMemoryReactiveOAuth2AuthorizationService}.
+	 */
+	public InMemoryReactiveOAuth2AuthorizationService() {
+		this(Collections.emptyList());
+	}
+
+	/**
+	 * Constructs an {@code InMemoryReactiveOAuth2AuthorizationService} using the provided
+	 * parameters.
+	 * @param authorizations the authorization(s)
+	 */
+	public InMemoryReactiveOAuth2AuthorizationService(OAuth2Authorization... authorizations) {
+		this(Arrays.asList(authorizations));
+	}
+
+	/**
+	 * Constructs an {@code InMemoryReactiveOAuth2AuthorizationService} using the provided
+	 * parameters.
+	 * @param authorizations the authorization(s)
+	 */
+	public InMemoryReactiveOAuth2AuthorizationService(List<OAuth2Authorization> authorizations) {
+		this.delegate = new InMemoryOAuth2AuthorizationService(authorizations);
+	}
+
+	@Override
+	public Mono<Void> save(OAuth2Authorization authorization) {
+		Assert.notNull(authorization, "authorization cannot be null");
+		return Mono.fromRunnable(() -> this.delegate.save(authorization));
+	}
+
+	@Override
+	public Mono<Void> remove(OAuth2Authorization authorization) {
+		Assert.notNull(authorization, "authorization cannot be null");
+		return Mono.fromRunnable(() -> this.delegate.remove(authorization));
+	}
+
+	@Override
+	public Mono<OAuth2Authorization> findById(String id) {
+		Assert.hasText(id, "id cannot be empty");
+		return Mono.fromSupplier(() -> this.delegate.findById(id));
+	}
+
+	@Override
+	public Mono<OAuth2Authorization> findByToken(String token, @Nullable OAuth2TokenType tokenType) {
+		Assert.hasText(token, "token cannot be empty");
+		return Mono.fromSupplier(() -> this.delegate.findByToken(token, tokenType));
+	}
+
+}
@@ -16,6 +16,11 @@
 
 package org.springframework.security.oauth2.server.authorization;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -26,20 +31,32 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterOutputStream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jspecify.annotations.Nullable;
 import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
 
 import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.RuntimeHintsRegistrar;
@@ -104,6 +121,8 @@ import org.springframework.util.StringUtils;
 @ImportRuntimeHints(JdbcOAuth2AuthorizationService.JdbcOAuth2AuthorizationServiceRuntimeHintsRegistrar.class)
 public class JdbcOAuth2AuthorizationService implements OAuth2AuthorizationService {
 
+	private static final String STATE = "state";
+
 	private static final String REFRESH_TOKEN_VALUE = "refresh_token_value";
 
 	private static final String AUTHORIZATION_CODE_VALUE = "authorization_code_value";
@@ -346,13 +365,86 @@ public class JdbcOAuth2AuthorizationService implements OAuth2AuthorizationServic
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * All tokens are looked up with a single query, using an {@code IN} condition on the
+	 * column(s) that store the {@link OAuth2TokenType token type}.
+	 */
+	@Override
+	public Map<String, OAuth2Authorization> findByTokens(Collection<String> tokens,
+			@Nullable OAuth2TokenType tokenType) {
+		Assert.notNull(tokens, "tokens cannot be null");
+		Set<String> distinctTokens = new LinkedHashSet<>(tokens);
+		distinctTokens.forEach((token) -> Assert.hasText(token, "token cannot be empty"));
+		List<String> columnNames = getTokenColumnNames(tokenType);
+		if (distinctTokens.isEmpty() || columnNames.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		String placeholders = String.join(", ", Collections.nCopies(distinctTokens.size(), "?"));
+		List<String> conditions = new ArrayList<>();
+		List<SqlParameterValue> parameters = new ArrayList<>();
+		for (String columnName : columnNames) {
+			conditions.add(columnName + " IN (" + placeholders + ")");
+			for (String token : distinctTokens) {
+				parameters.add(STATE.equals(columnName) ? new SqlParameterValue(Types.VARCHAR, token)
+						: mapToSqlParameter(columnName, token));
+			}
+		}
+		List<OAuth2Authorization> result = findAllBy(String.join(" OR ", conditions), parameters);
+		Map<String, OAuth2Authorization> authorizations = new LinkedHashMap<>();
+		for (String token : distinctTokens) {
+			for (OAuth2Authorization authorization : result) {
+				if (token.equals(authorization.getAttribute(OAuth2ParameterNames.STATE))
+						|| authorization.getToken(token) != null) {
+					authorizations.put(token, authorization);
+					break;
+				}
+			}
+		}
+		return authorizations;
+	}
+
+	private static List<String> getTokenColumnNames(@Nullable OAuth2TokenType tokenType) {
+		if (tokenType == null) {
+			return List.of(STATE, AUTHORIZATION_CODE_VALUE, ACCESS_TOKEN_VALUE, OIDC_ID_TOKEN_VALUE,
+					REFRESH_TOKEN_VALUE, USER_CODE_VALUE, DEVICE_CODE_VALUE);
+		}
+		else if (OAuth2ParameterNames.STATE.equals(tokenType.getValue())) {
+			return List.of(STATE);
+		}
+		else if (OAuth2ParameterNames.CODE.equals(tokenType.getValue())) {
+			return List.of(AUTHORIZATION_CODE_VALUE);
+		}
+		else if (OAuth2TokenType.ACCESS_TOKEN.equals(tokenType)) {
+			return List.of(ACCESS_TOKEN_VALUE);
+		}
+		else if (OidcParameterNames.ID_TOKEN.equals(tokenType.getValue())) {
+			return List.of(OIDC_ID_TOKEN_VALUE);
+		}
+		else if (OAuth2TokenType.REFRESH_TOKEN.equals(tokenType)) {
+			return List.of(REFRESH_TOKEN_VALUE);
+		}
+		else if (OAuth2ParameterNames.USER_CODE.equals(tokenType.getValue())) {
+			return List.of(USER_CODE_VALUE);
+		}
+		else if (OAuth2ParameterNames.DEVICE_CODE.equals(tokenType.getValue())) {
+			return List.of(DEVICE_CODE_VALUE);
+		}
+		return Collections.emptyList();
+	}
+
 	private @Nullable OAuth2Authorization findBy(String filter, List<SqlParameterValue> parameters) {
+		List<OAuth2Authorization> result = findAllBy(filter, parameters);
+		return !result.isEmpty() ? result.get(0) : null;
+	}
+
+	private List<OAuth2Authorization> findAllBy(String filter, List<SqlParameterValue> parameters) {
 		try (LobCreator lobCreator = getLobHandler().getLobCreator()) {
 			PreparedStatementSetter pss = new LobCreatorArgumentPreparedStatementSetter(lobCreator,
 					parameters.toArray());
-			List<OAuth2Authorization> result = getJdbcOperations().query(LOAD_AUTHORIZATION_SQL + filter, pss,
-					getAuthorizationRowMapper());
-			return !result.isEmpty() ? result.get(0) : null;
+			return getJdbcOperations().query(LOAD_AUTHORIZATION_SQL + filter, pss, getAuthorizationRowMapper());
 		}
 	}
 
@@ -470,14 +562,15 @@ public class JdbcOAuth2AuthorizationService implements OAuth2AuthorizationServic
 	/**
 	 * The default {@link RowMapper} that maps the current row in
 	 * {@code java.sql.ResultSet} to {@link OAuth2Authorization} using Jackson 3's
-	 * {@link JsonMapper}.
+	 * {@link JsonMapper}. Attributes and token metadata that were written with a
+	 * {@link CompactAttributesCodec} are read as well.
 	 *
 	 * @author Rob Winch
 	 * @since 7.0
 	 */
 	public static class JsonMapperOAuth2AuthorizationRowMapper extends AbstractOAuth2AuthorizationRowMapper {
 
-		private final JsonMapper jsonMapper;
+		private final CompactAttributesCodec codec;
 
 		public JsonMapperOAuth2AuthorizationRowMapper(RegisteredClientRepository registeredClientRepository) {
 			this(registeredClientRepository, Jackson3.createJsonMapper());
@@ -487,16 +580,12 @@ public class JdbcOAuth2AuthorizationService implements OAuth2AuthorizationServic
 				JsonMapper jsonMapper) {
 			super(registeredClientRepository);
 			Assert.notNull(jsonMapper, "jsonMapper cannot be null");
-			this.jsonMapper = jsonMapper;
+			this.codec = new CompactAttributesCodec(jsonMapper);
 		}
 
 		@Override
 		Map<String, Object> readValue(String data) {
-			final ParameterizedTypeReference<Map<String, Object>> typeReference = new ParameterizedTypeReference<>() {
-			};
-			tools.jackson.databind.JavaType javaType = this.jsonMapper.getTypeFactory()
-				.constructType(typeReference.getType());
-			return this.jsonMapper.readValue(data, javaType);
+			return this.codec.decode(data);
 		}
 
 	}
@@ -731,13 +820,16 @@ public class JdbcOAuth2AuthorizationService implements OAuth2AuthorizationServic
 	/**
 	 * The default {@code Function} that maps {@link OAuth2Authorization} to a
 	 * {@code List} of {@link SqlParameterValue} using an instance of Jackson 3's
-	 * {@link JsonMapper}.
+	 * {@link JsonMapper}, or a {@link CompactAttributesCodec} to write attributes and
+	 * token metadata in a compact format.
 	 */
 	public static class JsonMapperOAuth2AuthorizationParametersMapper
 			extends AbstractOAuth2AuthorizationParametersMapper {
 
 		private final JsonMapper jsonMapper;
 
+		private final @Nullable CompactAttributesCodec codec;
+
 		public JsonMapperOAuth2AuthorizationParametersMapper() {
 			this(Jackson3.createJsonMapper());
 		}
@@ -745,11 +837,27 @@ public class JdbcOAuth2AuthorizationService implements OAuth2AuthorizationServic
 		public JsonMapperOAuth2AuthorizationParametersMapper(JsonMapper jsonMapper) {
 			Assert.notNull(jsonMapper, "jsonMapper cannot be null");
 			this.jsonMapper = jsonMapper;
+			this.codec = null;
+		}
+
+		/**
+		 * Constructs a {@code JsonMapperOAuth2AuthorizationParametersMapper} that writes
+		 * attributes and token metadata using the provided {@link CompactAttributesCodec}.
+		 * Make sure that every application instance reading the table uses a
+		 * {@link JsonMapperOAuth2AuthorizationRowMapper} of version 7.1 or later before
+		 * using it.
+		 * @param codec the {@link CompactAttributesCodec} to use
+		 * @since 7.1
+		 */
+		public JsonMapperOAuth2AuthorizationParametersMapper(CompactAttributesCodec codec) {
+			Assert.notNull(codec, "codec cannot be null");
+			this.jsonMapper = codec.jsonMapper;
+			this.codec = codec;
 		}
 
 		@Override
 		String writeValueAsString(Map<String, Object> data) throws Exception {
-			return this.jsonMapper.writeValueAsString(data);
+			return (this.codec != null) ? this.codec.encode(data) : this.jsonMapper.writeValueAsString(data);
 		}
 
 	}
@@ -901,6 +1009,436 @@ public class JdbcOAuth2AuthorizationService implements OAuth2AuthorizationServic
 
 	}
 
+	/**
+	 * Writes the attributes and token metadata of an {@link OAuth2Authorization} in a
+	 * compact format, and reads them from either that format or JSON, so that the rows
+	 * written before switching to it can still be read.
+	 *
+	 * <p>
+	 * Values are converted with Jackson 3's {@link JsonMapper}, which keeps their type
+	 * information as well as the validation of the types that are allowed, and the
+	 * resulting tree is written in a versioned binary format rather than as JSON. Each
+	 * string, such as a property or a class name, is written once per value and
+	 * referenced afterwards, and the names found in most rows are referenced from a
+	 * dictionary shared by every row. The binary form is compressed when that makes it
+	 * smaller, and it is Base64-encoded so that the table definition does not need to
+	 * change.
+	 *
+	 * @since 7.1
+	 * @see JsonMapperOAuth2AuthorizationParametersMapper
+	 * @see JsonMapperOAuth2AuthorizationRowMapper
+	 */
+	public static final class CompactAttributesCodec {
+
+		private static final String PREFIX = "~";
+
+		private static final int VERSION = 1;
+
+		private static final int DEFLATED = 0x01;
+
+		private static final int NULL_TAG = 0;
+
+		private static final int TRUE_TAG = 1;
+
+		private static final int FALSE_TAG = 2;
+
+		private static final int INTEGER_TAG = 3;
+
+		private static final int DOUBLE_TAG = 4;
+
+		private static final int BIG_INTEGER_TAG = 5;
+
+		private static final int BIG_DECIMAL_TAG = 6;
+
+		private static final int STRING_TAG = 7;
+
+		private static final int STRING_REFERENCE_TAG = 8;
+
+		private static final int BINARY_TAG = 9;
+
+		private static final int ARRAY_TAG = 10;
+
+		private static final int OBJECT_TAG = 11;
+
+		// Shared by every value written with VERSION, so it can only change along with it
+		// @formatter:off
+		private static final List<String> DICTIONARY = List.of(
+				"@class",
+				"java.util.Collections$UnmodifiableMap",
+				"java.util.Collections$UnmodifiableSet",
+				"java.util.Collections$UnmodifiableRandomAccessList",
+				"java.util.Collections$UnmodifiableList",
+				"java.util.HashMap",
+				"java.util.LinkedHashMap",
+				"java.util.HashSet",
+				"java.util.LinkedHashSet",
+				"java.util.ArrayList",
+				"java.security.Principal",
+				"org.springframework.security.authentication.UsernamePasswordAuthenticationToken",
+				"org.springframework.security.core.userdetails.User",
+				"org.springframework.security.core.authority.SimpleGrantedAuthority",
+				"org.springframework.security.core.authority.FactorGrantedAuthority",
+				"org.springframework.security.web.authentication.WebAuthenticationDetails",
+				"org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest",
+				OAuth2Authorization.Token.CLAIMS_METADATA_NAME,
+				OAuth2Authorization.Token.INVALIDATED_METADATA_NAME,
+				"authorities",
+				"authority",
+				"authenticated",
+				"principal",
+				"credentials",
+				"details",
+				"username",
+				"password",
+				"accountNonExpired",
+				"accountNonLocked",
+				"credentialsNonExpired",
+				"enabled",
+				"remoteAddress",
+				"sessionId",
+				"authorizationUri",
+				"authorizationGrantType",
+				"responseType",
+				"clientId",
+				"redirectUri",
+				"scopes",
+				"state",
+				"additionalParameters",
+				"attributes",
+				"authorizationRequestUri",
+				"value",
+				"authorization_code",
+				"code",
+				"sub",
+				"aud",
+				"iss",
+				"exp",
+				"iat",
+				"nbf",
+				"jti",
+				"scope");
+		// @formatter:on
+
+		private static final Map<String, Integer> DICTIONARY_INDEXES = new HashMap<>();
+
+		static {
+			for (int i = 0; i < DICTIONARY.size(); i++) {
+				DICTIONARY_INDEXES.put(DICTIONARY.get(i), i);
+			}
+		}
+
+		private final JsonMapper jsonMapper;
+
+		private final tools.jackson.databind.JavaType mapType;
+
+		private boolean compress = true;
+
+		/**
+		 * Constructs a {@code CompactAttributesCodec} that uses a {@link JsonMapper} with
+		 * the Spring Security modules registered.
+		 */
+		public CompactAttributesCodec() {
+			this(Jackson3.createJsonMapper());
+		}
+
+		/**
+		 * Constructs a {@code CompactAttributesCodec} using the provided parameters.
+		 * @param jsonMapper the {@link JsonMapper} that converts values to and from a tree
+		 */
+		public CompactAttributesCodec(JsonMapper jsonMapper) {
+			Assert.notNull(jsonMapper, "jsonMapper cannot be null");
+			this.jsonMapper = jsonMapper;
+			this.mapType = jsonMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class);
+		}
+
+		/**
+		 * Sets whether to compress values when that makes them smaller. Defaults to
+		 * {@code true}.
+		 * @param compress whether to compress values
+		 */
+		public void setCompress(boolean compress) {
+			this.compress = compress;
+		}
+
+		/**
+		 * Encodes the provided attributes or token metadata.
+		 * @param data the attributes or token metadata
+		 * @return the encoded value
+		 */
+		public String encode(Map<String, Object> data) {
+			Assert.notNull(data, "data cannot be null");
+			JsonNode tree = this.jsonMapper.valueToTree(data);
+			Writer writer = new Writer();
+			if (!writer.write(tree)) {
+				// The tree holds values that only JSON can represent
+				return this.jsonMapper.writeValueAsString(data);
+			}
+			byte[] body = writer.out.toByteArray();
+			int flags = 0;
+			if (this.compress) {
+				byte[] deflated = deflate(body);
+				if (deflated.length < body.length) {
+					body = deflated;
+					flags |= DEFLATED;
+				}
+			}
+			byte[] value = new byte[body.length + 2];
+			value[0] = VERSION;
+			value[1] = (byte) flags;
+			System.arraycopy(body, 0, value, 2, body.length);
+			return PREFIX + Base64.getEncoder().encodeToString(value);
+		}
+
+		/**
+		 * Decodes the provided attributes or token metadata, which were encoded either
+		 * with {@link #encode(Map)} or as JSON.
+		 * @param data the encoded attributes or token metadata
+		 * @return the attributes or token metadata
+		 */
+		public Map<String, Object> decode(String data) {
+			Assert.hasText(data, "data cannot be empty");
+			if (!data.startsWith(PREFIX)) {
+				return this.jsonMapper.readValue(data, this.mapType);
+			}
+			byte[] value = Base64.getDecoder().decode(data.substring(PREFIX.length()));
+			Assert.isTrue(value.length > 2 && value[0] == VERSION, "Unsupported encoded value");
+			ByteBuffer body = ByteBuffer.wrap(value, 2, value.length - 2);
+			if ((value[1] & DEFLATED) != 0) {
+				body = ByteBuffer.wrap(inflate(body));
+			}
+			JsonNode tree = new Reader(body).read();
+			return this.jsonMapper.treeToValue(tree, this.mapType);
+		}
+
+		private static byte[] deflate(byte[] value) {
+			Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			try {
+				ByteArrayOutputStream out = new ByteArrayOutputStream(value.length);
+				try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+					deflaterOut.write(value);
+				}
+				return out.toByteArray();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Unable to deflate value", ex);
+			}
+			finally {
+				deflater.end();
+			}
+		}
+
+		private static byte[] inflate(ByteBuffer value) {
+			Inflater inflater = new Inflater(true);
+			try {
+				ByteArrayOutputStream out = new ByteArrayOutputStream(value.remaining() * 4);
+				try (InflaterOutputStream inflaterOut = new InflaterOutputStream(out, inflater)) {
+					inflaterOut.write(value.array(), value.position(), value.remaining());
+				}
+				return out.toByteArray();
+			}
+			catch (IOException ex) {
+				throw new IllegalArgumentException("Unable to inflate value", ex);
+			}
+			finally {
+				inflater.end();
+			}
+		}
+
+		private static final class Writer {
+
+			private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+			private final Map<String, Integer> strings = new HashMap<>();
+
+			private boolean write(JsonNode node) {
+				if (node.isNull()) {
+					this.out.write(NULL_TAG);
+				}
+				else if (node.isBoolean()) {
+					this.out.write(node.booleanValue() ? TRUE_TAG : FALSE_TAG);
+				}
+				else if (node.isIntegralNumber() && node.canConvertToLong()) {
+					this.out.write(INTEGER_TAG);
+					long value = node.longValue();
+					writeVarint((value << 1) ^ (value >> 63));
+				}
+				else if (node.isIntegralNumber()) {
+					this.out.write(BIG_INTEGER_TAG);
+					writeBytes(node.bigIntegerValue().toString().getBytes(StandardCharsets.UTF_8));
+				}
+				else if (node.isBigDecimal()) {
+					this.out.write(BIG_DECIMAL_TAG);
+					writeBytes(node.decimalValue().toString().getBytes(StandardCharsets.UTF_8));
+				}
+				else if (node.isNumber()) {
+					this.out.write(DOUBLE_TAG);
+					long bits = Double.doubleToLongBits(node.doubleValue());
+					for (int shift = 56; shift >= 0; shift -= 8) {
+						this.out.write((int) (bits >>> shift));
+					}
+				}
+				else if (node.isString()) {
+					writeString(node.stringValue());
+				}
+				else if (node.isBinary()) {
+					this.out.write(BINARY_TAG);
+					writeBytes(node.binaryValue());
+				}
+				else if (node.isArray()) {
+					this.out.write(ARRAY_TAG);
+					writeVarint(node.size());
+					for (JsonNode element : node) {
+						if (!write(element)) {
+							return false;
+						}
+					}
+				}
+				else if (node.isObject()) {
+					this.out.write(OBJECT_TAG);
+					writeVarint(node.size());
+					for (Map.Entry<String, JsonNode> property : node.properties()) {
+						writeString(property.getKey());
+						if (!write(property.getValue())) {
+							return false;
+						}
+					}
+				}
+				else {
+					return false;
+				}
+				return true;
+			}
+
+			private void writeString(String value) {
+				Integer index = DICTIONARY_INDEXES.get(value);
+				if (index == null) {
+					index = this.strings.get(value);
+				}
+				if (index != null) {
+					this.out.write(STRING_REFERENCE_TAG);
+					writeVarint(index);
+					return;
+				}
+				this.strings.put(value, DICTIONARY.size() + this.strings.size());
+				this.out.write(STRING_TAG);
+				writeBytes(value.getBytes(StandardCharsets.UTF_8));
+			}
+
+			private void writeBytes(byte[] value) {
+				writeVarint(value.length);
+				this.out.writeBytes(value);
+			}
+
+			private void writeVarint(long value) {
+				while ((value & ~0x7FL) != 0) {
+					this.out.write((int) ((value & 0x7F) | 0x80));
+					value >>>= 7;
+				}
+				this.out.write((int) value);
+			}
+
+		}
+
+		private static final class Reader {
+
+			private final ByteBuffer in;
+
+			private final List<String> strings = new ArrayList<>();
+
+			private Reader(ByteBuffer in) {
+				this.in = in;
+			}
+
+			private JsonNode read() {
+				JsonNodeFactory nodes = JsonNodeFactory.instance;
+				int tag = this.in.get();
+				return switch (tag) {
+					case NULL_TAG -> nodes.nullNode();
+					case TRUE_TAG -> nodes.booleanNode(true);
+					case FALSE_TAG -> nodes.booleanNode(false);
+					case INTEGER_TAG -> readInteger();
+					case DOUBLE_TAG -> nodes.numberNode(Double.longBitsToDouble(this.in.getLong()));
+					case BIG_INTEGER_TAG -> nodes.numberNode(new BigInteger(readUtf8()));
+					case BIG_DECIMAL_TAG -> nodes.numberNode(new BigDecimal(readUtf8()));
+					case STRING_TAG, STRING_REFERENCE_TAG -> nodes.stringNode(readString(tag));
+					case BINARY_TAG -> nodes.binaryNode(readBytes());
+					case ARRAY_TAG -> readArray();
+					case OBJECT_TAG -> readObject();
+					default -> throw new IllegalArgumentException("Unsupported encoded value");
+				};
+			}
+
+			private JsonNode readInteger() {
+				long value = readVarint();
+				value = (value >>> 1) ^ -(value & 1);
+				return (value == (int) value) ? JsonNodeFactory.instance.numberNode((int) value)
+						: JsonNodeFactory.instance.numberNode(value);
+			}
+
+			private JsonNode readArray() {
+				ArrayNode array = JsonNodeFactory.instance.arrayNode();
+				for (int size = readSize(); size > 0; size--) {
+					array.add(read());
+				}
+				return array;
+			}
+
+			private JsonNode readObject() {
+				ObjectNode object = JsonNodeFactory.instance.objectNode();
+				for (int size = readSize(); size > 0; size--) {
+					String name = readString(this.in.get());
+					object.set(name, read());
+				}
+				return object;
+			}
+
+			private String readString(int tag) {
+				if (tag == STRING_TAG) {
+					String value = readUtf8();
+					this.strings.add(value);
+					return value;
+				}
+				Assert.isTrue(tag == STRING_REFERENCE_TAG, "Unsupported encoded value");
+				long index = readVarint();
+				if (index < DICTIONARY.size()) {
+					return DICTIONARY.get((int) index);
+				}
+				Assert.isTrue(index - DICTIONARY.size() < this.strings.size(), "Unsupported encoded value");
+				return this.strings.get((int) (index - DICTIONARY.size()));
+			}
+
+			private String readUtf8() {
+				return new String(readBytes(), StandardCharsets.UTF_8);
+			}
+
+			private byte[] readBytes() {
+				byte[] value = new byte[readSize()];
+				this.in.get(value);
+				return value;
+			}
+
+			private int readSize() {
+				long size = readVarint();
+				Assert.isTrue(size >= 0 && size <= this.in.remaining(), "Unsupported encoded value");
+				return (int) size;
+			}
+
+			private long readVarint() {
+				long value = 0;
+				for (int shift = 0; shift < 64; shift += 7) {
+					byte b = this.in.get();
+					value |= (long) (b & 0x7F) << shift;
+					if ((b & 0x80) == 0) {
+						return value;
+					}
+				}
+				throw new IllegalArgumentException("Unsupported encoded value");
+			}
+
+		}
+
+	}
+
 	/**
 	 * Nested class to protect from getting {@link NoClassDefFoundError} when Jackson 2 is
 	 * not on the classpath.
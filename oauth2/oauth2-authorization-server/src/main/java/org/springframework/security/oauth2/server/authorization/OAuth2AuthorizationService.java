@@ -16,8 +16,15 @@
 
 package org.springframework.security.oauth2.server.authorization;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.util.Assert;
+
 /**
  * Implementations of this interface are responsible for the management of
  * {@link OAuth2Authorization OAuth 2.0 Authorization(s)}.
@@ -58,4 +65,31 @@ public interface OAuth2AuthorizationService {
 	 */
 	@Nullable OAuth2Authorization findByToken(String token, @Nullable OAuth2TokenType tokenType);
 
+	/**
+	 * Returns the {@link OAuth2Authorization}(s) containing the provided {@code tokens},
+	 * keyed by token credential. Tokens that are not found are not contained in the
+	 * returned {@code Map}.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #findByToken(String, OAuth2TokenType)} for
+	 * each token. Implementations backed by a persistent store should override it to look
+	 * up all tokens at once.
+	 * @param tokens the token credentials
+	 * @param tokenType the {@link OAuth2TokenType token type}
+	 * @return the {@link OAuth2Authorization}(s) found, keyed by token credential
+	 * @since 7.1
+	 */
+	default Map<String, OAuth2Authorization> findByTokens(Collection<String> tokens,
+			@Nullable OAuth2TokenType tokenType) {
+		Assert.notNull(tokens, "tokens cannot be null");
+		Map<String, OAuth2Authorization> authorizations = new LinkedHashMap<>();
+		for (String token : new LinkedHashSet<>(tokens)) {
+			OAuth2Authorization authorization = findByToken(token, tokenType);
+			if (authorization != null) {
+				authorizations.put(token, authorization);
+			}
+		}
+		return authorizations;
+	}
+
 }
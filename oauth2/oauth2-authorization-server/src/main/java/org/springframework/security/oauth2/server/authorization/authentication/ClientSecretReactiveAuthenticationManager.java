@@ -0,0 +1,171 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import java.time.Instant;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.server.authorization.client.ReactiveRegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ReactiveAuthenticationManager} implementation used for OAuth 2.0 Client
+ * Authentication, which authenticates the {@link OAuth2ParameterNames#CLIENT_SECRET
+ * client_secret} parameter sent with {@code client_secret_basic} or
+ * {@code client_secret_post}.
+ *
+ * <p>
+ * The client secret is matched on the {@link #setScheduler(Scheduler) scheduler}, so that
+ * password encoding does not block the thread handling the request.
+ *
+ * @since 7.1
+ * @see ReactiveAuthenticationManager
+ * @see OAuth2ClientAuthenticationToken
+ * @see ReactiveRegisteredClientRepository
+ * @see ClientSecretAuthenticationProvider
+ */
+public final class ClientSecretReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+	private static final String ERROR_URI = "https://datatracker.ietf.org/doc/html/rfc6749#section-3.2.1";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ReactiveRegisteredClientRepository registeredClientRepository;
+
+	private PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+
+	private Scheduler scheduler = Schedulers.boundedElastic();
+
+	/**
+	 * Constructs a {@code ClientSecretReactiveAuthenticationManager} using the provided
+	 * parameters.
+	 * @param registeredClientRepository the repository of registered clients
+	 */
+	public ClientSecretReactiveAuthenticationManager(ReactiveRegisteredClientRepository registeredClientRepository) {
+		Assert.notNull(registeredClientRepository, "registeredClientRepository cannot be null");
+		this.registeredClientRepository = registeredClientRepository;
+	}
+
+	/**
+	 * Sets the {@link PasswordEncoder} used to validate the
+	 * {@link RegisteredClient#getClientSecret() client secret}. If not set, the client
+	 * secret will be compared using
+	 * {@link PasswordEncoderFactories#createDelegatingPasswordEncoder()}.
+	 * @param passwordEncoder the {@link PasswordEncoder} used to validate the client
+	 * secret
+	 */
+	public void setPasswordEncoder(PasswordEncoder passwordEncoder) {
+		Assert.notNull(passwordEncoder, "passwordEncoder cannot be null");
+		this.passwordEncoder = passwordEncoder;
+	}
+
+	/**
+	 * Sets the {@link Scheduler} used to validate the
+	 * {@link RegisteredClient#getClientSecret() client secret}. The default is
+	 * {@code Schedulers.boundedElastic()}.
+	 * @param scheduler the {@link Scheduler} used to validate the client secret
+	 */
+	public void setScheduler(Scheduler scheduler) {
+		Assert.notNull(scheduler, "scheduler cannot be null");
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Mono<Authentication> authenticate(Authentication authentication) {
+		if (!(authentication instanceof OAuth2ClientAuthenticationToken clientAuthentication)) {
+			return Mono.empty();
+		}
+
+		// @formatter:off
+		if (!ClientAuthenticationMethod.CLIENT_SECRET_BASIC.equals(clientAuthentication.getClientAuthenticationMethod()) &&
+				!ClientAuthenticationMethod.CLIENT_SECRET_POST.equals(clientAuthentication.getClientAuthenticationMethod())) {
+			return Mono.empty();
+		}
+		// @formatter:on
+
+		String clientId = clientAuthentication.getPrincipal().toString();
+		Object credentials = clientAuthentication.getCredentials();
+		// @formatter:off
+		return this.registeredClientRepository.findByClientId(clientId)
+				.switchIfEmpty(Mono.error(() -> invalidClientException(OAuth2ParameterNames.CLIENT_ID)))
+				.map((registeredClient) -> {
+					if (!registeredClient.getClientAuthenticationMethods()
+						.contains(clientAuthentication.getClientAuthenticationMethod())) {
+						throw invalidClientException("authentication_method");
+					}
+					if (credentials == null) {
+						throw invalidClientException("credentials");
+					}
+					return registeredClient;
+				})
+				.publishOn(this.scheduler)
+				.flatMap((registeredClient) -> authenticate(registeredClient, credentials.toString()))
+				.map((registeredClient) -> new OAuth2ClientAuthenticationToken(registeredClient,
+						clientAuthentication.getClientAuthenticationMethod(), credentials));
+		// @formatter:on
+	}
+
+	private Mono<RegisteredClient> authenticate(RegisteredClient registeredClient, String clientSecret) {
+		if (!this.passwordEncoder.matches(clientSecret, registeredClient.getClientSecret())) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(LogMessage.format(
+						"Invalid request: client_secret does not match" + " for registered client '%s'",
+						registeredClient.getId()));
+			}
+			return Mono.error(invalidClientException(OAuth2ParameterNames.CLIENT_SECRET));
+		}
+
+		if (registeredClient.getClientSecretExpiresAt() != null
+				&& Instant.now().isAfter(registeredClient.getClientSecretExpiresAt())) {
+			return Mono.error(invalidClientException("client_secret_expires_at"));
+		}
+
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace("Authenticated client secret");
+		}
+
+		if (!this.passwordEncoder.upgradeEncoding(registeredClient.getClientSecret())) {
+			return Mono.just(registeredClient);
+		}
+		RegisteredClient upgradedRegisteredClient = RegisteredClient.from(registeredClient)
+			.clientSecret(this.passwordEncoder.encode(clientSecret))
+			.build();
+		return this.registeredClientRepository.save(upgradedRegisteredClient).thenReturn(upgradedRegisteredClient);
+	}
+
+	private static OAuth2AuthenticationException invalidClientException(String parameterName) {
+		OAuth2Error error = new OAuth2Error(OAuth2ErrorCodes.INVALID_CLIENT,
+				"Client authentication failed: " + parameterName, ERROR_URI);
+		return new OAuth2AuthenticationException(error);
+	}
+
+}
@@ -129,7 +129,7 @@ public final class OAuth2TokenIntrospectionAuthenticationProvider implements Aut
 		return OAuth2TokenIntrospectionAuthenticationToken.class.isAssignableFrom(authentication);
 	}
 
-	private static OAuth2TokenIntrospection withActiveTokenClaims(
+	static OAuth2TokenIntrospection withActiveTokenClaims(
 			OAuth2Authorization.Token<OAuth2Token> authorizedToken, RegisteredClient authorizedClient) {
 
 		OAuth2TokenIntrospection.Builder tokenClaims;
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenIntrospection;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link AuthenticationProvider} implementation for introspecting a batch of tokens
+ * with a single request.
+ *
+ * <p>
+ * All tokens are looked up with a single call to
+ * {@link OAuth2AuthorizationService#findByTokens}. Each token is introspected as
+ * described by {@link OAuth2TokenIntrospectionAuthenticationProvider}, and tokens that
+ * are not found or not active are reported as inactive.
+ *
+ * @since 7.1
+ * @see OAuth2TokenIntrospectionBatchAuthenticationToken
+ * @see OAuth2TokenIntrospectionAuthenticationProvider
+ * @see RegisteredClientRepository
+ * @see OAuth2AuthorizationService
+ */
+public final class OAuth2TokenIntrospectionBatchAuthenticationProvider implements AuthenticationProvider {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final RegisteredClientRepository registeredClientRepository;
+
+	private final OAuth2AuthorizationService authorizationService;
+
+	/**
+	 * Constructs an {@code OAuth2TokenIntrospectionBatchAuthenticationProvider} using the
+	 * provided parameters.
+	 * @param registeredClientRepository the repository of registered clients
+	 * @param authorizationService the authorization service
+	 */
+	public OAuth2TokenIntrospectionBatchAuthenticationProvider(RegisteredClientRepository registeredClientRepository,
+			OAuth2AuthorizationService authorizationService) {
+		Assert.notNull(registeredClientRepository, "registeredClientRepository cannot be null");
+		Assert.notNull(authorizationService, "authorizationService cannot be null");
+		this.registeredClientRepository = registeredClientRepository;
+		this.authorizationService = authorizationService;
+	}
+
+	@Override
+	public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+		OAuth2TokenIntrospectionBatchAuthenticationToken tokenIntrospectionAuthentication = (OAuth2TokenIntrospectionBatchAuthenticationToken) authentication;
+
+		OAuth2ClientAuthenticationToken clientPrincipal = OAuth2AuthenticationProviderUtils
+			.getAuthenticatedClientElseThrowInvalidClient(tokenIntrospectionAuthentication);
+
+		List<String> tokens = tokenIntrospectionAuthentication.getTokens();
+		Map<String, OAuth2Authorization> authorizations = this.authorizationService.findByTokens(tokens, null);
+
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace(LogMessage.format("Retrieved authorizations for %d of %d tokens", authorizations.size(),
+					tokens.size()));
+		}
+
+		Map<String, RegisteredClient> authorizedClients = new HashMap<>();
+		List<OAuth2TokenIntrospection> tokenClaims = new ArrayList<>(tokens.size());
+		for (String token : tokens) {
+			tokenClaims.add(introspect(token, authorizations.get(token), authorizedClients));
+		}
+
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace("Authenticated token introspection batch request");
+		}
+
+		return new OAuth2TokenIntrospectionBatchAuthenticationToken(tokens, clientPrincipal, tokenClaims);
+	}
+
+	@Override
+	public boolean supports(Class<?> authentication) {
+		return OAuth2TokenIntrospectionBatchAuthenticationToken.class.isAssignableFrom(authentication);
+	}
+
+	private OAuth2TokenIntrospection introspect(String token, @Nullable OAuth2Authorization authorization,
+			Map<String, RegisteredClient> authorizedClients) {
+		if (authorization == null) {
+			// Token not found
+			return OAuth2TokenIntrospection.builder().build();
+		}
+		OAuth2Authorization.Token<OAuth2Token> authorizedToken = authorization.getToken(token);
+		if (authorizedToken == null || !authorizedToken.isActive()) {
+			return OAuth2TokenIntrospection.builder().build();
+		}
+		RegisteredClient authorizedClient = authorizedClients.computeIfAbsent(authorization.getRegisteredClientId(),
+				this.registeredClientRepository::findById);
+		Assert.notNull(authorizedClient, "authorizedClient cannot be null");
+		return OAuth2TokenIntrospectionAuthenticationProvider.withActiveTokenClaims(authorizedToken,
+				authorizedClient);
+	}
+
+}
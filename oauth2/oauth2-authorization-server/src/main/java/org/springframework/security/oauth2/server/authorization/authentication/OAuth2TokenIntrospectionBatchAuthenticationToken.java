@@ -0,0 +1,128 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenIntrospection;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link Authentication} implementation used for introspecting a batch of tokens with
+ * a single request.
+ *
+ * @since 7.1
+ * @see AbstractAuthenticationToken
+ * @see OAuth2TokenIntrospection
+ * @see OAuth2TokenIntrospectionBatchAuthenticationProvider
+ * @see OAuth2TokenIntrospectionAuthenticationToken
+ */
+@SuppressWarnings("serial")
+public class OAuth2TokenIntrospectionBatchAuthenticationToken extends AbstractAuthenticationToken {
+
+	private final List<String> tokens;
+
+	private final Authentication clientPrincipal;
+
+	private final @Nullable String tokenTypeHint;
+
+	private final List<OAuth2TokenIntrospection> tokenClaims;
+
+	/**
+	 * Constructs an {@code OAuth2TokenIntrospectionBatchAuthenticationToken} using the
+	 * provided parameters.
+	 * @param tokens the tokens
+	 * @param clientPrincipal the authenticated client principal
+	 * @param tokenTypeHint the token type hint
+	 */
+	public OAuth2TokenIntrospectionBatchAuthenticationToken(List<String> tokens, Authentication clientPrincipal,
+			@Nullable String tokenTypeHint) {
+		super(Collections.emptyList());
+		Assert.notEmpty(tokens, "tokens cannot be empty");
+		Assert.noNullElements(tokens, "tokens cannot contain null elements");
+		Assert.notNull(clientPrincipal, "clientPrincipal cannot be null");
+		this.tokens = List.copyOf(tokens);
+		this.clientPrincipal = clientPrincipal;
+		this.tokenTypeHint = tokenTypeHint;
+		this.tokenClaims = Collections.emptyList();
+	}
+
+	/**
+	 * Constructs an {@code OAuth2TokenIntrospectionBatchAuthenticationToken} using the
+	 * provided parameters.
+	 * @param tokens the tokens
+	 * @param clientPrincipal the authenticated client principal
+	 * @param tokenClaims the token claims, in the order of {@code tokens}
+	 */
+	public OAuth2TokenIntrospectionBatchAuthenticationToken(List<String> tokens, Authentication clientPrincipal,
+			List<OAuth2TokenIntrospection> tokenClaims) {
+		super(Collections.emptyList());
+		Assert.notEmpty(tokens, "tokens cannot be empty");
+		Assert.noNullElements(tokens, "tokens cannot contain null elements");
+		Assert.notNull(clientPrincipal, "clientPrincipal cannot be null");
+		Assert.notNull(tokenClaims, "tokenClaims cannot be null");
+		Assert.isTrue(tokens.size() == tokenClaims.size(), "tokenClaims must contain one element per token");
+		this.tokens = List.copyOf(tokens);
+		this.clientPrincipal = clientPrincipal;
+		this.tokenTypeHint = null;
+		this.tokenClaims = List.copyOf(tokenClaims);
+		// Indicates that the request was authenticated, even though the tokens might not
+		// be active
+		setAuthenticated(true);
+	}
+
+	@Override
+	public Object getPrincipal() {
+		return this.clientPrincipal;
+	}
+
+	@Override
+	public Object getCredentials() {
+		return "";
+	}
+
+	/**
+	 * Returns the tokens.
+	 * @return the tokens
+	 */
+	public List<String> getTokens() {
+		return this.tokens;
+	}
+
+	/**
+	 * Returns the token type hint.
+	 * @return the token type hint
+	 */
+	public @Nullable String getTokenTypeHint() {
+		return this.tokenTypeHint;
+	}
+
+	/**
+	 * Returns the token claims, in the order of {@link #getTokens()}. The list is empty
+	 * until the request is authenticated.
+	 * @return the {@link OAuth2TokenIntrospection}(s)
+	 */
+	public List<OAuth2TokenIntrospection> getTokenClaims() {
+		return this.tokenClaims;
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenIntrospection;
+import org.springframework.security.oauth2.server.authorization.ReactiveOAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.client.ReactiveRegisteredClientRepository;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ReactiveAuthenticationManager} implementation for OAuth 2.0 Token
+ * Introspection.
+ *
+ * @since 7.1
+ * @see OAuth2TokenIntrospectionAuthenticationToken
+ * @see ReactiveRegisteredClientRepository
+ * @see ReactiveOAuth2AuthorizationService
+ * @see OAuth2TokenIntrospectionAuthenticationProvider
+ * @see <a target="_blank" href="https://tools.ietf.org/html/rfc7662#section-2.1">Section
+ * 2.1 Introspection Request</a>
+ */
+public final class OAuth2TokenIntrospectionReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ReactiveRegisteredClientRepository registeredClientRepository;
+
+	private final ReactiveOAuth2AuthorizationService authorizationService;
+
+	/**
+	 * Constructs an {@code OAuth2TokenIntrospectionReactiveAuthenticationManager} using
+	 * the provided parameters.
+	 * @param registeredClientRepository the repository of registered clients
+	 * @param authorizationService the authorization service
+	 */
+	public OAuth2TokenIntrospectionReactiveAuthenticationManager(
+			ReactiveRegisteredClientRepository registeredClientRepository,
+			ReactiveOAuth2AuthorizationService authorizationService) {
+		Assert.notNull(registeredClientRepository, "registeredClientRepository cannot be null");
+		Assert.notNull(authorizationService, "authorizationService cannot be null");
+		this.registeredClientRepository = registeredClientRepository;
+		this.authorizationService = authorizationService;
+	}
+
+	@Override
+	public Mono<Authentication> authenticate(Authentication authentication) {
+		if (!(authentication instanceof OAuth2TokenIntrospectionAuthenticationToken tokenIntrospectionAuthentication)) {
+			return Mono.empty();
+		}
+		// @formatter:off
+		return Mono.fromSupplier(() -> OAuth2AuthenticationProviderUtils
+					.getAuthenticatedClientElseThrowInvalidClient(tokenIntrospectionAuthentication))
+				.flatMap((clientPrincipal) -> this.authorizationService
+					.findByToken(tokenIntrospectionAuthentication.getToken(), null)
+					.flatMap((authorization) -> introspect(tokenIntrospectionAuthentication, clientPrincipal,
+							authorization))
+					.switchIfEmpty(Mono.fromSupplier(() -> tokenNotFound(tokenIntrospectionAuthentication))));
+		// @formatter:on
+	}
+
+	private Mono<Authentication> introspect(
+			OAuth2TokenIntrospectionAuthenticationToken tokenIntrospectionAuthentication,
+			OAuth2ClientAuthenticationToken clientPrincipal, OAuth2Authorization authorization) {
+		OAuth2Authorization.Token<OAuth2Token> authorizedToken = authorization
+			.getToken(tokenIntrospectionAuthentication.getToken());
+		Assert.notNull(authorizedToken, "authorizedToken cannot be null");
+		if (!authorizedToken.isActive()) {
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace("Did not introspect token since not active");
+			}
+			return Mono.just(new OAuth2TokenIntrospectionAuthenticationToken(
+					tokenIntrospectionAuthentication.getToken(), clientPrincipal,
+					OAuth2TokenIntrospection.builder().build()));
+		}
+		// @formatter:off
+		return this.registeredClientRepository.findById(authorization.getRegisteredClientId())
+				.switchIfEmpty(Mono.error(() -> new IllegalArgumentException("authorizedClient cannot be null")))
+				.map((authorizedClient) -> new OAuth2TokenIntrospectionAuthenticationToken(
+						authorizedToken.getToken().getTokenValue(), clientPrincipal,
+						OAuth2TokenIntrospectionAuthenticationProvider.withActiveTokenClaims(authorizedToken,
+								authorizedClient)));
+		// @formatter:on
+	}
+
+	private Authentication tokenNotFound(OAuth2TokenIntrospectionAuthenticationToken tokenIntrospectionAuthentication) {
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace("Did not authenticate token introspection request since token was not found");
+		}
+		// Return the authentication request when token not found
+		return tokenIntrospectionAuthentication;
+	}
+
+}
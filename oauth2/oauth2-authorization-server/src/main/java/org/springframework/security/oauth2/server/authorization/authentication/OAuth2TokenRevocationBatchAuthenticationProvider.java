@@ -0,0 +1,126 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link AuthenticationProvider} implementation for revoking a batch of tokens with a
+ * single request.
+ *
+ * <p>
+ * All tokens are looked up with a single call to
+ * {@link OAuth2AuthorizationService#findByTokens}, and each affected
+ * {@link OAuth2Authorization} is saved once. Tokens that are not found are ignored. If
+ * any of the tokens was not issued to the authenticated client, no token is revoked and
+ * the request fails with {@link OAuth2ErrorCodes#INVALID_CLIENT}.
+ *
+ * <p>
+ * <b>NOTE:</b> The affected authorizations are saved one after the other with
+ * {@link OAuth2AuthorizationService#save}, which is not atomic. If saving one of them
+ * fails, the authorizations saved before it stay revoked and the request fails. Since
+ * revoking a token again has no effect, the client can send the same request again.
+ *
+ * @since 7.1
+ * @see OAuth2TokenRevocationBatchAuthenticationToken
+ * @see OAuth2TokenRevocationAuthenticationProvider
+ * @see OAuth2AuthorizationService
+ */
+public final class OAuth2TokenRevocationBatchAuthenticationProvider implements AuthenticationProvider {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final OAuth2AuthorizationService authorizationService;
+
+	/**
+	 * Constructs an {@code OAuth2TokenRevocationBatchAuthenticationProvider} using the
+	 * provided parameters.
+	 * @param authorizationService the authorization service
+	 */
+	public OAuth2TokenRevocationBatchAuthenticationProvider(OAuth2AuthorizationService authorizationService) {
+		Assert.notNull(authorizationService, "authorizationService cannot be null");
+		this.authorizationService = authorizationService;
+	}
+
+	@Override
+	public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+		OAuth2TokenRevocationBatchAuthenticationToken tokenRevocationAuthentication = (OAuth2TokenRevocationBatchAuthenticationToken) authentication;
+
+		OAuth2ClientAuthenticationToken clientPrincipal = OAuth2AuthenticationProviderUtils
+			.getAuthenticatedClientElseThrowInvalidClient(tokenRevocationAuthentication);
+		RegisteredClient registeredClient = clientPrincipal.getRegisteredClient();
+		Assert.notNull(registeredClient, "registeredClient cannot be null");
+
+		Map<String, OAuth2Authorization> authorizations = this.authorizationService
+			.findByTokens(tokenRevocationAuthentication.getTokens(), null);
+
+		// Validate all tokens before revoking any of them
+		for (OAuth2Authorization authorization : authorizations.values()) {
+			if (!registeredClient.getId().equals(authorization.getRegisteredClientId())) {
+				throw new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_CLIENT);
+			}
+		}
+
+		Map<String, OAuth2Authorization> revokedAuthorizations = new LinkedHashMap<>();
+		List<OAuth2Token> revokedTokens = new ArrayList<>();
+		for (Map.Entry<String, OAuth2Authorization> entry : authorizations.entrySet()) {
+			OAuth2Authorization authorization = revokedAuthorizations.getOrDefault(entry.getValue().getId(),
+					entry.getValue());
+			OAuth2Authorization.Token<OAuth2Token> token = authorization.getToken(entry.getKey());
+			if (token == null) {
+				continue;
+			}
+			revokedAuthorizations.put(authorization.getId(),
+					OAuth2Authorization.from(authorization).invalidate(token.getToken()).build());
+			revokedTokens.add(token.getToken());
+		}
+		revokedAuthorizations.values().forEach(this.authorizationService::save);
+
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace(LogMessage.format("Saved %d authorization(s) with %d revoked token(s)",
+					revokedAuthorizations.size(), revokedTokens.size()));
+			// This log is kept separate for consistency with other providers
+			this.logger.trace("Authenticated token revocation batch request");
+		}
+
+		return new OAuth2TokenRevocationBatchAuthenticationToken(revokedTokens, clientPrincipal);
+	}
+
+	@Override
+	public boolean supports(Class<?> authentication) {
+		return OAuth2TokenRevocationBatchAuthenticationToken.class.isAssignableFrom(authentication);
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link Authentication} implementation used for revoking a batch of tokens with a
+ * single request.
+ *
+ * @since 7.1
+ * @see AbstractAuthenticationToken
+ * @see OAuth2TokenRevocationBatchAuthenticationProvider
+ * @see OAuth2TokenRevocationAuthenticationToken
+ */
+@SuppressWarnings("serial")
+public class OAuth2TokenRevocationBatchAuthenticationToken extends AbstractAuthenticationToken {
+
+	private final List<String> tokens;
+
+	private final Authentication clientPrincipal;
+
+	private final @Nullable String tokenTypeHint;
+
+	/**
+	 * Constructs an {@code OAuth2TokenRevocationBatchAuthenticationToken} using the
+	 * provided parameters.
+	 * @param tokens the tokens
+	 * @param clientPrincipal the authenticated client principal
+	 * @param tokenTypeHint the token type hint
+	 */
+	public OAuth2TokenRevocationBatchAuthenticationToken(List<String> tokens, Authentication clientPrincipal,
+			@Nullable String tokenTypeHint) {
+		super(Collections.emptyList());
+		Assert.notEmpty(tokens, "tokens cannot be empty");
+		Assert.noNullElements(tokens, "tokens cannot contain null elements");
+		Assert.notNull(clientPrincipal, "clientPrincipal cannot be null");
+		this.tokens = List.copyOf(tokens);
+		this.clientPrincipal = clientPrincipal;
+		this.tokenTypeHint = tokenTypeHint;
+	}
+
+	/**
+	 * Constructs an {@code OAuth2TokenRevocationBatchAuthenticationToken} using the
+	 * provided parameters.
+	 * @param revokedTokens the revoked tokens
+	 * @param clientPrincipal the authenticated client principal
+	 */
+	public OAuth2TokenRevocationBatchAuthenticationToken(List<? extends OAuth2Token> revokedTokens,
+			Authentication clientPrincipal) {
+		super(Collections.emptyList());
+		Assert.notNull(revokedTokens, "revokedTokens cannot be null");
+		Assert.noNullElements(revokedTokens, "revokedTokens cannot contain null elements");
+		Assert.notNull(clientPrincipal, "clientPrincipal cannot be null");
+		this.tokens = revokedTokens.stream().map(OAuth2Token::getTokenValue).toList();
+		this.clientPrincipal = clientPrincipal;
+		this.tokenTypeHint = null;
+		setAuthenticated(true); // Indicates that the tokens were authenticated and revoked
+	}
+
+	@Override
+	public Object getPrincipal() {
+		return this.clientPrincipal;
+	}
+
+	@Override
+	public Object getCredentials() {
+		return "";
+	}
+
+	/**
+	 * Returns the tokens. Once authenticated, only the tokens that were found and revoked
+	 * are returned.
+	 * @return the tokens
+	 */
+	public List<String> getTokens() {
+		return this.tokens;
+	}
+
+	/**
+	 * Returns the token type hint.
+	 * @return the token type hint
+	 */
+	public @Nullable String getTokenTypeHint() {
+		return this.tokenTypeHint;
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.ReactiveOAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ReactiveAuthenticationManager} implementation for OAuth 2.0 Token Revocation.
+ *
+ * @since 7.1
+ * @see OAuth2TokenRevocationAuthenticationToken
+ * @see ReactiveOAuth2AuthorizationService
+ * @see OAuth2TokenRevocationAuthenticationProvider
+ * @see <a target="_blank" href="https://tools.ietf.org/html/rfc7009#section-2.1">Section
+ * 2.1 Revocation Request</a>
+ */
+public final class OAuth2TokenRevocationReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ReactiveOAuth2AuthorizationService authorizationService;
+
+	/**
+	 * Constructs an {@code OAuth2TokenRevocationReactiveAuthenticationManager} using the
+	 * provided parameters.
+	 * @param authorizationService the authorization service
+	 */
+	public OAuth2TokenRevocationReactiveAuthenticationManager(ReactiveOAuth2AuthorizationService authorizationService) {
+		Assert.notNull(authorizationService, "authorizationService cannot be null");
+		this.authorizationService = authorizationService;
+	}
+
+	@Override
+	public Mono<Authentication> authenticate(Authentication authentication) {
+		if (!(authentication instanceof OAuth2TokenRevocationAuthenticationToken tokenRevocationAuthentication)) {
+			return Mono.empty();
+		}
+		// @formatter:off
+		return Mono.fromSupplier(() -> OAuth2AuthenticationProviderUtils
+					.getAuthenticatedClientElseThrowInvalidClient(tokenRevocationAuthentication))
+				.flatMap((clientPrincipal) -> this.authorizationService
+					.findByToken(tokenRevocationAuthentication.getToken(), null)
+					.flatMap((authorization) -> revoke(tokenRevocationAuthentication, clientPrincipal, authorization))
+					.switchIfEmpty(Mono.fromSupplier(() -> tokenNotFound(tokenRevocationAuthentication))));
+		// @formatter:on
+	}
+
+	private Mono<Authentication> revoke(OAuth2TokenRevocationAuthenticationToken tokenRevocationAuthentication,
+			OAuth2ClientAuthenticationToken clientPrincipal, OAuth2Authorization authorization) {
+		RegisteredClient registeredClient = clientPrincipal.getRegisteredClient();
+		Assert.notNull(registeredClient, "registeredClient cannot be null");
+		if (!registeredClient.getId().equals(authorization.getRegisteredClientId())) {
+			return Mono.error(new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_CLIENT));
+		}
+
+		OAuth2Authorization.Token<OAuth2Token> token = authorization.getToken(tokenRevocationAuthentication.getToken());
+		Assert.notNull(token, "token cannot be null");
+		OAuth2Authorization revokedAuthorization = OAuth2Authorization.from(authorization)
+			.invalidate(token.getToken())
+			.build();
+		return this.authorizationService.save(revokedAuthorization).then(Mono.fromSupplier(() -> {
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace("Saved authorization with revoked token");
+			}
+			return new OAuth2TokenRevocationAuthenticationToken(token.getToken(), clientPrincipal);
+		}));
+	}
+
+	private Authentication tokenNotFound(OAuth2TokenRevocationAuthenticationToken tokenRevocationAuthentication) {
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace("Did not authenticate token revocation request since token was not found");
+		}
+		// Return the authentication request when token not found
+		return tokenRevocationAuthentication;
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RegisteredClientRepository} that caches the {@link RegisteredClient}(s) found
+ * by a delegate {@link RegisteredClientRepository}, such as
+ * {@link JdbcRegisteredClientRepository}, by identifier and by client identifier.
+ *
+ * <p>
+ * Each {@link RegisteredClient} is loaded once, even when several threads look it up at
+ * the same time, and is cached for the {@link #setTimeToLive(Duration) time to live}. A
+ * {@link RegisteredClient} that is saved through this repository is evicted right away,
+ * whereas changes made by other means, for example by other instances of the
+ * application, are seen once the cached {@link RegisteredClient} expires. Registered
+ * clients that are not found are not cached.
+ *
+ * @since 7.1
+ * @see RegisteredClientRepository
+ * @see RegisteredClient
+ */
+public final class CachingRegisteredClientRepository implements RegisteredClientRepository {
+
+	private final RegisteredClientRepository delegate;
+
+	private final Map<String, Entry> idEntries = new ConcurrentHashMap<>();
+
+	private final Map<String, Entry> clientIdEntries = new ConcurrentHashMap<>();
+
+	private Duration timeToLive = Duration.ofMinutes(5);
+
+	private int maxSize = 1000;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Constructs a {@code CachingRegisteredClientRepository} using the provided
+	 * parameters.
+	 * @param delegate the {@link RegisteredClientRepository} to cache
+	 */
+	public CachingRegisteredClientRepository(RegisteredClientRepository delegate) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void save(RegisteredClient registeredClient) {
+		Assert.notNull(registeredClient, "registeredClient cannot be null");
+		try {
+			this.delegate.save(registeredClient);
+		}
+		finally {
+			evict(registeredClient);
+		}
+	}
+
+	@Override
+	public @Nullable RegisteredClient findById(String id) {
+		Assert.hasText(id, "id cannot be empty");
+		return find(this.idEntries, id, this.delegate::findById);
+	}
+
+	@Override
+	public @Nullable RegisteredClient findByClientId(String clientId) {
+		Assert.hasText(clientId, "clientId cannot be empty");
+		return find(this.clientIdEntries, clientId, this.delegate::findByClientId);
+	}
+
+	/**
+	 * Evicts every cached {@link RegisteredClient}, for example after registered clients
+	 * are changed without using {@link #save(RegisteredClient)}.
+	 */
+	public void clear() {
+		this.idEntries.clear();
+		this.clientIdEntries.clear();
+	}
+
+	/**
+	 * Sets the time that a {@link RegisteredClient} is cached for. Defaults to 5 minutes.
+	 * @param timeToLive the time that a {@link RegisteredClient} is cached for
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "timeToLive cannot be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Sets the maximum number of {@link RegisteredClient}(s) cached by identifier and by
+	 * client identifier. Once reached, the entries that expire first are evicted.
+	 * Defaults to 1000.
+	 * @param maxSize the maximum number of cached {@link RegisteredClient}(s)
+	 */
+	public void setMaxSize(int maxSize) {
+		Assert.isTrue(maxSize > 0, "maxSize must be greater than 0");
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Sets the {@link Clock} used to expire cached {@link RegisteredClient}(s).
+	 * @param clock the {@link Clock}
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	private @Nullable RegisteredClient find(Map<String, Entry> entries, String key,
+			Function<String, @Nullable RegisteredClient> loader) {
+		Instant now = this.clock.instant();
+		Entry entry = entries.get(key);
+		if (entry == null || entry.isExpired(now)) {
+			Entry loading = new Entry(now.plus(this.timeToLive));
+			Entry current = (entry != null && entries.replace(key, entry, loading)) ? null
+					: entries.putIfAbsent(key, loading);
+			if (current == null) {
+				evictIfFull(entries, key, now);
+				return load(entries, key, loading, loader);
+			}
+			entry = current;
+		}
+		try {
+			return entry.registeredClient.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw ex;
+		}
+	}
+
+	private @Nullable RegisteredClient load(Map<String, Entry> entries, String key, Entry loading,
+			Function<String, @Nullable RegisteredClient> loader) {
+		RegisteredClient registeredClient;
+		try {
+			registeredClient = loader.apply(key);
+		}
+		catch (RuntimeException ex) {
+			entries.remove(key, loading);
+			loading.registeredClient.completeExceptionally(ex);
+			throw ex;
+		}
+		if (registeredClient == null) {
+			entries.remove(key, loading);
+		}
+		else if (entries.get(key) == loading) {
+			boolean byId = entries == this.idEntries;
+			Map<String, Entry> other = byId ? this.clientIdEntries : this.idEntries;
+			String otherKey = byId ? registeredClient.getClientId() : registeredClient.getId();
+			if (other.putIfAbsent(otherKey, loading) == null) {
+				evictIfFull(other, otherKey, loading.expiresAt.minus(this.timeToLive));
+			}
+		}
+		loading.registeredClient.complete(registeredClient);
+		return registeredClient;
+	}
+
+	private void evictIfFull(Map<String, Entry> entries, String key, Instant now) {
+		if (entries.size() <= this.maxSize) {
+			return;
+		}
+		entries.values().removeIf((entry) -> entry.isExpired(now));
+		while (entries.size() > this.maxSize) {
+			entries.entrySet()
+				.stream()
+				.filter((candidate) -> !candidate.getKey().equals(key))
+				.min(Comparator.comparing((candidate) -> candidate.getValue().expiresAt))
+				.ifPresent((eldest) -> entries.remove(eldest.getKey(), eldest.getValue()));
+		}
+	}
+
+	private void evict(RegisteredClient registeredClient) {
+		Entry entry = this.idEntries.remove(registeredClient.getId());
+		if (entry != null && entry.registeredClient.isDone() && !entry.registeredClient.isCompletedExceptionally()) {
+			RegisteredClient cached = entry.registeredClient.join();
+			if (cached != null) {
+				this.clientIdEntries.remove(cached.getClientId());
+			}
+		}
+		this.clientIdEntries.remove(registeredClient.getClientId());
+	}
+
+	private static final class Entry {
+
+		private final CompletableFuture<@Nullable RegisteredClient> registeredClient = new CompletableFuture<>();
+
+		private final Instant expiresAt;
+
+		private Entry(Instant expiresAt) {
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(Instant now) {
+			return !now.isBefore(this.expiresAt);
+		}
+
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.client;
+
+import java.util.Arrays;
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ReactiveRegisteredClientRepository} that stores {@link RegisteredClient}(s)
+ * in-memory.
+ *
+ * <p>
+ * <b>NOTE:</b> This implementation is recommended ONLY to be used during
+ * development/testing.
+ *
+ * @since 7.1
+ * @see ReactiveRegisteredClientRepository
+ * @see InMemoryRegisteredClientRepository
+ */
+public final class InMemoryReactiveRegisteredClientRepository implements ReactiveRegisteredClientRepository {
+
+	private final InMemoryRegisteredClientRepository delegate;
+
+	/**
+	 * Constructs an {@code InMemoryReactiveRegisteredClientRepository} using the provided
+	 * parameters.
+	 * @param registrations the client registration(s)
+	 */
+	public InMemoryReactiveRegisteredClientRepository(RegisteredClient... registrations) {
+		this(Arrays.asList(registrations));
+	}
+
+	/**
+	 * Constructs an {@code InMemoryReactiveRegisteredClientRepository} using the provided
+	 * parameters.
+	 * @param registrations the client registration(s)
+	 */
+	public InMemoryReactiveRegisteredClientRepository(List<RegisteredClient> registrations) {
+		this.delegate = new InMemoryRegisteredClientRepository(registrations);
+	}
+
+	@Override
+	public Mono<Void> save(RegisteredClient registeredClient) {
+		Assert.notNull(registeredClient, "registeredClient cannot be null");
+		return Mono.fromRunnable(() -> this.delegate.save(registeredClient));
+	}
+
+	@Override
+	public Mono<RegisteredClient> findById(String id) {
+		Assert.hasText(id, "id cannot be empty");
+		return Mono.justOrEmpty(this.delegate.findById(id));
+	}
+
+	@Override
+	public Mono<RegisteredClient> findByClientId(String clientId) {
+		Assert.hasText(clientId, "clientId cannot be empty");
+		return Mono.justOrEmpty(this.delegate.findByClientId(clientId));
+	}
+
+}
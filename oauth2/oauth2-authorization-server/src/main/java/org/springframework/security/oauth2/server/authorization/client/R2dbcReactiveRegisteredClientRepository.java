@@ -0,0 +1,411 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.client;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.security.jackson.SecurityJacksonModules;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.server.authorization.settings.ClientSettings;
+import org.springframework.security.oauth2.server.authorization.settings.ConfigurationSettingNames;
+import org.springframework.security.oauth2.server.authorization.settings.OAuth2TokenFormat;
+import org.springframework.security.oauth2.server.authorization.settings.TokenSettings;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A R2DBC implementation of a {@link ReactiveRegisteredClientRepository} that uses a
+ * {@link DatabaseClient} for {@link RegisteredClient} persistence.
+ *
+ * <p>
+ * <b>IMPORTANT:</b> This {@code ReactiveRegisteredClientRepository} depends on the table
+ * definition described in
+ * "classpath:org/springframework/security/oauth2/server/authorization/client/oauth2-registered-client-schema.sql"
+ * and therefore MUST be defined in the database schema. It stores
+ * {@link RegisteredClient}(s) in the same format as
+ * {@link JdbcRegisteredClientRepository}, so that both can share the table. Like
+ * {@link java.sql.Timestamp}, timestamps are stored as the local date and time of the
+ * default time zone of the JVM.
+ *
+ * @since 7.1
+ * @see ReactiveRegisteredClientRepository
+ * @see RegisteredClient
+ * @see DatabaseClient
+ */
+public class R2dbcReactiveRegisteredClientRepository implements ReactiveRegisteredClientRepository {
+
+	// @formatter:off
+	private static final String COLUMN_NAMES = "id, "
+			+ "client_id, "
+			+ "client_id_issued_at, "
+			+ "client_secret, "
+			+ "client_secret_expires_at, "
+			+ "client_name, "
+			+ "client_authentication_methods, "
+			+ "authorization_grant_types, "
+			+ "redirect_uris, "
+			+ "post_logout_redirect_uris, "
+			+ "scopes, "
+			+ "client_settings, "
+			+ "token_settings";
+	// @formatter:on
+
+	private static final String TABLE_NAME = "oauth2_registered_client";
+
+	private static final String LOAD_REGISTERED_CLIENT_SQL = "SELECT " + COLUMN_NAMES + " FROM " + TABLE_NAME
+			+ " WHERE ";
+
+	// @formatter:off
+	private static final String INSERT_REGISTERED_CLIENT_SQL = "INSERT INTO " + TABLE_NAME
+			+ " (" + COLUMN_NAMES + ") VALUES (:id, :clientId, :clientIdIssuedAt, :clientSecret,"
+			+ " :clientSecretExpiresAt, :clientName, :clientAuthenticationMethods, :authorizationGrantTypes,"
+			+ " :redirectUris, :postLogoutRedirectUris, :scopes, :clientSettings, :tokenSettings)";
+	// @formatter:on
+
+	// @formatter:off
+	private static final String UPDATE_REGISTERED_CLIENT_SQL = "UPDATE " + TABLE_NAME
+			+ " SET client_secret = :clientSecret, client_secret_expires_at = :clientSecretExpiresAt,"
+			+ " client_name = :clientName, client_authentication_methods = :clientAuthenticationMethods,"
+			+ " authorization_grant_types = :authorizationGrantTypes, redirect_uris = :redirectUris,"
+			+ " post_logout_redirect_uris = :postLogoutRedirectUris, scopes = :scopes,"
+			+ " client_settings = :clientSettings, token_settings = :tokenSettings"
+			+ " WHERE id = :id";
+	// @formatter:on
+
+	private static final String COUNT_REGISTERED_CLIENT_SQL = "SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE ";
+
+	private final DatabaseClient databaseClient;
+
+	private BiFunction<Row, RowMetadata, RegisteredClient> registeredClientRowMapper;
+
+	private Function<RegisteredClient, Map<String, Parameter>> registeredClientParametersMapper;
+
+	/**
+	 * Constructs a {@code R2dbcReactiveRegisteredClientRepository} using the provided
+	 * parameters.
+	 * @param databaseClient the database client
+	 */
+	public R2dbcReactiveRegisteredClientRepository(DatabaseClient databaseClient) {
+		Assert.notNull(databaseClient, "databaseClient cannot be null");
+		this.databaseClient = databaseClient;
+		this.registeredClientRowMapper = new RegisteredClientRowMapper();
+		this.registeredClientParametersMapper = new RegisteredClientParametersMapper();
+	}
+
+	@Override
+	public Mono<Void> save(RegisteredClient registeredClient) {
+		Assert.notNull(registeredClient, "registeredClient cannot be null");
+		return findBy("id = :value", registeredClient.getId())
+			.flatMap((existingRegisteredClient) -> updateRegisteredClient(registeredClient))
+			.switchIfEmpty(Mono.defer(() -> insertRegisteredClient(registeredClient)))
+			.then();
+	}
+
+	private Mono<Long> updateRegisteredClient(RegisteredClient registeredClient) {
+		Map<String, Parameter> parameters = new HashMap<>(
+				this.registeredClientParametersMapper.apply(registeredClient));
+		parameters.remove("clientId");
+		parameters.remove("clientIdIssuedAt");
+		return bind(this.databaseClient.sql(UPDATE_REGISTERED_CLIENT_SQL), parameters).fetch().rowsUpdated();
+	}
+
+	private Mono<Long> insertRegisteredClient(RegisteredClient registeredClient) {
+		Map<String, Parameter> parameters = this.registeredClientParametersMapper.apply(registeredClient);
+		GenericExecuteSpec executeSpec = bind(this.databaseClient.sql(INSERT_REGISTERED_CLIENT_SQL), parameters);
+		return assertUniqueIdentifiers(registeredClient).then(Mono.defer(() -> executeSpec.fetch().rowsUpdated()));
+	}
+
+	private Mono<Void> assertUniqueIdentifiers(RegisteredClient registeredClient) {
+		Mono<Void> clientId = count("client_id = :value", registeredClient.getClientId())
+			.filter((count) -> count > 0)
+			.flatMap((count) -> Mono.error(new IllegalArgumentException("Registered client must be unique. "
+					+ "Found duplicate client identifier: " + registeredClient.getClientId())));
+		if (!StringUtils.hasText(registeredClient.getClientSecret())) {
+			return clientId;
+		}
+		Mono<Void> clientSecret = count("client_secret = :value", registeredClient.getClientSecret())
+			.filter((count) -> count > 0)
+			.flatMap((count) -> Mono.error(new IllegalArgumentException("Registered client must be unique. "
+					+ "Found duplicate client secret for identifier: " + registeredClient.getId())));
+		return clientId.then(clientSecret);
+	}
+
+	private Mono<Long> count(String filter, String value) {
+		return this.databaseClient.sql(COUNT_REGISTERED_CLIENT_SQL + filter)
+			.bind("value", value)
+			.map((row, rowMetadata) -> row.get(0, Long.class))
+			.first();
+	}
+
+	@Override
+	public Mono<RegisteredClient> findById(String id) {
+		Assert.hasText(id, "id cannot be empty");
+		return findBy("id = :value", id);
+	}
+
+	@Override
+	public Mono<RegisteredClient> findByClientId(String clientId) {
+		Assert.hasText(clientId, "clientId cannot be empty");
+		return findBy("client_id = :value", clientId);
+	}
+
+	private Mono<RegisteredClient> findBy(String filter, String value) {
+		return this.databaseClient.sql(LOAD_REGISTERED_CLIENT_SQL + filter)
+			.bind("value", value)
+			.map(this.registeredClientRowMapper)
+			.first();
+	}
+
+	private static GenericExecuteSpec bind(GenericExecuteSpec executeSpec, Map<String, Parameter> parameters) {
+		for (Map.Entry<String, Parameter> entry : parameters.entrySet()) {
+			executeSpec = executeSpec.bind(entry.getKey(), entry.getValue());
+		}
+		return executeSpec;
+	}
+
+	/**
+	 * Sets the {@link BiFunction} used for mapping the current {@code io.r2dbc.spi.Row}
+	 * to {@link RegisteredClient}. The default is {@link RegisteredClientRowMapper}.
+	 * @param registeredClientRowMapper the {@link BiFunction} used for mapping the
+	 * current {@code io.r2dbc.spi.Row} to {@link RegisteredClient}
+	 */
+	public final void setRegisteredClientRowMapper(
+			BiFunction<Row, RowMetadata, RegisteredClient> registeredClientRowMapper) {
+		Assert.notNull(registeredClientRowMapper, "registeredClientRowMapper cannot be null");
+		this.registeredClientRowMapper = registeredClientRowMapper;
+	}
+
+	/**
+	 * Sets the {@code Function} used for mapping {@link RegisteredClient} to a
+	 * {@code Map} of {@link String} and {@link Parameter}. The default is
+	 * {@link RegisteredClientParametersMapper}.
+	 * @param registeredClientParametersMapper the {@code Function} used for mapping
+	 * {@link RegisteredClient} to a {@code Map} of {@link String} and {@link Parameter}
+	 */
+	public final void setRegisteredClientParametersMapper(
+			Function<RegisteredClient, Map<String, Parameter>> registeredClientParametersMapper) {
+		Assert.notNull(registeredClientParametersMapper, "registeredClientParametersMapper cannot be null");
+		this.registeredClientParametersMapper = registeredClientParametersMapper;
+	}
+
+	/**
+	 * The default {@link BiFunction} that maps the current {@code io.r2dbc.spi.Row} to
+	 * {@link RegisteredClient} using Jackson 3's {@link JsonMapper}.
+	 */
+	public static class RegisteredClientRowMapper implements BiFunction<Row, RowMetadata, RegisteredClient> {
+
+		private final JsonMapper jsonMapper;
+
+		public RegisteredClientRowMapper() {
+			this(createJsonMapper());
+		}
+
+		public RegisteredClientRowMapper(JsonMapper jsonMapper) {
+			Assert.notNull(jsonMapper, "jsonMapper cannot be null");
+			this.jsonMapper = jsonMapper;
+		}
+
+		@Override
+		public RegisteredClient apply(Row row, RowMetadata rowMetadata) {
+			String id = row.get("id", String.class);
+			Assert.hasText(id, "id cannot be empty");
+			LocalDateTime clientIdIssuedAt = row.get("client_id_issued_at", LocalDateTime.class);
+			LocalDateTime clientSecretExpiresAt = row.get("client_secret_expires_at", LocalDateTime.class);
+			Set<String> clientAuthenticationMethods = StringUtils
+				.commaDelimitedListToSet(row.get("client_authentication_methods", String.class));
+			Set<String> authorizationGrantTypes = StringUtils
+				.commaDelimitedListToSet(row.get("authorization_grant_types", String.class));
+			Set<String> redirectUris = StringUtils.commaDelimitedListToSet(row.get("redirect_uris", String.class));
+			Set<String> postLogoutRedirectUris = StringUtils
+				.commaDelimitedListToSet(row.get("post_logout_redirect_uris", String.class));
+			Set<String> clientScopes = StringUtils.commaDelimitedListToSet(row.get("scopes", String.class));
+
+			// @formatter:off
+			RegisteredClient.Builder builder = RegisteredClient.withId(id)
+					.clientId(row.get("client_id", String.class));
+			if (clientIdIssuedAt != null) {
+				builder.clientIdIssuedAt(clientIdIssuedAt.atZone(ZoneId.systemDefault()).toInstant());
+			}
+			builder.clientSecret(row.get("client_secret", String.class));
+			if (clientSecretExpiresAt != null) {
+				builder.clientSecretExpiresAt(clientSecretExpiresAt.atZone(ZoneId.systemDefault()).toInstant());
+			}
+			builder
+					.clientName(row.get("client_name", String.class))
+					.clientAuthenticationMethods((authenticationMethods) ->
+							clientAuthenticationMethods.forEach((authenticationMethod) ->
+									authenticationMethods.add(resolveClientAuthenticationMethod(authenticationMethod))))
+					.authorizationGrantTypes((grantTypes) ->
+							authorizationGrantTypes.forEach((grantType) ->
+									grantTypes.add(resolveAuthorizationGrantType(grantType))))
+					.redirectUris((uris) -> uris.addAll(redirectUris))
+					.postLogoutRedirectUris((uris) -> uris.addAll(postLogoutRedirectUris))
+					.scopes((scopes) -> scopes.addAll(clientScopes));
+			// @formatter:on
+
+			Map<String, Object> clientSettingsMap = parseMap(row.get("client_settings", String.class));
+			builder.clientSettings(ClientSettings.withSettings(clientSettingsMap).build());
+
+			Map<String, Object> tokenSettingsMap = parseMap(row.get("token_settings", String.class));
+			TokenSettings.Builder tokenSettingsBuilder = TokenSettings.withSettings(tokenSettingsMap);
+			if (!tokenSettingsMap.containsKey(ConfigurationSettingNames.Token.ACCESS_TOKEN_FORMAT)) {
+				tokenSettingsBuilder.accessTokenFormat(OAuth2TokenFormat.SELF_CONTAINED);
+			}
+			builder.tokenSettings(tokenSettingsBuilder.build());
+
+			return builder.build();
+		}
+
+		private Map<String, Object> parseMap(String data) {
+			try {
+				ParameterizedTypeReference<Map<String, Object>> typeReference = new ParameterizedTypeReference<>() {
+				};
+				return this.jsonMapper.readValue(data,
+						this.jsonMapper.getTypeFactory().constructType(typeReference.getType()));
+			}
+			catch (Exception ex) {
+				throw new IllegalArgumentException(ex.getMessage(), ex);
+			}
+		}
+
+		private static AuthorizationGrantType resolveAuthorizationGrantType(String authorizationGrantType) {
+			if (AuthorizationGrantType.AUTHORIZATION_CODE.getValue().equals(authorizationGrantType)) {
+				return AuthorizationGrantType.AUTHORIZATION_CODE;
+			}
+			else if (AuthorizationGrantType.CLIENT_CREDENTIALS.getValue().equals(authorizationGrantType)) {
+				return AuthorizationGrantType.CLIENT_CREDENTIALS;
+			}
+			else if (AuthorizationGrantType.REFRESH_TOKEN.getValue().equals(authorizationGrantType)) {
+				return AuthorizationGrantType.REFRESH_TOKEN;
+			}
+			// Custom authorization grant type
+			return new AuthorizationGrantType(authorizationGrantType);
+		}
+
+		private static ClientAuthenticationMethod resolveClientAuthenticationMethod(String clientAuthenticationMethod) {
+			if (ClientAuthenticationMethod.CLIENT_SECRET_BASIC.getValue().equals(clientAuthenticationMethod)) {
+				return ClientAuthenticationMethod.CLIENT_SECRET_BASIC;
+			}
+			else if (ClientAuthenticationMethod.CLIENT_SECRET_POST.getValue().equals(clientAuthenticationMethod)) {
+				return ClientAuthenticationMethod.CLIENT_SECRET_POST;
+			}
+			else if (ClientAuthenticationMethod.NONE.getValue().equals(clientAuthenticationMethod)) {
+				return ClientAuthenticationMethod.NONE;
+			}
+			// Custom client authentication method
+			return new ClientAuthenticationMethod(clientAuthenticationMethod);
+		}
+
+	}
+
+	/**
+	 * The default {@code Function} that maps {@link RegisteredClient} to a {@code Map} of
+	 * {@link String} and {@link Parameter} using Jackson 3's {@link JsonMapper}.
+	 */
+	public static class RegisteredClientParametersMapper implements Function<RegisteredClient, Map<String, Parameter>> {
+
+		private final JsonMapper jsonMapper;
+
+		public RegisteredClientParametersMapper() {
+			this(createJsonMapper());
+		}
+
+		public RegisteredClientParametersMapper(JsonMapper jsonMapper) {
+			Assert.notNull(jsonMapper, "jsonMapper cannot be null");
+			this.jsonMapper = jsonMapper;
+		}
+
+		@Override
+		public Map<String, Parameter> apply(RegisteredClient registeredClient) {
+			Instant clientIdIssuedAt = (registeredClient.getClientIdIssuedAt() != null)
+					? registeredClient.getClientIdIssuedAt() : Instant.now();
+			Instant clientSecretExpiresAt = registeredClient.getClientSecretExpiresAt();
+			Set<String> clientAuthenticationMethods = registeredClient.getClientAuthenticationMethods()
+				.stream()
+				.map(ClientAuthenticationMethod::getValue)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+			Set<String> authorizationGrantTypes = registeredClient.getAuthorizationGrantTypes()
+				.stream()
+				.map(AuthorizationGrantType::getValue)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+
+			Map<String, Parameter> parameters = new HashMap<>();
+			parameters.put("id", Parameter.from(registeredClient.getId()));
+			parameters.put("clientId", Parameter.from(registeredClient.getClientId()));
+			parameters.put("clientIdIssuedAt",
+					Parameter.from(LocalDateTime.ofInstant(clientIdIssuedAt, ZoneId.systemDefault())));
+			parameters.put("clientSecret", Parameter.fromOrEmpty(registeredClient.getClientSecret(), String.class));
+			parameters.put("clientSecretExpiresAt",
+					Parameter.fromOrEmpty((clientSecretExpiresAt != null)
+							? LocalDateTime.ofInstant(clientSecretExpiresAt, ZoneId.systemDefault()) : null,
+							LocalDateTime.class));
+			parameters.put("clientName", Parameter.from(registeredClient.getClientName()));
+			parameters.put("clientAuthenticationMethods",
+					Parameter.from(StringUtils.collectionToCommaDelimitedString(clientAuthenticationMethods)));
+			parameters.put("authorizationGrantTypes",
+					Parameter.from(StringUtils.collectionToCommaDelimitedString(authorizationGrantTypes)));
+			parameters.put("redirectUris",
+					Parameter.from(StringUtils.collectionToCommaDelimitedString(registeredClient.getRedirectUris())));
+			parameters.put("postLogoutRedirectUris", Parameter
+				.from(StringUtils.collectionToCommaDelimitedString(registeredClient.getPostLogoutRedirectUris())));
+			parameters.put("scopes",
+					Parameter.from(StringUtils.collectionToCommaDelimitedString(registeredClient.getScopes())));
+			parameters.put("clientSettings",
+					Parameter.from(writeMap(registeredClient.getClientSettings().getSettings())));
+			parameters.put("tokenSettings",
+					Parameter.from(writeMap(registeredClient.getTokenSettings().getSettings())));
+			return parameters;
+		}
+
+		private String writeMap(Map<String, Object> data) {
+			try {
+				return this.jsonMapper.writeValueAsString(data);
+			}
+			catch (Exception ex) {
+				throw new IllegalArgumentException(ex.getMessage(), ex);
+			}
+		}
+
+	}
+
+	private static JsonMapper createJsonMapper() {
+		List<JacksonModule> modules = SecurityJacksonModules
+			.getModules(R2dbcReactiveRegisteredClientRepository.class.getClassLoader());
+		return JsonMapper.builder().addModules(modules).build();
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.client;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A reactive repository for OAuth 2.0 {@link RegisteredClient}(s).
+ *
+ * @since 7.1
+ * @see RegisteredClient
+ * @see RegisteredClientRepository
+ */
+public interface ReactiveRegisteredClientRepository {
+
+	/**
+	 * Saves the registered client.
+	 *
+	 * <p>
+	 * IMPORTANT: Sensitive information should be encoded externally from the
+	 * implementation, e.g. {@link RegisteredClient#getClientSecret()}
+	 * @param registeredClient the {@link RegisteredClient}
+	 * @return a {@code Mono} that completes when the {@link RegisteredClient} is saved
+	 */
+	Mono<Void> save(RegisteredClient registeredClient);
+
+	/**
+	 * Returns the registered client identified by the provided {@code id}, or an empty
+	 * {@code Mono} if not found.
+	 * @param id the registration identifier
+	 * @return the {@link RegisteredClient} if found, otherwise an empty {@code Mono}
+	 */
+	Mono<RegisteredClient> findById(String id);
+
+	/**
+	 * Returns the registered client identified by the provided {@code clientId}, or an
+	 * empty {@code Mono} if not found.
+	 * @param clientId the client identifier
+	 * @return the {@link RegisteredClient} if found, otherwise an empty {@code Mono}
+	 */
+	Mono<RegisteredClient> findByClientId(String clientId);
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.context;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A holder of the {@link AuthorizationServerContext} that associates it with the current
+ * subscription using the Reactor {@code Context}.
+ *
+ * @since 7.1
+ * @see AuthorizationServerContext
+ * @see AuthorizationServerContextHolder
+ */
+public final class ReactiveAuthorizationServerContextHolder {
+
+	private static final Class<?> AUTHORIZATION_SERVER_CONTEXT_KEY = AuthorizationServerContext.class;
+
+	private ReactiveAuthorizationServerContextHolder() {
+	}
+
+	/**
+	 * Returns the {@link AuthorizationServerContext} from the Reactor {@code Context}, or
+	 * an empty {@code Mono} if not available.
+	 * @return the {@link AuthorizationServerContext}
+	 */
+	public static Mono<AuthorizationServerContext> getContext() {
+		return Mono.deferContextual((context) -> Mono
+			.justOrEmpty(context.<AuthorizationServerContext>getOrEmpty(AUTHORIZATION_SERVER_CONTEXT_KEY)));
+	}
+
+	/**
+	 * Creates a Reactor {@code Context} that contains the
+	 * {@link AuthorizationServerContext} and that can be merged into another
+	 * {@code Context}.
+	 * @param authorizationServerContext the {@link AuthorizationServerContext}
+	 * @return a Reactor {@code Context} that contains the
+	 * {@link AuthorizationServerContext}
+	 */
+	public static reactor.util.context.Context withContext(AuthorizationServerContext authorizationServerContext) {
+		return reactor.util.context.Context.of(AUTHORIZATION_SERVER_CONTEXT_KEY, authorizationServerContext);
+	}
+
+}
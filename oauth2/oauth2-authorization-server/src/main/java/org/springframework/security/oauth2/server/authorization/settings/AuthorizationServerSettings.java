@@ -161,6 +161,26 @@ public final class AuthorizationServerSettings extends AbstractSettings {
 		return tokenIntrospectionEndpoint;
 	}
 
+	/**
+	 * Returns the endpoint that introspects a batch of tokens with a single request, or
+	 * {@code null} if the endpoint is disabled. The default is {@code null}.
+	 * @return the Token Introspection batch endpoint, or {@code null} if disabled
+	 * @since 7.1
+	 */
+	public @Nullable String getTokenIntrospectionBatchEndpoint() {
+		return getSetting(ConfigurationSettingNames.AuthorizationServer.TOKEN_INTROSPECTION_BATCH_ENDPOINT);
+	}
+
+	/**
+	 * Returns the endpoint that revokes a batch of tokens with a single request, or
+	 * {@code null} if the endpoint is disabled. The default is {@code null}.
+	 * @return the Token Revocation batch endpoint, or {@code null} if disabled
+	 * @since 7.1
+	 */
+	public @Nullable String getTokenRevocationBatchEndpoint() {
+		return getSetting(ConfigurationSettingNames.AuthorizationServer.TOKEN_REVOCATION_BATCH_ENDPOINT);
+	}
+
 	/**
 	 * Returns the OAuth 2.0 Dynamic Client Registration endpoint. The default is
 	 * {@code /oauth2/register}.
@@ -359,6 +379,32 @@ public final class AuthorizationServerSettings extends AbstractSettings {
 					tokenIntrospectionEndpoint);
 		}
 
+		/**
+		 * Sets the endpoint that introspects a batch of tokens with a single request,
+		 * which enables it. For example, {@code /oauth2/batch/introspect}. The endpoint
+		 * must not contain the Token Introspection endpoint.
+		 * @param tokenIntrospectionBatchEndpoint the Token Introspection batch endpoint
+		 * @return the {@link Builder} for further configuration
+		 * @since 7.1
+		 */
+		public Builder tokenIntrospectionBatchEndpoint(String tokenIntrospectionBatchEndpoint) {
+			return setting(ConfigurationSettingNames.AuthorizationServer.TOKEN_INTROSPECTION_BATCH_ENDPOINT,
+					tokenIntrospectionBatchEndpoint);
+		}
+
+		/**
+		 * Sets the endpoint that revokes a batch of tokens with a single request, which
+		 * enables it. For example, {@code /oauth2/batch/revoke}. The endpoint must not
+		 * contain the Token Revocation endpoint.
+		 * @param tokenRevocationBatchEndpoint the Token Revocation batch endpoint
+		 * @return the {@link Builder} for further configuration
+		 * @since 7.1
+		 */
+		public Builder tokenRevocationBatchEndpoint(String tokenRevocationBatchEndpoint) {
+			return setting(ConfigurationSettingNames.AuthorizationServer.TOKEN_REVOCATION_BATCH_ENDPOINT,
+					tokenRevocationBatchEndpoint);
+		}
+
 		/**
 		 * Sets the OAuth 2.0 Dynamic Client Registration endpoint.
 		 * @param clientRegistrationEndpoint the OAuth 2.0 Dynamic Client Registration
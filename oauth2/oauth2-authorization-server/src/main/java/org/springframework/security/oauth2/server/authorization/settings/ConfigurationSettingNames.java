@@ -149,6 +149,20 @@ public final class ConfigurationSettingNames {
 		public static final String TOKEN_INTROSPECTION_ENDPOINT = AUTHORIZATION_SERVER_SETTINGS_NAMESPACE
 			.concat("token-introspection-endpoint");
 
+		/**
+		 * Set the endpoint that introspects a batch of tokens with a single request.
+		 * @since 7.1
+		 */
+		public static final String TOKEN_INTROSPECTION_BATCH_ENDPOINT = AUTHORIZATION_SERVER_SETTINGS_NAMESPACE
+			.concat("token-introspection-batch-endpoint");
+
+		/**
+		 * Set the endpoint that revokes a batch of tokens with a single request.
+		 * @since 7.1
+		 */
+		public static final String TOKEN_REVOCATION_BATCH_ENDPOINT = AUTHORIZATION_SERVER_SETTINGS_NAMESPACE
+			.concat("token-revocation-batch-endpoint");
+
 		/**
 		 * Set the OAuth 2.0 Dynamic Client Registration endpoint.
 		 */
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenIntrospection;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenIntrospectionBatchAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenIntrospectionBatchAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.http.converter.OAuth2TokenIntrospectionHttpMessageConverter;
+import org.springframework.security.oauth2.server.authorization.web.authentication.OAuth2ErrorAuthenticationFailureHandler;
+import org.springframework.security.oauth2.server.authorization.web.authentication.OAuth2TokenIntrospectionBatchAuthenticationConverter;
+import org.springframework.security.web.authentication.AuthenticationConverter;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * A {@code Filter} for an endpoint that introspects a batch of tokens with a single
+ * request.
+ *
+ * <p>
+ * The client is authenticated once per request, and the {@code token} parameter is
+ * repeated once per token to be introspected. The response is a JSON array that contains
+ * one Introspection Response per token, in the order of the {@code token} parameters. The
+ * array is written one element at a time, so that it does not need to be buffered.
+ *
+ * @since 7.1
+ * @see OAuth2TokenIntrospectionBatchAuthenticationProvider
+ * @see OAuth2TokenIntrospectionEndpointFilter
+ * @see <a target="_blank" href="https://tools.ietf.org/html/rfc7662#section-2.2">Section
+ * 2.2 Introspection Response</a>
+ */
+public final class OAuth2TokenIntrospectionBatchEndpointFilter extends OncePerRequestFilter {
+
+	/**
+	 * The default endpoint {@code URI} for token introspection batch requests.
+	 */
+	private static final String DEFAULT_TOKEN_INTROSPECTION_BATCH_ENDPOINT_URI = "/oauth2/batch/introspect";
+
+	private final AuthenticationManager authenticationManager;
+
+	private final RequestMatcher tokenIntrospectionBatchEndpointMatcher;
+
+	private AuthenticationConverter authenticationConverter;
+
+	private final HttpMessageConverter<OAuth2TokenIntrospection> tokenIntrospectionHttpResponseConverter = new OAuth2TokenIntrospectionHttpMessageConverter();
+
+	private AuthenticationSuccessHandler authenticationSuccessHandler = this::sendIntrospectionResponse;
+
+	private AuthenticationFailureHandler authenticationFailureHandler = new OAuth2ErrorAuthenticationFailureHandler();
+
+	/**
+	 * Constructs an {@code OAuth2TokenIntrospectionBatchEndpointFilter} using the
+	 * provided parameters.
+	 * @param authenticationManager the authentication manager
+	 */
+	public OAuth2TokenIntrospectionBatchEndpointFilter(AuthenticationManager authenticationManager) {
+		this(authenticationManager, DEFAULT_TOKEN_INTROSPECTION_BATCH_ENDPOINT_URI);
+	}
+
+	/**
+	 * Constructs an {@code OAuth2TokenIntrospectionBatchEndpointFilter} using the
+	 * provided parameters.
+	 * @param authenticationManager the authentication manager
+	 * @param tokenIntrospectionBatchEndpointUri the endpoint {@code URI} for token
+	 * introspection batch requests
+	 */
+	public OAuth2TokenIntrospectionBatchEndpointFilter(AuthenticationManager authenticationManager,
+			String tokenIntrospectionBatchEndpointUri) {
+		Assert.notNull(authenticationManager, "authenticationManager cannot be null");
+		Assert.hasText(tokenIntrospectionBatchEndpointUri, "tokenIntrospectionBatchEndpointUri cannot be empty");
+		this.authenticationManager = authenticationManager;
+		this.tokenIntrospectionBatchEndpointMatcher = PathPatternRequestMatcher.withDefaults()
+			.matcher(HttpMethod.POST, tokenIntrospectionBatchEndpointUri);
+		this.authenticationConverter = new OAuth2TokenIntrospectionBatchAuthenticationConverter();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+
+		if (!this.tokenIntrospectionBatchEndpointMatcher.matches(request)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		try {
+			Authentication tokenIntrospectionAuthentication = this.authenticationConverter.convert(request);
+			Assert.notNull(tokenIntrospectionAuthentication, "tokenIntrospectionAuthentication cannot be null");
+			Authentication tokenIntrospectionAuthenticationResult = this.authenticationManager
+				.authenticate(tokenIntrospectionAuthentication);
+			this.authenticationSuccessHandler.onAuthenticationSuccess(request, response,
+					tokenIntrospectionAuthenticationResult);
+		}
+		catch (OAuth2AuthenticationException ex) {
+			SecurityContextHolder.clearContext();
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace(LogMessage.format("Token introspection batch request failed: %s", ex.getError()), ex);
+			}
+			this.authenticationFailureHandler.onAuthenticationFailure(request, response, ex);
+		}
+	}
+
+	/**
+	 * Sets the {@link AuthenticationConverter} used when attempting to extract an
+	 * Introspection Request for a batch of tokens from {@link HttpServletRequest} to an
+	 * instance of {@link OAuth2TokenIntrospectionBatchAuthenticationToken} used for
+	 * authenticating the request.
+	 * @param authenticationConverter the {@link AuthenticationConverter} used when
+	 * attempting to extract an Introspection Request from {@link HttpServletRequest}
+	 */
+	public void setAuthenticationConverter(AuthenticationConverter authenticationConverter) {
+		Assert.notNull(authenticationConverter, "authenticationConverter cannot be null");
+		this.authenticationConverter = authenticationConverter;
+	}
+
+	/**
+	 * Sets the {@link AuthenticationSuccessHandler} used for handling an
+	 * {@link OAuth2TokenIntrospectionBatchAuthenticationToken}.
+	 * @param authenticationSuccessHandler the {@link AuthenticationSuccessHandler} used
+	 * for handling an {@link OAuth2TokenIntrospectionBatchAuthenticationToken}
+	 */
+	public void setAuthenticationSuccessHandler(AuthenticationSuccessHandler authenticationSuccessHandler) {
+		Assert.notNull(authenticationSuccessHandler, "authenticationSuccessHandler cannot be null");
+		this.authenticationSuccessHandler = authenticationSuccessHandler;
+	}
+
+	/**
+	 * Sets the {@link AuthenticationFailureHandler} used for handling an
+	 * {@link OAuth2AuthenticationException} and returning the {@link OAuth2Error Error
+	 * Resonse}.
+	 * @param authenticationFailureHandler the {@link AuthenticationFailureHandler} used
+	 * for handling an {@link OAuth2AuthenticationException}
+	 */
+	public void setAuthenticationFailureHandler(AuthenticationFailureHandler authenticationFailureHandler) {
+		Assert.notNull(authenticationFailureHandler, "authenticationFailureHandler cannot be null");
+		this.authenticationFailureHandler = authenticationFailureHandler;
+	}
+
+	private void sendIntrospectionResponse(HttpServletRequest request, HttpServletResponse response,
+			Authentication authentication) throws IOException {
+
+		OAuth2TokenIntrospectionBatchAuthenticationToken tokenIntrospectionAuthentication = (OAuth2TokenIntrospectionBatchAuthenticationToken) authentication;
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		OutputStream body = response.getOutputStream();
+		body.write('[');
+		boolean first = true;
+		for (OAuth2TokenIntrospection tokenClaims : tokenIntrospectionAuthentication.getTokenClaims()) {
+			if (!first) {
+				body.write(',');
+			}
+			this.tokenIntrospectionHttpResponseConverter.write(tokenClaims, MediaType.APPLICATION_JSON,
+					new ElementOutputMessage(body));
+			first = false;
+		}
+		body.write(']');
+		body.flush();
+	}
+
+	/**
+	 * An {@link HttpOutputMessage} for a single element of the response array, which
+	 * leaves the response body open after the element is written.
+	 */
+	private static final class ElementOutputMessage implements HttpOutputMessage {
+
+		private final HttpHeaders headers = new HttpHeaders();
+
+		private final OutputStream body;
+
+		private ElementOutputMessage(OutputStream body) {
+			this.body = StreamUtils.nonClosing(body);
+		}
+
+		@Override
+		public OutputStream getBody() {
+			return this.body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationDetailsSource;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationBatchAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationBatchAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.web.authentication.OAuth2ErrorAuthenticationFailureHandler;
+import org.springframework.security.oauth2.server.authorization.web.authentication.OAuth2TokenRevocationBatchAuthenticationConverter;
+import org.springframework.security.web.authentication.AuthenticationConverter;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * A {@code Filter} for an endpoint that revokes a batch of tokens with a single request.
+ *
+ * <p>
+ * The client is authenticated once per request, and the {@code token} parameter is
+ * repeated once per token to be revoked. As with the OAuth 2.0 Token Revocation endpoint,
+ * a successful response is returned for tokens that are not found.
+ *
+ * @since 7.1
+ * @see OAuth2TokenRevocationBatchAuthenticationProvider
+ * @see OAuth2TokenRevocationEndpointFilter
+ * @see <a target="_blank" href="https://tools.ietf.org/html/rfc7009#section-2">Section 2
+ * Token Revocation</a>
+ */
+public final class OAuth2TokenRevocationBatchEndpointFilter extends OncePerRequestFilter {
+
+	/**
+	 * The default endpoint {@code URI} for token revocation batch requests.
+	 */
+	private static final String DEFAULT_TOKEN_REVOCATION_BATCH_ENDPOINT_URI = "/oauth2/batch/revoke";
+
+	private final AuthenticationManager authenticationManager;
+
+	private final RequestMatcher tokenRevocationEndpointMatcher;
+
+	private AuthenticationDetailsSource<HttpServletRequest, ?> authenticationDetailsSource = new WebAuthenticationDetailsSource();
+
+	private AuthenticationConverter authenticationConverter;
+
+	private AuthenticationSuccessHandler authenticationSuccessHandler = this::sendRevocationSuccessResponse;
+
+	private AuthenticationFailureHandler authenticationFailureHandler = new OAuth2ErrorAuthenticationFailureHandler();
+
+	/**
+	 * Constructs an {@code OAuth2TokenRevocationBatchEndpointFilter} using the provided
+	 * parameters.
+	 * @param authenticationManager the authentication manager
+	 */
+	public OAuth2TokenRevocationBatchEndpointFilter(AuthenticationManager authenticationManager) {
+		this(authenticationManager, DEFAULT_TOKEN_REVOCATION_BATCH_ENDPOINT_URI);
+	}
+
+	/**
+	 * Constructs an {@code OAuth2TokenRevocationBatchEndpointFilter} using the provided
+	 * parameters.
+	 * @param authenticationManager the authentication manager
+	 * @param tokenRevocationBatchEndpointUri the endpoint {@code URI} for token
+	 * revocation batch requests
+	 */
+	public OAuth2TokenRevocationBatchEndpointFilter(AuthenticationManager authenticationManager,
+			String tokenRevocationBatchEndpointUri) {
+		Assert.notNull(authenticationManager, "authenticationManager cannot be null");
+		Assert.hasText(tokenRevocationBatchEndpointUri, "tokenRevocationBatchEndpointUri cannot be empty");
+		this.authenticationManager = authenticationManager;
+		this.tokenRevocationEndpointMatcher = PathPatternRequestMatcher.withDefaults()
+			.matcher(HttpMethod.POST, tokenRevocationBatchEndpointUri);
+		this.authenticationConverter = new OAuth2TokenRevocationBatchAuthenticationConverter();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+
+		if (!this.tokenRevocationEndpointMatcher.matches(request)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		try {
+			Authentication tokenRevocationAuthentication = this.authenticationConverter.convert(request);
+			Assert.notNull(tokenRevocationAuthentication, "tokenRevocationAuthentication cannot be null");
+			if (tokenRevocationAuthentication instanceof AbstractAuthenticationToken authenticationToken) {
+				authenticationToken.setDetails(this.authenticationDetailsSource.buildDetails(request));
+			}
+
+			Authentication tokenRevocationAuthenticationResult = this.authenticationManager
+				.authenticate(tokenRevocationAuthentication);
+			this.authenticationSuccessHandler.onAuthenticationSuccess(request, response,
+					tokenRevocationAuthenticationResult);
+		}
+		catch (OAuth2AuthenticationException ex) {
+			SecurityContextHolder.clearContext();
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace(LogMessage.format("Token revocation batch request failed: %s", ex.getError()), ex);
+			}
+			this.authenticationFailureHandler.onAuthenticationFailure(request, response, ex);
+		}
+	}
+
+	/**
+	 * Sets the {@link AuthenticationDetailsSource} used for building an authentication
+	 * details instance from {@link HttpServletRequest}.
+	 * @param authenticationDetailsSource the {@link AuthenticationDetailsSource} used for
+	 * building an authentication details instance from {@link HttpServletRequest}
+	 */
+	public void setAuthenticationDetailsSource(
+			AuthenticationDetailsSource<HttpServletRequest, ?> authenticationDetailsSource) {
+		Assert.notNull(authenticationDetailsSource, "authenticationDetailsSource cannot be null");
+		this.authenticationDetailsSource = authenticationDetailsSource;
+	}
+
+	/**
+	 * Sets the {@link AuthenticationConverter} used when attempting to extract a Revoke
+	 * Token Request for a batch of tokens from {@link HttpServletRequest} to an instance
+	 * of {@link OAuth2TokenRevocationBatchAuthenticationToken} used for authenticating
+	 * the request.
+	 * @param authenticationConverter the {@link AuthenticationConverter} used when
+	 * attempting to extract a Revoke Token Request from {@link HttpServletRequest}
+	 */
+	public void setAuthenticationConverter(AuthenticationConverter authenticationConverter) {
+		Assert.notNull(authenticationConverter, "authenticationConverter cannot be null");
+		this.authenticationConverter = authenticationConverter;
+	}
+
+	/**
+	 * Sets the {@link AuthenticationSuccessHandler} used for handling an
+	 * {@link OAuth2TokenRevocationBatchAuthenticationToken}.
+	 * @param authenticationSuccessHandler the {@link AuthenticationSuccessHandler} used
+	 * for handling an {@link OAuth2TokenRevocationBatchAuthenticationToken}
+	 */
+	public void setAuthenticationSuccessHandler(AuthenticationSuccessHandler authenticationSuccessHandler) {
+		Assert.notNull(authenticationSuccessHandler, "authenticationSuccessHandler cannot be null");
+		this.authenticationSuccessHandler = authenticationSuccessHandler;
+	}
+
+	/**
+	 * Sets the {@link AuthenticationFailureHandler} used for handling an
+	 * {@link OAuth2AuthenticationException} and returning the {@link OAuth2Error Error
+	 * Response}.
+	 * @param authenticationFailureHandler the {@link AuthenticationFailureHandler} used
+	 * for handling an {@link OAuth2AuthenticationException}
+	 */
+	public void setAuthenticationFailureHandler(AuthenticationFailureHandler authenticationFailureHandler) {
+		Assert.notNull(authenticationFailureHandler, "authenticationFailureHandler cannot be null");
+		this.authenticationFailureHandler = authenticationFailureHandler;
+	}
+
+	private void sendRevocationSuccessResponse(HttpServletRequest request, HttpServletResponse response,
+			Authentication authentication) {
+		response.setStatus(HttpStatus.OK.value());
+	}
+
+}
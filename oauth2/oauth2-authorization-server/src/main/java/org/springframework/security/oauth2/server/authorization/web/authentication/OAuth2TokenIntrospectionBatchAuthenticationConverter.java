@@ -0,0 +1,98 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web.authentication;
+
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenIntrospectionBatchAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.web.OAuth2TokenIntrospectionBatchEndpointFilter;
+import org.springframework.security.web.authentication.AuthenticationConverter;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Attempts to extract an Introspection Request for a batch of tokens from
+ * {@link HttpServletRequest} and then converts it to an
+ * {@link OAuth2TokenIntrospectionBatchAuthenticationToken} used for authenticating the
+ * request.
+ *
+ * <p>
+ * The request has the same parameters as a single token request, except that the
+ * {@code token} parameter is repeated once per token to be introspected.
+ *
+ * @since 7.1
+ * @see AuthenticationConverter
+ * @see OAuth2TokenIntrospectionBatchAuthenticationToken
+ * @see OAuth2TokenIntrospectionBatchEndpointFilter
+ */
+public final class OAuth2TokenIntrospectionBatchAuthenticationConverter implements AuthenticationConverter {
+
+	private int maxTokens = 100;
+
+	@Override
+	public @Nullable Authentication convert(HttpServletRequest request) {
+		MultiValueMap<String, String> parameters = OAuth2EndpointUtils.getFormParameters(request);
+
+		// token (REQUIRED, one or more)
+		List<String> tokens = parameters.get(OAuth2ParameterNames.TOKEN);
+		if (tokens == null || tokens.isEmpty() || tokens.size() > this.maxTokens
+				|| !tokens.stream().allMatch(StringUtils::hasText)) {
+			throwError(OAuth2ErrorCodes.INVALID_REQUEST, OAuth2ParameterNames.TOKEN);
+		}
+		Assert.notNull(tokens, "tokens cannot be null");
+
+		// token_type_hint (OPTIONAL)
+		String tokenTypeHint = parameters.getFirst(OAuth2ParameterNames.TOKEN_TYPE_HINT);
+		List<String> tokenTypeHintParams = parameters.get(OAuth2ParameterNames.TOKEN_TYPE_HINT);
+		if (StringUtils.hasText(tokenTypeHint) && tokenTypeHintParams != null && tokenTypeHintParams.size() != 1) {
+			throwError(OAuth2ErrorCodes.INVALID_REQUEST, OAuth2ParameterNames.TOKEN_TYPE_HINT);
+		}
+
+		Authentication clientPrincipal = SecurityContextHolder.getContext().getAuthentication();
+		Assert.notNull(clientPrincipal, "clientPrincipal cannot be null");
+
+		return new OAuth2TokenIntrospectionBatchAuthenticationToken(tokens, clientPrincipal, tokenTypeHint);
+	}
+
+	/**
+	 * Sets the maximum number of tokens accepted in a single request. Requests with more
+	 * tokens are rejected with {@link OAuth2ErrorCodes#INVALID_REQUEST}. The default is
+	 * 100.
+	 * @param maxTokens the maximum number of tokens per request
+	 */
+	public void setMaxTokens(int maxTokens) {
+		Assert.isTrue(maxTokens > 0, "maxTokens must be greater than 0");
+		this.maxTokens = maxTokens;
+	}
+
+	private static void throwError(String errorCode, String parameterName) {
+		OAuth2Error error = new OAuth2Error(errorCode, "OAuth 2.0 Token Introspection Parameter: " + parameterName,
+				"https://datatracker.ietf.org/doc/html/rfc7662#section-2.1");
+		throw new OAuth2AuthenticationException(error);
+	}
+
+}
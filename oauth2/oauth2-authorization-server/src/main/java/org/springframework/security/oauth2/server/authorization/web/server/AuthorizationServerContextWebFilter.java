@@ -0,0 +1,145 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContext;
+import org.springframework.security.oauth2.server.authorization.context.ReactiveAuthorizationServerContextHolder;
+import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * A {@code WebFilter} that associates the {@link AuthorizationServerContext} with the
+ * Reactor {@code Context} of the request, so that it is available from the
+ * {@link ReactiveAuthorizationServerContextHolder}.
+ *
+ * <p>
+ * The issuer is the one configured in the {@link AuthorizationServerSettings} or, when
+ * none is configured, is resolved from the request as done for servlet applications.
+ *
+ * @since 7.1
+ * @see AuthorizationServerContext
+ * @see ReactiveAuthorizationServerContextHolder
+ * @see AuthorizationServerSettings
+ */
+public final class AuthorizationServerContextWebFilter implements WebFilter {
+
+	private final AuthorizationServerSettings authorizationServerSettings;
+
+	private final @Nullable String issuer;
+
+	private final Set<String> endpointUris;
+
+	/**
+	 * Constructs an {@code AuthorizationServerContextWebFilter} using the provided
+	 * parameters.
+	 * @param authorizationServerSettings the {@link AuthorizationServerSettings}
+	 */
+	public AuthorizationServerContextWebFilter(AuthorizationServerSettings authorizationServerSettings) {
+		Assert.notNull(authorizationServerSettings, "authorizationServerSettings cannot be null");
+		this.authorizationServerSettings = authorizationServerSettings;
+		this.issuer = authorizationServerSettings.getIssuer();
+		if (this.issuer != null) {
+			this.endpointUris = Collections.emptySet();
+		}
+		else {
+			this.endpointUris = new HashSet<>();
+			this.endpointUris.add("/.well-known/oauth-authorization-server");
+			this.endpointUris.add("/.well-known/openid-configuration");
+			for (Map.Entry<String, Object> setting : authorizationServerSettings.getSettings().entrySet()) {
+				if (setting.getKey().endsWith("-endpoint")) {
+					this.endpointUris.add((String) setting.getValue());
+				}
+			}
+		}
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		AuthorizationServerContext authorizationServerContext = new DefaultAuthorizationServerContext(
+				resolveIssuer(exchange.getRequest()), this.authorizationServerSettings);
+		return chain.filter(exchange)
+			.contextWrite(ReactiveAuthorizationServerContextHolder.withContext(authorizationServerContext));
+	}
+
+	private String resolveIssuer(ServerHttpRequest request) {
+		if (this.issuer != null) {
+			return this.issuer;
+		}
+
+		// Resolve Issuer Identifier dynamically from request
+		String path = request.getPath().value();
+		if (!StringUtils.hasText(path)) {
+			path = "";
+		}
+		else {
+			for (String endpointUri : this.endpointUris) {
+				if (path.contains(endpointUri)) {
+					path = path.replace(endpointUri, "");
+					break;
+				}
+			}
+		}
+
+		// @formatter:off
+		return UriComponentsBuilder.fromUri(request.getURI())
+				.replacePath(path)
+				.replaceQuery(null)
+				.fragment(null)
+				.build()
+				.toUriString();
+		// @formatter:on
+	}
+
+	private static final class DefaultAuthorizationServerContext implements AuthorizationServerContext {
+
+		private final String issuer;
+
+		private final AuthorizationServerSettings authorizationServerSettings;
+
+		private DefaultAuthorizationServerContext(String issuer,
+				AuthorizationServerSettings authorizationServerSettings) {
+			this.issuer = issuer;
+			this.authorizationServerSettings = authorizationServerSettings;
+		}
+
+		@Override
+		public String getIssuer() {
+			return this.issuer;
+		}
+
+		@Override
+		public AuthorizationServerSettings getAuthorizationServerSettings() {
+			return this.authorizationServerSettings;
+		}
+
+	}
+
+}
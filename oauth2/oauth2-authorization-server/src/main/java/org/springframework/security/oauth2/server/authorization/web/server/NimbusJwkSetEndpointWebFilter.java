@@ -0,0 +1,131 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import java.nio.charset.StandardCharsets;
+
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.util.Assert;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * A {@code WebFilter} that processes JWK Set requests.
+ *
+ * <p>
+ * The {@code com.nimbusds.jose.jwk.source.JWKSource} may block, for example when it
+ * retrieves the JWK Set from a remote location, and is therefore called on the
+ * {@link #setScheduler(Scheduler) scheduler}.
+ *
+ * @since 7.1
+ * @see com.nimbusds.jose.jwk.source.JWKSource
+ * @see org.springframework.security.oauth2.server.authorization.web.NimbusJwkSetEndpointFilter
+ * @see <a target="_blank" href="https://tools.ietf.org/html/rfc7517">JSON Web Key
+ * (JWK)</a>
+ * @see <a target="_blank" href="https://tools.ietf.org/html/rfc7517#section-5">Section 5
+ * JWK Set Format</a>
+ */
+public final class NimbusJwkSetEndpointWebFilter implements WebFilter {
+
+	/**
+	 * The default endpoint {@code URI} for JWK Set requests.
+	 */
+	private static final String DEFAULT_JWK_SET_ENDPOINT_URI = "/oauth2/jwks";
+
+	private final JWKSource<SecurityContext> jwkSource;
+
+	private final JWKSelector jwkSelector;
+
+	private final ServerWebExchangeMatcher requestMatcher;
+
+	private Scheduler scheduler = Schedulers.boundedElastic();
+
+	/**
+	 * Constructs a {@code NimbusJwkSetEndpointWebFilter} using the provided parameters.
+	 * @param jwkSource the {@code com.nimbusds.jose.jwk.source.JWKSource}
+	 */
+	public NimbusJwkSetEndpointWebFilter(JWKSource<SecurityContext> jwkSource) {
+		this(jwkSource, DEFAULT_JWK_SET_ENDPOINT_URI);
+	}
+
+	/**
+	 * Constructs a {@code NimbusJwkSetEndpointWebFilter} using the provided parameters.
+	 * @param jwkSource the {@code com.nimbusds.jose.jwk.source.JWKSource}
+	 * @param jwkSetEndpointUri the endpoint {@code URI} for JWK Set requests
+	 */
+	public NimbusJwkSetEndpointWebFilter(JWKSource<SecurityContext> jwkSource, String jwkSetEndpointUri) {
+		Assert.notNull(jwkSource, "jwkSource cannot be null");
+		Assert.hasText(jwkSetEndpointUri, "jwkSetEndpointUri cannot be empty");
+		this.jwkSource = jwkSource;
+		this.jwkSelector = new JWKSelector(new JWKMatcher.Builder().build());
+		this.requestMatcher = ServerWebExchangeMatchers.pathMatchers(HttpMethod.GET, jwkSetEndpointUri);
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		// @formatter:off
+		return this.requestMatcher.matches(exchange)
+				.filter(ServerWebExchangeMatcher.MatchResult::isMatch)
+				.switchIfEmpty(chain.filter(exchange).then(Mono.empty()))
+				.flatMap((matchResult) -> Mono.fromCallable(this::getJwkSet).subscribeOn(this.scheduler))
+				.flatMap((jwkSet) -> write(exchange.getResponse(), jwkSet));
+		// @formatter:on
+	}
+
+	/**
+	 * Sets the {@link Scheduler} used to select the JWK(s) from the
+	 * {@code com.nimbusds.jose.jwk.source.JWKSource}. Defaults to
+	 * {@link Schedulers#boundedElastic()}.
+	 * @param scheduler the {@link Scheduler}
+	 */
+	public void setScheduler(Scheduler scheduler) {
+		Assert.notNull(scheduler, "scheduler cannot be null");
+		this.scheduler = scheduler;
+	}
+
+	private JWKSet getJwkSet() {
+		try {
+			return new JWKSet(this.jwkSource.get(this.jwkSelector, null));
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException("Failed to select the JWK(s) -> " + ex.getMessage(), ex);
+		}
+	}
+
+	private static Mono<Void> write(ServerHttpResponse response, JWKSet jwkSet) {
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		// toString() excludes private keys
+		DataBuffer buffer = response.bufferFactory().wrap(jwkSet.toString().getBytes(StandardCharsets.UTF_8));
+		return response.writeWith(Mono.just(buffer));
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.authorization.authentication.ClientSecretReactiveAuthenticationManager;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.DelegatingServerAuthenticationConverter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationFailureHandler;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.util.Assert;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * A {@code WebFilter} that processes an authentication request for an OAuth 2.0 Client.
+ *
+ * <p>
+ * On success, the authenticated {@link OAuth2ClientAuthenticationToken} is made
+ * available to the rest of the {@code WebFilterChain} through the
+ * {@link ReactiveSecurityContextHolder}. By default, the client credentials are
+ * extracted with {@link ClientSecretBasicServerAuthenticationConverter} and
+ * {@link ClientSecretPostServerAuthenticationConverter}.
+ *
+ * @since 7.1
+ * @see ReactiveAuthenticationManager
+ * @see ClientSecretReactiveAuthenticationManager
+ * @see ClientSecretBasicServerAuthenticationConverter
+ * @see ClientSecretPostServerAuthenticationConverter
+ * @see <a target="_blank" href=
+ * "https://datatracker.ietf.org/doc/html/rfc6749#section-2.3">Section 2.3 Client
+ * Authentication</a>
+ */
+public final class OAuth2ClientAuthenticationWebFilter implements WebFilter {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ReactiveAuthenticationManager authenticationManager;
+
+	private final ServerWebExchangeMatcher requestMatcher;
+
+	private ServerAuthenticationConverter authenticationConverter = new DelegatingServerAuthenticationConverter(
+			new ClientSecretBasicServerAuthenticationConverter(), new ClientSecretPostServerAuthenticationConverter());
+
+	private ServerAuthenticationFailureHandler authenticationFailureHandler = this::onAuthenticationFailure;
+
+	/**
+	 * Constructs an {@code OAuth2ClientAuthenticationWebFilter} using the provided
+	 * parameters.
+	 * @param authenticationManager the {@link ReactiveAuthenticationManager} used for
+	 * authenticating the client
+	 * @param requestMatcher the {@link ServerWebExchangeMatcher} used for matching
+	 * against the {@code ServerWebExchange}
+	 */
+	public OAuth2ClientAuthenticationWebFilter(ReactiveAuthenticationManager authenticationManager,
+			ServerWebExchangeMatcher requestMatcher) {
+		Assert.notNull(authenticationManager, "authenticationManager cannot be null");
+		Assert.notNull(requestMatcher, "requestMatcher cannot be null");
+		this.authenticationManager = authenticationManager;
+		this.requestMatcher = requestMatcher;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		// @formatter:off
+		return this.requestMatcher.matches(exchange)
+				.filter(ServerWebExchangeMatcher.MatchResult::isMatch)
+				.switchIfEmpty(chain.filter(exchange).then(Mono.empty()))
+				.flatMap((matchResult) -> authenticate(exchange, chain));
+		// @formatter:on
+	}
+
+	private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain) {
+		// @formatter:off
+		return this.authenticationConverter.convert(exchange)
+				.doOnNext(OAuth2ClientAuthenticationWebFilter::validateClientIdentifier)
+				.flatMap((authenticationRequest) -> this.authenticationManager.authenticate(authenticationRequest)
+						.switchIfEmpty(Mono.error(
+								() -> new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_CLIENT))))
+				.map(ReactiveSecurityContextHolder::withAuthentication)
+				.defaultIfEmpty(Context.empty())
+				.onErrorResume(OAuth2AuthenticationException.class, (ex) -> {
+					if (this.logger.isTraceEnabled()) {
+						this.logger.trace(LogMessage.format("Client authentication failed: %s", ex.getError()), ex);
+					}
+					return this.authenticationFailureHandler
+							.onAuthenticationFailure(new WebFilterExchange(exchange, chain), ex)
+							.then(Mono.empty());
+				})
+				.flatMap((context) -> chain.filter(exchange).contextWrite(context));
+		// @formatter:on
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationConverter} used when attempting to extract
+	 * client credentials from {@code ServerWebExchange} to an instance of
+	 * {@link OAuth2ClientAuthenticationToken} used for authenticating the client.
+	 * @param authenticationConverter the {@link ServerAuthenticationConverter} used when
+	 * attempting to extract client credentials from {@code ServerWebExchange}
+	 */
+	public void setAuthenticationConverter(ServerAuthenticationConverter authenticationConverter) {
+		Assert.notNull(authenticationConverter, "authenticationConverter cannot be null");
+		this.authenticationConverter = authenticationConverter;
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationFailureHandler} used for handling a failed
+	 * client authentication and returning the {@link OAuth2Error Error Response}.
+	 * @param authenticationFailureHandler the {@link ServerAuthenticationFailureHandler}
+	 * used for handling a failed client authentication
+	 */
+	public void setAuthenticationFailureHandler(ServerAuthenticationFailureHandler authenticationFailureHandler) {
+		Assert.notNull(authenticationFailureHandler, "authenticationFailureHandler cannot be null");
+		this.authenticationFailureHandler = authenticationFailureHandler;
+	}
+
+	private Mono<Void> onAuthenticationFailure(WebFilterExchange webFilterExchange, AuthenticationException exception) {
+		OAuth2Error error = ((OAuth2AuthenticationException) exception).getError();
+		HttpStatus status = OAuth2ErrorCodes.INVALID_CLIENT.equals(error.getErrorCode()) ? HttpStatus.UNAUTHORIZED
+				: HttpStatus.BAD_REQUEST;
+		// We don't want to reveal too much information to the caller so just return the
+		// error code
+		return OAuth2ServerEndpointUtils.sendError(webFilterExchange.getExchange(), status,
+				new OAuth2Error(error.getErrorCode()));
+	}
+
+	private static void validateClientIdentifier(Authentication authentication) {
+		if (!(authentication instanceof OAuth2ClientAuthenticationToken clientAuthentication)) {
+			return;
+		}
+
+		// As per spec, in Appendix A.1.
+		// https://datatracker.ietf.org/doc/html/draft-ietf-oauth-v2-1-07#appendix-A.1
+		// The syntax for client_id is *VSCHAR (%x20-7E):
+		// -> Hex 20 -> ASCII 32 -> space
+		// -> Hex 7E -> ASCII 126 -> tilde
+
+		String clientId = (String) clientAuthentication.getPrincipal();
+		for (int i = 0; i < clientId.length(); i++) {
+			char charAt = clientId.charAt(i);
+			if (!(charAt >= 32 && charAt <= 126)) {
+				throw new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_REQUEST);
+			}
+		}
+	}
+
+}
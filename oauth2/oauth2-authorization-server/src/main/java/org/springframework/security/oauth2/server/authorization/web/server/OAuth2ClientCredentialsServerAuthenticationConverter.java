@@ -0,0 +1,87 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientCredentialsAuthenticationToken;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Attempts to extract an Access Token Request from {@link ServerWebExchange} for the
+ * OAuth 2.0 Client Credentials Grant and then converts it to an
+ * {@link OAuth2ClientCredentialsAuthenticationToken} used for authenticating the
+ * authorization grant.
+ *
+ * <p>
+ * The authenticated client is resolved from the {@code ReactiveSecurityContextHolder},
+ * as populated by {@link OAuth2ClientAuthenticationWebFilter}.
+ *
+ * @since 7.1
+ * @see ServerAuthenticationConverter
+ * @see OAuth2ClientCredentialsAuthenticationToken
+ * @see OAuth2TokenEndpointWebFilter
+ */
+public final class OAuth2ClientCredentialsServerAuthenticationConverter implements ServerAuthenticationConverter {
+
+	@Override
+	public Mono<Authentication> convert(ServerWebExchange exchange) {
+		return exchange.getFormData()
+			.filter((parameters) -> AuthorizationGrantType.CLIENT_CREDENTIALS.getValue()
+				.equals(parameters.getFirst(OAuth2ParameterNames.GRANT_TYPE)))
+			.flatMap((parameters) -> OAuth2ServerEndpointUtils.getClientPrincipal()
+				.map((clientPrincipal) -> convert(parameters, clientPrincipal)));
+	}
+
+	private static Authentication convert(MultiValueMap<String, String> parameters, Authentication clientPrincipal) {
+		// scope (OPTIONAL)
+		String scope = parameters.getFirst(OAuth2ParameterNames.SCOPE);
+		List<String> scopeParams = parameters.get(OAuth2ParameterNames.SCOPE);
+		if (StringUtils.hasText(scope) && scopeParams != null && scopeParams.size() != 1) {
+			OAuth2ServerEndpointUtils.throwError(OAuth2ErrorCodes.INVALID_REQUEST, OAuth2ParameterNames.SCOPE,
+					OAuth2ServerEndpointUtils.ACCESS_TOKEN_REQUEST_ERROR_URI);
+		}
+		Set<String> requestedScopes = null;
+		if (StringUtils.hasText(scope)) {
+			requestedScopes = new HashSet<>(Arrays.asList(StringUtils.delimitedListToStringArray(scope, " ")));
+		}
+
+		Map<String, Object> additionalParameters = new HashMap<>();
+		parameters.forEach((key, value) -> {
+			if (!key.equals(OAuth2ParameterNames.GRANT_TYPE) && !key.equals(OAuth2ParameterNames.SCOPE)) {
+				additionalParameters.put(key, (value.size() == 1) ? value.get(0) : value.toArray(new String[0]));
+			}
+		});
+
+		return new OAuth2ClientCredentialsAuthenticationToken(clientPrincipal, requestedScopes, additionalParameters);
+	}
+
+}
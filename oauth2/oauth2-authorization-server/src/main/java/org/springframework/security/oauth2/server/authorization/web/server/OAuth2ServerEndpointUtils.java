@@ -0,0 +1,105 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.http.converter.OAuth2ErrorHttpMessageConverter;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Utility methods for the OAuth 2.0 Protocol Endpoint {@code WebFilter}'s.
+ *
+ * @since 7.1
+ */
+final class OAuth2ServerEndpointUtils {
+
+	static final String ACCESS_TOKEN_REQUEST_ERROR_URI = "https://datatracker.ietf.org/doc/html/rfc6749#section-5.2";
+
+	private static final HttpMessageConverter<OAuth2Error> ERROR_HTTP_RESPONSE_CONVERTER = new OAuth2ErrorHttpMessageConverter();
+
+	private OAuth2ServerEndpointUtils() {
+	}
+
+	static Mono<Authentication> getClientPrincipal() {
+		return ReactiveSecurityContextHolder.getContext()
+			.mapNotNull(SecurityContext::getAuthentication)
+			.switchIfEmpty(Mono.error(() -> new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_CLIENT)));
+	}
+
+	static void throwError(String errorCode, String parameterName, String errorUri) {
+		OAuth2Error error = new OAuth2Error(errorCode, "OAuth 2.0 Parameter: " + parameterName, errorUri);
+		throw new OAuth2AuthenticationException(error);
+	}
+
+	static Mono<Void> sendErrorResponse(WebFilterExchange webFilterExchange, AuthenticationException exception) {
+		if (!(exception instanceof OAuth2AuthenticationException oauth2AuthenticationException)) {
+			return Mono.error(exception);
+		}
+		OAuth2Error error = oauth2AuthenticationException.getError();
+		HttpStatus status = OAuth2ErrorCodes.INVALID_CLIENT.equals(error.getErrorCode()) ? HttpStatus.UNAUTHORIZED
+				: HttpStatus.BAD_REQUEST;
+		return sendError(webFilterExchange.getExchange(), status, error);
+	}
+
+	static Mono<Void> sendError(ServerWebExchange exchange, HttpStatus status, OAuth2Error error) {
+		exchange.getResponse().setStatusCode(status);
+		return write(exchange, ERROR_HTTP_RESPONSE_CONVERTER, error);
+	}
+
+	static <T> Mono<Void> write(ServerWebExchange exchange, HttpMessageConverter<T> converter, T body) {
+		ServerHttpResponse response = exchange.getResponse();
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		HttpOutputMessage outputMessage = new HttpOutputMessage() {
+
+			@Override
+			public OutputStream getBody() {
+				return content;
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return response.getHeaders();
+			}
+
+		};
+		try {
+			converter.write(body, null, outputMessage);
+		}
+		catch (IOException ex) {
+			return Mono.error(ex);
+		}
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(content.toByteArray())));
+	}
+
+}
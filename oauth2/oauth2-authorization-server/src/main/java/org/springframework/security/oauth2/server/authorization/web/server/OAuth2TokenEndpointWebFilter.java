@@ -0,0 +1,220 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AccessTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationGrantAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientCredentialsReactiveAuthenticationManager;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationFailureHandler;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * A {@code WebFilter} for the OAuth 2.0 Token endpoint, which handles the processing of
+ * an OAuth 2.0 Authorization Grant.
+ *
+ * <p>
+ * The default endpoint {@code URI} is {@code /oauth2/token} and the authorization grant
+ * is converted by {@link OAuth2ClientCredentialsServerAuthenticationConverter}. The
+ * client MUST be authenticated beforehand, typically by
+ * {@link OAuth2ClientAuthenticationWebFilter}.
+ *
+ * @since 7.1
+ * @see ReactiveAuthenticationManager
+ * @see OAuth2ClientCredentialsReactiveAuthenticationManager
+ * @see OAuth2ClientCredentialsServerAuthenticationConverter
+ * @see <a target="_blank" href=
+ * "https://datatracker.ietf.org/doc/html/rfc6749#section-3.2">Section 3.2 Token
+ * Endpoint</a>
+ */
+public final class OAuth2TokenEndpointWebFilter implements WebFilter {
+
+	/**
+	 * The default endpoint {@code URI} for access token requests.
+	 */
+	private static final String DEFAULT_TOKEN_ENDPOINT_URI = "/oauth2/token";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ReactiveAuthenticationManager authenticationManager;
+
+	private final ServerWebExchangeMatcher tokenEndpointMatcher;
+
+	private final HttpMessageConverter<OAuth2AccessTokenResponse> accessTokenHttpResponseConverter = new OAuth2AccessTokenResponseHttpMessageConverter();
+
+	private ServerAuthenticationConverter authenticationConverter = new OAuth2ClientCredentialsServerAuthenticationConverter();
+
+	private ServerAuthenticationSuccessHandler authenticationSuccessHandler = this::sendAccessTokenResponse;
+
+	private ServerAuthenticationFailureHandler authenticationFailureHandler = OAuth2ServerEndpointUtils::sendErrorResponse;
+
+	/**
+	 * Constructs an {@code OAuth2TokenEndpointWebFilter} using the provided parameters.
+	 * @param authenticationManager the authentication manager
+	 */
+	public OAuth2TokenEndpointWebFilter(ReactiveAuthenticationManager authenticationManager) {
+		this(authenticationManager, DEFAULT_TOKEN_ENDPOINT_URI);
+	}
+
+	/**
+	 * Constructs an {@code OAuth2TokenEndpointWebFilter} using the provided parameters.
+	 * @param authenticationManager the authentication manager
+	 * @param tokenEndpointUri the endpoint {@code URI} for access token requests
+	 */
+	public OAuth2TokenEndpointWebFilter(ReactiveAuthenticationManager authenticationManager,
+			String tokenEndpointUri) {
+		Assert.notNull(authenticationManager, "authenticationManager cannot be null");
+		Assert.hasText(tokenEndpointUri, "tokenEndpointUri cannot be empty");
+		this.authenticationManager = authenticationManager;
+		this.tokenEndpointMatcher = ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, tokenEndpointUri);
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		// @formatter:off
+		return this.tokenEndpointMatcher.matches(exchange)
+				.filter(ServerWebExchangeMatcher.MatchResult::isMatch)
+				.switchIfEmpty(chain.filter(exchange).then(Mono.empty()))
+				.flatMap((matchResult) -> authenticate(new WebFilterExchange(exchange, chain)));
+		// @formatter:on
+	}
+
+	private Mono<Void> authenticate(WebFilterExchange webFilterExchange) {
+		ServerWebExchange exchange = webFilterExchange.getExchange();
+		// @formatter:off
+		return exchange.getFormData()
+				.doOnNext((parameters) -> {
+					List<String> grantTypes = parameters.get(OAuth2ParameterNames.GRANT_TYPE);
+					if (grantTypes == null || grantTypes.size() != 1) {
+						OAuth2ServerEndpointUtils.throwError(OAuth2ErrorCodes.INVALID_REQUEST,
+								OAuth2ParameterNames.GRANT_TYPE,
+								OAuth2ServerEndpointUtils.ACCESS_TOKEN_REQUEST_ERROR_URI);
+					}
+				})
+				.then(this.authenticationConverter.convert(exchange))
+				.switchIfEmpty(Mono.fromRunnable(() -> OAuth2ServerEndpointUtils.throwError(
+						OAuth2ErrorCodes.UNSUPPORTED_GRANT_TYPE, OAuth2ParameterNames.GRANT_TYPE,
+						OAuth2ServerEndpointUtils.ACCESS_TOKEN_REQUEST_ERROR_URI)))
+				.flatMap(this.authenticationManager::authenticate)
+				.switchIfEmpty(Mono.fromRunnable(() -> OAuth2ServerEndpointUtils.throwError(
+						OAuth2ErrorCodes.UNSUPPORTED_GRANT_TYPE, OAuth2ParameterNames.GRANT_TYPE,
+						OAuth2ServerEndpointUtils.ACCESS_TOKEN_REQUEST_ERROR_URI)))
+				.flatMap((authentication) -> this.authenticationSuccessHandler
+						.onAuthenticationSuccess(webFilterExchange, authentication))
+				.onErrorResume(OAuth2AuthenticationException.class, (ex) -> {
+					if (this.logger.isTraceEnabled()) {
+						this.logger.trace(LogMessage.format("Token request failed: %s", ex.getError()), ex);
+					}
+					return this.authenticationFailureHandler.onAuthenticationFailure(webFilterExchange, ex);
+				});
+		// @formatter:on
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationConverter} used when attempting to extract an
+	 * Access Token Request from {@code ServerWebExchange} to an instance of
+	 * {@link OAuth2AuthorizationGrantAuthenticationToken}
+	 * used for authenticating the authorization grant.
+	 * @param authenticationConverter the {@link ServerAuthenticationConverter} used when
+	 * attempting to extract an Access Token Request from {@code ServerWebExchange}
+	 */
+	public void setAuthenticationConverter(ServerAuthenticationConverter authenticationConverter) {
+		Assert.notNull(authenticationConverter, "authenticationConverter cannot be null");
+		this.authenticationConverter = authenticationConverter;
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationSuccessHandler} used for handling an
+	 * {@link OAuth2AccessTokenAuthenticationToken} and returning the
+	 * {@link OAuth2AccessTokenResponse Access Token Response}.
+	 * @param authenticationSuccessHandler the {@link ServerAuthenticationSuccessHandler}
+	 * used for handling an {@link OAuth2AccessTokenAuthenticationToken}
+	 */
+	public void setAuthenticationSuccessHandler(ServerAuthenticationSuccessHandler authenticationSuccessHandler) {
+		Assert.notNull(authenticationSuccessHandler, "authenticationSuccessHandler cannot be null");
+		this.authenticationSuccessHandler = authenticationSuccessHandler;
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationFailureHandler} used for handling an
+	 * {@link OAuth2AuthenticationException} and returning the {@link OAuth2Error Error
+	 * Response}.
+	 * @param authenticationFailureHandler the {@link ServerAuthenticationFailureHandler}
+	 * used for handling an {@link OAuth2AuthenticationException}
+	 */
+	public void setAuthenticationFailureHandler(ServerAuthenticationFailureHandler authenticationFailureHandler) {
+		Assert.notNull(authenticationFailureHandler, "authenticationFailureHandler cannot be null");
+		this.authenticationFailureHandler = authenticationFailureHandler;
+	}
+
+	private Mono<Void> sendAccessTokenResponse(WebFilterExchange webFilterExchange, Authentication authentication) {
+		if (!(authentication instanceof OAuth2AccessTokenAuthenticationToken accessTokenAuthentication)) {
+			OAuth2Error error = new OAuth2Error(OAuth2ErrorCodes.SERVER_ERROR,
+					"Unable to process the access token response.", null);
+			return Mono.error(new OAuth2AuthenticationException(error));
+		}
+
+		OAuth2AccessToken accessToken = accessTokenAuthentication.getAccessToken();
+		OAuth2RefreshToken refreshToken = accessTokenAuthentication.getRefreshToken();
+		Map<String, Object> additionalParameters = accessTokenAuthentication.getAdditionalParameters();
+
+		OAuth2AccessTokenResponse.Builder builder = OAuth2AccessTokenResponse.withToken(accessToken.getTokenValue())
+			.tokenType(accessToken.getTokenType())
+			.scopes(accessToken.getScopes());
+		if (accessToken.getIssuedAt() != null && accessToken.getExpiresAt() != null) {
+			builder.expiresIn(ChronoUnit.SECONDS.between(accessToken.getIssuedAt(), accessToken.getExpiresAt()));
+		}
+		if (refreshToken != null) {
+			builder.refreshToken(refreshToken.getTokenValue());
+		}
+		if (!CollectionUtils.isEmpty(additionalParameters)) {
+			builder.additionalParameters(additionalParameters);
+		}
+		return OAuth2ServerEndpointUtils.write(webFilterExchange.getExchange(), this.accessTokenHttpResponseConverter,
+				builder.build());
+	}
+
+}
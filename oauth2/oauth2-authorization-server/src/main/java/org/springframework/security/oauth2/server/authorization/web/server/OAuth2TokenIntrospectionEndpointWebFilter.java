@@ -0,0 +1,181 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenIntrospection;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenIntrospectionAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenIntrospectionReactiveAuthenticationManager;
+import org.springframework.security.oauth2.server.authorization.http.converter.OAuth2TokenIntrospectionHttpMessageConverter;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationFailureHandler;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.util.Assert;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * A {@code WebFilter} for the OAuth 2.0 Token Introspection endpoint.
+ *
+ * <p>
+ * The default endpoint {@code URI} is {@code /oauth2/introspect}. The client MUST be
+ * authenticated beforehand, typically by {@link OAuth2ClientAuthenticationWebFilter}.
+ *
+ * @since 7.1
+ * @see ReactiveAuthenticationManager
+ * @see OAuth2TokenIntrospectionReactiveAuthenticationManager
+ * @see OAuth2TokenIntrospectionServerAuthenticationConverter
+ * @see <a target="_blank" href=
+ * "https://datatracker.ietf.org/doc/html/rfc7662#section-2">Section 2 Introspection
+ * Endpoint</a>
+ */
+public final class OAuth2TokenIntrospectionEndpointWebFilter implements WebFilter {
+
+	/**
+	 * The default endpoint {@code URI} for token introspection requests.
+	 */
+	private static final String DEFAULT_TOKEN_INTROSPECTION_ENDPOINT_URI = "/oauth2/introspect";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ReactiveAuthenticationManager authenticationManager;
+
+	private final ServerWebExchangeMatcher tokenIntrospectionEndpointMatcher;
+
+	private final HttpMessageConverter<OAuth2TokenIntrospection> tokenIntrospectionHttpResponseConverter = new OAuth2TokenIntrospectionHttpMessageConverter();
+
+	private ServerAuthenticationConverter authenticationConverter = new OAuth2TokenIntrospectionServerAuthenticationConverter();
+
+	private ServerAuthenticationSuccessHandler authenticationSuccessHandler = this::sendIntrospectionResponse;
+
+	private ServerAuthenticationFailureHandler authenticationFailureHandler = OAuth2ServerEndpointUtils::sendErrorResponse;
+
+	/**
+	 * Constructs an {@code OAuth2TokenIntrospectionEndpointWebFilter} using the provided
+	 * parameters.
+	 * @param authenticationManager the authentication manager
+	 */
+	public OAuth2TokenIntrospectionEndpointWebFilter(ReactiveAuthenticationManager authenticationManager) {
+		this(authenticationManager, DEFAULT_TOKEN_INTROSPECTION_ENDPOINT_URI);
+	}
+
+	/**
+	 * Constructs an {@code OAuth2TokenIntrospectionEndpointWebFilter} using the provided
+	 * parameters.
+	 * @param authenticationManager the authentication manager
+	 * @param tokenIntrospectionEndpointUri the endpoint {@code URI} for token
+	 * introspection requests
+	 */
+	public OAuth2TokenIntrospectionEndpointWebFilter(ReactiveAuthenticationManager authenticationManager,
+			String tokenIntrospectionEndpointUri) {
+		Assert.notNull(authenticationManager, "authenticationManager cannot be null");
+		Assert.hasText(tokenIntrospectionEndpointUri, "tokenIntrospectionEndpointUri cannot be empty");
+		this.authenticationManager = authenticationManager;
+		this.tokenIntrospectionEndpointMatcher = ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST,
+				tokenIntrospectionEndpointUri);
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		// @formatter:off
+		return this.tokenIntrospectionEndpointMatcher.matches(exchange)
+				.filter(ServerWebExchangeMatcher.MatchResult::isMatch)
+				.switchIfEmpty(chain.filter(exchange).then(Mono.empty()))
+				.flatMap((matchResult) -> introspect(new WebFilterExchange(exchange, chain)));
+		// @formatter:on
+	}
+
+	private Mono<Void> introspect(WebFilterExchange webFilterExchange) {
+		ServerWebExchange exchange = webFilterExchange.getExchange();
+		// @formatter:off
+		return this.authenticationConverter.convert(exchange)
+				.flatMap(this.authenticationManager::authenticate)
+				.flatMap((authentication) -> this.authenticationSuccessHandler
+						.onAuthenticationSuccess(webFilterExchange, authentication))
+				.onErrorResume(OAuth2AuthenticationException.class, (ex) -> {
+					if (this.logger.isTraceEnabled()) {
+						this.logger.trace(LogMessage.format("Token introspection request failed: %s", ex.getError()),
+								ex);
+					}
+					return this.authenticationFailureHandler.onAuthenticationFailure(webFilterExchange, ex);
+				});
+		// @formatter:on
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationConverter} used when attempting to extract an
+	 * Introspection Request from {@code ServerWebExchange} to an instance of
+	 * {@link OAuth2TokenIntrospectionAuthenticationToken} used for authenticating the
+	 * request.
+	 * @param authenticationConverter the {@link ServerAuthenticationConverter} used when
+	 * attempting to extract an Introspection Request from {@code ServerWebExchange}
+	 */
+	public void setAuthenticationConverter(ServerAuthenticationConverter authenticationConverter) {
+		Assert.notNull(authenticationConverter, "authenticationConverter cannot be null");
+		this.authenticationConverter = authenticationConverter;
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationSuccessHandler} used for handling an
+	 * {@link OAuth2TokenIntrospectionAuthenticationToken}.
+	 * @param authenticationSuccessHandler the {@link ServerAuthenticationSuccessHandler}
+	 * used for handling an {@link OAuth2TokenIntrospectionAuthenticationToken}
+	 */
+	public void setAuthenticationSuccessHandler(ServerAuthenticationSuccessHandler authenticationSuccessHandler) {
+		Assert.notNull(authenticationSuccessHandler, "authenticationSuccessHandler cannot be null");
+		this.authenticationSuccessHandler = authenticationSuccessHandler;
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationFailureHandler} used for handling an
+	 * {@link OAuth2AuthenticationException} and returning the {@link OAuth2Error Error
+	 * Response}.
+	 * @param authenticationFailureHandler the {@link ServerAuthenticationFailureHandler}
+	 * used for handling an {@link OAuth2AuthenticationException}
+	 */
+	public void setAuthenticationFailureHandler(ServerAuthenticationFailureHandler authenticationFailureHandler) {
+		Assert.notNull(authenticationFailureHandler, "authenticationFailureHandler cannot be null");
+		this.authenticationFailureHandler = authenticationFailureHandler;
+	}
+
+	private Mono<Void> sendIntrospectionResponse(WebFilterExchange webFilterExchange,
+			Authentication authentication) {
+		if (!(authentication instanceof OAuth2TokenIntrospectionAuthenticationToken tokenIntrospectionAuthentication)) {
+			OAuth2Error error = new OAuth2Error(OAuth2ErrorCodes.SERVER_ERROR,
+					"Unable to process the token introspection response.", null);
+			return Mono.error(new OAuth2AuthenticationException(error));
+		}
+		return OAuth2ServerEndpointUtils.write(webFilterExchange.getExchange(),
+				this.tokenIntrospectionHttpResponseConverter, tokenIntrospectionAuthentication.getTokenClaims());
+	}
+
+}
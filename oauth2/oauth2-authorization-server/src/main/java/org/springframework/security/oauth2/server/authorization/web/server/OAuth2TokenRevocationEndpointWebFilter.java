@@ -0,0 +1,170 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationReactiveAuthenticationManager;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationFailureHandler;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.util.Assert;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * A {@code WebFilter} for the OAuth 2.0 Token Revocation endpoint.
+ *
+ * <p>
+ * The default endpoint {@code URI} is {@code /oauth2/revoke}. The client MUST be
+ * authenticated beforehand, typically by {@link OAuth2ClientAuthenticationWebFilter}.
+ *
+ * @since 7.1
+ * @see ReactiveAuthenticationManager
+ * @see OAuth2TokenRevocationReactiveAuthenticationManager
+ * @see OAuth2TokenRevocationServerAuthenticationConverter
+ * @see <a target="_blank" href=
+ * "https://datatracker.ietf.org/doc/html/rfc7009#section-2">Section 2 Token
+ * Revocation</a>
+ */
+public final class OAuth2TokenRevocationEndpointWebFilter implements WebFilter {
+
+	/**
+	 * The default endpoint {@code URI} for token revocation requests.
+	 */
+	private static final String DEFAULT_TOKEN_REVOCATION_ENDPOINT_URI = "/oauth2/revoke";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ReactiveAuthenticationManager authenticationManager;
+
+	private final ServerWebExchangeMatcher tokenRevocationEndpointMatcher;
+
+	private ServerAuthenticationConverter authenticationConverter = new OAuth2TokenRevocationServerAuthenticationConverter();
+
+	private ServerAuthenticationSuccessHandler authenticationSuccessHandler = this::sendRevocationSuccessResponse;
+
+	private ServerAuthenticationFailureHandler authenticationFailureHandler = OAuth2ServerEndpointUtils::sendErrorResponse;
+
+	/**
+	 * Constructs an {@code OAuth2TokenRevocationEndpointWebFilter} using the provided
+	 * parameters.
+	 * @param authenticationManager the authentication manager
+	 */
+	public OAuth2TokenRevocationEndpointWebFilter(ReactiveAuthenticationManager authenticationManager) {
+		this(authenticationManager, DEFAULT_TOKEN_REVOCATION_ENDPOINT_URI);
+	}
+
+	/**
+	 * Constructs an {@code OAuth2TokenRevocationEndpointWebFilter} using the provided
+	 * parameters.
+	 * @param authenticationManager the authentication manager
+	 * @param tokenRevocationEndpointUri the endpoint {@code URI} for token revocation
+	 * requests
+	 */
+	public OAuth2TokenRevocationEndpointWebFilter(ReactiveAuthenticationManager authenticationManager,
+			String tokenRevocationEndpointUri) {
+		Assert.notNull(authenticationManager, "authenticationManager cannot be null");
+		Assert.hasText(tokenRevocationEndpointUri, "tokenRevocationEndpointUri cannot be empty");
+		this.authenticationManager = authenticationManager;
+		this.tokenRevocationEndpointMatcher = ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST,
+				tokenRevocationEndpointUri);
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		// @formatter:off
+		return this.tokenRevocationEndpointMatcher.matches(exchange)
+				.filter(ServerWebExchangeMatcher.MatchResult::isMatch)
+				.switchIfEmpty(chain.filter(exchange).then(Mono.empty()))
+				.flatMap((matchResult) -> revoke(new WebFilterExchange(exchange, chain)));
+		// @formatter:on
+	}
+
+	private Mono<Void> revoke(WebFilterExchange webFilterExchange) {
+		ServerWebExchange exchange = webFilterExchange.getExchange();
+		// @formatter:off
+		return this.authenticationConverter.convert(exchange)
+				.flatMap(this.authenticationManager::authenticate)
+				.flatMap((authentication) -> this.authenticationSuccessHandler
+						.onAuthenticationSuccess(webFilterExchange, authentication))
+				.onErrorResume(OAuth2AuthenticationException.class, (ex) -> {
+					if (this.logger.isTraceEnabled()) {
+						this.logger.trace(LogMessage.format("Token revocation request failed: %s", ex.getError()), ex);
+					}
+					return this.authenticationFailureHandler.onAuthenticationFailure(webFilterExchange, ex);
+				});
+		// @formatter:on
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationConverter} used when attempting to extract a
+	 * Revoke Token Request from {@code ServerWebExchange} to an instance of
+	 * {@link OAuth2TokenRevocationAuthenticationToken} used for authenticating the
+	 * request.
+	 * @param authenticationConverter the {@link ServerAuthenticationConverter} used when
+	 * attempting to extract a Revoke Token Request from {@code ServerWebExchange}
+	 */
+	public void setAuthenticationConverter(ServerAuthenticationConverter authenticationConverter) {
+		Assert.notNull(authenticationConverter, "authenticationConverter cannot be null");
+		this.authenticationConverter = authenticationConverter;
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationSuccessHandler} used for handling an
+	 * {@link OAuth2TokenRevocationAuthenticationToken}.
+	 * @param authenticationSuccessHandler the {@link ServerAuthenticationSuccessHandler}
+	 * used for handling an {@link OAuth2TokenRevocationAuthenticationToken}
+	 */
+	public void setAuthenticationSuccessHandler(ServerAuthenticationSuccessHandler authenticationSuccessHandler) {
+		Assert.notNull(authenticationSuccessHandler, "authenticationSuccessHandler cannot be null");
+		this.authenticationSuccessHandler = authenticationSuccessHandler;
+	}
+
+	/**
+	 * Sets the {@link ServerAuthenticationFailureHandler} used for handling an
+	 * {@link OAuth2AuthenticationException} and returning the {@link OAuth2Error Error
+	 * Response}.
+	 * @param authenticationFailureHandler the {@link ServerAuthenticationFailureHandler}
+	 * used for handling an {@link OAuth2AuthenticationException}
+	 */
+	public void setAuthenticationFailureHandler(ServerAuthenticationFailureHandler authenticationFailureHandler) {
+		Assert.notNull(authenticationFailureHandler, "authenticationFailureHandler cannot be null");
+		this.authenticationFailureHandler = authenticationFailureHandler;
+	}
+
+	private Mono<Void> sendRevocationSuccessResponse(WebFilterExchange webFilterExchange,
+			Authentication authentication) {
+		webFilterExchange.getExchange().getResponse().setStatusCode(HttpStatus.OK);
+		return webFilterExchange.getExchange().getResponse().setComplete();
+	}
+
+}
@@ -19,6 +19,7 @@ package org.springframework.security.oauth2.server.authorization;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -336,4 +337,37 @@ public class InMemoryOAuth2AuthorizationServiceTests {
 		assertThat(result).isNull();
 	}
 
+	@Test
+	public void findByTokensWhenTokensNullThenThrowIllegalArgumentException() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> this.authorizationService.findByTokens(null, OAuth2TokenType.ACCESS_TOKEN))
+			.withMessage("tokens cannot be null");
+	}
+
+	@Test
+	public void findByTokensWhenTokensExistThenFoundInRequestOrder() {
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-token",
+				Instant.now().minusSeconds(60), Instant.now());
+		OAuth2RefreshToken refreshToken = new OAuth2RefreshToken("refresh-token", Instant.now());
+		OAuth2Authorization authorization1 = OAuth2Authorization.withRegisteredClient(REGISTERED_CLIENT)
+			.id("id-1")
+			.principalName(PRINCIPAL_NAME)
+			.authorizationGrantType(AUTHORIZATION_GRANT_TYPE)
+			.accessToken(accessToken)
+			.build();
+		OAuth2Authorization authorization2 = OAuth2Authorization.withRegisteredClient(REGISTERED_CLIENT)
+			.id("id-2")
+			.principalName(PRINCIPAL_NAME)
+			.authorizationGrantType(AUTHORIZATION_GRANT_TYPE)
+			.refreshToken(refreshToken)
+			.build();
+		this.authorizationService.save(authorization1);
+		this.authorizationService.save(authorization2);
+
+		Map<String, OAuth2Authorization> result = this.authorizationService
+			.findByTokens(List.of("refresh-token", "unknown", "access-token"), null);
+		assertThat(result).containsExactly(Map.entry("refresh-token", authorization2),
+				Map.entry("access-token", authorization1));
+	}
+
 }
@@ -57,6 +57,7 @@ import org.springframework.security.oauth2.core.OAuth2UserCode;
 import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
 import org.springframework.security.oauth2.core.oidc.OidcIdToken;
 import org.springframework.security.oauth2.core.oidc.endpoint.OidcParameterNames;
+import org.springframework.security.oauth2.server.authorization.JdbcOAuth2AuthorizationService.CompactAttributesCodec;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 import org.springframework.security.oauth2.server.authorization.client.TestRegisteredClients;
@@ -465,6 +466,70 @@ public class JdbcOAuth2AuthorizationServiceTests {
 		assertThat(result).isNull();
 	}
 
+	@Test
+	public void findByTokensWhenTokensNullThenThrowIllegalArgumentException() {
+		// @formatter:off
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> this.authorizationService.findByTokens(null, OAuth2TokenType.ACCESS_TOKEN))
+				.withMessage("tokens cannot be null");
+		// @formatter:on
+	}
+
+	@Test
+	public void findByTokensWhenTokensEmptyThenEmpty() {
+		assertThat(this.authorizationService.findByTokens(List.of(), OAuth2TokenType.ACCESS_TOKEN)).isEmpty();
+	}
+
+	@Test
+	public void findByTokensWhenAccessTokensExistThenFoundWithSingleQuery() {
+		given(this.registeredClientRepository.findById(eq(REGISTERED_CLIENT.getId()))).willReturn(REGISTERED_CLIENT);
+		OAuth2Authorization authorization1 = authorizationWithAccessToken("id-1", "access-token-1");
+		OAuth2Authorization authorization2 = authorizationWithAccessToken("id-2", "access-token-2");
+		this.authorizationService.save(authorization1);
+		this.authorizationService.save(authorization2);
+		JdbcOperations jdbcOperations = spy(this.jdbcOperations);
+		JdbcOAuth2AuthorizationService authorizationService = new JdbcOAuth2AuthorizationService(jdbcOperations,
+				this.registeredClientRepository);
+
+		Map<String, OAuth2Authorization> result = authorizationService.findByTokens(
+				List.of("access-token-2", "unknown", "access-token-1", "access-token-2"), OAuth2TokenType.ACCESS_TOKEN);
+		assertThat(result).containsExactly(Map.entry("access-token-2", authorization2),
+				Map.entry("access-token-1", authorization1));
+		verify(jdbcOperations).query(any(String.class), any(PreparedStatementSetter.class), any(RowMapper.class));
+	}
+
+	@Test
+	public void findByTokensWhenTokenTypeNullThenFoundByAnyToken() {
+		given(this.registeredClientRepository.findById(eq(REGISTERED_CLIENT.getId()))).willReturn(REGISTERED_CLIENT);
+		OAuth2RefreshToken refreshToken = new OAuth2RefreshToken("refresh-token",
+				Instant.now().truncatedTo(ChronoUnit.MILLIS),
+				Instant.now().plus(5, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS));
+		OAuth2Authorization authorization1 = authorizationWithAccessToken("id-1", "access-token-1");
+		OAuth2Authorization authorization2 = OAuth2Authorization.withRegisteredClient(REGISTERED_CLIENT)
+			.id("id-2")
+			.principalName(PRINCIPAL_NAME)
+			.authorizationGrantType(AUTHORIZATION_GRANT_TYPE)
+			.attribute(OAuth2ParameterNames.STATE, "state")
+			.refreshToken(refreshToken)
+			.build();
+		this.authorizationService.save(authorization1);
+		this.authorizationService.save(authorization2);
+
+		Map<String, OAuth2Authorization> result = this.authorizationService
+			.findByTokens(List.of("access-token-1", "refresh-token", "state"), null);
+		assertThat(result).containsExactly(Map.entry("access-token-1", authorization1),
+				Map.entry("refresh-token", authorization2), Map.entry("state", authorization2));
+	}
+
+	@Test
+	public void findByTokensWhenWrongTokenTypeThenNotFound() {
+		given(this.registeredClientRepository.findById(eq(REGISTERED_CLIENT.getId()))).willReturn(REGISTERED_CLIENT);
+		this.authorizationService.save(authorizationWithAccessToken(ID, "access-token"));
+
+		assertThat(this.authorizationService.findByTokens(List.of("access-token"), OAuth2TokenType.REFRESH_TOKEN))
+			.isEmpty();
+	}
+
 	// gh-18102
 	@Test
 	public void findByTokenWhenPrincipalHasWebAuthenticationDetailsThenDeserializes() {
@@ -487,6 +552,77 @@ public class JdbcOAuth2AuthorizationServiceTests {
 		assertThat(authorization).isEqualTo(result);
 	}
 
+	@Test
+	public void findByTokenWhenCompactAttributesCodecThenFound() {
+		given(this.registeredClientRepository.findById(eq(REGISTERED_CLIENT.getId()))).willReturn(REGISTERED_CLIENT);
+		this.authorizationService.setAuthorizationParametersMapper(
+				new JdbcOAuth2AuthorizationService.JsonMapperOAuth2AuthorizationParametersMapper(
+						new CompactAttributesCodec()));
+
+		String state = "state";
+		TestingAuthenticationToken principal = new TestingAuthenticationToken(PRINCIPAL_NAME, "credentials");
+		principal.setDetails(new WebAuthenticationDetails("remoteAddress", "sessionId"));
+
+		OAuth2Authorization authorization = OAuth2Authorization.withRegisteredClient(REGISTERED_CLIENT)
+			.id(ID)
+			.principalName(PRINCIPAL_NAME)
+			.authorizationGrantType(AUTHORIZATION_GRANT_TYPE)
+			.attribute(OAuth2ParameterNames.STATE, state)
+			.attribute(Principal.class.getName(), principal)
+			.token(AUTHORIZATION_CODE)
+			.build();
+		this.authorizationService.save(authorization);
+
+		OAuth2Authorization result = this.authorizationService.findByToken(state, STATE_TOKEN_TYPE);
+		assertThat(result).isEqualTo(authorization);
+	}
+
+	@Test
+	public void saveWhenJsonAuthorizationUpdatedWithCompactAttributesCodecThenUpdated() {
+		given(this.registeredClientRepository.findById(eq(REGISTERED_CLIENT.getId()))).willReturn(REGISTERED_CLIENT);
+		OAuth2Authorization originalAuthorization = OAuth2Authorization.withRegisteredClient(REGISTERED_CLIENT)
+			.id(ID)
+			.principalName(PRINCIPAL_NAME)
+			.authorizationGrantType(AUTHORIZATION_GRANT_TYPE)
+			.token(AUTHORIZATION_CODE)
+			.build();
+		this.authorizationService.save(originalAuthorization);
+
+		this.authorizationService.setAuthorizationParametersMapper(
+				new JdbcOAuth2AuthorizationService.JsonMapperOAuth2AuthorizationParametersMapper(
+						new CompactAttributesCodec()));
+		OAuth2Authorization authorization = this.authorizationService.findById(ID);
+		assertThat(authorization).isEqualTo(originalAuthorization);
+
+		OAuth2Authorization updatedAuthorization = OAuth2Authorization.from(authorization)
+			.attribute("custom-name-1", "custom-value-1")
+			.build();
+		this.authorizationService.save(updatedAuthorization);
+
+		authorization = this.authorizationService.findById(ID);
+		assertThat(authorization).isEqualTo(updatedAuthorization);
+	}
+
+	@Test
+	public void encodeWhenCompactAttributesCodecThenSmallerThanJson() {
+		Map<String, Object> attributes = TestOAuth2Authorizations.authorization().build().getAttributes();
+		CompactAttributesCodec codec = new CompactAttributesCodec();
+		String json = createSecurityMapper().writeValueAsString(attributes);
+		String compact = codec.encode(attributes);
+		assertThat(compact).startsWith("~");
+		assertThat(compact.length()).isLessThan(json.length() / 2);
+		assertThat(codec.decode(compact)).isEqualTo(attributes);
+		assertThat(codec.decode(json)).isEqualTo(attributes);
+	}
+
+	@Test
+	public void decodeWhenCompactAttributesCodecNotCompressedThenDecoded() {
+		Map<String, Object> attributes = TestOAuth2Authorizations.authorization().build().getAttributes();
+		CompactAttributesCodec codec = new CompactAttributesCodec();
+		codec.setCompress(false);
+		assertThat(codec.decode(codec.encode(attributes))).isEqualTo(attributes);
+	}
+
 	@Test
 	public void tableDefinitionWhenCustomThenAbleToOverride() {
 		given(this.registeredClientRepository.findById(eq(REGISTERED_CLIENT.getId()))).willReturn(REGISTERED_CLIENT);
@@ -539,6 +675,18 @@ public class JdbcOAuth2AuthorizationServiceTests {
 		db.shutdown();
 	}
 
+	private static OAuth2Authorization authorizationWithAccessToken(String id, String tokenValue) {
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, tokenValue,
+				Instant.now().minusSeconds(60).truncatedTo(ChronoUnit.MILLIS),
+				Instant.now().plus(5, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS));
+		return OAuth2Authorization.withRegisteredClient(REGISTERED_CLIENT)
+			.id(id)
+			.principalName(PRINCIPAL_NAME)
+			.authorizationGrantType(AUTHORIZATION_GRANT_TYPE)
+			.accessToken(accessToken)
+			.build();
+	}
+
 	private static EmbeddedDatabase createDb() {
 		return createDb(OAUTH2_AUTHORIZATION_SCHEMA_SQL_RESOURCE);
 	}
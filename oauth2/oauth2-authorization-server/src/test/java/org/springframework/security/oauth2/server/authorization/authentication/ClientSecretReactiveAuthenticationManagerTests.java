@@ -0,0 +1,153 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.ReactiveRegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.client.TestRegisteredClients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ClientSecretReactiveAuthenticationManager}.
+ */
+public class ClientSecretReactiveAuthenticationManagerTests {
+
+	private ReactiveRegisteredClientRepository registeredClientRepository;
+
+	private ClientSecretReactiveAuthenticationManager authenticationManager;
+
+	@BeforeEach
+	public void setUp() {
+		this.registeredClientRepository = mock(ReactiveRegisteredClientRepository.class);
+		this.authenticationManager = new ClientSecretReactiveAuthenticationManager(this.registeredClientRepository);
+		this.authenticationManager.setPasswordEncoder(NoOpPasswordEncoder.getInstance());
+		this.authenticationManager.setScheduler(Schedulers.immediate());
+	}
+
+	@Test
+	public void constructorWhenRegisteredClientRepositoryNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ClientSecretReactiveAuthenticationManager(null))
+			.withMessage("registeredClientRepository cannot be null");
+	}
+
+	@Test
+	public void authenticateWhenNotClientAuthenticationThenEmpty() {
+		StepVerifier.create(this.authenticationManager.authenticate(new TestingAuthenticationToken("user", "password")))
+			.verifyComplete();
+	}
+
+	@Test
+	public void authenticateWhenUnsupportedMethodThenEmpty() {
+		OAuth2ClientAuthenticationToken authentication = new OAuth2ClientAuthenticationToken("client-1",
+				ClientAuthenticationMethod.NONE, null, null);
+		StepVerifier.create(this.authenticationManager.authenticate(authentication)).verifyComplete();
+	}
+
+	@Test
+	public void authenticateWhenClientNotFoundThenInvalidClient() {
+		given(this.registeredClientRepository.findByClientId(any())).willReturn(Mono.empty());
+		OAuth2ClientAuthenticationToken authentication = new OAuth2ClientAuthenticationToken("client-1",
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, "secret-1", null);
+		StepVerifier.create(this.authenticationManager.authenticate(authentication))
+			.verifyErrorSatisfies((ex) -> assertInvalidClient(ex, "client_id"));
+	}
+
+	@Test
+	public void authenticateWhenInvalidSecretThenInvalidClient() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		given(this.registeredClientRepository.findByClientId(registeredClient.getClientId()))
+			.willReturn(Mono.just(registeredClient));
+		OAuth2ClientAuthenticationToken authentication = new OAuth2ClientAuthenticationToken(
+				registeredClient.getClientId(), ClientAuthenticationMethod.CLIENT_SECRET_BASIC,
+				registeredClient.getClientSecret() + "-invalid", null);
+		StepVerifier.create(this.authenticationManager.authenticate(authentication))
+			.verifyErrorSatisfies((ex) -> assertInvalidClient(ex, "client_secret"));
+	}
+
+	@Test
+	public void authenticateWhenUnregisteredMethodThenInvalidClient() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		given(this.registeredClientRepository.findByClientId(registeredClient.getClientId()))
+			.willReturn(Mono.just(registeredClient));
+		OAuth2ClientAuthenticationToken authentication = new OAuth2ClientAuthenticationToken(
+				registeredClient.getClientId(), ClientAuthenticationMethod.CLIENT_SECRET_POST,
+				registeredClient.getClientSecret(), null);
+		StepVerifier.create(this.authenticationManager.authenticate(authentication))
+			.verifyErrorSatisfies((ex) -> assertInvalidClient(ex, "authentication_method"));
+	}
+
+	@Test
+	public void authenticateWhenSecretExpiredThenInvalidClient() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient()
+			.clientSecretExpiresAt(Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS))
+			.build();
+		given(this.registeredClientRepository.findByClientId(registeredClient.getClientId()))
+			.willReturn(Mono.just(registeredClient));
+		OAuth2ClientAuthenticationToken authentication = new OAuth2ClientAuthenticationToken(
+				registeredClient.getClientId(), ClientAuthenticationMethod.CLIENT_SECRET_BASIC,
+				registeredClient.getClientSecret(), null);
+		StepVerifier.create(this.authenticationManager.authenticate(authentication))
+			.verifyErrorSatisfies((ex) -> assertInvalidClient(ex, "client_secret_expires_at"));
+	}
+
+	@Test
+	public void authenticateWhenValidSecretThenAuthenticated() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		given(this.registeredClientRepository.findByClientId(registeredClient.getClientId()))
+			.willReturn(Mono.just(registeredClient));
+		OAuth2ClientAuthenticationToken authentication = new OAuth2ClientAuthenticationToken(
+				registeredClient.getClientId(), ClientAuthenticationMethod.CLIENT_SECRET_BASIC,
+				registeredClient.getClientSecret(), null);
+		Authentication result = this.authenticationManager.authenticate(authentication).block();
+		assertThat(result).isInstanceOf(OAuth2ClientAuthenticationToken.class);
+		OAuth2ClientAuthenticationToken clientAuthentication = (OAuth2ClientAuthenticationToken) result;
+		assertThat(clientAuthentication.isAuthenticated()).isTrue();
+		assertThat(clientAuthentication.getRegisteredClient()).isEqualTo(registeredClient);
+		assertThat(clientAuthentication.getClientAuthenticationMethod())
+			.isEqualTo(ClientAuthenticationMethod.CLIENT_SECRET_BASIC);
+		verify(this.registeredClientRepository, never()).save(any());
+	}
+
+	private static void assertInvalidClient(Throwable ex, String parameterName) {
+		assertThat(ex).isInstanceOf(OAuth2AuthenticationException.class);
+		OAuth2AuthenticationException authenticationException = (OAuth2AuthenticationException) ex;
+		assertThat(authenticationException.getError().getErrorCode()).isEqualTo(OAuth2ErrorCodes.INVALID_CLIENT);
+		assertThat(authenticationException.getError().getDescription()).contains(parameterName);
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.authorization.InMemoryReactiveOAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.TestRegisteredClients;
+import org.springframework.security.oauth2.server.authorization.context.ReactiveAuthorizationServerContextHolder;
+import org.springframework.security.oauth2.server.authorization.context.TestAuthorizationServerContext;
+import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.security.oauth2.server.authorization.settings.OAuth2TokenFormat;
+import org.springframework.security.oauth2.server.authorization.settings.TokenSettings;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2AccessTokenGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link OAuth2ClientCredentialsReactiveAuthenticationManager}.
+ */
+public class OAuth2ClientCredentialsReactiveAuthenticationManagerTests {
+
+	private InMemoryReactiveOAuth2AuthorizationService authorizationService;
+
+	private OAuth2ClientCredentialsReactiveAuthenticationManager authenticationManager;
+
+	private TestAuthorizationServerContext authorizationServerContext;
+
+	@BeforeEach
+	public void setUp() {
+		this.authorizationService = new InMemoryReactiveOAuth2AuthorizationService();
+		this.authenticationManager = new OAuth2ClientCredentialsReactiveAuthenticationManager(this.authorizationService,
+				new OAuth2AccessTokenGenerator());
+		AuthorizationServerSettings authorizationServerSettings = AuthorizationServerSettings.builder()
+			.issuer("https://provider.com")
+			.build();
+		this.authorizationServerContext = new TestAuthorizationServerContext(authorizationServerSettings, null);
+	}
+
+	@Test
+	public void constructorWhenAuthorizationServiceNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new OAuth2ClientCredentialsReactiveAuthenticationManager(null,
+					new OAuth2AccessTokenGenerator()))
+			.withMessage("authorizationService cannot be null");
+	}
+
+	@Test
+	public void constructorWhenTokenGeneratorNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new OAuth2ClientCredentialsReactiveAuthenticationManager(this.authorizationService, null))
+			.withMessage("tokenGenerator cannot be null");
+	}
+
+	@Test
+	public void authenticateWhenClientPrincipalNotAuthenticatedThenInvalidClient() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient2().build();
+		TestingAuthenticationToken clientPrincipal = new TestingAuthenticationToken(registeredClient.getClientId(),
+				registeredClient.getClientSecret());
+		OAuth2ClientCredentialsAuthenticationToken authentication = new OAuth2ClientCredentialsAuthenticationToken(
+				clientPrincipal, null, null);
+		StepVerifier.create(authenticate(authentication))
+			.verifyErrorSatisfies((ex) -> assertThat(ex).isInstanceOf(OAuth2AuthenticationException.class)
+				.extracting("error.errorCode")
+				.isEqualTo(OAuth2ErrorCodes.INVALID_CLIENT));
+	}
+
+	@Test
+	public void authenticateWhenGrantTypeNotAllowedThenUnauthorizedClient() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		OAuth2ClientAuthenticationToken clientPrincipal = new OAuth2ClientAuthenticationToken(registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, registeredClient.getClientSecret());
+		OAuth2ClientCredentialsAuthenticationToken authentication = new OAuth2ClientCredentialsAuthenticationToken(
+				clientPrincipal, null, null);
+		StepVerifier.create(authenticate(authentication))
+			.verifyErrorSatisfies((ex) -> assertThat(ex).isInstanceOf(OAuth2AuthenticationException.class)
+				.extracting("error.errorCode")
+				.isEqualTo(OAuth2ErrorCodes.UNAUTHORIZED_CLIENT));
+	}
+
+	@Test
+	public void authenticateWhenValidThenAccessTokenIssuedAndAuthorizationSaved() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient2()
+			.tokenSettings(TokenSettings.builder().accessTokenFormat(OAuth2TokenFormat.REFERENCE).build())
+			.build();
+		OAuth2ClientAuthenticationToken clientPrincipal = new OAuth2ClientAuthenticationToken(registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, registeredClient.getClientSecret());
+		OAuth2ClientCredentialsAuthenticationToken authentication = new OAuth2ClientCredentialsAuthenticationToken(
+				clientPrincipal, Set.of("scope1"), null);
+
+		Authentication result = authenticate(authentication).block();
+
+		assertThat(result).isInstanceOf(OAuth2AccessTokenAuthenticationToken.class);
+		OAuth2AccessTokenAuthenticationToken accessTokenAuthentication = (OAuth2AccessTokenAuthenticationToken) result;
+		assertThat(accessTokenAuthentication.getRegisteredClient()).isEqualTo(registeredClient);
+		assertThat(accessTokenAuthentication.getPrincipal()).isEqualTo(clientPrincipal);
+		assertThat(accessTokenAuthentication.getAccessToken().getScopes()).containsExactly("scope1");
+		OAuth2Authorization authorization = this.authorizationService
+			.findByToken(accessTokenAuthentication.getAccessToken().getTokenValue(), OAuth2TokenType.ACCESS_TOKEN)
+			.block();
+		assertThat(authorization).isNotNull();
+		assertThat(authorization.getRegisteredClientId()).isEqualTo(registeredClient.getId());
+		assertThat(authorization.getPrincipalName()).isEqualTo(clientPrincipal.getName());
+	}
+
+	private Mono<Authentication> authenticate(Authentication authentication) {
+		return this.authenticationManager.authenticate(authentication)
+			.contextWrite(ReactiveAuthorizationServerContextHolder.withContext(this.authorizationServerContext));
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.authentication;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenIntrospection;
+import org.springframework.security.oauth2.server.authorization.TestOAuth2Authorizations;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.client.TestRegisteredClients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link OAuth2TokenIntrospectionBatchAuthenticationProvider}.
+ */
+public class OAuth2TokenIntrospectionBatchAuthenticationProviderTests {
+
+	private RegisteredClientRepository registeredClientRepository;
+
+	private OAuth2AuthorizationService authorizationService;
+
+	private OAuth2TokenIntrospectionBatchAuthenticationProvider authenticationProvider;
+
+	@BeforeEach
+	public void setUp() {
+		this.registeredClientRepository = mock(RegisteredClientRepository.class);
+		this.authorizationService = mock(OAuth2AuthorizationService.class);
+		this.authenticationProvider = new OAuth2TokenIntrospectionBatchAuthenticationProvider(
+				this.registeredClientRepository, this.authorizationService);
+	}
+
+	@Test
+	public void constructorWhenRegisteredClientRepositoryNullThenThrowIllegalArgumentException() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(
+					() -> new OAuth2TokenIntrospectionBatchAuthenticationProvider(null, this.authorizationService))
+			.withMessage("registeredClientRepository cannot be null");
+	}
+
+	@Test
+	public void constructorWhenAuthorizationServiceNullThenThrowIllegalArgumentException() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(
+					() -> new OAuth2TokenIntrospectionBatchAuthenticationProvider(this.registeredClientRepository, null))
+			.withMessage("authorizationService cannot be null");
+	}
+
+	@Test
+	public void supportsWhenTypeOAuth2TokenIntrospectionBatchAuthenticationTokenThenReturnTrue() {
+		assertThat(this.authenticationProvider.supports(OAuth2TokenIntrospectionBatchAuthenticationToken.class))
+			.isTrue();
+	}
+
+	@Test
+	public void authenticateWhenClientPrincipalNotOAuth2ClientAuthenticationTokenThenThrowOAuth2AuthenticationException() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		TestingAuthenticationToken clientPrincipal = new TestingAuthenticationToken(registeredClient.getClientId(),
+				registeredClient.getClientSecret());
+		OAuth2TokenIntrospectionBatchAuthenticationToken authentication = new OAuth2TokenIntrospectionBatchAuthenticationToken(
+				List.of("token"), clientPrincipal, null);
+		assertThatExceptionOfType(OAuth2AuthenticationException.class)
+			.isThrownBy(() -> this.authenticationProvider.authenticate(authentication))
+			.extracting(OAuth2AuthenticationException::getError)
+			.extracting("errorCode")
+			.isEqualTo(OAuth2ErrorCodes.INVALID_CLIENT);
+		verify(this.authorizationService, never()).findByTokens(any(), any());
+	}
+
+	@Test
+	public void authenticateWhenTokensFoundThenClaimsInRequestOrder() {
+		RegisteredClient authorizedClient = TestRegisteredClients.registeredClient().build();
+		OAuth2Authorization authorization = TestOAuth2Authorizations.authorization(authorizedClient).build();
+		String accessToken = authorization.getAccessToken().getToken().getTokenValue();
+		String refreshToken = authorization.getRefreshToken().getToken().getTokenValue();
+		List<String> tokens = List.of(accessToken, "unknown", refreshToken);
+		given(this.authorizationService.findByTokens(eq(tokens), isNull()))
+			.willReturn(Map.of(accessToken, authorization, refreshToken, authorization));
+		given(this.registeredClientRepository.findById(eq(authorizedClient.getId()))).willReturn(authorizedClient);
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient2().build();
+		OAuth2ClientAuthenticationToken clientPrincipal = new OAuth2ClientAuthenticationToken(registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, registeredClient.getClientSecret());
+
+		OAuth2TokenIntrospectionBatchAuthenticationToken authenticationResult = (OAuth2TokenIntrospectionBatchAuthenticationToken) this.authenticationProvider
+			.authenticate(new OAuth2TokenIntrospectionBatchAuthenticationToken(tokens, clientPrincipal, null));
+
+		verify(this.registeredClientRepository).findById(eq(authorizedClient.getId()));
+		assertThat(authenticationResult.isAuthenticated()).isTrue();
+		assertThat(authenticationResult.getTokens()).isEqualTo(tokens);
+		List<OAuth2TokenIntrospection> tokenClaims = authenticationResult.getTokenClaims();
+		assertThat(tokenClaims).extracting(OAuth2TokenIntrospection::isActive).containsExactly(true, false, true);
+		assertThat(tokenClaims.get(0).getClientId()).isEqualTo(authorizedClient.getClientId());
+		assertThat(tokenClaims.get(0).getTokenType())
+			.isEqualTo(authorization.getAccessToken().getToken().getTokenType().getValue());
+		assertThat(tokenClaims.get(1).getClaims()).containsOnlyKeys("active");
+	}
+
+	@Test
+	public void authenticateWhenTokenInvalidatedThenNotActive() {
+		RegisteredClient authorizedClient = TestRegisteredClients.registeredClient().build();
+		OAuth2Authorization authorization = TestOAuth2Authorizations.authorization(authorizedClient).build();
+		String accessToken = authorization.getAccessToken().getToken().getTokenValue();
+		authorization = OAuth2Authorization.from(authorization)
+			.invalidate(authorization.getAccessToken().getToken())
+			.build();
+		given(this.authorizationService.findByTokens(eq(List.of(accessToken)), isNull()))
+			.willReturn(Map.of(accessToken, authorization));
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient2().build();
+		OAuth2ClientAuthenticationToken clientPrincipal = new OAuth2ClientAuthenticationToken(registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, registeredClient.getClientSecret());
+
+		OAuth2TokenIntrospectionBatchAuthenticationToken authenticationResult = (OAuth2TokenIntrospectionBatchAuthenticationToken) this.authenticationProvider
+			.authenticate(
+					new OAuth2TokenIntrospectionBatchAuthenticationToken(List.of(accessToken), clientPrincipal, null));
+
+		verify(this.registeredClientRepository, never()).findById(any());
+		assertThat(authenticationResult.isAuthenticated()).isTrue();
+		assertThat(authenticationResult.getTokenClaims()).singleElement()
+			.extracting(OAuth2TokenIntrospection::isActive)
+			.isEqualTo(false);
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link CachingRegisteredClientRepository}.
+ */
+public class CachingRegisteredClientRepositoryTests {
+
+	private final RegisteredClient registration = TestRegisteredClients.registeredClient().build();
+
+	private final RegisteredClientRepository delegate = mock(RegisteredClientRepository.class);
+
+	private final CachingRegisteredClientRepository clients = new CachingRegisteredClientRepository(this.delegate);
+
+	@Test
+	public void constructorWhenDelegateNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CachingRegisteredClientRepository(null))
+			.withMessage("delegate cannot be null");
+	}
+
+	@Test
+	public void findByIdWhenCachedThenDelegateCalledOnce() {
+		given(this.delegate.findById(this.registration.getId())).willReturn(this.registration);
+		assertThat(this.clients.findById(this.registration.getId())).isEqualTo(this.registration);
+		assertThat(this.clients.findById(this.registration.getId())).isEqualTo(this.registration);
+		verify(this.delegate, times(1)).findById(this.registration.getId());
+	}
+
+	@Test
+	public void findByClientIdWhenFoundByIdThenCached() {
+		given(this.delegate.findById(this.registration.getId())).willReturn(this.registration);
+		this.clients.findById(this.registration.getId());
+		assertThat(this.clients.findByClientId(this.registration.getClientId())).isEqualTo(this.registration);
+		verify(this.delegate, never()).findByClientId(any());
+	}
+
+	@Test
+	public void findByIdWhenFoundByClientIdThenCached() {
+		given(this.delegate.findByClientId(this.registration.getClientId())).willReturn(this.registration);
+		this.clients.findByClientId(this.registration.getClientId());
+		assertThat(this.clients.findById(this.registration.getId())).isEqualTo(this.registration);
+		verify(this.delegate, never()).findById(any());
+	}
+
+	@Test
+	public void findByIdWhenNotFoundThenNotCached() {
+		assertThat(this.clients.findById("unknown")).isNull();
+		assertThat(this.clients.findById("unknown")).isNull();
+		verify(this.delegate, times(2)).findById("unknown");
+	}
+
+	@Test
+	public void findByIdWhenExpiredThenReloaded() {
+		Instant now = Instant.now();
+		this.clients.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		this.clients.setTimeToLive(Duration.ofMinutes(1));
+		given(this.delegate.findById(this.registration.getId())).willReturn(this.registration);
+		this.clients.findById(this.registration.getId());
+		this.clients.setClock(Clock.fixed(now.plusSeconds(59), ZoneOffset.UTC));
+		this.clients.findById(this.registration.getId());
+		verify(this.delegate, times(1)).findById(this.registration.getId());
+		this.clients.setClock(Clock.fixed(now.plusSeconds(60), ZoneOffset.UTC));
+		this.clients.findById(this.registration.getId());
+		verify(this.delegate, times(2)).findById(this.registration.getId());
+	}
+
+	@Test
+	public void findByIdWhenConcurrentThenDelegateCalledOnce() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		willAnswer((invocation) -> {
+			loading.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			return this.registration;
+		}).given(this.delegate).findById(this.registration.getId());
+		CompletableFuture<RegisteredClient> first = CompletableFuture
+			.supplyAsync(() -> this.clients.findById(this.registration.getId()));
+		assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<RegisteredClient> second = CompletableFuture
+			.supplyAsync(() -> this.clients.findById(this.registration.getId()));
+		release.countDown();
+		assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(this.registration);
+		assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(this.registration);
+		verify(this.delegate, times(1)).findById(this.registration.getId());
+	}
+
+	@Test
+	public void findByIdWhenDelegateFailsThenNotCached() {
+		given(this.delegate.findById(this.registration.getId())).willThrow(new IllegalStateException("unavailable"))
+			.willReturn(this.registration);
+		assertThatIllegalStateException().isThrownBy(() -> this.clients.findById(this.registration.getId()))
+			.withMessage("unavailable");
+		assertThat(this.clients.findById(this.registration.getId())).isEqualTo(this.registration);
+	}
+
+	@Test
+	public void findByIdWhenMaxSizeReachedThenEvicts() {
+		RegisteredClient registration2 = TestRegisteredClients.registeredClient2().build();
+		given(this.delegate.findById(this.registration.getId())).willReturn(this.registration);
+		given(this.delegate.findById(registration2.getId())).willReturn(registration2);
+		this.clients.setMaxSize(1);
+		this.clients.findById(this.registration.getId());
+		this.clients.findById(registration2.getId());
+		this.clients.findById(registration2.getId());
+		this.clients.findById(this.registration.getId());
+		verify(this.delegate, times(2)).findById(this.registration.getId());
+		verify(this.delegate, times(1)).findById(registration2.getId());
+	}
+
+	@Test
+	public void saveWhenCachedThenEvicted() {
+		RegisteredClient updated = RegisteredClient.from(this.registration).clientId("updated-client").build();
+		given(this.delegate.findById(this.registration.getId())).willReturn(this.registration, updated);
+		this.clients.findById(this.registration.getId());
+		this.clients.save(updated);
+		verify(this.delegate).save(updated);
+		assertThat(this.clients.findById(this.registration.getId())).isEqualTo(updated);
+		this.clients.findByClientId(this.registration.getClientId());
+		verify(this.delegate).findByClientId(this.registration.getClientId());
+	}
+
+	@Test
+	public void clearWhenCachedThenReloaded() {
+		given(this.delegate.findById(this.registration.getId())).willReturn(this.registration);
+		this.clients.findById(this.registration.getId());
+		this.clients.clear();
+		this.clients.findById(this.registration.getId());
+		verify(this.delegate, times(2)).findById(this.registration.getId());
+	}
+
+	@Test
+	public void setWhenInvalidThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.clients.setTimeToLive(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.clients.setTimeToLive(Duration.ZERO));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.clients.setMaxSize(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.clients.setClock(null));
+	}
+
+}
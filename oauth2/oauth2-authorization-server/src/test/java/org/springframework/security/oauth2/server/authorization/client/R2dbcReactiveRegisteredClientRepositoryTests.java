@@ -0,0 +1,158 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link R2dbcReactiveRegisteredClientRepository}.
+ */
+public class R2dbcReactiveRegisteredClientRepositoryTests {
+
+	private static final String OAUTH2_REGISTERED_CLIENT_SCHEMA_SQL_RESOURCE = "org/springframework/security/oauth2/server/authorization/client/oauth2-registered-client-schema.sql";
+
+	private String databaseName;
+
+	private DatabaseClient databaseClient;
+
+	private R2dbcReactiveRegisteredClientRepository registeredClientRepository;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		this.databaseName = UUID.randomUUID().toString();
+		ConnectionFactory connectionFactory = ConnectionFactories
+			.get("r2dbc:h2:mem:///" + this.databaseName + ";DB_CLOSE_DELAY=-1");
+		this.databaseClient = DatabaseClient.create(connectionFactory);
+		String schema = StreamUtils.copyToString(
+				new ClassPathResource(OAUTH2_REGISTERED_CLIENT_SCHEMA_SQL_RESOURCE).getInputStream(),
+				StandardCharsets.UTF_8);
+		this.databaseClient.sql(schema).then().block();
+		this.registeredClientRepository = new R2dbcReactiveRegisteredClientRepository(this.databaseClient);
+	}
+
+	@Test
+	public void constructorWhenDatabaseClientNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new R2dbcReactiveRegisteredClientRepository(null))
+			.withMessage("databaseClient cannot be null");
+	}
+
+	@Test
+	public void saveWhenRegisteredClientNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.registeredClientRepository.save(null))
+			.withMessage("registeredClient cannot be null");
+	}
+
+	@Test
+	public void findByIdWhenNotFoundThenEmpty() {
+		StepVerifier.create(this.registeredClientRepository.findById("unknown")).verifyComplete();
+	}
+
+	@Test
+	public void findByClientIdWhenNotFoundThenEmpty() {
+		StepVerifier.create(this.registeredClientRepository.findByClientId("unknown")).verifyComplete();
+	}
+
+	@Test
+	public void saveWhenNewThenFoundByIdAndClientId() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		this.registeredClientRepository.save(registeredClient).block();
+
+		RegisteredClient foundById = this.registeredClientRepository.findById(registeredClient.getId()).block();
+		assertThat(foundById).isEqualTo(registeredClient);
+		RegisteredClient foundByClientId = this.registeredClientRepository
+			.findByClientId(registeredClient.getClientId())
+			.block();
+		assertThat(foundByClientId).isEqualTo(registeredClient);
+	}
+
+	@Test
+	public void saveWhenExistingThenUpdated() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		this.registeredClientRepository.save(registeredClient).block();
+		RegisteredClient updatedRegisteredClient = RegisteredClient.from(registeredClient)
+			.clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_POST)
+			.scope("scope2")
+			.build();
+		this.registeredClientRepository.save(updatedRegisteredClient).block();
+
+		RegisteredClient found = this.registeredClientRepository.findById(registeredClient.getId()).block();
+		assertThat(found).isEqualTo(updatedRegisteredClient);
+	}
+
+	@Test
+	public void findByIdWhenSharedWithJdbcRegisteredClientRepositoryThenSameTimestamps() {
+		EmbeddedDatabase db = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+			.setName(this.databaseName)
+			.build();
+		try {
+			JdbcRegisteredClientRepository jdbcRegisteredClientRepository = new JdbcRegisteredClientRepository(
+					new JdbcTemplate(db));
+			Instant clientSecretExpiresAt = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+			RegisteredClient savedWithJdbc = TestRegisteredClients.registeredClient()
+				.clientSecretExpiresAt(clientSecretExpiresAt)
+				.build();
+			jdbcRegisteredClientRepository.save(savedWithJdbc);
+			RegisteredClient savedWithR2dbc = TestRegisteredClients.registeredClient2()
+				.clientSecretExpiresAt(clientSecretExpiresAt)
+				.build();
+			this.registeredClientRepository.save(savedWithR2dbc).block();
+
+			assertThat(this.registeredClientRepository.findById(savedWithJdbc.getId()).block())
+				.isEqualTo(savedWithJdbc);
+			assertThat(jdbcRegisteredClientRepository.findById(savedWithR2dbc.getId())).isEqualTo(savedWithR2dbc);
+		}
+		finally {
+			db.shutdown();
+		}
+	}
+
+	@Test
+	public void saveWhenExistingClientIdThenError() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		this.registeredClientRepository.save(registeredClient).block();
+		RegisteredClient duplicateRegisteredClient = TestRegisteredClients.registeredClient2()
+			.clientId(registeredClient.getClientId())
+			.build();
+
+		StepVerifier.create(this.registeredClientRepository.save(duplicateRegisteredClient))
+			.verifyErrorSatisfies((ex) -> assertThat(ex).isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Registered client must be unique. Found duplicate client identifier: "
+						+ registeredClient.getClientId()));
+	}
+
+}
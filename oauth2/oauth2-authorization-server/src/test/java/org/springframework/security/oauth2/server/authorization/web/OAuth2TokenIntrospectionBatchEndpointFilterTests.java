@@ -0,0 +1,209 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.http.converter.OAuth2ErrorHttpMessageConverter;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenIntrospection;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenIntrospectionBatchAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.TestRegisteredClients;
+import org.springframework.security.oauth2.server.authorization.web.authentication.OAuth2TokenIntrospectionBatchAuthenticationConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link OAuth2TokenIntrospectionBatchEndpointFilter}.
+ */
+public class OAuth2TokenIntrospectionBatchEndpointFilterTests {
+
+	private static final String DEFAULT_TOKEN_INTROSPECTION_BATCH_ENDPOINT_URI = "/oauth2/batch/introspect";
+
+	private AuthenticationManager authenticationManager;
+
+	private OAuth2TokenIntrospectionBatchEndpointFilter filter;
+
+	private final HttpMessageConverter<OAuth2Error> errorHttpResponseConverter = new OAuth2ErrorHttpMessageConverter();
+
+	@BeforeEach
+	public void setUp() {
+		this.authenticationManager = mock(AuthenticationManager.class);
+		this.filter = new OAuth2TokenIntrospectionBatchEndpointFilter(this.authenticationManager);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void constructorWhenAuthenticationManagerNullThenThrowIllegalArgumentException() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> new OAuth2TokenIntrospectionBatchEndpointFilter(null))
+			.withMessage("authenticationManager cannot be null");
+	}
+
+	@Test
+	public void constructorWhenTokenIntrospectionBatchEndpointUriNullThenThrowIllegalArgumentException() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> new OAuth2TokenIntrospectionBatchEndpointFilter(this.authenticationManager, null))
+			.withMessage("tokenIntrospectionBatchEndpointUri cannot be empty");
+	}
+
+	@Test
+	public void doFilterWhenNotTokenIntrospectionBatchRequestThenNotProcessed() throws Exception {
+		String requestUri = "/oauth2/introspect";
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", requestUri);
+		request.setServletPath(requestUri);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain filterChain = mock(FilterChain.class);
+
+		this.filter.doFilter(request, response, filterChain);
+
+		verify(filterChain).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
+	}
+
+	@Test
+	public void doFilterWhenTokenIntrospectionBatchRequestMissingTokenThenInvalidRequestError() throws Exception {
+		setClientPrincipal();
+		MockHttpServletRequest request = createTokenIntrospectionBatchRequest();
+
+		doFilterWhenTokenIntrospectionBatchRequestInvalidParameterThenError(OAuth2ParameterNames.TOKEN, request);
+	}
+
+	@Test
+	public void doFilterWhenTokenIntrospectionBatchRequestTooManyTokensThenInvalidRequestError() throws Exception {
+		setClientPrincipal();
+		OAuth2TokenIntrospectionBatchAuthenticationConverter authenticationConverter = new OAuth2TokenIntrospectionBatchAuthenticationConverter();
+		authenticationConverter.setMaxTokens(2);
+		this.filter.setAuthenticationConverter(authenticationConverter);
+		MockHttpServletRequest request = createTokenIntrospectionBatchRequest("token-1", "token-2", "token-3");
+
+		doFilterWhenTokenIntrospectionBatchRequestInvalidParameterThenError(OAuth2ParameterNames.TOKEN, request);
+	}
+
+	@Test
+	public void doFilterWhenTokenIntrospectionBatchRequestValidThenArrayInRequestOrder() throws Exception {
+		Authentication clientPrincipal = setClientPrincipal();
+		OAuth2TokenIntrospection activeTokenClaims = OAuth2TokenIntrospection.builder(true)
+			.clientId("authorized-client-id")
+			.build();
+		OAuth2TokenIntrospection inactiveTokenClaims = OAuth2TokenIntrospection.builder().build();
+		List<String> tokens = List.of("token-1", "token-2");
+		given(this.authenticationManager.authenticate(any()))
+			.willReturn(new OAuth2TokenIntrospectionBatchAuthenticationToken(tokens, clientPrincipal,
+					List.of(activeTokenClaims, inactiveTokenClaims)));
+		MockHttpServletRequest request = createTokenIntrospectionBatchRequest("token-1", "token-2");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain filterChain = mock(FilterChain.class);
+
+		this.filter.doFilter(request, response, filterChain);
+
+		ArgumentCaptor<OAuth2TokenIntrospectionBatchAuthenticationToken> tokenIntrospectionAuthentication = ArgumentCaptor
+			.forClass(OAuth2TokenIntrospectionBatchAuthenticationToken.class);
+		verifyNoInteractions(filterChain);
+		verify(this.authenticationManager).authenticate(tokenIntrospectionAuthentication.capture());
+		assertThat(tokenIntrospectionAuthentication.getValue().getTokens()).isEqualTo(tokens);
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+		List<Map<String, Object>> tokenIntrospectionResponses = JsonMapper.builder()
+			.build()
+			.readValue(response.getContentAsByteArray(), new TypeReference<>() {
+			});
+		assertThat(tokenIntrospectionResponses).hasSize(2);
+		assertThat(tokenIntrospectionResponses.get(0)).containsEntry("active", true)
+			.containsEntry("client_id", "authorized-client-id");
+		assertThat(tokenIntrospectionResponses.get(1)).containsOnlyKeys("active").containsEntry("active", false);
+	}
+
+	private void doFilterWhenTokenIntrospectionBatchRequestInvalidParameterThenError(String parameterName,
+			MockHttpServletRequest request) throws Exception {
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain filterChain = mock(FilterChain.class);
+
+		this.filter.doFilter(request, response, filterChain);
+
+		verifyNoInteractions(filterChain);
+		verifyNoInteractions(this.authenticationManager);
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		OAuth2Error error = readError(response);
+		assertThat(error.getErrorCode()).isEqualTo(OAuth2ErrorCodes.INVALID_REQUEST);
+		assertThat(error.getDescription()).isEqualTo("OAuth 2.0 Token Introspection Parameter: " + parameterName);
+	}
+
+	private OAuth2Error readError(MockHttpServletResponse response) throws Exception {
+		MockClientHttpResponse httpResponse = new MockClientHttpResponse(response.getContentAsByteArray(),
+				HttpStatus.valueOf(response.getStatus()));
+		return this.errorHttpResponseConverter.read(OAuth2Error.class, httpResponse);
+	}
+
+	private static Authentication setClientPrincipal() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		Authentication clientPrincipal = new OAuth2ClientAuthenticationToken(registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, registeredClient.getClientSecret());
+		SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+		securityContext.setAuthentication(clientPrincipal);
+		SecurityContextHolder.setContext(securityContext);
+		return clientPrincipal;
+	}
+
+	private static MockHttpServletRequest createTokenIntrospectionBatchRequest(String... tokens) {
+		String requestUri = DEFAULT_TOKEN_INTROSPECTION_BATCH_ENDPOINT_URI;
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", requestUri);
+		request.setServletPath(requestUri);
+		for (String token : tokens) {
+			request.addParameter(OAuth2ParameterNames.TOKEN, token);
+		}
+		return request;
+	}
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.authorization.web;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.http.converter.OAuth2ErrorHttpMessageConverter;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationBatchAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.TestRegisteredClients;
+import org.springframework.security.oauth2.server.authorization.web.authentication.OAuth2TokenRevocationBatchAuthenticationConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link OAuth2TokenRevocationBatchEndpointFilter}.
+ */
+public class OAuth2TokenRevocationBatchEndpointFilterTests {
+
+	private static final String DEFAULT_TOKEN_REVOCATION_BATCH_ENDPOINT_URI = "/oauth2/batch/revoke";
+
+	private AuthenticationManager authenticationManager;
+
+	private OAuth2TokenRevocationBatchEndpointFilter filter;
+
+	private final HttpMessageConverter<OAuth2Error> errorHttpResponseConverter = new OAuth2ErrorHttpMessageConverter();
+
+	@BeforeEach
+	public void setUp() {
+		this.authenticationManager = mock(AuthenticationManager.class);
+		this.filter = new OAuth2TokenRevocationBatchEndpointFilter(this.authenticationManager);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void constructorWhenAuthenticationManagerNullThenThrowIllegalArgumentException() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> new OAuth2TokenRevocationBatchEndpointFilter(null))
+			.withMessage("authenticationManager cannot be null");
+	}
+
+	@Test
+	public void constructorWhenTokenRevocationBatchEndpointUriNullThenThrowIllegalArgumentException() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> new OAuth2TokenRevocationBatchEndpointFilter(this.authenticationManager, null))
+			.withMessage("tokenRevocationBatchEndpointUri cannot be empty");
+	}
+
+	@Test
+	public void doFilterWhenNotTokenRevocationBatchRequestThenNotProcessed() throws Exception {
+		String requestUri = "/oauth2/revoke";
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", requestUri);
+		request.setServletPath(requestUri);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain filterChain = mock(FilterChain.class);
+
+		this.filter.doFilter(request, response, filterChain);
+
+		verify(filterChain).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
+	}
+
+	@Test
+	public void doFilterWhenTokenRevocationBatchRequestMissingTokenThenInvalidRequestError() throws Exception {
+		setClientPrincipal();
+		MockHttpServletRequest request = createTokenRevocationBatchRequest();
+
+		doFilterWhenTokenRevocationBatchRequestInvalidParameterThenError(OAuth2ParameterNames.TOKEN, request);
+	}
+
+	@Test
+	public void doFilterWhenTokenRevocationBatchRequestEmptyTokenThenInvalidRequestError() throws Exception {
+		setClientPrincipal();
+		MockHttpServletRequest request = createTokenRevocationBatchRequest("token-1", "");
+
+		doFilterWhenTokenRevocationBatchRequestInvalidParameterThenError(OAuth2ParameterNames.TOKEN, request);
+	}
+
+	@Test
+	public void doFilterWhenTokenRevocationBatchRequestTooManyTokensThenInvalidRequestError() throws Exception {
+		setClientPrincipal();
+		OAuth2TokenRevocationBatchAuthenticationConverter authenticationConverter = new OAuth2TokenRevocationBatchAuthenticationConverter();
+		authenticationConverter.setMaxTokens(2);
+		this.filter.setAuthenticationConverter(authenticationConverter);
+		MockHttpServletRequest request = createTokenRevocationBatchRequest("token-1", "token-2", "token-3");
+
+		doFilterWhenTokenRevocationBatchRequestInvalidParameterThenError(OAuth2ParameterNames.TOKEN, request);
+	}
+
+	@Test
+	public void doFilterWhenTokenRevocationBatchRequestMultipleTokenTypeHintThenInvalidRequestError()
+			throws Exception {
+		setClientPrincipal();
+		MockHttpServletRequest request = createTokenRevocationBatchRequest("token-1", "token-2");
+		request.addParameter(OAuth2ParameterNames.TOKEN_TYPE_HINT, "access_token");
+		request.addParameter(OAuth2ParameterNames.TOKEN_TYPE_HINT, "access_token");
+
+		doFilterWhenTokenRevocationBatchRequestInvalidParameterThenError(OAuth2ParameterNames.TOKEN_TYPE_HINT,
+				request);
+	}
+
+	@Test
+	public void doFilterWhenTokenRevocationBatchRequestValidThenSuccessResponse() throws Exception {
+		Authentication clientPrincipal = setClientPrincipal();
+		Instant issuedAt = Instant.now();
+		OAuth2AccessToken accessToken1 = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token-1",
+				issuedAt, issuedAt.plus(Duration.ofHours(1)));
+		OAuth2AccessToken accessToken2 = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token-2",
+				issuedAt, issuedAt.plus(Duration.ofHours(1)));
+		given(this.authenticationManager.authenticate(any()))
+			.willReturn(new OAuth2TokenRevocationBatchAuthenticationToken(List.of(accessToken1, accessToken2),
+					clientPrincipal));
+		MockHttpServletRequest request = createTokenRevocationBatchRequest("token-1", "token-2");
+		request.addParameter(OAuth2ParameterNames.TOKEN_TYPE_HINT, "access_token");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain filterChain = mock(FilterChain.class);
+
+		this.filter.doFilter(request, response, filterChain);
+
+		ArgumentCaptor<OAuth2TokenRevocationBatchAuthenticationToken> tokenRevocationAuthentication = ArgumentCaptor
+			.forClass(OAuth2TokenRevocationBatchAuthenticationToken.class);
+		verifyNoInteractions(filterChain);
+		verify(this.authenticationManager).authenticate(tokenRevocationAuthentication.capture());
+		assertThat(tokenRevocationAuthentication.getValue().getTokens()).containsExactly("token-1", "token-2");
+		assertThat(tokenRevocationAuthentication.getValue().getTokenTypeHint()).isEqualTo("access_token");
+		assertThat(tokenRevocationAuthentication.getValue().getPrincipal()).isEqualTo(clientPrincipal);
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+
+	private void doFilterWhenTokenRevocationBatchRequestInvalidParameterThenError(String parameterName,
+			MockHttpServletRequest request) throws Exception {
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain filterChain = mock(FilterChain.class);
+
+		this.filter.doFilter(request, response, filterChain);
+
+		verifyNoInteractions(filterChain);
+		verifyNoInteractions(this.authenticationManager);
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		OAuth2Error error = readError(response);
+		assertThat(error.getErrorCode()).isEqualTo(OAuth2ErrorCodes.INVALID_REQUEST);
+		assertThat(error.getDescription()).isEqualTo("OAuth 2.0 Token Revocation Parameter: " + parameterName);
+	}
+
+	private OAuth2Error readError(MockHttpServletResponse response) throws Exception {
+		MockClientHttpResponse httpResponse = new MockClientHttpResponse(response.getContentAsByteArray(),
+				HttpStatus.valueOf(response.getStatus()));
+		return this.errorHttpResponseConverter.read(OAuth2Error.class, httpResponse);
+	}
+
+	private static Authentication setClientPrincipal() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		Authentication clientPrincipal = new OAuth2ClientAuthenticationToken(registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, registeredClient.getClientSecret());
+		SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+		securityContext.setAuthentication(clientPrincipal);
+		SecurityContextHolder.setContext(securityContext);
+		return clientPrincipal;
+	}
+
+	private static MockHttpServletRequest createTokenRevocationBatchRequest(String... tokens) {
+		String requestUri = DEFAULT_TOKEN_REVOCATION_BATCH_ENDPOINT_URI;
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", requestUri);
+		request.setServletPath(requestUri);
+		for (String token : tokens) {
+			request.addParameter(OAuth2ParameterNames.TOKEN, token);
+		}
+		return request;
+	}
+
+}
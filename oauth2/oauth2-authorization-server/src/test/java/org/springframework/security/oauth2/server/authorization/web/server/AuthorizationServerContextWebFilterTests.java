@@ -0,0 +1,79 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContext;
+import org.springframework.security.oauth2.server.authorization.context.ReactiveAuthorizationServerContextHolder;
+import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.web.server.WebFilterChain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link AuthorizationServerContextWebFilter}.
+ */
+public class AuthorizationServerContextWebFilterTests {
+
+	@Test
+	public void constructorWhenAuthorizationServerSettingsNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new AuthorizationServerContextWebFilter(null))
+			.withMessage("authorizationServerSettings cannot be null");
+	}
+
+	@Test
+	public void filterWhenIssuerConfiguredThenIssuerUsed() {
+		AuthorizationServerSettings authorizationServerSettings = AuthorizationServerSettings.builder()
+			.issuer("https://provider.com")
+			.build();
+		AuthorizationServerContext context = filter(authorizationServerSettings,
+				"https://example.com:8443/issuer1/oauth2/token");
+		assertThat(context.getIssuer()).isEqualTo("https://provider.com");
+		assertThat(context.getAuthorizationServerSettings()).isSameAs(authorizationServerSettings);
+	}
+
+	@Test
+	public void filterWhenDefaultEndpointsThenIssuerResolved() {
+		AuthorizationServerSettings authorizationServerSettings = AuthorizationServerSettings.builder().build();
+		assertThat(filter(authorizationServerSettings, "https://example.com:8443/issuer1/oauth2/token?a=b").getIssuer())
+			.isEqualTo("https://example.com:8443/issuer1");
+		assertThat(filter(authorizationServerSettings, "https://example.com:8443/oauth2/jwks").getIssuer())
+			.isEqualTo("https://example.com:8443");
+		assertThat(filter(authorizationServerSettings,
+				"https://example.com:8443/path1/issuer2/.well-known/oauth-authorization-server")
+			.getIssuer()).isEqualTo("https://example.com:8443/path1/issuer2");
+	}
+
+	private static AuthorizationServerContext filter(AuthorizationServerSettings authorizationServerSettings,
+			String uri) {
+		AuthorizationServerContextWebFilter filter = new AuthorizationServerContextWebFilter(
+				authorizationServerSettings);
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+		AtomicReference<AuthorizationServerContext> context = new AtomicReference<>();
+		WebFilterChain chain = (ex) -> ReactiveAuthorizationServerContextHolder.getContext()
+			.doOnNext(context::set)
+			.then();
+		filter.filter(exchange, chain).block();
+		return context.get();
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.TestRegisteredClients;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.web.server.WebFilterChain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link OAuth2ClientAuthenticationWebFilter}.
+ */
+public class OAuth2ClientAuthenticationWebFilterTests {
+
+	private static final String DEFAULT_TOKEN_ENDPOINT_URI = "/oauth2/token";
+
+	private ReactiveAuthenticationManager authenticationManager;
+
+	private OAuth2ClientAuthenticationWebFilter filter;
+
+	private final AtomicReference<Authentication> chainAuthentication = new AtomicReference<>();
+
+	private final WebFilterChain chain = (exchange) -> ReactiveSecurityContextHolder.getContext()
+		.map(SecurityContext::getAuthentication)
+		.doOnNext(this.chainAuthentication::set)
+		.then();
+
+	@BeforeEach
+	public void setUp() {
+		this.authenticationManager = mock(ReactiveAuthenticationManager.class);
+		this.filter = new OAuth2ClientAuthenticationWebFilter(this.authenticationManager,
+				ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, DEFAULT_TOKEN_ENDPOINT_URI));
+	}
+
+	@Test
+	public void constructorWhenAuthenticationManagerNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new OAuth2ClientAuthenticationWebFilter(null, ServerWebExchangeMatchers.anyExchange()))
+			.withMessage("authenticationManager cannot be null");
+	}
+
+	@Test
+	public void constructorWhenRequestMatcherNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new OAuth2ClientAuthenticationWebFilter(this.authenticationManager, null))
+			.withMessage("requestMatcher cannot be null");
+	}
+
+	@Test
+	public void filterWhenNotMatchingThenNotProcessed() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/path"));
+		AtomicReference<Boolean> chainCalled = new AtomicReference<>(false);
+		this.filter.filter(exchange, (ex) -> Mono.fromRunnable(() -> chainCalled.set(true))).block();
+		assertThat(chainCalled.get()).isTrue();
+		verifyNoInteractions(this.authenticationManager);
+	}
+
+	@Test
+	public void filterWhenNoCredentialsThenNotProcessed() {
+		MockServerWebExchange exchange = MockServerWebExchange
+			.from(MockServerHttpRequest.post(DEFAULT_TOKEN_ENDPOINT_URI));
+		AtomicReference<Boolean> chainCalled = new AtomicReference<>(false);
+		this.filter.filter(exchange, (ex) -> Mono.fromRunnable(() -> chainCalled.set(true))).block();
+		assertThat(chainCalled.get()).isTrue();
+		verifyNoInteractions(this.authenticationManager);
+	}
+
+	@Test
+	public void filterWhenInvalidCredentialsThenUnauthorized() {
+		given(this.authenticationManager.authenticate(any()))
+			.willReturn(Mono.error(new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_CLIENT)));
+		MockServerWebExchange exchange = MockServerWebExchange.from(basicRequest("client-1", "invalid"));
+
+		this.filter.filter(exchange, this.chain).block();
+
+		assertThat(this.chainAuthentication.get()).isNull();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		assertThat(exchange.getResponse().getBodyAsString().block()).contains(OAuth2ErrorCodes.INVALID_CLIENT);
+	}
+
+	@Test
+	public void filterWhenValidCredentialsThenAuthenticatedInContext() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		OAuth2ClientAuthenticationToken clientPrincipal = new OAuth2ClientAuthenticationToken(registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, registeredClient.getClientSecret());
+		given(this.authenticationManager.authenticate(any())).willReturn(Mono.just(clientPrincipal));
+		MockServerWebExchange exchange = MockServerWebExchange
+			.from(basicRequest(registeredClient.getClientId(), registeredClient.getClientSecret()));
+
+		this.filter.filter(exchange, this.chain).block();
+
+		assertThat(this.chainAuthentication.get()).isSameAs(clientPrincipal);
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+	}
+
+	@Test
+	public void filterWhenNotMatchingAndChainFailsThenErrorPropagated() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/path"));
+		OAuth2AuthenticationException error = new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_CLIENT);
+		assertThatExceptionOfType(OAuth2AuthenticationException.class)
+			.isThrownBy(() -> this.filter.filter(exchange, (ex) -> Mono.error(error)).block())
+			.isSameAs(error);
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+	}
+
+	@Test
+	public void filterWhenAuthenticatedAndChainFailsThenErrorPropagated() {
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		OAuth2ClientAuthenticationToken clientPrincipal = new OAuth2ClientAuthenticationToken(registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, registeredClient.getClientSecret());
+		given(this.authenticationManager.authenticate(any())).willReturn(Mono.just(clientPrincipal));
+		MockServerWebExchange exchange = MockServerWebExchange
+			.from(basicRequest(registeredClient.getClientId(), registeredClient.getClientSecret()));
+		OAuth2AuthenticationException error = new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_GRANT);
+		assertThatExceptionOfType(OAuth2AuthenticationException.class)
+			.isThrownBy(() -> this.filter.filter(exchange, (ex) -> Mono.error(error)).block())
+			.isSameAs(error);
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+	}
+
+	private static MockServerHttpRequest basicRequest(String clientId, String clientSecret) {
+		String credentials = Base64.getEncoder().encodeToString((clientId + ":" + clientSecret).getBytes());
+		return MockServerHttpRequest.post(DEFAULT_TOKEN_ENDPOINT_URI)
+			.header(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+			.build();
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AccessTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientCredentialsAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.TestRegisteredClients;
+import org.springframework.web.server.WebFilterChain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link OAuth2TokenEndpointWebFilter}.
+ */
+public class OAuth2TokenEndpointWebFilterTests {
+
+	private static final String DEFAULT_TOKEN_ENDPOINT_URI = "/oauth2/token";
+
+	private static final WebFilterChain CHAIN = (exchange) -> Mono.empty();
+
+	private ReactiveAuthenticationManager authenticationManager;
+
+	private OAuth2TokenEndpointWebFilter filter;
+
+	private RegisteredClient registeredClient;
+
+	private OAuth2ClientAuthenticationToken clientPrincipal;
+
+	@BeforeEach
+	public void setUp() {
+		this.authenticationManager = mock(ReactiveAuthenticationManager.class);
+		this.filter = new OAuth2TokenEndpointWebFilter(this.authenticationManager);
+		this.registeredClient = TestRegisteredClients.registeredClient2().build();
+		this.clientPrincipal = new OAuth2ClientAuthenticationToken(this.registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, this.registeredClient.getClientSecret());
+	}
+
+	@Test
+	public void constructorWhenAuthenticationManagerNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new OAuth2TokenEndpointWebFilter(null))
+			.withMessage("authenticationManager cannot be null");
+	}
+
+	@Test
+	public void constructorWhenTokenEndpointUriNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new OAuth2TokenEndpointWebFilter(this.authenticationManager, null))
+			.withMessage("tokenEndpointUri cannot be empty");
+	}
+
+	@Test
+	public void filterWhenNotTokenRequestThenNotProcessed() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/path"));
+		this.filter.filter(exchange, CHAIN).block();
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+		verifyNoInteractions(this.authenticationManager);
+	}
+
+	@Test
+	public void filterWhenGrantTypeMissingThenInvalidRequest() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(tokenRequest("scope=scope1"));
+		filter(exchange);
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(exchange.getResponse().getBodyAsString().block()).contains(OAuth2ErrorCodes.INVALID_REQUEST)
+			.contains("grant_type");
+		verifyNoInteractions(this.authenticationManager);
+	}
+
+	@Test
+	public void filterWhenGrantTypeUnsupportedThenUnsupportedGrantType() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(tokenRequest("grant_type=password"));
+		filter(exchange);
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(exchange.getResponse().getBodyAsString().block())
+			.contains(OAuth2ErrorCodes.UNSUPPORTED_GRANT_TYPE);
+		verifyNoInteractions(this.authenticationManager);
+	}
+
+	@Test
+	public void filterWhenClientCredentialsGrantThenAccessTokenResponse() {
+		Instant issuedAt = Instant.now();
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token",
+				issuedAt, issuedAt.plus(5, ChronoUnit.MINUTES), Set.of("scope1"));
+		given(this.authenticationManager.authenticate(any())).willReturn(Mono.just(
+				new OAuth2AccessTokenAuthenticationToken(this.registeredClient, this.clientPrincipal, accessToken)));
+		MockServerWebExchange exchange = MockServerWebExchange
+			.from(tokenRequest("grant_type=client_credentials&scope=scope1"));
+
+		filter(exchange);
+
+		ArgumentCaptor<Authentication> authenticationCaptor = ArgumentCaptor.forClass(Authentication.class);
+		verify(this.authenticationManager).authenticate(authenticationCaptor.capture());
+		assertThat(authenticationCaptor.getValue()).isInstanceOfSatisfying(
+				OAuth2ClientCredentialsAuthenticationToken.class, (clientCredentialsAuthentication) -> {
+					assertThat(clientCredentialsAuthentication.getPrincipal()).isSameAs(this.clientPrincipal);
+					assertThat(clientCredentialsAuthentication.getScopes()).containsExactly("scope1");
+				});
+		assertThat(exchange.getResponse().getHeaders().getContentType())
+			.isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(exchange.getResponse().getBodyAsString().block()).contains("\"access_token\":\"token\"")
+			.contains("\"token_type\":\"Bearer\"")
+			.contains("\"scope\":\"scope1\"")
+			.contains("\"expires_in\":");
+	}
+
+	private void filter(MockServerWebExchange exchange) {
+		this.filter.filter(exchange, CHAIN)
+			.contextWrite(ReactiveSecurityContextHolder.withAuthentication(this.clientPrincipal))
+			.block();
+	}
+
+	private static MockServerHttpRequest tokenRequest(String body) {
+		return MockServerHttpRequest.post(DEFAULT_TOKEN_ENDPOINT_URI)
+			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+			.body(body);
+	}
+
+}
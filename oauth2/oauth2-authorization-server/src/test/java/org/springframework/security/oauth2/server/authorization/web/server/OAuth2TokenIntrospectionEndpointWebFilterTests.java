@@ -0,0 +1,105 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.security.oauth2.server.authorization.web.server;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.TestRegisteredClients;
+import org.springframework.web.server.WebFilterChain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link OAuth2TokenIntrospectionEndpointWebFilter}.
+ */
+public class OAuth2TokenIntrospectionEndpointWebFilterTests {
+
+	private static final String DEFAULT_TOKEN_INTROSPECTION_ENDPOINT_URI = "/oauth2/introspect";
+
+	private ReactiveAuthenticationManager authenticationManager;
+
+	private OAuth2TokenIntrospectionEndpointWebFilter filter;
+
+	private OAuth2ClientAuthenticationToken clientPrincipal;
+
+	@BeforeEach
+	public void setUp() {
+		this.authenticationManager = mock(ReactiveAuthenticationManager.class);
+		this.filter = new OAuth2TokenIntrospectionEndpointWebFilter(this.authenticationManager);
+		RegisteredClient registeredClient = TestRegisteredClients.registeredClient().build();
+		this.clientPrincipal = new OAuth2ClientAuthenticationToken(registeredClient,
+				ClientAuthenticationMethod.CLIENT_SECRET_BASIC, registeredClient.getClientSecret());
+	}
+
+	@Test
+	public void filterWhenNotTokenIntrospectionRequestThenNotProcessed() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/path"));
+		filter(exchange, (ex) -> Mono.empty());
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+		verifyNoInteractions(this.authenticationManager);
+	}
+
+	@Test
+	public void filterWhenNotTokenIntrospectionRequestAndChainFailsThenErrorPropagated() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/path"));
+		OAuth2AuthenticationException error = new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_REQUEST);
+		assertThatExceptionOfType(OAuth2AuthenticationException.class)
+			.isThrownBy(() -> filter(exchange, (ex) -> Mono.error(error)))
+			.isSameAs(error);
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+	}
+
+	@Test
+	public void filterWhenAuthenticationFailsThenErrorResponse() {
+		given(this.authenticationManager.authenticate(any()))
+			.willReturn(Mono.error(new OAuth2AuthenticationException(OAuth2ErrorCodes.INVALID_REQUEST)));
+		MockServerWebExchange exchange = MockServerWebExchange.from(introspectionRequest("token=token"));
+		filter(exchange, (ex) -> Mono.empty());
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(exchange.getResponse().getBodyAsString().block()).contains(OAuth2ErrorCodes.INVALID_REQUEST);
+	}
+
+	private void filter(MockServerWebExchange exchange, WebFilterChain chain) {
+		this.filter.filter(exchange, chain)
+			.contextWrite(ReactiveSecurityContextHolder.withAuthentication(this.clientPrincipal))
+			.block();
+	}
+
+	private static MockServerHttpRequest introspectionRequest(String body) {
+		return MockServerHttpRequest.post(DEFAULT_TOKEN_INTROSPECTION_ENDPOINT_URI)
+			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+			.body(body);
+	}
+
+}
@@ -16,20 +16,42 @@
 
 package org.springframework.security.oauth2.client.registration;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 import com.nimbusds.oauth2.sdk.ParseException;
 import com.nimbusds.oauth2.sdk.as.AuthorizationServerMetadata;
+import com.nimbusds.oauth2.sdk.util.JSONObjectUtils;
 import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
 import net.minidev.json.JSONObject;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.log.LogMessage;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
@@ -60,6 +82,8 @@ public final class ClientRegistrations {
 
 	private static final String OAUTH_METADATA_PATH = "/.well-known/oauth-authorization-server";
 
+	private static final Log logger = LogFactory.getLog(ClientRegistrations.class);
+
 	private static final RestTemplate rest = new RestTemplate();
 
 	static {
@@ -148,7 +172,7 @@ public final class ClientRegistrations {
 	 */
 	public static ClientRegistration.Builder fromOidcIssuerLocation(String issuer) {
 		Assert.hasText(issuer, "issuer cannot be empty");
-		return getBuilder(issuer, oidc(issuer));
+		return getBuilder(issuer, oidc(issuer)).builder();
 	}
 
 	/**
@@ -191,26 +215,223 @@ public final class ClientRegistrations {
 	 */
 	public static ClientRegistration.Builder fromIssuerLocation(String issuer) {
 		Assert.hasText(issuer, "issuer cannot be empty");
+		return discover(issuer).builder();
+	}
+
+	/**
+	 * Creates a {@link ClientRegistration.Builder} for each of the provided <a href=
+	 * "https://openid.net/specs/openid-connect-core-1_0.html#IssuerIdentifier">Issuers</a>
+	 * the same way as {@link #fromIssuerLocation(String)}, except that the issuers are
+	 * discovered concurrently rather than one after the other.
+	 *
+	 * <p>
+	 * Example usage, which also defers the discovery until the first time that a
+	 * {@link ClientRegistration} is needed:
+	 * </p>
+	 * <pre>
+	 * ClientRegistrationRepository registrations = new SupplierClientRegistrationRepository(() -&gt; {
+	 *     List&lt;String&gt; issuers = List.of("https://one.example.com", "https://two.example.com");
+	 *     Map&lt;String, ClientRegistration.Builder&gt; builders = ClientRegistrations
+	 *         .fromIssuerLocations(issuers, Duration.ofSeconds(10));
+	 *     return new InMemoryClientRegistrationRepository(
+	 *         builders.get("https://one.example.com").registrationId("one").clientId("client-one").build(),
+	 *         builders.get("https://two.example.com").registrationId("two").clientId("client-two").build());
+	 * });
+	 * </pre>
+	 * @param issuers the <a href=
+	 * "https://openid.net/specs/openid-connect-core-1_0.html#IssuerIdentifier">Issuers</a>
+	 * @param timeout the maximum time to wait for the discovery of each issuer, after which
+	 * its discovery is interrupted. A request already sent to the issuer still runs until
+	 * it completes or reaches its 30 seconds connect or read timeout
+	 * @return a {@link ClientRegistration.Builder} for each issuer, by issuer, in the
+	 * order of the provided issuers
+	 * @throws IllegalArgumentException if any of the issuers could not be discovered
+	 * within the timeout, with the failure of each of them as a suppressed exception
+	 * @since 7.1
+	 */
+	public static Map<String, ClientRegistration.Builder> fromIssuerLocations(Collection<String> issuers,
+			Duration timeout) {
+		return discover(issuers, timeout, null);
+	}
+
+	/**
+	 * Creates a {@link ClientRegistration.Builder} for each of the provided <a href=
+	 * "https://openid.net/specs/openid-connect-core-1_0.html#IssuerIdentifier">Issuers</a>
+	 * the same way as {@link #fromIssuerLocations(Collection, Duration)}, keeping a
+	 * snapshot of the configuration of each issuer in the provided directory.
+	 *
+	 * <p>
+	 * When a snapshot of an issuer exists, it is used instead of discovering the issuer,
+	 * so that restarting the application does not wait for the discovery, and the
+	 * snapshot is then refreshed in the background for the next time. Since the
+	 * snapshots are trusted like the responses of the issuers, the directory should
+	 * only be writable by the application.
+	 * </p>
+	 * @param issuers the <a href=
+	 * "https://openid.net/specs/openid-connect-core-1_0.html#IssuerIdentifier">Issuers</a>
+	 * @param timeout the maximum time to wait for the discovery of each issuer, after which
+	 * its discovery is interrupted. A request already sent to the issuer still runs until
+	 * it completes or reaches its 30 seconds connect or read timeout
+	 * @param snapshotDirectory the directory to keep the snapshots in
+	 * @return a {@link ClientRegistration.Builder} for each issuer, by issuer, in the
+	 * order of the provided issuers
+	 * @throws IllegalArgumentException if any of the issuers could not be discovered
+	 * within the timeout, with the failure of each of them as a suppressed exception
+	 * @since 7.1
+	 */
+	public static Map<String, ClientRegistration.Builder> fromIssuerLocations(Collection<String> issuers,
+			Duration timeout, Path snapshotDirectory) {
+		Assert.notNull(snapshotDirectory, "snapshotDirectory cannot be null");
+		return discover(issuers, timeout, snapshotDirectory);
+	}
+
+	private static Map<String, ClientRegistration.Builder> discover(Collection<String> issuers, Duration timeout,
+			@Nullable Path snapshotDirectory) {
+		Assert.notNull(issuers, "issuers cannot be null");
+		Assert.notNull(timeout, "timeout cannot be null");
+		Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("spring-security-client-registrations-");
+		executor.setDaemon(true);
+		Map<String, CompletableFuture<Discovery>> discoveries = new LinkedHashMap<>();
+		for (String issuer : issuers) {
+			Assert.hasText(issuer, "issuer cannot be empty");
+			CompletableFuture<Discovery> discovery = (snapshotDirectory != null)
+					? discover(issuer, snapshotDirectory, executor)
+					: discoverAsync(() -> discover(issuer), executor);
+			discoveries.put(issuer, discovery.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS));
+		}
+		Map<String, ClientRegistration.Builder> builders = new LinkedHashMap<>();
+		List<Throwable> errors = new ArrayList<>();
+		discoveries.forEach((issuer, discovery) -> {
+			try {
+				builders.put(issuer, discovery.join().builder());
+			}
+			catch (CompletionException ex) {
+				errors.add(ex.getCause());
+			}
+		});
+		if (!errors.isEmpty()) {
+			IllegalArgumentException ex = new IllegalArgumentException(
+					"Unable to resolve Configuration with the provided Issuers " + issuers);
+			errors.forEach(ex::addSuppressed);
+			throw ex;
+		}
+		return builders;
+	}
+
+	private static Discovery discover(String issuer) {
 		return getBuilder(issuer, oidc(issuer), oidcRfc8414(issuer), oauth(issuer));
 	}
 
-	static Supplier<ClientRegistration.Builder> oidc(String issuer) {
+	/**
+	 * Runs the discovery on the executor, interrupting it once the returned future times
+	 * out so that it does not go on with the next endpoint.
+	 */
+	private static CompletableFuture<Discovery> discoverAsync(Supplier<Discovery> discovery, Executor executor) {
+		CompletableFuture<Discovery> result = new CompletableFuture<>();
+		FutureTask<Void> task = new FutureTask<>(() -> {
+			try {
+				result.complete(discovery.get());
+			}
+			catch (RuntimeException ex) {
+				result.completeExceptionally(ex);
+			}
+		}, null);
+		result.whenComplete((discovered, ex) -> {
+			if (ex instanceof TimeoutException) {
+				task.cancel(true);
+			}
+		});
+		executor.execute(task);
+		return result;
+	}
+
+	private static CompletableFuture<Discovery> discover(String issuer, Path snapshotDirectory, Executor executor) {
+		Discovery snapshot = readSnapshot(snapshotDirectory, issuer);
+		if (snapshot == null) {
+			return discoverAsync(() -> writeSnapshot(snapshotDirectory, issuer, discover(issuer)), executor);
+		}
+		CompletableFuture.supplyAsync(() -> discover(issuer), executor)
+			.thenAccept((discovery) -> writeSnapshot(snapshotDirectory, issuer, discovery))
+			.exceptionally((ex) -> {
+				logger.debug(LogMessage.format("Failed to refresh the snapshot of issuer '%s'", issuer), ex);
+				return null;
+			});
+		return CompletableFuture.completedFuture(snapshot);
+	}
+
+	private static @Nullable Discovery readSnapshot(Path snapshotDirectory, String issuer) {
+		Path snapshot = snapshotDirectory.resolve(snapshotName(issuer));
+		if (!Files.isRegularFile(snapshot)) {
+			return null;
+		}
+		try {
+			JSONObject json = JSONObjectUtils.parse(Files.readString(snapshot, StandardCharsets.UTF_8));
+			Assert.state(issuer.equals(json.get("issuer")), "snapshot issuer does not match");
+			boolean oidc = Boolean.TRUE.equals(json.get("oidc"));
+			Map<String, Object> configuration = JSONObjectUtils.getJSONObject(json, "configuration");
+			return oidc ? oidcDiscovery(issuer, configuration) : oauthDiscovery(issuer, configuration);
+		}
+		catch (Exception ex) {
+			logger.debug(LogMessage.format("Ignoring the snapshot of issuer '%s'", issuer), ex);
+			return null;
+		}
+	}
+
+	private static Discovery writeSnapshot(Path snapshotDirectory, String issuer, Discovery discovery) {
+		JSONObject json = new JSONObject();
+		json.put("issuer", issuer);
+		json.put("oidc", discovery.oidc());
+		json.put("configuration", new JSONObject(discovery.configuration()));
+		try {
+			Files.createDirectories(snapshotDirectory);
+			Path snapshot = snapshotDirectory.resolve(snapshotName(issuer));
+			Path temporary = Files.createTempFile(snapshotDirectory, snapshot.getFileName().toString(), ".tmp");
+			Files.writeString(temporary, json.toJSONString(), StandardCharsets.UTF_8);
+			try {
+				Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex) {
+			logger.debug(LogMessage.format("Failed to write the snapshot of issuer '%s'", issuer), ex);
+		}
+		return discovery;
+	}
+
+	private static String snapshotName(String issuer) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(issuer.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest) + ".json";
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	static Supplier<Discovery> oidc(String issuer) {
 		UriComponents uri = oidcUri(issuer);
 		// @formatter:on
 		return () -> {
 			RequestEntity<Void> request = RequestEntity.get(uri.toUriString()).build();
 			Map<String, Object> configuration = rest.exchange(request, typeReference).getBody();
 			Assert.notNull(configuration, "OIDC provider configuration cannot be null");
-			OIDCProviderMetadata metadata = parse(configuration, OIDCProviderMetadata::parse);
-			ClientRegistration.Builder builder = withProviderConfiguration(metadata, issuer)
-				.jwkSetUri(metadata.getJWKSetURI().toASCIIString());
-			if (metadata.getUserInfoEndpointURI() != null) {
-				builder.userInfoUri(metadata.getUserInfoEndpointURI().toASCIIString());
-			}
-			return builder;
+			return oidcDiscovery(issuer, configuration);
 		};
 	}
 
+	private static Discovery oidcDiscovery(String issuer, Map<String, Object> configuration) {
+		OIDCProviderMetadata metadata = parse(configuration, OIDCProviderMetadata::parse);
+		ClientRegistration.Builder builder = withProviderConfiguration(metadata, issuer)
+			.jwkSetUri(metadata.getJWKSetURI().toASCIIString());
+		if (metadata.getUserInfoEndpointURI() != null) {
+			builder.userInfoUri(metadata.getUserInfoEndpointURI().toASCIIString());
+		}
+		return new Discovery(true, configuration, builder);
+	}
+
 	static UriComponents oidcUri(String issuer) {
 		UriComponents uri = UriComponentsBuilder.fromUriString(issuer).build();
 		// @formatter:off
@@ -219,7 +440,7 @@ public final class ClientRegistrations {
 				.build();
 	}
 
-	static Supplier<ClientRegistration.Builder> oidcRfc8414(String issuer) {
+	static Supplier<Discovery> oidcRfc8414(String issuer) {
 		UriComponents uri = oidcRfc8414Uri(issuer);
 		// @formatter:on
 		return getRfc8414Builder(issuer, uri);
@@ -233,7 +454,7 @@ public final class ClientRegistrations {
 				.build();
 	}
 
-	static Supplier<ClientRegistration.Builder> oauth(String issuer) {
+	static Supplier<Discovery> oauth(String issuer) {
 		UriComponents uri = oauthUri(issuer);
 		return getRfc8414Builder(issuer, uri);
 	}
@@ -247,31 +468,37 @@ public final class ClientRegistrations {
 		// @formatter:on
 	}
 
-	private static Supplier<ClientRegistration.Builder> getRfc8414Builder(String issuer, UriComponents uri) {
+	private static Supplier<Discovery> getRfc8414Builder(String issuer, UriComponents uri) {
 		return () -> {
 			RequestEntity<Void> request = RequestEntity.get(uri.toUriString()).build();
 			Map<String, Object> configuration = rest.exchange(request, typeReference).getBody();
 			Assert.notNull(configuration, "Authorization server configuration cannot be null");
-			AuthorizationServerMetadata metadata = parse(configuration, AuthorizationServerMetadata::parse);
-			ClientRegistration.Builder builder = withProviderConfiguration(metadata, issuer);
-			URI jwkSetUri = metadata.getJWKSetURI();
-			if (jwkSetUri != null) {
-				builder.jwkSetUri(jwkSetUri.toASCIIString());
-			}
-			String userinfoEndpoint = (String) configuration.get("userinfo_endpoint");
-			if (userinfoEndpoint != null) {
-				builder.userInfoUri(userinfoEndpoint);
-			}
-			return builder;
+			return oauthDiscovery(issuer, configuration);
 		};
 	}
 
+	private static Discovery oauthDiscovery(String issuer, Map<String, Object> configuration) {
+		AuthorizationServerMetadata metadata = parse(configuration, AuthorizationServerMetadata::parse);
+		ClientRegistration.Builder builder = withProviderConfiguration(metadata, issuer);
+		URI jwkSetUri = metadata.getJWKSetURI();
+		if (jwkSetUri != null) {
+			builder.jwkSetUri(jwkSetUri.toASCIIString());
+		}
+		String userinfoEndpoint = (String) configuration.get("userinfo_endpoint");
+		if (userinfoEndpoint != null) {
+			builder.userInfoUri(userinfoEndpoint);
+		}
+		return new Discovery(false, configuration, builder);
+	}
+
 	@SafeVarargs
-	private static ClientRegistration.Builder getBuilder(String issuer,
-			Supplier<ClientRegistration.Builder>... suppliers) {
+	private static Discovery getBuilder(String issuer, Supplier<Discovery>... suppliers) {
 		String errorMessage = "Unable to resolve Configuration with the provided Issuer of \"" + issuer + "\"";
 		List<String> errors = new ArrayList<>();
-		for (Supplier<ClientRegistration.Builder> supplier : suppliers) {
+		for (Supplier<Discovery> supplier : suppliers) {
+			if (Thread.currentThread().isInterrupted()) {
+				throw new IllegalArgumentException(errorMessage + ", the discovery was interrupted");
+			}
 			try {
 				return supplier.get();
 			}
@@ -365,4 +592,8 @@ public final class ClientRegistrations {
 
 	}
 
+	record Discovery(boolean oidc, Map<String, Object> configuration, ClientRegistration.Builder builder) {
+
+	}
+
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.client.web;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * An implementation of an {@link AuthorizationRequestRepository} that stores
+ * {@link OAuth2AuthorizationRequest} in an encrypted cookie, so that initiating an
+ * authorization request does not create an {@code HttpSession}.
+ *
+ * <p>
+ * The cookie is encoded by an {@link OAuth2AuthorizationRequestCookieCodec}, which
+ * encrypts and authenticates it, bounds its size and lifetime, and rejects it once the
+ * authorization request was removed. The cookie is {@code HttpOnly}, {@code Secure} when
+ * the request is secure, and {@code SameSite=Lax}, so that it is sent along with the
+ * redirect back from the authorization server. Use
+ * {@link #setCookieCustomizer(Consumer)} to change these attributes, for example to
+ * {@code SameSite=None} when the authorization response is posted with
+ * {@code response_mode=form_post}.
+ *
+ * @since 7.1
+ * @see AuthorizationRequestRepository
+ * @see OAuth2AuthorizationRequest
+ * @see HttpSessionOAuth2AuthorizationRequestRepository
+ */
+public final class CookieOAuth2AuthorizationRequestRepository
+		implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+	private static final String DEFAULT_COOKIE_NAME = "OAUTH2_AUTHORIZATION_REQUEST";
+
+	private final OAuth2AuthorizationRequestCookieCodec codec;
+
+	private String cookieName = DEFAULT_COOKIE_NAME;
+
+	private Consumer<ResponseCookie.ResponseCookieBuilder> cookieCustomizer = (builder) -> {
+	};
+
+	/**
+	 * Constructs a {@code CookieOAuth2AuthorizationRequestRepository} using the provided
+	 * parameters.
+	 * @param codec the {@link OAuth2AuthorizationRequestCookieCodec} that encodes the
+	 * cookie
+	 */
+	public CookieOAuth2AuthorizationRequestRepository(OAuth2AuthorizationRequestCookieCodec codec) {
+		Assert.notNull(codec, "codec cannot be null");
+		this.codec = codec;
+	}
+
+	@Override
+	public @Nullable OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+		Assert.notNull(request, "request cannot be null");
+		String value = getCookieValue(request);
+		return (value != null) ? getAuthorizationRequest(request, value) : null;
+	}
+
+	@Override
+	public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest, HttpServletRequest request,
+			HttpServletResponse response) {
+		Assert.notNull(request, "request cannot be null");
+		Assert.notNull(response, "response cannot be null");
+		if (authorizationRequest == null) {
+			removeAuthorizationRequest(request, response);
+			return;
+		}
+		String state = authorizationRequest.getState();
+		Assert.hasText(state, "authorizationRequest.state cannot be empty");
+		addCookie(request, response, this.codec.encode(authorizationRequest), this.codec.getTimeToLive());
+	}
+
+	@Override
+	public @Nullable OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+			HttpServletResponse response) {
+		Assert.notNull(request, "request cannot be null");
+		Assert.notNull(response, "response cannot be null");
+		String value = getCookieValue(request);
+		if (value == null || getAuthorizationRequest(request, value) == null) {
+			return null;
+		}
+		addCookie(request, response, "", Duration.ZERO);
+		return this.codec.consume(value);
+	}
+
+	/**
+	 * Sets the name of the cookie that stores the {@link OAuth2AuthorizationRequest}.
+	 * Defaults to {@code OAUTH2_AUTHORIZATION_REQUEST}.
+	 * @param cookieName the name of the cookie
+	 */
+	public void setCookieName(String cookieName) {
+		Assert.hasText(cookieName, "cookieName cannot be empty");
+		this.cookieName = cookieName;
+	}
+
+	/**
+	 * Sets a {@link Consumer} that customizes the cookie that stores the
+	 * {@link OAuth2AuthorizationRequest} before it is added to the response.
+	 * @param cookieCustomizer the {@link Consumer} that customizes the cookie
+	 */
+	public void setCookieCustomizer(Consumer<ResponseCookie.ResponseCookieBuilder> cookieCustomizer) {
+		Assert.notNull(cookieCustomizer, "cookieCustomizer cannot be null");
+		this.cookieCustomizer = cookieCustomizer;
+	}
+
+	private @Nullable String getCookieValue(HttpServletRequest request) {
+		Cookie cookie = WebUtils.getCookie(request, this.cookieName);
+		return (cookie != null && StringUtils.hasLength(cookie.getValue())) ? cookie.getValue() : null;
+	}
+
+	private @Nullable OAuth2AuthorizationRequest getAuthorizationRequest(HttpServletRequest request, String value) {
+		String state = request.getParameter(OAuth2ParameterNames.STATE);
+		if (state == null) {
+			return null;
+		}
+		OAuth2AuthorizationRequest authorizationRequest = this.codec.decode(value);
+		return (authorizationRequest != null && state.equals(authorizationRequest.getState())) ? authorizationRequest
+				: null;
+	}
+
+	private void addCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+		String contextPath = request.getContextPath();
+		ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(this.cookieName, value)
+			.path(StringUtils.hasLength(contextPath) ? contextPath : "/")
+			.maxAge(maxAge)
+			.httpOnly(true)
+			.secure(request.isSecure())
+			.sameSite("Lax");
+		this.cookieCustomizer.accept(cookie);
+		response.addHeader(HttpHeaders.SET_COOKIE, cookie.build().toString());
+	}
+
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.client.web;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.Assert;
+
+/**
+ * Encodes an {@link OAuth2AuthorizationRequest} into a cookie value that is compressed,
+ * then encrypted and authenticated with AES/GCM, and decodes it back, so that the
+ * authorization request, including its state and PKCE code verifier, can be kept by the
+ * user agent instead of in a session.
+ *
+ * <p>
+ * Values are encrypted with the first of the provided keys and decrypted with whichever
+ * of them encrypted the value, so that keys can be rotated by adding a new key in front
+ * of the previous ones and removing the previous ones once their values have expired.
+ * Values expire after the {@link #setTimeToLive(Duration) time to live} and cannot be
+ * longer than the {@link #setMaxLength(int) maximum length}. A value that was
+ * {@link #consume(String) consumed} is not decoded again by this codec, which rejects
+ * authorization responses that are replayed against the same application instance.
+ *
+ * <p>
+ * The additional parameters and attributes of the authorization request must be
+ * {@link String}, {@link Boolean}, {@link Integer} or {@link Long} values.
+ *
+ * @since 7.1
+ * @see CookieOAuth2AuthorizationRequestRepository
+ * @see org.springframework.security.oauth2.client.web.server.CookieOAuth2ServerAuthorizationRequestRepository
+ */
+public final class OAuth2AuthorizationRequestCookieCodec {
+
+	private static final byte VERSION = 1;
+
+	private static final int KEY_ID_LENGTH = 4;
+
+	private static final int HEADER_LENGTH = 1 + KEY_ID_LENGTH;
+
+	private static final int IV_LENGTH = 12;
+
+	private static final int TAG_LENGTH = 128;
+
+	private static final byte STRING = 0;
+
+	private static final byte BOOLEAN = 1;
+
+	private static final byte INTEGER = 2;
+
+	private static final byte LONG = 3;
+
+	private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final SecureRandom random = new SecureRandom();
+
+	private final List<Key> keys = new ArrayList<>();
+
+	private final Map<String, Instant> consumed = new ConcurrentHashMap<>();
+
+	private Duration timeToLive = Duration.ofMinutes(10);
+
+	private int maxLength = 4000;
+
+	private Clock clock = Clock.systemUTC();
+
+	private volatile Instant nextPurge = Instant.MIN;
+
+	/**
+	 * Constructs an {@code OAuth2AuthorizationRequestCookieCodec} using the provided
+	 * parameters.
+	 * @param keys the AES keys, the first of which encrypts new values
+	 */
+	public OAuth2AuthorizationRequestCookieCodec(List<SecretKey> keys) {
+		Assert.notEmpty(keys, "keys cannot be empty");
+		for (SecretKey key : keys) {
+			Assert.notNull(key, "keys cannot contain null");
+			byte[] encoded = key.getEncoded();
+			Assert.isTrue(encoded != null && (encoded.length == 16 || encoded.length == 24 || encoded.length == 32),
+					"keys must be 128, 192 or 256 bit AES keys");
+			this.keys.add(new Key(keyId(encoded), new SecretKeySpec(encoded, "AES")));
+		}
+	}
+
+	/**
+	 * Encodes the provided {@link OAuth2AuthorizationRequest}.
+	 * @param authorizationRequest the {@link OAuth2AuthorizationRequest} to encode
+	 * @return the encoded value
+	 * @throws IllegalArgumentException if the encoded value is longer than the
+	 * {@link #setMaxLength(int) maximum length}
+	 */
+	public String encode(OAuth2AuthorizationRequest authorizationRequest) {
+		Assert.notNull(authorizationRequest, "authorizationRequest cannot be null");
+		Assert.isTrue(AuthorizationGrantType.AUTHORIZATION_CODE.equals(authorizationRequest.getGrantType()),
+				"authorizationRequest must be for the authorization_code grant");
+		byte[] plaintext = write(authorizationRequest, this.clock.instant().plus(this.timeToLive));
+		Key key = this.keys.get(0);
+		byte[] iv = new byte[IV_LENGTH];
+		this.random.nextBytes(iv);
+		byte[] header = header(key);
+		byte[] ciphertext;
+		try {
+			ciphertext = cipher(Cipher.ENCRYPT_MODE, key, iv, header).doFinal(plaintext);
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Unable to encrypt the authorization request", ex);
+		}
+		byte[] value = new byte[HEADER_LENGTH + IV_LENGTH + ciphertext.length];
+		System.arraycopy(header, 0, value, 0, HEADER_LENGTH);
+		System.arraycopy(iv, 0, value, HEADER_LENGTH, IV_LENGTH);
+		System.arraycopy(ciphertext, 0, value, HEADER_LENGTH + IV_LENGTH, ciphertext.length);
+		String encoded = ENCODER.encodeToString(value);
+		Assert.isTrue(encoded.length() <= this.maxLength, () -> "The encoded authorization request is "
+				+ encoded.length() + " characters long, which is more than " + this.maxLength);
+		return encoded;
+	}
+
+	/**
+	 * Decodes the provided value.
+	 * @param value the value to decode
+	 * @return the {@link OAuth2AuthorizationRequest}, or {@code null} if the value is
+	 * invalid, expired or already {@link #consume(String) consumed}
+	 */
+	public @Nullable OAuth2AuthorizationRequest decode(String value) {
+		Decoded decoded = read(value);
+		return (decoded != null && !this.consumed.containsKey(decoded.id())) ? decoded.authorizationRequest() : null;
+	}
+
+	/**
+	 * Decodes the provided value, so that it is not decoded again until it expires.
+	 * @param value the value to consume
+	 * @return the {@link OAuth2AuthorizationRequest}, or {@code null} if the value is
+	 * invalid, expired or already consumed
+	 */
+	public @Nullable OAuth2AuthorizationRequest consume(String value) {
+		Decoded decoded = read(value);
+		if (decoded == null) {
+			return null;
+		}
+		purgeConsumed(this.clock.instant());
+		return (this.consumed.putIfAbsent(decoded.id(), decoded.expiresAt()) == null)
+				? decoded.authorizationRequest() : null;
+	}
+
+	/**
+	 * Returns the time that an encoded {@link OAuth2AuthorizationRequest} can be decoded
+	 * for.
+	 * @return the time that an encoded value can be decoded for
+	 */
+	public Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Sets the time that an encoded {@link OAuth2AuthorizationRequest} can be decoded
+	 * for. Defaults to 10 minutes.
+	 * @param timeToLive the time that an encoded value can be decoded for
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "timeToLive cannot be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Sets the maximum length of an encoded {@link OAuth2AuthorizationRequest}. Defaults
+	 * to 4000 characters, which leaves room for the cookie name within the 4096 bytes
+	 * that user agents store for each cookie.
+	 * @param maxLength the maximum length of an encoded value
+	 */
+	public void setMaxLength(int maxLength) {
+		Assert.isTrue(maxLength > 0, "maxLength must be greater than 0");
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Sets the {@link Clock} used to expire encoded values.
+	 * @param clock the {@link Clock}
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	private @Nullable Decoded read(String value) {
+		Assert.notNull(value, "value cannot be null");
+		if (value.length() > this.maxLength) {
+			return null;
+		}
+		byte[] decoded;
+		try {
+			decoded = DECODER.decode(value);
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+		if (decoded.length < HEADER_LENGTH + IV_LENGTH + TAG_LENGTH / 8 || decoded[0] != VERSION) {
+			return null;
+		}
+		byte[] header = Arrays.copyOfRange(decoded, 0, HEADER_LENGTH);
+		Key key = findKey(header);
+		if (key == null) {
+			return null;
+		}
+		byte[] iv = Arrays.copyOfRange(decoded, HEADER_LENGTH, HEADER_LENGTH + IV_LENGTH);
+		try {
+			byte[] plaintext = cipher(Cipher.DECRYPT_MODE, key, iv, header).doFinal(decoded, HEADER_LENGTH + IV_LENGTH,
+					decoded.length - HEADER_LENGTH - IV_LENGTH);
+			return read(plaintext, ENCODER.encodeToString(iv));
+		}
+		catch (GeneralSecurityException | IOException ex) {
+			return null;
+		}
+	}
+
+	private @Nullable Decoded read(byte[] plaintext, String id) throws IOException {
+		try (DataInputStream in = new DataInputStream(
+				new InflaterInputStream(new ByteArrayInputStream(plaintext), new Inflater(true)))) {
+			Instant expiresAt = Instant.ofEpochSecond(in.readLong());
+			if (!this.clock.instant().isBefore(expiresAt)) {
+				return null;
+			}
+			OAuth2AuthorizationRequest.Builder builder = OAuth2AuthorizationRequest.authorizationCode()
+				.authorizationUri(in.readUTF())
+				.clientId(in.readUTF())
+				.redirectUri(readNullableString(in));
+			int scopeCount = in.readInt();
+			Set<String> scopes = new LinkedHashSet<>();
+			for (int i = 0; i < scopeCount; i++) {
+				scopes.add(in.readUTF());
+			}
+			OAuth2AuthorizationRequest authorizationRequest = builder.scopes(scopes)
+				.state(readNullableString(in))
+				.additionalParameters(readMap(in))
+				.attributes(readMap(in))
+				.authorizationRequestUri(in.readUTF())
+				.build();
+			return new Decoded(id, expiresAt, authorizationRequest);
+		}
+	}
+
+	private static byte[] write(OAuth2AuthorizationRequest authorizationRequest, Instant expiresAt) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+		try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+			out.writeLong(expiresAt.getEpochSecond());
+			out.writeUTF(authorizationRequest.getAuthorizationUri());
+			out.writeUTF(authorizationRequest.getClientId());
+			writeNullableString(out, authorizationRequest.getRedirectUri());
+			out.writeInt(authorizationRequest.getScopes().size());
+			for (String scope : authorizationRequest.getScopes()) {
+				out.writeUTF(scope);
+			}
+			writeNullableString(out, authorizationRequest.getState());
+			writeMap(out, authorizationRequest.getAdditionalParameters());
+			writeMap(out, authorizationRequest.getAttributes());
+			out.writeUTF(authorizationRequest.getAuthorizationRequestUri());
+		}
+		catch (IOException ex) {
+			throw new IllegalArgumentException("Unable to encode the authorization request", ex);
+		}
+		finally {
+			deflater.end();
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void writeNullableString(DataOutputStream out, @Nullable String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static @Nullable String readNullableString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+		out.writeInt(map.size());
+		for (Map.Entry<String, Object> entry : map.entrySet()) {
+			out.writeUTF(entry.getKey());
+			Object value = entry.getValue();
+			if (value instanceof String string) {
+				out.writeByte(STRING);
+				out.writeUTF(string);
+			}
+			else if (value instanceof Boolean bool) {
+				out.writeByte(BOOLEAN);
+				out.writeBoolean(bool);
+			}
+			else if (value instanceof Integer integer) {
+				out.writeByte(INTEGER);
+				out.writeInt(integer);
+			}
+			else if (value instanceof Long number) {
+				out.writeByte(LONG);
+				out.writeLong(number);
+			}
+			else {
+				throw new IllegalArgumentException("Unable to encode '" + entry.getKey() + "' since "
+						+ ((value != null) ? value.getClass().getName() : "null") + " values are not supported");
+			}
+		}
+	}
+
+	private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		Map<String, Object> map = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++) {
+			String name = in.readUTF();
+			byte type = in.readByte();
+			Object value = switch (type) {
+				case STRING -> in.readUTF();
+				case BOOLEAN -> in.readBoolean();
+				case INTEGER -> in.readInt();
+				case LONG -> in.readLong();
+				default -> throw new IOException("Unknown value type " + type);
+			};
+			map.put(name, value);
+		}
+		return map;
+	}
+
+	private @Nullable Key findKey(byte[] header) {
+		for (Key key : this.keys) {
+			if (MessageDigest.isEqual(header(key), header)) {
+				return key;
+			}
+		}
+		return null;
+	}
+
+	private void purgeConsumed(Instant now) {
+		if (now.isAfter(this.nextPurge)) {
+			this.nextPurge = now.plus(PURGE_INTERVAL);
+			this.consumed.values().removeIf((expiresAt) -> !now.isBefore(expiresAt));
+		}
+	}
+
+	private static Cipher cipher(int mode, Key key, byte[] iv, byte[] header) throws GeneralSecurityException {
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(mode, key.secretKey(), new GCMParameterSpec(TAG_LENGTH, iv));
+		cipher.updateAAD(header);
+		return cipher;
+	}
+
+	private static byte[] header(Key key) {
+		byte[] header = new byte[HEADER_LENGTH];
+		header[0] = VERSION;
+		System.arraycopy(key.id(), 0, header, 1, KEY_ID_LENGTH);
+		return header;
+	}
+
+	private static byte[] keyId(byte[] encoded) {
+		try {
+			return Arrays.copyOf(MessageDigest.getInstance("SHA-256").digest(encoded), KEY_ID_LENGTH);
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private record Key(byte[] id, SecretKey secretKey) {
+
+	}
+
+	private record Decoded(String id, Instant expiresAt, OAuth2AuthorizationRequest authorizationRequest) {
+
+	}
+
+}
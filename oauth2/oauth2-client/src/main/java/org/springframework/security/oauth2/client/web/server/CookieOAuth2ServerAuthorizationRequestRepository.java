@@ -0,0 +1,156 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.client.web.server;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpCookie;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestCookieCodec;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * An implementation of an {@link ServerAuthorizationRequestRepository} that stores
+ * {@link OAuth2AuthorizationRequest} in an encrypted cookie, so that initiating an
+ * authorization request does not create a {@code WebSession}.
+ *
+ * <p>
+ * The cookie is encoded by an {@link OAuth2AuthorizationRequestCookieCodec}, which
+ * encrypts and authenticates it, bounds its size and lifetime, and rejects it once the
+ * authorization request was removed. The cookie is {@code HttpOnly}, {@code Secure} when
+ * the request is secure, and {@code SameSite=Lax}, so that it is sent along with the
+ * redirect back from the authorization server. Use
+ * {@link #setCookieCustomizer(Consumer)} to change these attributes.
+ *
+ * @since 7.1
+ * @see ServerAuthorizationRequestRepository
+ * @see OAuth2AuthorizationRequest
+ * @see WebSessionOAuth2ServerAuthorizationRequestRepository
+ */
+public final class CookieOAuth2ServerAuthorizationRequestRepository
+		implements ServerAuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+	private static final String DEFAULT_COOKIE_NAME = "OAUTH2_AUTHORIZATION_REQUEST";
+
+	private final OAuth2AuthorizationRequestCookieCodec codec;
+
+	private String cookieName = DEFAULT_COOKIE_NAME;
+
+	private Consumer<ResponseCookie.ResponseCookieBuilder> cookieCustomizer = (builder) -> {
+	};
+
+	/**
+	 * Constructs a {@code CookieOAuth2ServerAuthorizationRequestRepository} using the
+	 * provided parameters.
+	 * @param codec the {@link OAuth2AuthorizationRequestCookieCodec} that encodes the
+	 * cookie
+	 */
+	public CookieOAuth2ServerAuthorizationRequestRepository(OAuth2AuthorizationRequestCookieCodec codec) {
+		Assert.notNull(codec, "codec cannot be null");
+		this.codec = codec;
+	}
+
+	@Override
+	public Mono<OAuth2AuthorizationRequest> loadAuthorizationRequest(ServerWebExchange exchange) {
+		Assert.notNull(exchange, "exchange cannot be null");
+		return Mono.defer(() -> {
+			String value = getCookieValue(exchange);
+			return Mono.justOrEmpty((value != null) ? getAuthorizationRequest(exchange, value) : null);
+		});
+	}
+
+	@Override
+	public Mono<Void> saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+			ServerWebExchange exchange) {
+		Assert.notNull(authorizationRequest, "authorizationRequest cannot be null");
+		Assert.notNull(exchange, "exchange cannot be null");
+		Assert.hasText(authorizationRequest.getState(), "authorizationRequest.state cannot be empty");
+		return Mono.fromRunnable(() -> addCookie(exchange, this.codec.encode(authorizationRequest),
+				this.codec.getTimeToLive()));
+	}
+
+	@Override
+	public Mono<OAuth2AuthorizationRequest> removeAuthorizationRequest(ServerWebExchange exchange) {
+		Assert.notNull(exchange, "exchange cannot be null");
+		return Mono.defer(() -> {
+			String value = getCookieValue(exchange);
+			if (value == null || getAuthorizationRequest(exchange, value) == null) {
+				return Mono.empty();
+			}
+			addCookie(exchange, "", Duration.ZERO);
+			return Mono.justOrEmpty(this.codec.consume(value));
+		});
+	}
+
+	/**
+	 * Sets the name of the cookie that stores the {@link OAuth2AuthorizationRequest}.
+	 * Defaults to {@code OAUTH2_AUTHORIZATION_REQUEST}.
+	 * @param cookieName the name of the cookie
+	 */
+	public void setCookieName(String cookieName) {
+		Assert.hasText(cookieName, "cookieName cannot be empty");
+		this.cookieName = cookieName;
+	}
+
+	/**
+	 * Sets a {@link Consumer} that customizes the cookie that stores the
+	 * {@link OAuth2AuthorizationRequest} before it is added to the response.
+	 * @param cookieCustomizer the {@link Consumer} that customizes the cookie
+	 */
+	public void setCookieCustomizer(Consumer<ResponseCookie.ResponseCookieBuilder> cookieCustomizer) {
+		Assert.notNull(cookieCustomizer, "cookieCustomizer cannot be null");
+		this.cookieCustomizer = cookieCustomizer;
+	}
+
+	private @Nullable String getCookieValue(ServerWebExchange exchange) {
+		HttpCookie cookie = exchange.getRequest().getCookies().getFirst(this.cookieName);
+		return (cookie != null && StringUtils.hasLength(cookie.getValue())) ? cookie.getValue() : null;
+	}
+
+	private @Nullable OAuth2AuthorizationRequest getAuthorizationRequest(ServerWebExchange exchange, String value) {
+		String state = exchange.getRequest().getQueryParams().getFirst(OAuth2ParameterNames.STATE);
+		if (state == null) {
+			return null;
+		}
+		OAuth2AuthorizationRequest authorizationRequest = this.codec.decode(value);
+		return (authorizationRequest != null && state.equals(authorizationRequest.getState())) ? authorizationRequest
+				: null;
+	}
+
+	private void addCookie(ServerWebExchange exchange, String value, Duration maxAge) {
+		ServerHttpRequest request = exchange.getRequest();
+		String contextPath = request.getPath().contextPath().value();
+		ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(this.cookieName, value)
+			.path(StringUtils.hasLength(contextPath) ? contextPath : "/")
+			.maxAge(maxAge)
+			.httpOnly(true)
+			.secure(request.getSslInfo() != null)
+			.sameSite("Lax");
+		this.cookieCustomizer.accept(cookie);
+		exchange.getResponse().addCookie(cookie.build());
+	}
+
+}
@@ -17,8 +17,15 @@
 package org.springframework.security.oauth2.client.registration;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
@@ -27,6 +34,7 @@ import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -601,6 +609,101 @@ public class ClientRegistrationsTests {
 			.withMessageContaining("404");
 	}
 
+	@Test
+	public void fromIssuerLocationsWhenIssuersThenDiscovered() {
+		String issuer1 = createIssuerFromServer("issuer1");
+		String issuer2 = createIssuerFromServer("issuer2");
+		this.server.setDispatcher(issuersDispatcher());
+		Map<String, ClientRegistration.Builder> builders = ClientRegistrations
+			.fromIssuerLocations(List.of(issuer1, issuer2), Duration.ofSeconds(10));
+		assertThat(builders).containsOnlyKeys(issuer1, issuer2);
+		ClientRegistration registration = builders.get(issuer2).clientId("client-id").build();
+		assertThat(registration.getProviderDetails().getIssuerUri()).isEqualTo(issuer2);
+		assertThat(registration.getProviderDetails().getJwkSetUri()).isEqualTo("https://example.com/oauth2/v3/certs");
+	}
+
+	@Test
+	public void fromIssuerLocationsWhenIssuerFailsThenExceptionIncludesEachFailure() {
+		String issuer1 = createIssuerFromServer("issuer1");
+		String unknown = createIssuerFromServer("unknown");
+		this.server.setDispatcher(issuersDispatcher());
+		List<String> issuers = List.of(issuer1, unknown);
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> ClientRegistrations.fromIssuerLocations(issuers, Duration.ofSeconds(10)))
+			.satisfies((ex) -> assertThat(ex.getSuppressed()).hasSize(1))
+			.withMessageContaining(unknown);
+	}
+
+	@Test
+	public void fromIssuerLocationsWhenSnapshotThenUsedInsteadOfDiscovery(@TempDir Path snapshots) {
+		String issuer1 = createIssuerFromServer("issuer1");
+		this.server.setDispatcher(issuersDispatcher());
+		ClientRegistrations.fromIssuerLocations(List.of(issuer1), Duration.ofSeconds(10), snapshots);
+		this.server.setDispatcher(new Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+				return new MockResponse().setResponseCode(500);
+			}
+		});
+		Map<String, ClientRegistration.Builder> builders = ClientRegistrations.fromIssuerLocations(List.of(issuer1),
+				Duration.ofSeconds(10), snapshots);
+		ClientRegistration registration = builders.get(issuer1).clientId("client-id").build();
+		assertThat(registration.getProviderDetails().getIssuerUri()).isEqualTo(issuer1);
+		assertThat(registration.getProviderDetails().getUserInfoEndpoint().getUri())
+			.isEqualTo("https://example.com/oauth2/v3/userinfo");
+	}
+
+	@Test
+	public void fromIssuerLocationsWhenTimeoutThenDiscoveryInterrupted() throws Exception {
+		String issuer1 = createIssuerFromServer("issuer1");
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch nextEndpoint = new CountDownLatch(1);
+		this.server.setDispatcher(new Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+				if ("/issuer1/.well-known/openid-configuration".equals(request.getPath())) {
+					release.await(10, TimeUnit.SECONDS);
+				}
+				else {
+					nextEndpoint.countDown();
+				}
+				return new MockResponse().setResponseCode(404);
+			}
+		});
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> ClientRegistrations.fromIssuerLocations(List.of(issuer1), Duration.ofMillis(100)))
+			.satisfies((ex) -> assertThat(ex.getSuppressed()).singleElement().isInstanceOf(TimeoutException.class));
+		release.countDown();
+		assertThat(nextEndpoint.await(500, TimeUnit.MILLISECONDS)).isFalse();
+	}
+
+	@Test
+	public void fromIssuerLocationsWhenTimeoutNotPositiveThenIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> ClientRegistrations.fromIssuerLocations(List.of(this.server.url("").toString()),
+					Duration.ZERO))
+			.withMessage("timeout must be positive");
+	}
+
+	private Dispatcher issuersDispatcher() {
+		return new Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+				return switch (request.getPath()) {
+					case "/issuer1/.well-known/openid-configuration" -> issuerResponse("issuer1");
+					case "/issuer2/.well-known/openid-configuration" -> issuerResponse("issuer2");
+					default -> new MockResponse().setResponseCode(404);
+				};
+			}
+		};
+	}
+
+	private MockResponse issuerResponse(String path) {
+		Map<String, Object> response = new HashMap<>(this.response);
+		response.put("issuer", createIssuerFromServer(path));
+		return buildSuccessMockResponse(this.mapper.writeValueAsString(response));
+	}
+
 	private ClientRegistration.Builder registration(String path) throws Exception {
 		this.issuer = createIssuerFromServer(path);
 		this.response.put("issuer", this.issuer);
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.client.web;
+
+import java.util.List;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.keygen.KeyGenerators;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.endpoint.TestOAuth2AuthorizationRequests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link CookieOAuth2AuthorizationRequestRepository}.
+ */
+public class CookieOAuth2AuthorizationRequestRepositoryTests {
+
+	private final OAuth2AuthorizationRequestCookieCodec codec = new OAuth2AuthorizationRequestCookieCodec(
+			List.of(new SecretKeySpec(KeyGenerators.secureRandom(32).generateKey(), "AES")));
+
+	private final CookieOAuth2AuthorizationRequestRepository authorizationRequestRepository = new CookieOAuth2AuthorizationRequestRepository(
+			this.codec);
+
+	private final OAuth2AuthorizationRequest authorizationRequest = TestOAuth2AuthorizationRequests.request().build();
+
+	@Test
+	public void constructorWhenCodecNullThenIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CookieOAuth2AuthorizationRequestRepository(null))
+			.withMessage("codec cannot be null");
+	}
+
+	@Test
+	public void saveAuthorizationRequestWhenSavedThenEncryptedCookieAndNoSession() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setSecure(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.authorizationRequestRepository.saveAuthorizationRequest(this.authorizationRequest, request, response);
+		Cookie cookie = response.getCookie("OAUTH2_AUTHORIZATION_REQUEST");
+		assertThat(cookie).isNotNull();
+		assertThat(cookie.getValue()).doesNotContain(this.authorizationRequest.getClientId());
+		assertThat(cookie.isHttpOnly()).isTrue();
+		assertThat(cookie.getSecure()).isTrue();
+		assertThat(cookie.getPath()).isEqualTo("/");
+		assertThat(cookie.getMaxAge()).isEqualTo(600);
+		assertThat(cookie.getAttribute("SameSite")).isEqualTo("Lax");
+		assertThat(request.getSession(false)).isNull();
+	}
+
+	@Test
+	public void loadAuthorizationRequestWhenSavedThenReturnAuthorizationRequest() {
+		MockHttpServletRequest request = callback(save(), this.authorizationRequest.getState());
+		assertThat(this.authorizationRequestRepository.loadAuthorizationRequest(request))
+			.isEqualTo(this.authorizationRequest);
+	}
+
+	@Test
+	public void loadAuthorizationRequestWhenStateDoesNotMatchThenNull() {
+		MockHttpServletRequest request = callback(save(), "other-state");
+		assertThat(this.authorizationRequestRepository.loadAuthorizationRequest(request)).isNull();
+	}
+
+	@Test
+	public void removeAuthorizationRequestWhenSavedThenRemovedAndCookieCleared() {
+		MockHttpServletRequest request = callback(save(), this.authorizationRequest.getState());
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		assertThat(this.authorizationRequestRepository.removeAuthorizationRequest(request, response))
+			.isEqualTo(this.authorizationRequest);
+		assertThat(response.getCookie("OAUTH2_AUTHORIZATION_REQUEST").getMaxAge()).isZero();
+	}
+
+	@Test
+	public void removeAuthorizationRequestWhenReplayedThenNull() {
+		Cookie cookie = save();
+		MockHttpServletRequest request = callback(cookie, this.authorizationRequest.getState());
+		this.authorizationRequestRepository.removeAuthorizationRequest(request, new MockHttpServletResponse());
+		MockHttpServletRequest replayed = callback(cookie, this.authorizationRequest.getState());
+		assertThat(this.authorizationRequestRepository.loadAuthorizationRequest(replayed)).isNull();
+		assertThat(this.authorizationRequestRepository.removeAuthorizationRequest(replayed,
+				new MockHttpServletResponse()))
+			.isNull();
+	}
+
+	@Test
+	public void saveAuthorizationRequestWhenCookieCustomizerThenCustomized() {
+		this.authorizationRequestRepository.setCookieName("AUTHORIZATION_REQUEST");
+		this.authorizationRequestRepository.setCookieCustomizer((cookie) -> cookie.sameSite("None").secure(true));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.authorizationRequestRepository.saveAuthorizationRequest(this.authorizationRequest,
+				new MockHttpServletRequest(), response);
+		Cookie cookie = response.getCookie("AUTHORIZATION_REQUEST");
+		assertThat(cookie.getAttribute("SameSite")).isEqualTo("None");
+		assertThat(cookie.getSecure()).isTrue();
+	}
+
+	private Cookie save() {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.authorizationRequestRepository.saveAuthorizationRequest(this.authorizationRequest,
+				new MockHttpServletRequest(), response);
+		return response.getCookie("OAUTH2_AUTHORIZATION_REQUEST");
+	}
+
+	private static MockHttpServletRequest callback(Cookie cookie, String state) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(cookie);
+		request.addParameter(OAuth2ParameterNames.STATE, state);
+		return request;
+	}
+
+}
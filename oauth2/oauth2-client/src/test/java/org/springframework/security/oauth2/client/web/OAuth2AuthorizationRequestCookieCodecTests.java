@@ -0,0 +1,136 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.client.web;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.crypto.keygen.KeyGenerators;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.PkceParameterNames;
+import org.springframework.security.oauth2.core.endpoint.TestOAuth2AuthorizationRequests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link OAuth2AuthorizationRequestCookieCodec}.
+ */
+public class OAuth2AuthorizationRequestCookieCodecTests {
+
+	private final SecretKey key = key();
+
+	private final OAuth2AuthorizationRequestCookieCodec codec = new OAuth2AuthorizationRequestCookieCodec(
+			List.of(this.key));
+
+	// @formatter:off
+	private final OAuth2AuthorizationRequest authorizationRequest = TestOAuth2AuthorizationRequests.allFields()
+			.attributes((attributes) -> attributes.put(PkceParameterNames.CODE_VERIFIER, "code-verifier"))
+			.additionalParameters(Map.of("max_age", 300L, "prompt_login", true))
+			.build();
+	// @formatter:on
+
+	@Test
+	public void constructorWhenInvalidKeysThenIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new OAuth2AuthorizationRequestCookieCodec(List.of()));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new OAuth2AuthorizationRequestCookieCodec(List.of(new SecretKeySpec(new byte[10], "AES"))));
+	}
+
+	@Test
+	public void decodeWhenEncodedThenAuthorizationRequest() {
+		String encoded = this.codec.encode(this.authorizationRequest);
+		assertThat(encoded).matches("[A-Za-z0-9_-]+");
+		assertThat(this.codec.decode(encoded)).isEqualTo(this.authorizationRequest);
+	}
+
+	@Test
+	public void decodeWhenKeyRotatedThenPreviousValuesDecoded() {
+		String encoded = this.codec.encode(this.authorizationRequest);
+		OAuth2AuthorizationRequestCookieCodec rotated = new OAuth2AuthorizationRequestCookieCodec(
+				List.of(key(), this.key));
+		assertThat(rotated.decode(encoded)).isEqualTo(this.authorizationRequest);
+		assertThat(this.codec.decode(rotated.encode(this.authorizationRequest))).isNull();
+	}
+
+	@Test
+	public void decodeWhenTamperedThenNull() {
+		String encoded = this.codec.encode(this.authorizationRequest);
+		char last = encoded.charAt(encoded.length() - 5);
+		String tampered = encoded.substring(0, encoded.length() - 5) + ((last != 'A') ? 'A' : 'B')
+				+ encoded.substring(encoded.length() - 4);
+		assertThat(this.codec.decode(tampered)).isNull();
+		assertThat(this.codec.decode("not-an-encoded-value")).isNull();
+	}
+
+	@Test
+	public void decodeWhenExpiredThenNull() {
+		Instant now = Instant.now();
+		this.codec.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		this.codec.setTimeToLive(Duration.ofMinutes(1));
+		String encoded = this.codec.encode(this.authorizationRequest);
+		this.codec.setClock(Clock.fixed(now.plusSeconds(59), ZoneOffset.UTC));
+		assertThat(this.codec.decode(encoded)).isEqualTo(this.authorizationRequest);
+		this.codec.setClock(Clock.fixed(now.plusSeconds(60), ZoneOffset.UTC));
+		assertThat(this.codec.decode(encoded)).isNull();
+	}
+
+	@Test
+	public void consumeWhenAlreadyConsumedThenNull() {
+		String encoded = this.codec.encode(this.authorizationRequest);
+		assertThat(this.codec.consume(encoded)).isEqualTo(this.authorizationRequest);
+		assertThat(this.codec.consume(encoded)).isNull();
+		assertThat(this.codec.decode(encoded)).isNull();
+	}
+
+	@Test
+	public void encodeWhenTooLongThenIllegalArgumentException() {
+		this.codec.setMaxLength(100);
+		assertThatIllegalArgumentException().isThrownBy(() -> this.codec.encode(this.authorizationRequest));
+	}
+
+	@Test
+	public void encodeWhenUnsupportedAttributeThenIllegalArgumentException() {
+		OAuth2AuthorizationRequest authorizationRequest = TestOAuth2AuthorizationRequests.request()
+			.attributes((attributes) -> attributes.put("instant", Instant.now()))
+			.build();
+		assertThatIllegalArgumentException().isThrownBy(() -> this.codec.encode(authorizationRequest))
+			.withMessageContaining("instant");
+	}
+
+	@Test
+	public void setWhenInvalidThenIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.codec.setTimeToLive(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.codec.setTimeToLive(Duration.ZERO));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.codec.setMaxLength(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.codec.setClock(null));
+	}
+
+	private static SecretKey key() {
+		return new SecretKeySpec(KeyGenerators.secureRandom(32).generateKey(), "AES");
+	}
+
+}
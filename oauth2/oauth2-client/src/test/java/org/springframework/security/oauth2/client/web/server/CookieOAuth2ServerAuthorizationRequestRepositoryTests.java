@@ -0,0 +1,119 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.client.web.server;
+
+import java.util.List;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.http.HttpCookie;
+import org.springframework.http.ResponseCookie;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.crypto.keygen.KeyGenerators;
+import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestCookieCodec;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.endpoint.TestOAuth2AuthorizationRequests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link CookieOAuth2ServerAuthorizationRequestRepository}.
+ */
+public class CookieOAuth2ServerAuthorizationRequestRepositoryTests {
+
+	private final OAuth2AuthorizationRequestCookieCodec codec = new OAuth2AuthorizationRequestCookieCodec(
+			List.of(new SecretKeySpec(KeyGenerators.secureRandom(32).generateKey(), "AES")));
+
+	private final CookieOAuth2ServerAuthorizationRequestRepository repository = new CookieOAuth2ServerAuthorizationRequestRepository(
+			this.codec);
+
+	private final OAuth2AuthorizationRequest authorizationRequest = TestOAuth2AuthorizationRequests.request().build();
+
+	@Test
+	public void constructorWhenCodecNullThenIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CookieOAuth2ServerAuthorizationRequestRepository(null))
+			.withMessage("codec cannot be null");
+	}
+
+	@Test
+	public void saveAuthorizationRequestWhenSavedThenCookieAndNoSession() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+		StepVerifier.create(this.repository.saveAuthorizationRequest(this.authorizationRequest, exchange))
+			.verifyComplete();
+		ResponseCookie cookie = exchange.getResponse().getCookies().getFirst("OAUTH2_AUTHORIZATION_REQUEST");
+		assertThat(cookie).isNotNull();
+		assertThat(cookie.isHttpOnly()).isTrue();
+		assertThat(cookie.getSameSite()).isEqualTo("Lax");
+		assertThat(cookie.getMaxAge().getSeconds()).isEqualTo(600);
+		StepVerifier.create(exchange.getSession().map((session) -> session.isStarted()))
+			.expectNext(false)
+			.verifyComplete();
+	}
+
+	@Test
+	public void loadAuthorizationRequestWhenSavedThenAuthorizationRequest() {
+		MockServerWebExchange exchange = callback(save(), this.authorizationRequest.getState());
+		StepVerifier.create(this.repository.loadAuthorizationRequest(exchange))
+			.expectNext(this.authorizationRequest)
+			.verifyComplete();
+	}
+
+	@Test
+	public void loadAuthorizationRequestWhenStateDoesNotMatchThenEmpty() {
+		MockServerWebExchange exchange = callback(save(), "other-state");
+		StepVerifier.create(this.repository.loadAuthorizationRequest(exchange)).verifyComplete();
+	}
+
+	@Test
+	public void removeAuthorizationRequestWhenSavedThenRemovedAndCookieCleared() {
+		MockServerWebExchange exchange = callback(save(), this.authorizationRequest.getState());
+		StepVerifier.create(this.repository.removeAuthorizationRequest(exchange))
+			.expectNext(this.authorizationRequest)
+			.verifyComplete();
+		ResponseCookie cookie = exchange.getResponse().getCookies().getFirst("OAUTH2_AUTHORIZATION_REQUEST");
+		assertThat(cookie.getMaxAge()).isZero();
+	}
+
+	@Test
+	public void removeAuthorizationRequestWhenReplayedThenEmpty() {
+		ResponseCookie cookie = save();
+		StepVerifier.create(this.repository.removeAuthorizationRequest(callback(cookie, "state")))
+			.expectNext(this.authorizationRequest)
+			.verifyComplete();
+		StepVerifier.create(this.repository.removeAuthorizationRequest(callback(cookie, "state"))).verifyComplete();
+	}
+
+	private ResponseCookie save() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+		this.repository.saveAuthorizationRequest(this.authorizationRequest, exchange).block();
+		return exchange.getResponse().getCookies().getFirst("OAUTH2_AUTHORIZATION_REQUEST");
+	}
+
+	private static MockServerWebExchange callback(ResponseCookie cookie, String state) {
+		return MockServerWebExchange.from(MockServerHttpRequest.get("/")
+			.queryParam(OAuth2ParameterNames.STATE, state)
+			.cookie(new HttpCookie(cookie.getName(), cookie.getValue())));
+	}
+
+}
@@ -137,12 +137,24 @@ public final class NimbusJwtDecoder implements JwtDecoder {
 	 */
 	@Override
 	public Jwt decode(String token) throws JwtException {
-		JWT jwt = parse(token);
+		return decode(parse(token));
+	}
+
+	/**
+	 * Decode and validate a JWT that was already parsed, for example to find out which
+	 * decoder to use, so that it is not parsed again
+	 * @param jwt the parsed JWT
+	 * @return a validated {@link Jwt}
+	 * @throws JwtException when the token is otherwise invalid
+	 * @since 7.1
+	 */
+	public Jwt decode(JWT jwt) throws JwtException {
+		Assert.notNull(jwt, "jwt cannot be null");
 		if (jwt instanceof PlainJWT) {
 			this.logger.trace("Failed to decode unsigned token");
 			throw new BadJwtException("Unsupported algorithm of " + jwt.getHeader().getAlgorithm());
 		}
-		Jwt createdJwt = createJwt(token, jwt);
+		Jwt createdJwt = createJwt(jwt.getParsedString(), jwt);
 		return validateJwt(createdJwt);
 	}
 
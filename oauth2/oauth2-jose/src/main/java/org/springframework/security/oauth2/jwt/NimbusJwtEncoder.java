@@ -23,6 +23,8 @@ import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
@@ -79,6 +81,13 @@ import org.springframework.util.function.ThrowingFunction;
  * provided via the constructor.
  *
  * <p>
+ * The {@code JWSSigner} of each signing key is created once and reused. To also avoid
+ * selecting the signing key from the {@code JWKSource} for every JWT, set a
+ * {@link #setJwkCacheTimeToLive(Duration) JWK cache time to live}. When keys are rotated,
+ * the signer of a key that is no longer selected is evicted after the
+ * {@link #setRetiredSignerTimeToLive(Duration) retired signer time to live}.
+ *
+ * <p>
  * <b>NOTE:</b> This implementation uses the Nimbus JOSE + JWT SDK.
  *
  * @author Joe Grandja
@@ -107,10 +116,18 @@ public final class NimbusJwtEncoder implements JwtEncoder {
 
 	private final JwsHeader defaultJwsHeader;
 
-	private final Map<JWK, JWSSigner> jwsSigners = new ConcurrentHashMap<>();
+	private final Map<JWK, Signer> jwsSigners = new ConcurrentHashMap<>();
+
+	private final Map<JwkSelection, SelectedJwk> selectedJwks = new ConcurrentHashMap<>();
 
 	private final JWKSource<SecurityContext> jwkSource;
 
+	private Duration jwkCacheTimeToLive = Duration.ZERO;
+
+	private Duration retiredSignerTimeToLive = Duration.ofHours(1);
+
+	private Clock clock = Clock.systemUTC();
+
 	private Converter<List<JWK>, JWK> jwkSelector = (jwks) -> {
 		throw new JwtEncodingException(
 				String.format(
@@ -168,6 +185,42 @@ public final class NimbusJwtEncoder implements JwtEncoder {
 		this.jwkSelector = jwkSelector;
 	}
 
+	/**
+	 * Sets how long to reuse the signing key that was selected from the
+	 * {@code JWKSource} for a given set of JWS headers, before selecting it again. The
+	 * key and its signer are replaced together, so that a JWT is never signed with a key
+	 * that does not match its headers. When keys are rotated, a new key may only be used
+	 * after this time, so it should be shorter than the time that the new key is published
+	 * before it becomes active. Defaults to {@link Duration#ZERO}, which selects the key
+	 * for every JWT.
+	 * @param jwkCacheTimeToLive how long to reuse a selected signing key
+	 * @since 7.1
+	 */
+	public void setJwkCacheTimeToLive(Duration jwkCacheTimeToLive) {
+		Assert.notNull(jwkCacheTimeToLive, "jwkCacheTimeToLive cannot be null");
+		Assert.isTrue(!jwkCacheTimeToLive.isNegative(), "jwkCacheTimeToLive cannot be negative");
+		this.jwkCacheTimeToLive = jwkCacheTimeToLive;
+		this.selectedJwks.clear();
+	}
+
+	/**
+	 * Sets how long to keep the {@code JWSSigner} of a signing key that is no longer
+	 * selected, for example while the headers of some JWTs still select the previous key
+	 * after a rotation. Signers that are retired for longer than this are evicted when a
+	 * new signing key is selected. Defaults to 1 hour.
+	 * @param retiredSignerTimeToLive how long to keep the signer of a retired key
+	 * @since 7.1
+	 */
+	public void setRetiredSignerTimeToLive(Duration retiredSignerTimeToLive) {
+		Assert.notNull(retiredSignerTimeToLive, "retiredSignerTimeToLive cannot be null");
+		Assert.isTrue(!retiredSignerTimeToLive.isNegative(), "retiredSignerTimeToLive cannot be negative");
+		this.retiredSignerTimeToLive = retiredSignerTimeToLive;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
 	@Override
 	public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
 		Assert.notNull(parameters, "parameters cannot be null");
@@ -179,14 +232,44 @@ public final class NimbusJwtEncoder implements JwtEncoder {
 
 		JwtClaimsSet claims = parameters.getClaims();
 
-		JWK jwk = selectJwk(headers);
-		headers = addKeyIdentifierHeadersIfNecessary(headers, jwk);
+		SelectedJwk selected = selectSigningJwk(headers);
+		headers = addKeyIdentifierHeadersIfNecessary(headers, selected.jwk);
 
-		String jws = serialize(headers, claims, jwk);
+		String jws = serialize(headers, claims, selected.signer);
 
 		return new Jwt(jws, claims.getIssuedAt(), claims.getExpiresAt(), headers.getHeaders(), claims.getClaims());
 	}
 
+	private SelectedJwk selectSigningJwk(JwsHeader headers) {
+		Instant now = this.clock.instant();
+		if (this.jwkCacheTimeToLive.isZero()) {
+			JWK jwk = selectJwk(headers);
+			return new SelectedJwk(jwk, getSigner(jwk, now), now);
+		}
+		JwkSelection selection = new JwkSelection(headers.getAlgorithm(), headers.getKeyId(),
+				headers.getX509SHA256Thumbprint());
+		SelectedJwk selected = this.selectedJwks.get(selection);
+		if (selected != null && now.isBefore(selected.expiresAt)) {
+			return selected;
+		}
+		JWK jwk = selectJwk(headers);
+		selected = new SelectedJwk(jwk, getSigner(jwk, now), now.plus(this.jwkCacheTimeToLive));
+		this.selectedJwks.values().removeIf((expired) -> !now.isBefore(expired.expiresAt));
+		this.selectedJwks.put(selection, selected);
+		return selected;
+	}
+
+	private JWSSigner getSigner(JWK jwk, Instant now) {
+		Signer signer = this.jwsSigners.get(jwk);
+		if (signer == null) {
+			signer = this.jwsSigners.computeIfAbsent(jwk, (key) -> new Signer(createSigner(key), now));
+			Instant retiredBefore = now.minus(this.retiredSignerTimeToLive);
+			this.jwsSigners.values().removeIf((retired) -> retired.selectedAt.isBefore(retiredBefore));
+		}
+		signer.selectedAt = now;
+		return signer.signer;
+	}
+
 	private JWK selectJwk(JwsHeader headers) {
 		List<JWK> jwks;
 		try {
@@ -207,12 +290,10 @@ public final class NimbusJwtEncoder implements JwtEncoder {
 		return this.jwkSelector.convert(jwks);
 	}
 
-	private String serialize(JwsHeader headers, JwtClaimsSet claims, JWK jwk) {
+	private String serialize(JwsHeader headers, JwtClaimsSet claims, JWSSigner jwsSigner) {
 		JWSHeader jwsHeader = convert(headers);
 		JWTClaimsSet jwtClaimsSet = convert(claims);
 
-		JWSSigner jwsSigner = this.jwsSigners.computeIfAbsent(jwk, NimbusJwtEncoder::createSigner);
-
 		SignedJWT signedJwt = new SignedJWT(jwsHeader, jwtClaimsSet);
 		try {
 			signedJwt.sign(jwsSigner);
@@ -423,6 +504,40 @@ public final class NimbusJwtEncoder implements JwtEncoder {
 		}
 	}
 
+	private record JwkSelection(@Nullable JwsAlgorithm algorithm, @Nullable String keyId,
+			@Nullable String x509SHA256Thumbprint) {
+
+	}
+
+	private static final class SelectedJwk {
+
+		private final JWK jwk;
+
+		private final JWSSigner signer;
+
+		private final Instant expiresAt;
+
+		private SelectedJwk(JWK jwk, JWSSigner signer, Instant expiresAt) {
+			this.jwk = jwk;
+			this.signer = signer;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+	private static final class Signer {
+
+		private final JWSSigner signer;
+
+		private volatile Instant selectedAt;
+
+		private Signer(JWSSigner signer, Instant selectedAt) {
+			this.signer = signer;
+			this.selectedAt = selectedAt;
+		}
+
+	}
+
 	/**
 	 * Creates a builder for constructing a {@link NimbusJwtEncoder} using the provided
 	 * @param publicKey the {@link RSAPublicKey} and @Param privateKey the
@@ -150,11 +150,28 @@ public final class NimbusReactiveJwtDecoder implements ReactiveJwtDecoder {
 	@Override
 	public Mono<Jwt> decode(String token) {
 		try {
-			JWT jwt = JWTParser.parse(token);
+			return decode(JWTParser.parse(token));
+		}
+		catch (Exception ex) {
+			return Mono.error(new BadJwtException(
+					"An error occurred while attempting to decode the Jwt: " + ex.getMessage(), ex));
+		}
+	}
+
+	/**
+	 * Decode and validate a JWT that was already parsed, for example to find out which
+	 * decoder to use, so that it is not parsed again
+	 * @param jwt the parsed JWT
+	 * @return a validated {@link Jwt}
+	 * @since 7.1
+	 */
+	public Mono<Jwt> decode(JWT jwt) {
+		Assert.notNull(jwt, "jwt cannot be null");
+		try {
 			if (jwt instanceof PlainJWT) {
 				return Mono.error(new BadJwtException("Unsupported algorithm of " + jwt.getHeader().getAlgorithm()));
 			}
-			return this.decode(jwt);
+			return process(jwt);
 		}
 		catch (Exception ex) {
 			return Mono.error(new BadJwtException(
@@ -162,7 +179,7 @@ public final class NimbusReactiveJwtDecoder implements ReactiveJwtDecoder {
 		}
 	}
 
-	private Mono<Jwt> decode(JWT parsedToken) {
+	private Mono<Jwt> process(JWT parsedToken) {
 		try {
 			// @formatter:off
 			return this.jwtProcessor.convert(parsedToken)
@@ -50,6 +50,7 @@ import com.nimbusds.jose.proc.JWSKeySelector;
 import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
 import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.proc.BadJWTException;
 import com.nimbusds.jwt.proc.DefaultJWTProcessor;
@@ -181,6 +182,22 @@ public class NimbusJwtDecoderTests {
 		this.jwtDecoder.decode(SIGNED_JWT);
 	}
 
+	@Test
+	public void decodeWhenParsedJwtThenReturnsSameJwtAsToken() throws Exception {
+		Jwt jwt = this.jwtDecoder.decode(JWTParser.parse(SIGNED_JWT));
+		assertThat(jwt.getTokenValue()).isEqualTo(SIGNED_JWT);
+		assertThat(jwt.getClaims()).isEqualTo(this.jwtDecoder.decode(SIGNED_JWT).getClaims());
+	}
+
+	@Test
+	public void decodeWhenParsedPlainJwtThenBadJwtException() throws Exception {
+		// @formatter:off
+		assertThatExceptionOfType(BadJwtException.class)
+				.isThrownBy(() -> this.jwtDecoder.decode(JWTParser.parse(UNSIGNED_JWT)))
+				.withMessageContaining("Unsupported algorithm of none");
+		// @formatter:on
+	}
+
 	// gh-5457
 	@Test
 	public void decodeWhenPlainJwtThenExceptionDoesNotMentionClass() {
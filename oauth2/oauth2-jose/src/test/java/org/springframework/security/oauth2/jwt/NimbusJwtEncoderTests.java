@@ -18,7 +18,10 @@ package org.springframework.security.oauth2.jwt;
 
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -65,6 +68,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -307,6 +311,61 @@ public class NimbusJwtEncoderTests {
 		assertThat(jwk1.getKeyID()).isNotEqualTo(jwk2.getKeyID());
 	}
 
+	@Test
+	public void encodeWhenJwkCacheTimeToLiveThenJwkSelectedOnce() throws Exception {
+		Instant now = Instant.now();
+		JWKSource<SecurityContext> jwkSource = mock(JWKSource.class);
+		given(jwkSource.get(any(), any())).willReturn(List.of(TestJwks.DEFAULT_RSA_JWK));
+		NimbusJwtEncoder jwtEncoder = new NimbusJwtEncoder(jwkSource);
+		jwtEncoder.setJwkCacheTimeToLive(Duration.ofMinutes(5));
+		jwtEncoder.setClock(Clock.fixed(now, ZoneOffset.UTC));
+
+		JwtClaimsSet jwtClaimsSet = TestJwtClaimsSets.jwtClaimsSet().build();
+		jwtEncoder.encode(JwtEncoderParameters.from(jwtClaimsSet));
+		jwtEncoder.encode(JwtEncoderParameters.from(jwtClaimsSet));
+		verify(jwkSource, times(1)).get(any(), any());
+
+		jwtEncoder.setClock(Clock.fixed(now.plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+		jwtEncoder.encode(JwtEncoderParameters.from(jwtClaimsSet));
+		verify(jwkSource, times(2)).get(any(), any());
+	}
+
+	@Test
+	public void encodeWhenKeysRotatedThenNewKeyUsedOnceJwkCacheTimeToLiveElapsed() throws Exception {
+		Instant now = Instant.now();
+		TestJWKSource jwkSource = new TestJWKSource();
+		NimbusJwtEncoder jwtEncoder = new NimbusJwtEncoder(jwkSource);
+		jwtEncoder.setJwkCacheTimeToLive(Duration.ofMinutes(5));
+		jwtEncoder.setClock(Clock.fixed(now, ZoneOffset.UTC));
+
+		JwsHeader jwsHeader = JwsHeader.with(SignatureAlgorithm.RS256).build();
+		JwtClaimsSet jwtClaimsSet = TestJwtClaimsSets.jwtClaimsSet().build();
+		Jwt encodedJws = jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, jwtClaimsSet));
+		Object keyId = encodedJws.getHeaders().get(JoseHeaderNames.KID);
+
+		jwkSource.rotate(); // Simulate key rotation
+
+		encodedJws = jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, jwtClaimsSet));
+		assertThat(encodedJws.getHeaders()).containsEntry(JoseHeaderNames.KID, keyId);
+
+		jwtEncoder.setClock(Clock.fixed(now.plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+		encodedJws = jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, jwtClaimsSet));
+		assertThat(encodedJws.getHeaders().get(JoseHeaderNames.KID)).isNotEqualTo(keyId);
+	}
+
+	@Test
+	public void setJwkCacheTimeToLiveWhenNegativeThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.jwtEncoder.setJwkCacheTimeToLive(Duration.ofSeconds(-1)))
+			.withMessage("jwkCacheTimeToLive cannot be negative");
+	}
+
+	@Test
+	public void setRetiredSignerTimeToLiveWhenNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.jwtEncoder.setRetiredSignerTimeToLive(null))
+			.withMessage("retiredSignerTimeToLive cannot be null");
+	}
+
 	@Test
 	public void encodeWhenMultipleKeysThenJwkSelectorUsed() throws Exception {
 		JWK jwk = TestJwks.rsa().algorithm(JWSAlgorithm.RS256).build();
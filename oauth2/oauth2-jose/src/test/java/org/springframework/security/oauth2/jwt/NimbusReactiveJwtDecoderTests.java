@@ -50,6 +50,7 @@ import com.nimbusds.jose.proc.JWKSecurityContext;
 import com.nimbusds.jose.proc.JWSKeySelector;
 import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
 import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
 import okhttp3.mockwebserver.MockResponse;
@@ -236,6 +237,22 @@ public class NimbusReactiveJwtDecoderTests {
 		// @formatter:on
 	}
 
+	@Test
+	public void decodeWhenParsedJwtThenSuccess() throws Exception {
+		Jwt jwt = this.decoder.decode(JWTParser.parse(this.messageReadToken)).block();
+		assertThat(jwt.getTokenValue()).isEqualTo(this.messageReadToken);
+		assertThat(jwt.getClaims()).containsEntry("scope", "message:read");
+	}
+
+	@Test
+	public void decodeWhenParsedUnsignedJwtThenBadJwtException() throws Exception {
+		// @formatter:off
+		assertThatExceptionOfType(BadJwtException.class)
+				.isThrownBy(() -> this.decoder.decode(JWTParser.parse(this.unsignedToken)).block())
+				.withMessage("Unsupported algorithm of none");
+		// @formatter:on
+	}
+
 	@Test
 	public void decodeWhenUsingCustomValidatorThenValidatorIsInvoked() {
 		OAuth2TokenValidator jwtValidator = mock(OAuth2TokenValidator.class);
@@ -32,6 +32,7 @@ import org.springframework.security.oauth2.jwt.BadJwtException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.util.Assert;
 
@@ -97,7 +98,7 @@ public final class JwtAuthenticationProvider implements AuthenticationProvider {
 
 	private Jwt getJwt(BearerTokenAuthenticationToken bearer) {
 		try {
-			return this.jwtDecoder.decode(bearer.getToken());
+			return decode(bearer);
 		}
 		catch (BadJwtException failed) {
 			this.logger.debug("Failed to authenticate since the JWT was invalid");
@@ -110,6 +111,14 @@ public final class JwtAuthenticationProvider implements AuthenticationProvider {
 		}
 	}
 
+	private Jwt decode(BearerTokenAuthenticationToken bearer) {
+		if (bearer instanceof ParsedJwtBearerTokenAuthenticationToken parsed && parsed.getJwt() != null
+				&& this.jwtDecoder instanceof NimbusJwtDecoder nimbus) {
+			return nimbus.decode(parsed.getJwt());
+		}
+		return this.jwtDecoder.decode(bearer.getToken());
+	}
+
 	@Override
 	public boolean supports(Class<?> authentication) {
 		return BearerTokenAuthenticationToken.class.isAssignableFrom(authentication);
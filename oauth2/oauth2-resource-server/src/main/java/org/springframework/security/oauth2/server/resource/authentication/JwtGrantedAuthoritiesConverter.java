@@ -31,6 +31,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StringUtils;
 
 /**
@@ -56,6 +57,10 @@ public final class JwtGrantedAuthoritiesConverter implements Converter<Jwt, Coll
 
 	private Collection<String> authoritiesClaimNames = WELL_KNOWN_AUTHORITIES_CLAIM_NAMES;
 
+	private int authoritiesCacheSize;
+
+	private @Nullable ConcurrentLruCache<Object, Collection<GrantedAuthority>> authoritiesCache;
+
 	/**
 	 * Extract {@link GrantedAuthority}s from the given {@link Jwt}.
 	 * @param jwt The {@link Jwt} token
@@ -63,11 +68,18 @@ public final class JwtGrantedAuthoritiesConverter implements Converter<Jwt, Coll
 	 */
 	@Override
 	public Collection<GrantedAuthority> convert(Jwt jwt) {
-		Collection<GrantedAuthority> grantedAuthorities = new ArrayList<>();
-		for (String authority : getAuthorities(jwt)) {
-			grantedAuthorities.add(new SimpleGrantedAuthority(this.authorityPrefix + authority));
+		Object authorities = getAuthoritiesClaim(jwt);
+		ConcurrentLruCache<Object, Collection<GrantedAuthority>> authoritiesCache = this.authoritiesCache;
+		if (authoritiesCache == null) {
+			return createGrantedAuthorities(authorities);
 		}
-		return grantedAuthorities;
+		if (authorities instanceof String) {
+			return authoritiesCache.get(authorities);
+		}
+		if (authorities instanceof Collection<?> collection) {
+			return authoritiesCache.get(new ArrayList<>(collection));
+		}
+		return Collections.emptyList();
 	}
 
 	/**
@@ -80,6 +92,7 @@ public final class JwtGrantedAuthoritiesConverter implements Converter<Jwt, Coll
 	public void setAuthorityPrefix(String authorityPrefix) {
 		Assert.notNull(authorityPrefix, "authorityPrefix cannot be null");
 		this.authorityPrefix = authorityPrefix;
+		resetAuthoritiesCache();
 	}
 
 	/**
@@ -92,6 +105,7 @@ public final class JwtGrantedAuthoritiesConverter implements Converter<Jwt, Coll
 	public void setAuthoritiesClaimDelimiter(String authoritiesClaimDelimiter) {
 		Assert.notNull(authoritiesClaimDelimiter, "authoritiesClaimDelimiter cannot be null");
 		this.authoritiesClaimDelimiter = authoritiesClaimDelimiter;
+		resetAuthoritiesCache();
 	}
 
 	/**
@@ -106,6 +120,35 @@ public final class JwtGrantedAuthoritiesConverter implements Converter<Jwt, Coll
 		this.authoritiesClaimNames = Collections.singletonList(authoritiesClaimName);
 	}
 
+	/**
+	 * Sets the number of distinct authorities claim values, such as {@code scope}
+	 * strings, whose {@link GrantedAuthority authorities} are cached. When tokens carry
+	 * many scopes, this saves splitting the claim and creating the same
+	 * {@link GrantedAuthority authorities} on each request. Cached authorities are
+	 * unmodifiable and shared between the tokens with the same claim value. Defaults to
+	 * {@code 0}, which means that authorities are not cached.
+	 * @param authoritiesCacheSize the maximum number of cached claim values
+	 * @since 7.1
+	 */
+	public void setAuthoritiesCacheSize(int authoritiesCacheSize) {
+		Assert.isTrue(authoritiesCacheSize >= 0, "authoritiesCacheSize cannot be negative");
+		this.authoritiesCacheSize = authoritiesCacheSize;
+		resetAuthoritiesCache();
+	}
+
+	private void resetAuthoritiesCache() {
+		this.authoritiesCache = (this.authoritiesCacheSize > 0) ? new ConcurrentLruCache<>(this.authoritiesCacheSize,
+				(authorities) -> Collections.unmodifiableCollection(createGrantedAuthorities(authorities))) : null;
+	}
+
+	private Collection<GrantedAuthority> createGrantedAuthorities(@Nullable Object authorities) {
+		Collection<GrantedAuthority> grantedAuthorities = new ArrayList<>();
+		for (String authority : getAuthorities(authorities)) {
+			grantedAuthorities.add(new SimpleGrantedAuthority(this.authorityPrefix + authority));
+		}
+		return grantedAuthorities;
+	}
+
 	private @Nullable String getAuthoritiesClaimName(Jwt jwt) {
 		for (String claimName : this.authoritiesClaimNames) {
 			if (jwt.hasClaim(claimName)) {
@@ -115,16 +158,19 @@ public final class JwtGrantedAuthoritiesConverter implements Converter<Jwt, Coll
 		return null;
 	}
 
-	private Collection<String> getAuthorities(Jwt jwt) {
+	private @Nullable Object getAuthoritiesClaim(Jwt jwt) {
 		String claimName = getAuthoritiesClaimName(jwt);
 		if (claimName == null) {
 			this.logger.trace("Returning no authorities since could not find any claims that might contain scopes");
-			return Collections.emptyList();
+			return null;
 		}
 		if (this.logger.isTraceEnabled()) {
 			this.logger.trace(LogMessage.format("Looking for scopes in claim %s", claimName));
 		}
-		Object authorities = jwt.getClaim(claimName);
+		return jwt.getClaim(claimName);
+	}
+
+	private Collection<String> getAuthorities(@Nullable Object authorities) {
 		if (authorities instanceof String) {
 			if (StringUtils.hasText((String) authorities)) {
 				return Arrays.asList(((String) authorities).split(this.authoritiesClaimDelimiter));
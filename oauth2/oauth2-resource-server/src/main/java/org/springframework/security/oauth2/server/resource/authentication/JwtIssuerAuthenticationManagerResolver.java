@@ -19,23 +19,18 @@ package org.springframework.security.oauth2.server.resource.authentication;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
+import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTParser;
 import jakarta.servlet.http.HttpServletRequest;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.convert.converter.Converter;
-import org.springframework.core.log.LogMessage;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationManagerResolver;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtDecoders;
 import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.util.Assert;
 
@@ -88,6 +83,7 @@ public final class JwtIssuerAuthenticationManagerResolver implements Authenticat
 	 * parameters
 	 * @param trustedIssuers a predicate to validate issuers
 	 * @since 6.2
+	 * @see TrustedIssuerJwtAuthenticationManagerResolver
 	 */
 	public static JwtIssuerAuthenticationManagerResolver fromTrustedIssuers(Predicate<String> trustedIssuers) {
 		Assert.notNull(trustedIssuers, "trustedIssuers cannot be null");
@@ -134,7 +130,7 @@ public final class JwtIssuerAuthenticationManagerResolver implements Authenticat
 
 	private static class ResolvingAuthenticationManager implements AuthenticationManager {
 
-		private final Converter<BearerTokenAuthenticationToken, String> issuerConverter = new JwtClaimIssuerConverter();
+		private final Converter<BearerTokenAuthenticationToken, ParsedJwtBearerTokenAuthenticationToken> issuerConverter = new JwtClaimIssuerConverter();
 
 		private final AuthenticationManagerResolver<String> issuerAuthenticationManagerResolver;
 
@@ -147,15 +143,16 @@ public final class JwtIssuerAuthenticationManagerResolver implements Authenticat
 			Assert.isTrue(authentication instanceof BearerTokenAuthenticationToken,
 					"Authentication must be of type BearerTokenAuthenticationToken");
 			BearerTokenAuthenticationToken token = (BearerTokenAuthenticationToken) authentication;
-			String issuer = this.issuerConverter.convert(token);
-			AuthenticationManager authenticationManager = this.issuerAuthenticationManagerResolver.resolve(issuer);
+			ParsedJwtBearerTokenAuthenticationToken parsed = this.issuerConverter.convert(token);
+			AuthenticationManager authenticationManager = this.issuerAuthenticationManagerResolver
+				.resolve(parsed.getIssuer());
 			if (authenticationManager == null) {
 				AuthenticationException ex = new InvalidBearerTokenException("Invalid issuer");
 				ex.setAuthenticationRequest(authentication);
 				throw ex;
 			}
 			try {
-				return authenticationManager.authenticate(authentication);
+				return authenticationManager.authenticate(parsed);
 			}
 			catch (AuthenticationException ex) {
 				ex.setAuthenticationRequest(authentication);
@@ -165,15 +162,17 @@ public final class JwtIssuerAuthenticationManagerResolver implements Authenticat
 
 	}
 
-	private static class JwtClaimIssuerConverter implements Converter<BearerTokenAuthenticationToken, String> {
+	private static class JwtClaimIssuerConverter
+			implements Converter<BearerTokenAuthenticationToken, ParsedJwtBearerTokenAuthenticationToken> {
 
 		@Override
-		public String convert(BearerTokenAuthenticationToken authentication) {
+		public ParsedJwtBearerTokenAuthenticationToken convert(BearerTokenAuthenticationToken authentication) {
 			String token = authentication.getToken();
 			try {
-				String issuer = JWTParser.parse(token).getJWTClaimsSet().getIssuer();
+				JWT jwt = JWTParser.parse(token);
+				String issuer = jwt.getJWTClaimsSet().getIssuer();
 				if (issuer != null) {
-					return issuer;
+					return new ParsedJwtBearerTokenAuthenticationToken(authentication, jwt, issuer);
 				}
 			}
 			catch (Exception cause) {
@@ -189,39 +188,4 @@ public final class JwtIssuerAuthenticationManagerResolver implements Authenticat
 
 	}
 
-	static class TrustedIssuerJwtAuthenticationManagerResolver implements AuthenticationManagerResolver<String> {
-
-		private final Log logger = LogFactory.getLog(getClass());
-
-		private final Map<String, AuthenticationManager> authenticationManagers = new ConcurrentHashMap<>();
-
-		private final Predicate<String> trustedIssuer;
-
-		TrustedIssuerJwtAuthenticationManagerResolver(Predicate<String> trustedIssuer) {
-			this.trustedIssuer = trustedIssuer;
-		}
-
-		@Override
-		@SuppressWarnings("NullAway") // Interface does not declare @Nullable; this
-										// implementation returns null when issuer not
-										// trusted
-		public AuthenticationManager resolve(String issuer) {
-			if (this.trustedIssuer.test(issuer)) {
-				AuthenticationManager authenticationManager = this.authenticationManagers.computeIfAbsent(issuer,
-						(k) -> {
-							this.logger.debug("Constructing AuthenticationManager");
-							JwtDecoder jwtDecoder = JwtDecoders.fromIssuerLocation(issuer);
-							return new JwtAuthenticationProvider(jwtDecoder)::authenticate;
-						});
-				this.logger.debug(LogMessage.format("Resolved AuthenticationManager for issuer '%s'", issuer));
-				return authenticationManager;
-			}
-			else {
-				this.logger.debug("Did not resolve AuthenticationManager since issuer is not trusted");
-			}
-			return null;
-		}
-
-	}
-
 }
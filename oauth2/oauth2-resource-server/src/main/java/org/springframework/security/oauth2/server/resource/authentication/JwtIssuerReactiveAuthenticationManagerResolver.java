@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
+import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTParser;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -140,7 +141,7 @@ public final class JwtIssuerReactiveAuthenticationManagerResolver
 
 	private static class ResolvingAuthenticationManager implements ReactiveAuthenticationManager {
 
-		private final Converter<BearerTokenAuthenticationToken, Mono<String>> issuerConverter = new JwtClaimIssuerConverter();
+		private final Converter<BearerTokenAuthenticationToken, Mono<ParsedJwtBearerTokenAuthenticationToken>> issuerConverter = new JwtClaimIssuerConverter();
 
 		private final ReactiveAuthenticationManagerResolver<String> issuerAuthenticationManagerResolver;
 
@@ -156,30 +157,33 @@ public final class JwtIssuerReactiveAuthenticationManagerResolver
 					"Authentication must be of type BearerTokenAuthenticationToken");
 			BearerTokenAuthenticationToken token = (BearerTokenAuthenticationToken) authentication;
 			return this.issuerConverter.convert(token)
-				.flatMap((issuer) -> this.issuerAuthenticationManagerResolver.resolve(issuer)
+				.flatMap((parsed) -> this.issuerAuthenticationManagerResolver.resolve(parsed.getIssuer())
 					.switchIfEmpty(Mono.error(() -> {
-						AuthenticationException ex = new InvalidBearerTokenException("Invalid issuer " + issuer);
+						AuthenticationException ex = new InvalidBearerTokenException(
+								"Invalid issuer " + parsed.getIssuer());
 						ex.setAuthenticationRequest(authentication);
 						return ex;
-					})))
-				.flatMap((manager) -> manager.authenticate(authentication))
+					}))
+					.flatMap((manager) -> manager.authenticate(parsed)))
 				.doOnError(AuthenticationException.class, (ex) -> ex.setAuthenticationRequest(authentication));
 		}
 
 	}
 
-	private static class JwtClaimIssuerConverter implements Converter<BearerTokenAuthenticationToken, Mono<String>> {
+	private static class JwtClaimIssuerConverter
+			implements Converter<BearerTokenAuthenticationToken, Mono<ParsedJwtBearerTokenAuthenticationToken>> {
 
 		@Override
-		public Mono<String> convert(BearerTokenAuthenticationToken token) {
+		public Mono<ParsedJwtBearerTokenAuthenticationToken> convert(BearerTokenAuthenticationToken token) {
 			try {
-				String issuer = JWTParser.parse(token.getToken()).getJWTClaimsSet().getIssuer();
+				JWT jwt = JWTParser.parse(token.getToken());
+				String issuer = jwt.getJWTClaimsSet().getIssuer();
 				if (issuer == null) {
 					AuthenticationException ex = new InvalidBearerTokenException("Missing issuer");
 					ex.setAuthenticationRequest(token);
 					throw ex;
 				}
-				return Mono.just(issuer);
+				return Mono.just(new ParsedJwtBearerTokenAuthenticationToken(token, jwt, issuer));
 			}
 			catch (Exception cause) {
 				return Mono.error(() -> {
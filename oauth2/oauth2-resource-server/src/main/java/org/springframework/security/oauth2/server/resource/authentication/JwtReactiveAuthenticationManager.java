@@ -27,6 +27,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.jwt.BadJwtException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
 import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.util.Assert;
@@ -55,8 +56,7 @@ public final class JwtReactiveAuthenticationManager implements ReactiveAuthentic
 		return Mono.justOrEmpty(authentication)
 				.filter((a) -> a instanceof BearerTokenAuthenticationToken)
 				.cast(BearerTokenAuthenticationToken.class)
-				.map(BearerTokenAuthenticationToken::getToken)
-				.flatMap(this.jwtDecoder::decode)
+				.flatMap(this::decode)
 				.flatMap(this.jwtAuthenticationConverter::convert)
 				.cast(Authentication.class)
 				.onErrorMap(JwtException.class, this::onError);
@@ -74,6 +74,14 @@ public final class JwtReactiveAuthenticationManager implements ReactiveAuthentic
 		this.jwtAuthenticationConverter = jwtAuthenticationConverter;
 	}
 
+	private Mono<Jwt> decode(BearerTokenAuthenticationToken bearer) {
+		if (bearer instanceof ParsedJwtBearerTokenAuthenticationToken parsed && parsed.getJwt() != null
+				&& this.jwtDecoder instanceof NimbusReactiveJwtDecoder nimbus) {
+			return nimbus.decode(parsed.getJwt());
+		}
+		return this.jwtDecoder.decode(bearer.getToken());
+	}
+
 	private AuthenticationException onError(JwtException ex) {
 		if (ex instanceof BadJwtException) {
 			return new InvalidBearerTokenException((ex.getMessage() != null) ? ex.getMessage() : "Invalid token", ex);
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.resource.authentication;
+
+import java.io.Serial;
+
+import com.nimbusds.jwt.JWT;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link BearerTokenAuthenticationToken} that also holds the JWT that was parsed from
+ * its token to resolve the issuer, so that {@link JwtAuthenticationProvider} and
+ * {@link JwtReactiveAuthenticationManager} do not parse it again when they use a Nimbus
+ * decoder.
+ *
+ * @see JwtIssuerAuthenticationManagerResolver
+ * @see JwtIssuerReactiveAuthenticationManagerResolver
+ */
+final class ParsedJwtBearerTokenAuthenticationToken extends BearerTokenAuthenticationToken {
+
+	@Serial
+	private static final long serialVersionUID = -3373802440768960893L;
+
+	private final String issuer;
+
+	private final transient @Nullable JWT jwt;
+
+	ParsedJwtBearerTokenAuthenticationToken(BearerTokenAuthenticationToken token, JWT jwt, String issuer) {
+		super(token.getToken());
+		setDetails(token.getDetails());
+		this.issuer = issuer;
+		this.jwt = jwt;
+	}
+
+	String getIssuer() {
+		return this.issuer;
+	}
+
+	/**
+	 * Returns the parsed JWT, which is not retained when this token is serialized
+	 * @return the parsed JWT, or {@code null} if this token was deserialized
+	 */
+	@Nullable JWT getJwt() {
+		return this.jwt;
+	}
+
+}
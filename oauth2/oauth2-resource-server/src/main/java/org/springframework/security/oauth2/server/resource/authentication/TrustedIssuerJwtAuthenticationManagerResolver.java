@@ -0,0 +1,284 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.resource.authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationManagerResolver;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.oauth2.jwt.JwtDecoders;
+import org.springframework.util.Assert;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+/**
+ * An {@link AuthenticationManagerResolver} that resolves a
+ * {@link JwtAuthenticationProvider} for each trusted issuer, discovering the issuer's
+ * configuration with {@link JwtDecoders#fromIssuerLocation(String)} the first time that
+ * it is needed.
+ *
+ * <p>
+ * Discovery runs on an {@link Executor}, once per issuer no matter how many requests
+ * are waiting for it, and without blocking requests for other issuers. Requests wait
+ * for at most the {@link #setDiscoveryTimeout(Duration) discovery timeout}. When
+ * discovery fails or times out, requests for that issuer fail fast with an
+ * {@link AuthenticationServiceException} until the {@link #setBackOff(BackOff) back
+ * off} has elapsed, after which discovery is attempted again. A discovery that timed out
+ * is not attempted again while it is still running, so that each issuer uses at most one
+ * thread of the {@link Executor}.
+ *
+ * <p>
+ * Use {@link #prewarm(Collection)} to discover known issuers in parallel ahead of the
+ * first request:
+ *
+ * <pre>
+ *	TrustedIssuerJwtAuthenticationManagerResolver trustedIssuers =
+ *			new TrustedIssuerJwtAuthenticationManagerResolver(issuers::contains);
+ *	trustedIssuers.prewarm(issuers);
+ *	return new JwtIssuerAuthenticationManagerResolver(trustedIssuers);
+ * </pre>
+ *
+ * @since 7.1
+ * @see JwtIssuerAuthenticationManagerResolver
+ */
+public final class TrustedIssuerJwtAuthenticationManagerResolver implements AuthenticationManagerResolver<String> {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<String, Discovery> discoveries = new ConcurrentHashMap<>();
+
+	private final Predicate<String> trustedIssuer;
+
+	private final Function<String, AuthenticationManager> authenticationManagerFactory;
+
+	private Executor executor;
+
+	private Duration discoveryTimeout = Duration.ofSeconds(10);
+
+	private BackOff backOff;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Construct a {@link TrustedIssuerJwtAuthenticationManagerResolver}
+	 * @param trustedIssuer a predicate to validate issuers
+	 */
+	public TrustedIssuerJwtAuthenticationManagerResolver(Predicate<String> trustedIssuer) {
+		this(trustedIssuer,
+				(issuer) -> new JwtAuthenticationProvider(JwtDecoders.fromIssuerLocation(issuer))::authenticate);
+	}
+
+	TrustedIssuerJwtAuthenticationManagerResolver(Predicate<String> trustedIssuer,
+			Function<String, AuthenticationManager> authenticationManagerFactory) {
+		Assert.notNull(trustedIssuer, "trustedIssuer cannot be null");
+		this.trustedIssuer = trustedIssuer;
+		this.authenticationManagerFactory = authenticationManagerFactory;
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("spring-security-issuer-discovery-");
+		executor.setDaemon(true);
+		this.executor = executor;
+		ExponentialBackOff backOff = new ExponentialBackOff(1000, 2);
+		backOff.setMaxInterval(Duration.ofMinutes(5).toMillis());
+		this.backOff = backOff;
+	}
+
+	@Override
+	@SuppressWarnings("NullAway") // Interface does not declare @Nullable; this
+									// implementation returns null when issuer not
+									// trusted
+	public AuthenticationManager resolve(String issuer) {
+		if (!this.trustedIssuer.test(issuer)) {
+			this.logger.debug("Did not resolve AuthenticationManager since issuer is not trusted");
+			return null;
+		}
+		AuthenticationManager authenticationManager = discover(issuer).get();
+		this.logger.debug(LogMessage.format("Resolved AuthenticationManager for issuer '%s'", issuer));
+		return authenticationManager;
+	}
+
+	/**
+	 * Discover the configuration of the given issuers in parallel, so that the first
+	 * requests for them do not wait. Issuers that are not trusted are skipped.
+	 * @param issuers the issuers to discover
+	 * @return a {@link CompletableFuture} that completes once every issuer is discovered,
+	 * or exceptionally if the discovery of any of them failed
+	 */
+	public CompletableFuture<Void> prewarm(Collection<String> issuers) {
+		Assert.notNull(issuers, "issuers cannot be null");
+		List<CompletableFuture<AuthenticationManager>> discovered = new ArrayList<>();
+		for (String issuer : issuers) {
+			if (this.trustedIssuer.test(issuer)) {
+				discovered.add(discover(issuer).authenticationManager);
+			}
+		}
+		return CompletableFuture.allOf(discovered.toArray(new CompletableFuture<?>[0]));
+	}
+
+	/**
+	 * Use this {@link Executor} to discover issuers. It should run tasks asynchronously.
+	 * Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * @param executor the {@link Executor} to use
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "executor cannot be null");
+		this.executor = executor;
+	}
+
+	/**
+	 * The maximum time to wait for the discovery of an issuer, after which the discovery
+	 * is considered failed. Defaults to 10 seconds.
+	 * @param discoveryTimeout the maximum time to wait
+	 */
+	public void setDiscoveryTimeout(Duration discoveryTimeout) {
+		Assert.notNull(discoveryTimeout, "discoveryTimeout cannot be null");
+		Assert.isTrue(!discoveryTimeout.isNegative() && !discoveryTimeout.isZero(),
+				"discoveryTimeout must be positive");
+		this.discoveryTimeout = discoveryTimeout;
+	}
+
+	/**
+	 * Use this {@link BackOff} to decide how long to wait before discovering an issuer
+	 * again after consecutive failures. Once the {@link BackOff} stops, it is started
+	 * over. Defaults to an {@link ExponentialBackOff} from 1 second up to 5 minutes.
+	 * @param backOff the {@link BackOff} to use
+	 */
+	public void setBackOff(BackOff backOff) {
+		Assert.notNull(backOff, "backOff cannot be null");
+		this.backOff = backOff;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	private Discovery discover(String issuer) {
+		Instant now = this.clock.instant();
+		Discovery discovery = this.discoveries.compute(issuer,
+				(k, current) -> (current == null || current.isRetryable(now)) ? new Discovery(current) : current);
+		if (discovery.start()) {
+			start(issuer, discovery);
+		}
+		return discovery;
+	}
+
+	private void start(String issuer, Discovery discovery) {
+		CompletableFuture<AuthenticationManager> authenticationManager = discovery.authenticationManager;
+		authenticationManager.orTimeout(this.discoveryTimeout.toMillis(), TimeUnit.MILLISECONDS)
+			.whenComplete((result, ex) -> {
+				if (ex != null) {
+					discovery.failed(this.clock.instant());
+					this.logger.debug(LogMessage.format("Failed to discover issuer '%s'", issuer), ex);
+				}
+			});
+		try {
+			this.executor.execute(() -> {
+				try {
+					this.logger.debug("Constructing AuthenticationManager");
+					authenticationManager.complete(this.authenticationManagerFactory.apply(issuer));
+				}
+				catch (RuntimeException ex) {
+					authenticationManager.completeExceptionally(ex);
+				}
+				finally {
+					discovery.running = false;
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			discovery.running = false;
+			authenticationManager.completeExceptionally(ex);
+		}
+	}
+
+	private final class Discovery {
+
+		private final CompletableFuture<AuthenticationManager> authenticationManager = new CompletableFuture<>();
+
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		private final BackOffExecution backOffExecution;
+
+		private volatile @Nullable Instant retryAt;
+
+		private volatile boolean backOffStopped;
+
+		private volatile boolean running;
+
+		Discovery(@Nullable Discovery previous) {
+			this.backOffExecution = (previous != null && !previous.backOffStopped) ? previous.backOffExecution
+					: TrustedIssuerJwtAuthenticationManagerResolver.this.backOff.start();
+		}
+
+		boolean start() {
+			if (this.started.compareAndSet(false, true)) {
+				this.running = true;
+				return true;
+			}
+			return false;
+		}
+
+		void failed(Instant now) {
+			long backOff = this.backOffExecution.nextBackOff();
+			this.backOffStopped = backOff == BackOffExecution.STOP;
+			this.retryAt = this.backOffStopped ? now : now.plusMillis(backOff);
+		}
+
+		boolean isRetryable(Instant now) {
+			Instant retryAt = this.retryAt;
+			return retryAt != null && !now.isBefore(retryAt) && !this.running;
+		}
+
+		AuthenticationManager get() {
+			if (this.retryAt != null) {
+				throw new AuthenticationServiceException("Failed to discover the issuer, retrying at " + this.retryAt);
+			}
+			try {
+				return this.authenticationManager.get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new AuthenticationServiceException("Interrupted while discovering the issuer", ex);
+			}
+			catch (ExecutionException ex) {
+				throw new AuthenticationServiceException("Failed to discover the issuer", ex.getCause());
+			}
+		}
+
+	}
+
+}
@@ -28,6 +28,11 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 
 import org.apache.commons.logging.Log;
@@ -60,6 +65,11 @@ import org.springframework.web.client.RestTemplate;
  * <a href="https://tools.ietf.org/html/rfc7662" target="_blank">OAuth 2.0 Introspection
  * Endpoint</a>.
  *
+ * <p>
+ * When a {@link #setBatchIntrospectionUri(String) batch introspection uri} is set,
+ * concurrent calls to {@link #introspect(String)} are coalesced into batch requests,
+ * each of which introspects several tokens with a single round trip.
+ *
  * @author Josh Cummings
  * @since 5.6
  */
@@ -70,6 +80,9 @@ public class SpringOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 	private static final ParameterizedTypeReference<Map<String, Object>> STRING_OBJECT_MAP = new ParameterizedTypeReference<>() {
 	};
 
+	private static final ParameterizedTypeReference<List<Map<String, Object>>> STRING_OBJECT_MAP_LIST = new ParameterizedTypeReference<>() {
+	};
+
 	private final Log logger = LogFactory.getLog(getClass());
 
 	private final RestOperations restOperations;
@@ -78,6 +91,14 @@ public class SpringOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 
 	private Converter<OAuth2TokenIntrospectionClaimAccessor, ? extends OAuth2AuthenticatedPrincipal> authenticationConverter = this::defaultAuthenticationConverter;
 
+	private final Queue<PendingIntrospection> pendingIntrospections = new ConcurrentLinkedQueue<>();
+
+	private @Nullable URI batchIntrospectionUri;
+
+	private int maxBatchSize = 100;
+
+	private Semaphore batchPermits = new Semaphore(4);
+
 	/**
 	 * Creates a {@code OpaqueTokenAuthenticationProvider} with the provided parameters
 	 * @param introspectionUri The introspection endpoint uri
@@ -132,6 +153,9 @@ public class SpringOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 
 	@Override
 	public OAuth2AuthenticatedPrincipal introspect(String token) {
+		if (this.batchIntrospectionUri != null) {
+			return introspectInBatch(token, this.batchIntrospectionUri);
+		}
 		RequestEntity<?> requestEntity = this.requestEntityConverter.convert(token);
 		if (requestEntity == null) {
 			throw new OAuth2IntrospectionException("requestEntityConverter returned a null entity");
@@ -142,6 +166,73 @@ public class SpringOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 		return this.authenticationConverter.convert(accessor);
 	}
 
+	private OAuth2AuthenticatedPrincipal introspectInBatch(String token, URI batchIntrospectionUri) {
+		PendingIntrospection pendingIntrospection = new PendingIntrospection(token);
+		this.pendingIntrospections.add(pendingIntrospection);
+		Semaphore batchPermits = this.batchPermits;
+		try {
+			while (!pendingIntrospection.claims.isDone()) {
+				batchPermits.acquire();
+				try {
+					List<PendingIntrospection> batch = drainPendingIntrospections();
+					if (batch.isEmpty()) {
+						// another caller has already sent this token
+						break;
+					}
+					introspectBatch(batch, batchIntrospectionUri);
+				}
+				finally {
+					batchPermits.release();
+				}
+			}
+			Map<String, Object> claims = requireActive(pendingIntrospection.claims.get());
+			OAuth2TokenIntrospectionClaimAccessor accessor = convertClaimsSet(claims);
+			return this.authenticationConverter.convert(accessor);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OAuth2IntrospectionException("Interrupted while waiting for the introspection response", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof OAuth2IntrospectionException introspectionException) {
+				throw introspectionException;
+			}
+			throw new OAuth2IntrospectionException("Invalid token", ex.getCause());
+		}
+	}
+
+	private List<PendingIntrospection> drainPendingIntrospections() {
+		List<PendingIntrospection> batch = new ArrayList<>();
+		while (batch.size() < this.maxBatchSize) {
+			PendingIntrospection pendingIntrospection = this.pendingIntrospections.poll();
+			if (pendingIntrospection == null) {
+				break;
+			}
+			batch.add(pendingIntrospection);
+		}
+		return batch;
+	}
+
+	private void introspectBatch(List<PendingIntrospection> batch, URI batchIntrospectionUri) {
+		try {
+			MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+			batch.forEach((pendingIntrospection) -> body.add("token", pendingIntrospection.token));
+			RequestEntity<?> requestEntity = new RequestEntity<>(body, requestHeaders(), HttpMethod.POST,
+					batchIntrospectionUri);
+			List<Map<String, Object>> claims = adaptToBatchResponse(makeBatchRequest(requestEntity), batch.size());
+			for (int i = 0; i < batch.size(); i++) {
+				batch.get(i).claims.complete(claims.get(i));
+			}
+		}
+		catch (Throwable ex) {
+			// complete every caller, as they wait for their claims without a timeout
+			batch.forEach((pendingIntrospection) -> pendingIntrospection.claims.completeExceptionally(ex));
+			if (ex instanceof Error error) {
+				throw error;
+			}
+		}
+	}
+
 	/**
 	 * Sets the {@link Converter} used for converting the OAuth 2.0 access token to a
 	 * {@link RequestEntity} representation of the OAuth 2.0 token introspection request.
@@ -162,6 +253,35 @@ public class SpringOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 		}
 	}
 
+	private ResponseEntity<List<Map<String, Object>>> makeBatchRequest(RequestEntity<?> requestEntity) {
+		try {
+			return this.restOperations.exchange(requestEntity, STRING_OBJECT_MAP_LIST);
+		}
+		catch (Exception ex) {
+			throw new OAuth2IntrospectionException((ex.getMessage() != null) ? ex.getMessage() : "Invalid token", ex);
+		}
+	}
+
+	private List<Map<String, Object>> adaptToBatchResponse(ResponseEntity<List<Map<String, Object>>> responseEntity,
+			int batchSize) {
+		if (responseEntity.getStatusCode() != HttpStatus.OK) {
+			throw new OAuth2IntrospectionException(
+					"Introspection endpoint responded with " + responseEntity.getStatusCode());
+		}
+		List<Map<String, Object>> claims = responseEntity.getBody();
+		if (claims == null || claims.size() != batchSize) {
+			throw new OAuth2IntrospectionException(
+					"Introspection endpoint did not respond with " + batchSize + " introspection responses");
+		}
+		for (Map<String, Object> introspectionResponse : claims) {
+			if (introspectionResponse == null) {
+				throw new OAuth2IntrospectionException(
+						"Introspection endpoint responded with a null introspection response");
+			}
+		}
+		return claims;
+	}
+
 	private Map<String, Object> adaptToNimbusResponse(ResponseEntity<Map<String, Object>> responseEntity) {
 		if (responseEntity.getStatusCode() != HttpStatus.OK) {
 			throw new OAuth2IntrospectionException(
@@ -173,7 +293,10 @@ public class SpringOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 		if (claims == null) {
 			return Collections.emptyMap();
 		}
+		return requireActive(claims);
+	}
 
+	private Map<String, Object> requireActive(Map<String, Object> claims) {
 		boolean active = (boolean) claims.compute(OAuth2TokenIntrospectionClaimNames.ACTIVE, (k, v) -> {
 			if (v instanceof String) {
 				return Boolean.parseBoolean((String) v);
@@ -276,6 +399,44 @@ public class SpringOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 		return authorities;
 	}
 
+	/**
+	 * Sets the uri of a batch introspection endpoint, which accepts several
+	 * {@code token} parameters and responds with a JSON array of introspection responses
+	 * in the same order. Once set, tokens are introspected in batches of up to
+	 * {@link #setMaxBatchSize(int) maxBatchSize} tokens and the
+	 * {@link #setRequestEntityConverter(Converter) requestEntityConverter} is no longer
+	 * used.
+	 * @param batchIntrospectionUri the batch introspection endpoint uri
+	 * @since 7.1
+	 */
+	public void setBatchIntrospectionUri(String batchIntrospectionUri) {
+		Assert.hasText(batchIntrospectionUri, "batchIntrospectionUri cannot be empty");
+		this.batchIntrospectionUri = URI.create(batchIntrospectionUri);
+	}
+
+	/**
+	 * Sets the maximum number of tokens sent in a single batch introspection request.
+	 * Defaults to {@code 100}.
+	 * @param maxBatchSize the maximum number of tokens in a batch
+	 * @since 7.1
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Sets the maximum number of batch introspection requests in flight at the same time.
+	 * Tokens to introspect while all of them are in flight are queued and sent together
+	 * in the next batch. Defaults to {@code 4}.
+	 * @param maxConcurrentBatches the maximum number of concurrent batch requests
+	 * @since 7.1
+	 */
+	public void setMaxConcurrentBatches(int maxConcurrentBatches) {
+		Assert.isTrue(maxConcurrentBatches > 0, "maxConcurrentBatches must be greater than 0");
+		this.batchPermits = new Semaphore(maxConcurrentBatches);
+	}
+
 	/**
 	 * Creates a {@code SpringOpaqueTokenIntrospector.Builder} with the given
 	 * introspection endpoint uri
@@ -300,6 +461,18 @@ public class SpringOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 
 	}
 
+	private static final class PendingIntrospection {
+
+		private final String token;
+
+		private final CompletableFuture<Map<String, Object>> claims = new CompletableFuture<>();
+
+		private PendingIntrospection(String token) {
+			this.token = token;
+		}
+
+	}
+
 	// gh-15165
 	private interface ArrayListFromStringClaimAccessor extends OAuth2TokenIntrospectionClaimAccessor {
 
@@ -18,6 +18,13 @@ package org.springframework.security.oauth2.server.resource.authentication;
 
 import java.util.function.Predicate;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.SignedJWT;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,10 +35,12 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.jose.TestKeys;
 import org.springframework.security.oauth2.jwt.BadJwtException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.TestJwts;
 import org.springframework.security.oauth2.server.resource.BearerTokenErrorCodes;
 
@@ -96,6 +105,22 @@ public class JwtAuthenticationProviderTests {
 		// @formatter:on
 	}
 
+	@Test
+	public void authenticateWhenParsedJwtAndNimbusDecoderThenDecodesParsedJwt() throws Exception {
+		SignedJWT signed = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256),
+				new JWTClaimsSet.Builder().issuer("https://issuer.example").subject("user").build());
+		signed.sign(new RSASSASigner(TestKeys.DEFAULT_PRIVATE_KEY));
+		String serialized = signed.serialize();
+		JWT jwt = JWTParser.parse(serialized);
+		ParsedJwtBearerTokenAuthenticationToken token = new ParsedJwtBearerTokenAuthenticationToken(
+				new BearerTokenAuthenticationToken(serialized), jwt, "https://issuer.example");
+		JwtAuthenticationProvider provider = new JwtAuthenticationProvider(
+				NimbusJwtDecoder.withPublicKey(TestKeys.DEFAULT_PUBLIC_KEY).build());
+		JwtAuthenticationToken authentication = (JwtAuthenticationToken) provider.authenticate(token);
+		assertThat(authentication.getToken().getTokenValue()).isEqualTo(serialized);
+		assertThat(authentication.getName()).isEqualTo("user");
+	}
+
 	// gh-7785
 	@Test
 	public void authenticateWhenDecoderFailsGenericallyThenThrowsGenericException() {
@@ -28,6 +28,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.TestJwts;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
@@ -270,4 +271,70 @@ public class JwtGrantedAuthoritiesConverterTests {
 				new SimpleGrantedAuthority("SCOPE_message:write"));
 	}
 
+	@Test
+	public void convertWhenAuthoritiesCachedThenSharesAuthorities() {
+		// @formatter:off
+		Jwt jwt = TestJwts.jwt()
+				.claim("scope", "message:read message:write")
+				.build();
+		Jwt other = TestJwts.jwt()
+				.claim("scope", "message:read message:write")
+				.build();
+		// @formatter:on
+		JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+		jwtGrantedAuthoritiesConverter.setAuthoritiesCacheSize(10);
+		Collection<GrantedAuthority> authorities = jwtGrantedAuthoritiesConverter.convert(jwt);
+		assertThat(authorities).containsExactly(new SimpleGrantedAuthority("SCOPE_message:read"),
+				new SimpleGrantedAuthority("SCOPE_message:write"));
+		assertThat(jwtGrantedAuthoritiesConverter.convert(other)).isSameAs(authorities);
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> authorities.add(new SimpleGrantedAuthority("SCOPE_message:delete")));
+	}
+
+	@Test
+	public void convertWhenAuthoritiesCachedAndScpCollectionThenTranslatedToAuthorities() {
+		// @formatter:off
+		Jwt jwt = TestJwts.jwt()
+				.claim("scp", Arrays.asList("message:read", "message:write"))
+				.build();
+		// @formatter:on
+		JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+		jwtGrantedAuthoritiesConverter.setAuthoritiesCacheSize(10);
+		Collection<GrantedAuthority> authorities = jwtGrantedAuthoritiesConverter.convert(jwt);
+		assertThat(authorities).containsExactly(new SimpleGrantedAuthority("SCOPE_message:read"),
+				new SimpleGrantedAuthority("SCOPE_message:write"));
+		assertThat(jwtGrantedAuthoritiesConverter.convert(jwt)).isSameAs(authorities);
+	}
+
+	@Test
+	public void convertWhenAuthoritiesCachedAndPrefixChangedThenUsesNewPrefix() {
+		// @formatter:off
+		Jwt jwt = TestJwts.jwt()
+				.claim("scope", "message:read")
+				.build();
+		// @formatter:on
+		JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+		jwtGrantedAuthoritiesConverter.setAuthoritiesCacheSize(10);
+		assertThat(jwtGrantedAuthoritiesConverter.convert(jwt))
+			.containsExactly(new SimpleGrantedAuthority("SCOPE_message:read"));
+		jwtGrantedAuthoritiesConverter.setAuthorityPrefix("ROLE_");
+		assertThat(jwtGrantedAuthoritiesConverter.convert(jwt))
+			.containsExactly(new SimpleGrantedAuthority("ROLE_message:read"));
+	}
+
+	@Test
+	public void convertWhenAuthoritiesCachedAndNoClaimThenNoAuthorities() {
+		Jwt jwt = TestJwts.jwt().claim("sub", "user").build();
+		JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+		jwtGrantedAuthoritiesConverter.setAuthoritiesCacheSize(10);
+		assertThat(jwtGrantedAuthoritiesConverter.convert(jwt)).isEmpty();
+	}
+
+	@Test
+	public void setAuthoritiesCacheSizeWhenNegativeThenException() {
+		JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> jwtGrantedAuthoritiesConverter.setAuthoritiesCacheSize(-1));
+	}
+
 }
@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import com.nimbusds.jose.JWSAlgorithm;
@@ -30,8 +31,9 @@ import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.PlainJWT;
 import net.minidev.json.JSONObject;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
 
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationManagerResolver;
@@ -39,11 +41,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.jose.TestKeys;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimNames;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtDecoders;
-import org.springframework.security.oauth2.jwt.TestJwts;
 import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,13 +51,21 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.verify;
-import static org.mockito.Mockito.mockStatic;
 
 /**
  * Tests for {@link JwtIssuerAuthenticationManagerResolver}
  */
 public class JwtIssuerAuthenticationManagerResolverTests {
 
+	// @formatter:off
+	private static final String DEFAULT_RESPONSE_TEMPLATE = "{\n"
+			+ "    \"issuer\": \"%s\", \n"
+			+ "    \"jwks_uri\": \"%s/.well-known/jwks.json\" \n"
+			+ "}";
+	// @formatter:on
+
+	private static final String JWK_SET = "{\"keys\":[{\"kty\":\"RSA\",\"e\":\"AQAB\",\"use\":\"sig\",\"kid\":\"one\",\"n\":\"3FlqJr5TRskIQIgdE3Dd7D9lboWdcTUT8a-fJR7MAvQm7XXNoYkm3v7MQL1NYtDvL2l8CAnc0WdSTINU6IRvc5Kqo2Q4csNX9SHOmEfzoROjQqahEcve1jBXluoCXdYuYpx4_1tfRgG6ii4Uhxh6iI8qNMJQX-fLfqhbfYfxBQVRPywBkAbIP4x1EAsbC6FSNmkhCxiMNqEgxaIpY8C2kJdJ_ZIV-WW4noDdzpKqHcwmB8FsrumlVY_DNVvUSDIipiq9PbP4H99TXN1o746oRaNa07rq1hoCgMSSy-85SagCoxlmyE-D-of9SsMY8Ol9t0rdzpobBuhyJ_o5dfvjKw\"}]}";
+
 	private String jwt = jwt("iss", "trusted");
 
 	private String evil = jwt("iss", "\"");
@@ -68,22 +74,17 @@ public class JwtIssuerAuthenticationManagerResolverTests {
 
 	@Test
 	public void resolveWhenUsingFromTrustedIssuersThenReturnsAuthenticationManager() throws Exception {
-		String issuer = "https://idp.example";
-
-		// @formatter:on
-		JWSObject jws = new JWSObject(new JWSHeader(JWSAlgorithm.RS256),
-				new Payload(new JSONObject(Collections.singletonMap(JwtClaimNames.ISS, issuer))));
-		jws.sign(new RSASSASigner(TestKeys.DEFAULT_PRIVATE_KEY));
-		JwtIssuerAuthenticationManagerResolver authenticationManagerResolver = JwtIssuerAuthenticationManagerResolver
-			.fromTrustedIssuers(issuer);
-		Authentication token = withBearerToken(jws.serialize());
-		AuthenticationManager authenticationManager = authenticationManagerResolver.resolve(null);
-		assertThat(authenticationManager).isNotNull();
-		JwtDecoder decoder = mock(JwtDecoder.class);
-		Jwt jwt = TestJwts.user();
-		given(decoder.decode(token.getName())).willReturn(jwt);
-		try (MockedStatic<JwtDecoders> jwtDecoders = mockStatic(JwtDecoders.class)) {
-			given(JwtDecoders.fromIssuerLocation(issuer)).willReturn(decoder);
+		try (MockWebServer server = new MockWebServer()) {
+			String issuer = server.url("").toString();
+			enqueueDiscovery(server, issuer);
+			JWSObject jws = new JWSObject(new JWSHeader(JWSAlgorithm.RS256),
+					new Payload(new JSONObject(Collections.singletonMap(JwtClaimNames.ISS, issuer))));
+			jws.sign(new RSASSASigner(TestKeys.DEFAULT_PRIVATE_KEY));
+			JwtIssuerAuthenticationManagerResolver authenticationManagerResolver = JwtIssuerAuthenticationManagerResolver
+				.fromTrustedIssuers(issuer);
+			Authentication token = withBearerToken(jws.serialize());
+			AuthenticationManager authenticationManager = authenticationManagerResolver.resolve(null);
+			assertThat(authenticationManager).isNotNull();
 			Authentication authentication = authenticationManager.authenticate(token);
 			assertThat(authentication.isAuthenticated()).isTrue();
 		}
@@ -91,20 +92,15 @@ public class JwtIssuerAuthenticationManagerResolverTests {
 
 	@Test
 	public void resolveWhenUsingFromTrustedIssuersPredicateThenReturnsAuthenticationManager() throws Exception {
-		String issuer = "https://idp.example";
-
-		// @formatter:on
-		JWSObject jws = new JWSObject(new JWSHeader(JWSAlgorithm.RS256),
-				new Payload(new JSONObject(Collections.singletonMap(JwtClaimNames.ISS, issuer))));
-		jws.sign(new RSASSASigner(TestKeys.DEFAULT_PRIVATE_KEY));
-		JwtIssuerAuthenticationManagerResolver authenticationManagerResolver = JwtIssuerAuthenticationManagerResolver
-			.fromTrustedIssuers(issuer::equals);
-		Authentication token = withBearerToken(jws.serialize());
-		JwtDecoder decoder = mock(JwtDecoder.class);
-		Jwt jwt = TestJwts.user();
-		given(decoder.decode(token.getName())).willReturn(jwt);
-		try (MockedStatic<JwtDecoders> jwtDecoders = mockStatic(JwtDecoders.class)) {
-			given(JwtDecoders.fromIssuerLocation(issuer)).willReturn(decoder);
+		try (MockWebServer server = new MockWebServer()) {
+			String issuer = server.url("").toString();
+			enqueueDiscovery(server, issuer);
+			JWSObject jws = new JWSObject(new JWSHeader(JWSAlgorithm.RS256),
+					new Payload(new JSONObject(Collections.singletonMap(JwtClaimNames.ISS, issuer))));
+			jws.sign(new RSASSASigner(TestKeys.DEFAULT_PRIVATE_KEY));
+			JwtIssuerAuthenticationManagerResolver authenticationManagerResolver = JwtIssuerAuthenticationManagerResolver
+				.fromTrustedIssuers(issuer::equals);
+			Authentication token = withBearerToken(jws.serialize());
 			AuthenticationManager authenticationManager = authenticationManagerResolver.resolve(null);
 			assertThat(authenticationManager).isNotNull();
 			Authentication authentication = authenticationManager.authenticate(token);
@@ -134,6 +130,23 @@ public class JwtIssuerAuthenticationManagerResolverTests {
 		verify(authenticationManager).authenticate(token);
 	}
 
+	@Test
+	public void resolveWhenIssuerResolvedThenAuthenticatesParsedJwt() {
+		AtomicReference<Authentication> authenticated = new AtomicReference<>();
+		JwtIssuerAuthenticationManagerResolver authenticationManagerResolver = new JwtIssuerAuthenticationManagerResolver(
+				(issuer) -> (authentication) -> {
+					authenticated.set(authentication);
+					return authentication;
+				});
+		Authentication token = withBearerToken(this.jwt);
+		authenticationManagerResolver.resolve(null).authenticate(token);
+		assertThat(authenticated.get()).isInstanceOf(ParsedJwtBearerTokenAuthenticationToken.class);
+		ParsedJwtBearerTokenAuthenticationToken parsed = (ParsedJwtBearerTokenAuthenticationToken) authenticated.get();
+		assertThat(parsed.getToken()).isEqualTo(this.jwt);
+		assertThat(parsed.getIssuer()).isEqualTo("trusted");
+		assertThat(parsed.getJwt().getParsedString()).isEqualTo(this.jwt);
+	}
+
 	@Test
 	public void resolveWhenUsingExternalSourceThenRespondsToChanges() {
 		Authentication token = withBearerToken(this.jwt);
@@ -224,6 +237,18 @@ public class JwtIssuerAuthenticationManagerResolverTests {
 			.isThrownBy(() -> new JwtIssuerAuthenticationManagerResolver((AuthenticationManagerResolver) null));
 	}
 
+	private void enqueueDiscovery(MockWebServer server, String issuer) {
+		server.enqueue(new MockResponse().setResponseCode(200)
+			.setHeader("Content-Type", "application/json")
+			.setBody(String.format(DEFAULT_RESPONSE_TEMPLATE, issuer, issuer)));
+		server.enqueue(new MockResponse().setResponseCode(200)
+			.setHeader("Content-Type", "application/json")
+			.setBody(JWK_SET));
+		server.enqueue(new MockResponse().setResponseCode(200)
+			.setHeader("Content-Type", "application/json")
+			.setBody(JWK_SET));
+	}
+
 	private Authentication withBearerToken(String token) {
 		return new BearerTokenAuthenticationToken(token);
 	}
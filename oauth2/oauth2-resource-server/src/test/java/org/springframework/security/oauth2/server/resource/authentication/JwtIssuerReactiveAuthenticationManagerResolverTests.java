@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import com.nimbusds.jose.JWSAlgorithm;
@@ -188,6 +189,23 @@ public class JwtIssuerReactiveAuthenticationManagerResolverTests {
 		// @formatter:on
 	}
 
+	@Test
+	public void resolveWhenIssuerResolvedThenAuthenticatesParsedJwt() {
+		AtomicReference<Authentication> authenticated = new AtomicReference<>();
+		JwtIssuerReactiveAuthenticationManagerResolver authenticationManagerResolver = new JwtIssuerReactiveAuthenticationManagerResolver(
+				(issuer) -> Mono.just((authentication) -> {
+					authenticated.set(authentication);
+					return Mono.just(authentication);
+				}));
+		Authentication token = withBearerToken(this.jwt);
+		authenticationManagerResolver.resolve(null).flatMap((manager) -> manager.authenticate(token)).block();
+		assertThat(authenticated.get()).isInstanceOf(ParsedJwtBearerTokenAuthenticationToken.class);
+		ParsedJwtBearerTokenAuthenticationToken parsed = (ParsedJwtBearerTokenAuthenticationToken) authenticated.get();
+		assertThat(parsed.getToken()).isEqualTo(this.jwt);
+		assertThat(parsed.getIssuer()).isEqualTo("trusted");
+		assertThat(parsed.getJwt().getParsedString()).isEqualTo(this.jwt);
+	}
+
 	@Test
 	public void resolveWhenUsingCustomIssuerAuthenticationManagerResolverThenUses() {
 		Authentication token = withBearerToken(this.jwt);
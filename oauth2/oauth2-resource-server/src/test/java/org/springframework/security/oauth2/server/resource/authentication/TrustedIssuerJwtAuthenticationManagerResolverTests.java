@@ -0,0 +1,184 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.server.resource.authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.util.backoff.FixedBackOff;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link TrustedIssuerJwtAuthenticationManagerResolver}
+ */
+public class TrustedIssuerJwtAuthenticationManagerResolverTests {
+
+	private final AuthenticationManager authenticationManager = (authentication) -> authentication;
+
+	private final AtomicInteger discoveries = new AtomicInteger();
+
+	@Test
+	public void resolveWhenIssuerNotTrustedThenNull() {
+		TrustedIssuerJwtAuthenticationManagerResolver resolver = new TrustedIssuerJwtAuthenticationManagerResolver(
+				"trusted"::equals, this::discover);
+		assertThat(resolver.resolve("untrusted")).isNull();
+		assertThat(this.discoveries).hasValue(0);
+	}
+
+	@Test
+	public void resolveWhenSameIssuerThenDiscoversOnce() {
+		TrustedIssuerJwtAuthenticationManagerResolver resolver = new TrustedIssuerJwtAuthenticationManagerResolver(
+				"trusted"::equals, this::discover);
+		assertThat(resolver.resolve("trusted")).isSameAs(this.authenticationManager);
+		assertThat(resolver.resolve("trusted")).isSameAs(this.authenticationManager);
+		assertThat(this.discoveries).hasValue(1);
+	}
+
+	@Test
+	public void resolveWhenConcurrentRequestsThenDiscoversOnce() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		TrustedIssuerJwtAuthenticationManagerResolver resolver = new TrustedIssuerJwtAuthenticationManagerResolver(
+				"trusted"::equals, (issuer) -> {
+					this.discoveries.incrementAndGet();
+					await(release);
+					return this.authenticationManager;
+				});
+		CompletableFuture<AuthenticationManager> first = CompletableFuture
+			.supplyAsync(() -> resolver.resolve("trusted"));
+		CompletableFuture<AuthenticationManager> second = CompletableFuture
+			.supplyAsync(() -> resolver.resolve("trusted"));
+		release.countDown();
+		assertThat(first.get(10, TimeUnit.SECONDS)).isSameAs(this.authenticationManager);
+		assertThat(second.get(10, TimeUnit.SECONDS)).isSameAs(this.authenticationManager);
+		assertThat(this.discoveries).hasValue(1);
+	}
+
+	@Test
+	public void resolveWhenDiscoveryFailsThenFailsFastUntilBackOffElapsed() {
+		Instant now = Instant.now();
+		TrustedIssuerJwtAuthenticationManagerResolver resolver = new TrustedIssuerJwtAuthenticationManagerResolver(
+				"trusted"::equals, (issuer) -> {
+					if (this.discoveries.incrementAndGet() == 1) {
+						throw new IllegalArgumentException("unavailable");
+					}
+					return this.authenticationManager;
+				});
+		resolver.setExecutor(Runnable::run);
+		resolver.setBackOff(new FixedBackOff(1000, FixedBackOff.UNLIMITED_ATTEMPTS));
+		resolver.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		assertThatExceptionOfType(AuthenticationServiceException.class).isThrownBy(() -> resolver.resolve("trusted"));
+		assertThatExceptionOfType(AuthenticationServiceException.class).isThrownBy(() -> resolver.resolve("trusted"));
+		assertThat(this.discoveries).hasValue(1);
+		resolver.setClock(Clock.fixed(now.plusSeconds(1), ZoneOffset.UTC));
+		assertThat(resolver.resolve("trusted")).isSameAs(this.authenticationManager);
+		assertThat(this.discoveries).hasValue(2);
+	}
+
+	@Test
+	public void resolveWhenDiscoveryTimesOutThenAuthenticationServiceException() {
+		CountDownLatch release = new CountDownLatch(1);
+		TrustedIssuerJwtAuthenticationManagerResolver resolver = new TrustedIssuerJwtAuthenticationManagerResolver(
+				"trusted"::equals, (issuer) -> {
+					await(release);
+					return this.authenticationManager;
+				});
+		resolver.setDiscoveryTimeout(Duration.ofMillis(50));
+		assertThatExceptionOfType(AuthenticationServiceException.class).isThrownBy(() -> resolver.resolve("trusted"))
+			.withCauseInstanceOf(TimeoutException.class);
+		release.countDown();
+	}
+
+	@Test
+	public void resolveWhenTimedOutDiscoveryStillRunningThenNotRetried() {
+		Instant now = Instant.now();
+		List<Runnable> pending = new ArrayList<>();
+		TrustedIssuerJwtAuthenticationManagerResolver resolver = new TrustedIssuerJwtAuthenticationManagerResolver(
+				"trusted"::equals, this::discover);
+		resolver.setExecutor((task) -> {
+			if (pending.isEmpty()) {
+				pending.add(task);
+			}
+			else {
+				task.run();
+			}
+		});
+		resolver.setDiscoveryTimeout(Duration.ofMillis(50));
+		resolver.setBackOff(new FixedBackOff(1000, FixedBackOff.UNLIMITED_ATTEMPTS));
+		resolver.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		assertThatExceptionOfType(AuthenticationServiceException.class).isThrownBy(() -> resolver.resolve("trusted"));
+		resolver.setClock(Clock.fixed(now.plusSeconds(5), ZoneOffset.UTC));
+		assertThatExceptionOfType(AuthenticationServiceException.class).isThrownBy(() -> resolver.resolve("trusted"));
+		assertThat(pending).hasSize(1);
+		assertThat(this.discoveries).hasValue(0);
+		pending.get(0).run();
+		assertThat(resolver.resolve("trusted")).isSameAs(this.authenticationManager);
+		assertThat(this.discoveries).hasValue(2);
+	}
+
+	@Test
+	public void prewarmWhenIssuersThenDiscoversTrustedIssuers() {
+		TrustedIssuerJwtAuthenticationManagerResolver resolver = new TrustedIssuerJwtAuthenticationManagerResolver(
+				List.of("one", "two")::contains, this::discover);
+		resolver.prewarm(List.of("one", "two", "untrusted")).join();
+		assertThat(this.discoveries).hasValue(2);
+		assertThat(resolver.resolve("one")).isSameAs(this.authenticationManager);
+		assertThat(resolver.resolve("two")).isSameAs(this.authenticationManager);
+		assertThat(this.discoveries).hasValue(2);
+	}
+
+	@Test
+	public void setWhenInvalidThenIllegalArgumentException() {
+		TrustedIssuerJwtAuthenticationManagerResolver resolver = new TrustedIssuerJwtAuthenticationManagerResolver(
+				"trusted"::equals);
+		assertThatIllegalArgumentException().isThrownBy(() -> resolver.setExecutor(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> resolver.setBackOff(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> resolver.setDiscoveryTimeout(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> resolver.setDiscoveryTimeout(Duration.ZERO));
+		assertThatIllegalArgumentException().isThrownBy(() -> resolver.prewarm(null));
+	}
+
+	private AuthenticationManager discover(String issuer) {
+		this.discoveries.incrementAndGet();
+		return this.authenticationManager;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
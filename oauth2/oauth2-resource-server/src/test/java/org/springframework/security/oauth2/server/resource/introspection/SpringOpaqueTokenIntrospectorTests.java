@@ -17,13 +17,22 @@
 package org.springframework.security.oauth2.server.resource.introspection;
 
 import java.io.IOException;
+import java.net.URI;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import com.nimbusds.jose.util.JSONObjectUtils;
 import okhttp3.mockwebserver.Dispatcher;
@@ -31,6 +40,7 @@ import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.convert.converter.Converter;
@@ -43,6 +53,7 @@ import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
 import org.springframework.security.oauth2.core.OAuth2TokenIntrospectionClaimAccessor;
 import org.springframework.security.oauth2.core.OAuth2TokenIntrospectionClaimNames;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestOperations;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -62,8 +73,13 @@ public class SpringOpaqueTokenIntrospectorTests {
 	private static final ParameterizedTypeReference<Map<String, Object>> STRING_OBJECT_MAP = new ParameterizedTypeReference<Map<String, Object>>() {
 	};
 
+	private static final ParameterizedTypeReference<List<Map<String, Object>>> STRING_OBJECT_MAP_LIST = new ParameterizedTypeReference<List<Map<String, Object>>>() {
+	};
+
 	private static final String INTROSPECTION_URL = "https://server.example.com";
 
+	private static final String BATCH_INTROSPECTION_URL = "https://server.example.com/batch";
+
 	private static final String CLIENT_ID = "client";
 
 	private static final String CLIENT_SECRET = "secret";
@@ -402,6 +418,188 @@ public class SpringOpaqueTokenIntrospectorTests {
 		}
 	}
 
+	@Test
+	public void introspectWhenBatchIntrospectionUriThenSendsBatchRequest() {
+		RestOperations restOperations = mock(RestOperations.class);
+		SpringOpaqueTokenIntrospector introspectionClient = new SpringOpaqueTokenIntrospector(INTROSPECTION_URL,
+				restOperations);
+		introspectionClient.setBatchIntrospectionUri(BATCH_INTROSPECTION_URL);
+		given(restOperations.exchange(any(RequestEntity.class), eq(STRING_OBJECT_MAP_LIST)))
+			.willReturn(batchResponse(ACTIVE_RESPONSE));
+		OAuth2AuthenticatedPrincipal authority = introspectionClient.introspect("token");
+		assertThat(authority.getAttributes()).containsEntry(OAuth2TokenIntrospectionClaimNames.USERNAME, "jdoe");
+		ArgumentCaptor<RequestEntity> requestEntityCaptor = ArgumentCaptor.forClass(RequestEntity.class);
+		verify(restOperations).exchange(requestEntityCaptor.capture(), eq(STRING_OBJECT_MAP_LIST));
+		RequestEntity<MultiValueMap<String, String>> requestEntity = requestEntityCaptor.getValue();
+		assertThat(requestEntity.getUrl()).isEqualTo(URI.create(BATCH_INTROSPECTION_URL));
+		assertThat(requestEntity.getBody().get("token")).containsExactly("token");
+	}
+
+	@Test
+	public void introspectWhenBatchResponseInactiveThenInvalidToken() {
+		RestOperations restOperations = mock(RestOperations.class);
+		SpringOpaqueTokenIntrospector introspectionClient = new SpringOpaqueTokenIntrospector(INTROSPECTION_URL,
+				restOperations);
+		introspectionClient.setBatchIntrospectionUri(BATCH_INTROSPECTION_URL);
+		given(restOperations.exchange(any(RequestEntity.class), eq(STRING_OBJECT_MAP_LIST)))
+			.willReturn(batchResponse(INACTIVE_RESPONSE));
+		assertThatExceptionOfType(BadOpaqueTokenException.class)
+			.isThrownBy(() -> introspectionClient.introspect("token"))
+			.withMessage("Provided token isn't active");
+	}
+
+	@Test
+	public void introspectWhenBatchResponseSizeMismatchThenInvalidToken() {
+		RestOperations restOperations = mock(RestOperations.class);
+		SpringOpaqueTokenIntrospector introspectionClient = new SpringOpaqueTokenIntrospector(INTROSPECTION_URL,
+				restOperations);
+		introspectionClient.setBatchIntrospectionUri(BATCH_INTROSPECTION_URL);
+		given(restOperations.exchange(any(RequestEntity.class), eq(STRING_OBJECT_MAP_LIST)))
+			.willReturn(batchResponse());
+		assertThatExceptionOfType(OAuth2IntrospectionException.class)
+			.isThrownBy(() -> introspectionClient.introspect("token"));
+	}
+
+	@Test
+	public void introspectWhenBatchResponseHasNullElementThenInvalidToken() {
+		RestOperations restOperations = mock(RestOperations.class);
+		SpringOpaqueTokenIntrospector introspectionClient = new SpringOpaqueTokenIntrospector(INTROSPECTION_URL,
+				restOperations);
+		introspectionClient.setBatchIntrospectionUri(BATCH_INTROSPECTION_URL);
+		List<Map<String, Object>> body = new ArrayList<>();
+		body.add(null);
+		given(restOperations.exchange(any(RequestEntity.class), eq(STRING_OBJECT_MAP_LIST)))
+			.willReturn(new ResponseEntity<>(body, HttpStatus.OK));
+		assertThatExceptionOfType(OAuth2IntrospectionException.class)
+			.isThrownBy(() -> introspectionClient.introspect("token"))
+			.withMessage("Introspection endpoint responded with a null introspection response");
+	}
+
+	@Test
+	public void introspectWhenBatchIntrospectionFailsWithErrorThenQueuedCallersCompleted() throws Exception {
+		RestOperations restOperations = mock(RestOperations.class);
+		SpringOpaqueTokenIntrospector introspectionClient = new SpringOpaqueTokenIntrospector(INTROSPECTION_URL,
+				restOperations);
+		introspectionClient.setBatchIntrospectionUri(BATCH_INTROSPECTION_URL);
+		introspectionClient.setMaxConcurrentBatches(1);
+		CountDownLatch sent = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(restOperations.exchange(any(RequestEntity.class), eq(STRING_OBJECT_MAP_LIST)))
+			.willAnswer((invocation) -> {
+				RequestEntity<MultiValueMap<String, String>> requestEntity = invocation.getArgument(0);
+				if (!requestEntity.getBody().get("token").contains("first")) {
+					throw new NoClassDefFoundError("missing");
+				}
+				sent.countDown();
+				release.await(10, TimeUnit.SECONDS);
+				return batchResponse(ACTIVE_RESPONSE);
+			});
+		FutureTask<OAuth2AuthenticatedPrincipal> first = new FutureTask<>(
+				() -> introspectionClient.introspect("first"));
+		start(first);
+		assertThat(sent.await(10, TimeUnit.SECONDS)).isTrue();
+		FutureTask<OAuth2AuthenticatedPrincipal> second = new FutureTask<>(
+				() -> introspectionClient.introspect("second"));
+		FutureTask<OAuth2AuthenticatedPrincipal> third = new FutureTask<>(
+				() -> introspectionClient.introspect("third"));
+		awaitWaiting(start(second), start(third));
+		release.countDown();
+		assertThat(first.get(10, TimeUnit.SECONDS).getAttributes()).containsEntry("username", "jdoe");
+		List<Class<?>> failures = new ArrayList<>();
+		for (FutureTask<OAuth2AuthenticatedPrincipal> task : List.of(second, third)) {
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> task.get(10, TimeUnit.SECONDS))
+				.satisfies((ex) -> failures.add(ex.getCause().getClass()));
+		}
+		// the caller that sent the batch gets the error, the other one is completed with it
+		assertThat(failures).containsExactlyInAnyOrder(NoClassDefFoundError.class,
+				OAuth2IntrospectionException.class);
+	}
+
+	@Test
+	public void introspectWhenBatchIntrospectionEndpointThrowsExceptionThenInvalidToken() {
+		RestOperations restOperations = mock(RestOperations.class);
+		SpringOpaqueTokenIntrospector introspectionClient = new SpringOpaqueTokenIntrospector(INTROSPECTION_URL,
+				restOperations);
+		introspectionClient.setBatchIntrospectionUri(BATCH_INTROSPECTION_URL);
+		given(restOperations.exchange(any(RequestEntity.class), eq(STRING_OBJECT_MAP_LIST)))
+			.willThrow(new IllegalStateException("server was unresponsive"));
+		assertThatExceptionOfType(OAuth2IntrospectionException.class)
+			.isThrownBy(() -> introspectionClient.introspect("token"))
+			.withMessage("server was unresponsive");
+	}
+
+	@Test
+	public void introspectWhenConcurrentRequestsThenCoalescedIntoBatch() throws Exception {
+		RestOperations restOperations = mock(RestOperations.class);
+		SpringOpaqueTokenIntrospector introspectionClient = new SpringOpaqueTokenIntrospector(INTROSPECTION_URL,
+				restOperations);
+		introspectionClient.setBatchIntrospectionUri(BATCH_INTROSPECTION_URL);
+		introspectionClient.setMaxConcurrentBatches(1);
+		CountDownLatch sent = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<List<String>> batches = new CopyOnWriteArrayList<>();
+		given(restOperations.exchange(any(RequestEntity.class), eq(STRING_OBJECT_MAP_LIST)))
+			.willAnswer((invocation) -> {
+				RequestEntity<MultiValueMap<String, String>> requestEntity = invocation.getArgument(0);
+				List<String> tokens = requestEntity.getBody().get("token");
+				batches.add(tokens);
+				sent.countDown();
+				release.await(10, TimeUnit.SECONDS);
+				return batchResponse(Collections.nCopies(tokens.size(), ACTIVE_RESPONSE).toArray(new String[0]));
+			});
+		FutureTask<OAuth2AuthenticatedPrincipal> first = new FutureTask<>(
+				() -> introspectionClient.introspect("first"));
+		start(first);
+		assertThat(sent.await(10, TimeUnit.SECONDS)).isTrue();
+		FutureTask<OAuth2AuthenticatedPrincipal> second = new FutureTask<>(
+				() -> introspectionClient.introspect("second"));
+		FutureTask<OAuth2AuthenticatedPrincipal> third = new FutureTask<>(
+				() -> introspectionClient.introspect("third"));
+		// wait until both are queued behind the in-flight batch
+		awaitWaiting(start(second), start(third));
+		release.countDown();
+		assertThat(first.get(10, TimeUnit.SECONDS).getAttributes()).containsEntry("username", "jdoe");
+		assertThat(second.get(10, TimeUnit.SECONDS).getAttributes()).containsEntry("username", "jdoe");
+		assertThat(third.get(10, TimeUnit.SECONDS).getAttributes()).containsEntry("username", "jdoe");
+		assertThat(batches).hasSize(2);
+		assertThat(batches.get(0)).containsExactly("first");
+		assertThat(batches.get(1)).containsExactlyInAnyOrder("second", "third");
+	}
+
+	@Test
+	public void setBatchPropertiesWhenInvalidThenIllegalArgumentException() {
+		SpringOpaqueTokenIntrospector introspectionClient = new SpringOpaqueTokenIntrospector(INTROSPECTION_URL,
+				mock(RestOperations.class));
+		assertThatIllegalArgumentException().isThrownBy(() -> introspectionClient.setBatchIntrospectionUri(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> introspectionClient.setMaxBatchSize(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> introspectionClient.setMaxConcurrentBatches(0));
+	}
+
+	private static Thread start(FutureTask<?> task) {
+		Thread thread = new Thread(task);
+		thread.setDaemon(true);
+		thread.start();
+		return thread;
+	}
+
+	private static void awaitWaiting(Thread... threads) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (System.nanoTime() < deadline
+				&& !Arrays.stream(threads).allMatch((thread) -> thread.getState() == Thread.State.WAITING)) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static ResponseEntity<List<Map<String, Object>>> batchResponse(String... contents) {
+		List<Map<String, Object>> body = new ArrayList<>();
+		for (String content : contents) {
+			body.add(response(content).getBody());
+		}
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		return new ResponseEntity<>(body, headers, HttpStatus.OK);
+	}
+
 	private static ResponseEntity<Map<String, Object>> response(String content) {
 		HttpHeaders headers = new HttpHeaders();
 		headers.setContentType(MediaType.APPLICATION_JSON);
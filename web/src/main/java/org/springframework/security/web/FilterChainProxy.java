@@ -33,6 +33,8 @@ import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.log.LogMessage;
+import org.springframework.security.core.context.ScopedValueSecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.web.access.PathPatternRequestTransformer;
@@ -192,7 +194,12 @@ public class FilterChainProxy extends GenericFilterBean {
 		}
 		try {
 			request.setAttribute(FILTER_APPLIED, Boolean.TRUE);
-			doFilterInternal(request, response, chain);
+			if (this.securityContextHolderStrategy instanceof ScopedValueSecurityContextHolderStrategy scoped) {
+				doFilterInScope(scoped, request, response, chain);
+			}
+			else {
+				doFilterInternal(request, response, chain);
+			}
 		}
 		catch (Exception ex) {
 			Throwable[] causeChain = this.throwableAnalyzer.determineCauseChain(ex);
@@ -205,11 +212,34 @@ public class FilterChainProxy extends GenericFilterBean {
 					(RequestRejectedException) requestRejectedException);
 		}
 		finally {
-			this.securityContextHolderStrategy.clearContext();
+			if (!(this.securityContextHolderStrategy instanceof ScopedValueSecurityContextHolderStrategy)) {
+				this.securityContextHolderStrategy.clearContext();
+			}
 			request.removeAttribute(FILTER_APPLIED);
 		}
 	}
 
+	/**
+	 * Invokes the filter chain in a new scope, so the {@link SecurityContext} set by the
+	 * filters is discarded once the chain completes, without clearing it.
+	 */
+	private void doFilterInScope(ScopedValueSecurityContextHolderStrategy strategy, ServletRequest request,
+			ServletResponse response, FilterChain chain) throws IOException, ServletException {
+		SecurityContext context = strategy.createEmptyContext();
+		try {
+			strategy.callWhere(() -> context, () -> {
+				doFilterInternal(request, response, chain);
+				return null;
+			});
+		}
+		catch (IOException | ServletException | RuntimeException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw new ServletException(ex);
+		}
+	}
+
 	private void doFilterInternal(ServletRequest request, ServletResponse response, FilterChain chain)
 			throws IOException, ServletException {
 		FirewalledRequest firewallRequest = this.firewall.getFirewalledRequest((HttpServletRequest) request);
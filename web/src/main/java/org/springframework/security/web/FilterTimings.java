@@ -0,0 +1,186 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lock-free, per-filter histograms of the time spent in each security filter, recorded
+ * by {@link ObservationFilterChainDecorator} and
+ * {@link org.springframework.security.web.server.ObservationWebFilterChainDecorator} for
+ * the requests that are not sampled for observation.
+ *
+ * <p>
+ * The time recorded for a filter excludes the time spent in the rest of the chain.
+ * Durations are counted in power-of-two nanosecond buckets, so percentiles are
+ * approximated by the upper bound of their bucket.
+ *
+ * @since 7.1
+ * @see ObservationFilterChainDecorator#setFilterTimings(FilterTimings)
+ */
+public final class FilterTimings {
+
+	private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+	/**
+	 * Records the time spent in a filter
+	 * @param filterName the name of the filter
+	 * @param nanos the time spent in the filter, in nanoseconds
+	 */
+	public void record(String filterName, long nanos) {
+		Histogram histogram = this.histograms.get(filterName);
+		if (histogram == null) {
+			histogram = this.histograms.computeIfAbsent(filterName, (name) -> new Histogram());
+		}
+		histogram.record(Math.max(nanos, 0));
+	}
+
+	/**
+	 * Returns a snapshot of the timings recorded so far, keyed by filter name
+	 * @return the snapshot of the timings, sorted by filter name
+	 */
+	public Map<String, Snapshot> getSnapshots() {
+		Map<String, Snapshot> snapshots = new TreeMap<>();
+		this.histograms.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+		return snapshots;
+	}
+
+	/**
+	 * Discards the timings recorded so far
+	 */
+	public void reset() {
+		this.histograms.clear();
+	}
+
+	/**
+	 * A point-in-time view of the timings of a filter
+	 */
+	public static final class Snapshot {
+
+		private final long count;
+
+		private final long totalNanos;
+
+		private final long maxNanos;
+
+		private final long[] buckets;
+
+		private Snapshot(long count, long totalNanos, long maxNanos, long[] buckets) {
+			this.count = count;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+			this.buckets = buckets;
+		}
+
+		/**
+		 * Returns the number of times the filter was invoked
+		 * @return the number of times the filter was invoked
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Returns the total time spent in the filter
+		 * @return the total time spent in the filter, in nanoseconds
+		 */
+		public long getTotalNanos() {
+			return this.totalNanos;
+		}
+
+		/**
+		 * Returns the longest time spent in the filter by a single request
+		 * @return the longest time spent in the filter, in nanoseconds
+		 */
+		public long getMaxNanos() {
+			return this.maxNanos;
+		}
+
+		/**
+		 * Returns an upper bound of the given percentile of the time spent in the filter
+		 * @param percentile the percentile, between 0 and 1
+		 * @return the upper bound of the percentile, in nanoseconds
+		 */
+		public long getPercentileNanos(double percentile) {
+			Assert.isTrue(percentile >= 0 && percentile <= 1, "percentile must be between 0 and 1");
+			long total = 0;
+			for (long bucket : this.buckets) {
+				total += bucket;
+			}
+			long rank = (long) Math.ceil(percentile * total);
+			long seen = 0;
+			for (int i = 0; i < this.buckets.length; i++) {
+				seen += this.buckets[i];
+				if (seen >= rank && seen > 0) {
+					return Math.min(Histogram.upperBound(i), this.maxNanos);
+				}
+			}
+			return 0;
+		}
+
+	}
+
+	private static final class Histogram {
+
+		private static final int BUCKETS = Long.SIZE;
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		private void record(long nanos) {
+			this.buckets.incrementAndGet(bucket(nanos));
+			this.count.increment();
+			this.totalNanos.add(nanos);
+			long max = this.maxNanos.get();
+			while (nanos > max && !this.maxNanos.compareAndSet(max, nanos)) {
+				max = this.maxNanos.get();
+			}
+		}
+
+		private Snapshot snapshot() {
+			long[] values = new long[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++) {
+				values[i] = this.buckets.get(i);
+			}
+			return new Snapshot(this.count.sum(), this.totalNanos.sum(), this.maxNanos.get(), values);
+		}
+
+		// bucket i holds the durations in [2^(i-1), 2^i)
+		private static int bucket(long nanos) {
+			return Math.min(Long.SIZE - Long.numberOfLeadingZeros(nanos), BUCKETS - 1);
+		}
+
+		private static long upperBound(int bucket) {
+			return (bucket >= BUCKETS - 1) ? Long.MAX_VALUE : (1L << bucket) - 1;
+		}
+
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -40,12 +41,18 @@ import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.log.LogMessage;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
  * A {@link org.springframework.security.web.FilterChainProxy.FilterChainDecorator} that
  * wraps the chain in before and after observations
  *
+ * <p>
+ * To reduce the overhead of observing every request, only a fraction of the requests can
+ * be observed with {@link #setSamplingProbability(double)}. The time spent in each filter
+ * by the other requests can then be recorded with {@link #setFilterTimings(FilterTimings)}.
+ *
  * @author Josh Cummings
  * @author Nikita Konev
  * @since 6.0
@@ -62,20 +69,59 @@ public final class ObservationFilterChainDecorator implements FilterChainProxy.F
 
 	private final ObservationRegistry registry;
 
+	private double samplingProbability = 1.0;
+
+	private @Nullable FilterTimings filterTimings;
+
 	public ObservationFilterChainDecorator(ObservationRegistry registry) {
 		this.registry = registry;
 	}
 
+	/**
+	 * Sets the probability that a request is observed. Requests that are not sampled
+	 * create no {@link Observation}, and have the time spent in each filter recorded in
+	 * the {@link FilterTimings}, if any. The default is {@code 1.0}, meaning that every
+	 * request is observed.
+	 * @param samplingProbability the probability, between {@code 0.0} and {@code 1.0},
+	 * that a request is observed
+	 * @since 7.1
+	 * @see #setFilterTimings(FilterTimings)
+	 */
+	public void setSamplingProbability(double samplingProbability) {
+		Assert.isTrue(samplingProbability >= 0 && samplingProbability <= 1,
+				"samplingProbability must be between 0.0 and 1.0");
+		this.samplingProbability = samplingProbability;
+	}
+
+	/**
+	 * Sets the {@link FilterTimings} in which to record the time spent in each filter by
+	 * the requests that are not sampled for observation.
+	 * @param filterTimings the {@link FilterTimings} to use
+	 * @since 7.1
+	 * @see #setSamplingProbability(double)
+	 */
+	public void setFilterTimings(FilterTimings filterTimings) {
+		Assert.notNull(filterTimings, "filterTimings cannot be null");
+		this.filterTimings = filterTimings;
+	}
+
 	@Override
 	public FilterChain decorate(FilterChain original) {
-		return wrapUnsecured(original);
+		return sampled() ? wrapUnsecured(original) : original;
 	}
 
 	@Override
 	public FilterChain decorate(FilterChain original, List<Filter> filters) {
+		if (!sampled()) {
+			return new TimedFilterChain(original, filters, this.filterTimings);
+		}
 		return new VirtualFilterChain(wrapSecured(original), wrap(filters));
 	}
 
+	private boolean sampled() {
+		return this.samplingProbability >= 1.0 || ThreadLocalRandom.current().nextDouble() < this.samplingProbability;
+	}
+
 	private FilterChain wrapSecured(FilterChain original) {
 		return (req, res) -> {
 			AroundFilterObservation parent = observation((HttpServletRequest) req);
@@ -142,6 +188,64 @@ public final class ObservationFilterChainDecorator implements FilterChainProxy.F
 
 	}
 
+	private static final class TimedFilterChain implements FilterChain {
+
+		private final FilterChain originalChain;
+
+		private final List<Filter> additionalFilters;
+
+		private final @Nullable FilterTimings filterTimings;
+
+		private final int size;
+
+		private int currentPosition = 0;
+
+		private long downstreamNanos;
+
+		private TimedFilterChain(FilterChain chain, List<Filter> additionalFilters,
+				@Nullable FilterTimings filterTimings) {
+			this.originalChain = chain;
+			this.additionalFilters = additionalFilters;
+			this.filterTimings = filterTimings;
+			this.size = additionalFilters.size();
+		}
+
+		@Override
+		public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+			if (this.currentPosition == this.size) {
+				long start = System.nanoTime();
+				try {
+					this.originalChain.doFilter(request, response);
+				}
+				finally {
+					this.downstreamNanos = System.nanoTime() - start;
+				}
+				return;
+			}
+			this.currentPosition++;
+			Filter nextFilter = this.additionalFilters.get(this.currentPosition - 1);
+			if (logger.isTraceEnabled()) {
+				String name = nextFilter.getClass().getSimpleName();
+				logger.trace(LogMessage.format("Invoking %s (%d/%d)", name, this.currentPosition, this.size));
+			}
+			if (this.filterTimings == null) {
+				nextFilter.doFilter(request, response, this);
+				return;
+			}
+			long start = System.nanoTime();
+			this.downstreamNanos = 0;
+			try {
+				nextFilter.doFilter(request, response, this);
+			}
+			finally {
+				long elapsed = System.nanoTime() - start;
+				this.filterTimings.record(nextFilter.getClass().getSimpleName(), elapsed - this.downstreamNanos);
+				this.downstreamNanos = elapsed;
+			}
+		}
+
+	}
+
 	static final class ObservationFilter implements Filter {
 
 		static final Map<String, String> OBSERVATION_NAMES = new HashMap<>();
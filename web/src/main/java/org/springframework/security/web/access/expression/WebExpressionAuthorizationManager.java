@@ -25,6 +25,10 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.security.access.expression.ExpressionUtils;
 import org.springframework.security.access.expression.SecurityExpressionHandler;
 import org.springframework.security.authorization.AuthorizationManager;
@@ -57,10 +61,11 @@ public final class WebExpressionAuthorizationManager implements AuthorizationMan
 	}
 
 	private WebExpressionAuthorizationManager(String expressionString,
-			SecurityExpressionHandler<RequestAuthorizationContext> expressionHandler) {
+			SecurityExpressionHandler<RequestAuthorizationContext> expressionHandler,
+			ExpressionParser expressionParser) {
 		Assert.hasText(expressionString, "expressionString cannot be empty");
 		this.expressionHandler = expressionHandler;
-		this.expression = expressionHandler.getExpressionParser().parseExpression(expressionString);
+		this.expression = expressionParser.parseExpression(expressionString);
 	}
 
 	/**
@@ -142,6 +147,8 @@ public final class WebExpressionAuthorizationManager implements AuthorizationMan
 
 		private final boolean defaultExpressionHandler;
 
+		private @Nullable ExpressionParser expressionParser;
+
 		private Builder() {
 			this.expressionHandler = new DefaultHttpSecurityExpressionHandler();
 			this.defaultExpressionHandler = true;
@@ -159,7 +166,29 @@ public final class WebExpressionAuthorizationManager implements AuthorizationMan
 		 * @return the resulting {@link AuthorizationManager}
 		 */
 		public WebExpressionAuthorizationManager expression(String expression) {
-			return new WebExpressionAuthorizationManager(expression, this.expressionHandler);
+			ExpressionParser expressionParser = (this.expressionParser != null) ? this.expressionParser
+					: this.expressionHandler.getExpressionParser();
+			return new WebExpressionAuthorizationManager(expression, this.expressionHandler, expressionParser);
+		}
+
+		/**
+		 * Parse the expressions of the {@link WebExpressionAuthorizationManager}
+		 * instances created from now on with a {@link SpelExpressionParser} in the given
+		 * {@link SpelCompilerMode}, instead of the parser of the
+		 * {@link SecurityExpressionHandler}.
+		 *
+		 * <p>
+		 * With {@link SpelCompilerMode#MIXED}, an expression that has been evaluated a
+		 * number of times is compiled to bytecode, while the parts that cannot be
+		 * compiled remain interpreted.
+		 * @param compilerMode the {@link SpelCompilerMode} to use
+		 * @return the {@link Builder} for further customization
+		 * @since 7.1
+		 */
+		public Builder spelCompilerMode(SpelCompilerMode compilerMode) {
+			Assert.notNull(compilerMode, "compilerMode cannot be null");
+			this.expressionParser = new SpelExpressionParser(new SpelParserConfiguration(compilerMode, null));
+			return this;
 		}
 
 		@Override
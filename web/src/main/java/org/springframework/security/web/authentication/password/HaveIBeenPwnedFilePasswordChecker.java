@@ -0,0 +1,311 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.authentication.password;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.util.Assert;
+
+/**
+ * Checks if the provided password was leaked by searching a local copy of the
+ * <a href="https://haveibeenpwned.com/Passwords">Pwned Passwords</a> dataset, so that no
+ * request leaves the application.
+ *
+ * <p>
+ * The dataset is a file of SHA-1 hashes, each stored as 20 raw bytes, in ascending order
+ * and without any separator. Such a file can be created from the ordered-by-hash text
+ * download with {@link #createHashFile(Path, Path)}. The file is memory-mapped and
+ * searched with a binary search, so it is never read into the heap.
+ *
+ * <p>
+ * Optionally, a Bloom filter of the hashes can be kept in the heap, so that most of the
+ * passwords that were not leaked are accepted without touching the file. It costs
+ * {@code bloomFilterBitsPerHash} bits per hash in the file.
+ *
+ * <p>
+ * To update the dataset, write the new file next to the current one, move it in place
+ * with {@link java.nio.file.StandardCopyOption#ATOMIC_MOVE} and invoke
+ * {@link #refresh()}. Checks that are in progress complete against the previous file.
+ *
+ * @since 7.1
+ * @see HaveIBeenPwnedFileReactivePasswordChecker
+ */
+public final class HaveIBeenPwnedFilePasswordChecker implements CompromisedPasswordChecker {
+
+	private static final int HASH_LENGTH = 20;
+
+	private final Path hashFile;
+
+	private final int bloomFilterBitsPerHash;
+
+	private volatile HashFile dataset;
+
+	/**
+	 * Creates a new instance that searches the given file without a Bloom filter
+	 * @param hashFile the file of ordered SHA-1 hashes
+	 * @throws UncheckedIOException if the file cannot be mapped
+	 */
+	public HaveIBeenPwnedFilePasswordChecker(Path hashFile) {
+		this(hashFile, 0);
+	}
+
+	/**
+	 * Creates a new instance that searches the given file
+	 * @param hashFile the file of ordered SHA-1 hashes
+	 * @param bloomFilterBitsPerHash the number of bits per hash of the Bloom filter held
+	 * in the heap, or {@code 0} to search the file for every password
+	 * @throws UncheckedIOException if the file cannot be mapped
+	 */
+	public HaveIBeenPwnedFilePasswordChecker(Path hashFile, int bloomFilterBitsPerHash) {
+		Assert.notNull(hashFile, "hashFile cannot be null");
+		Assert.isTrue(bloomFilterBitsPerHash >= 0, "bloomFilterBitsPerHash cannot be negative");
+		this.hashFile = hashFile;
+		this.bloomFilterBitsPerHash = bloomFilterBitsPerHash;
+		this.dataset = load();
+	}
+
+	@Override
+	public CompromisedPasswordDecision check(@Nullable String password) {
+		if (password == null) {
+			return new CompromisedPasswordDecision(false);
+		}
+		byte[] hash = getSha1Digest().digest(password.getBytes(StandardCharsets.UTF_8));
+		return new CompromisedPasswordDecision(this.dataset.contains(hash));
+	}
+
+	/**
+	 * Maps the file again, for example after it was replaced with a newer dataset. If the
+	 * file cannot be mapped, the previous dataset remains in use.
+	 * @throws UncheckedIOException if the file cannot be mapped
+	 */
+	public void refresh() {
+		this.dataset = load();
+	}
+
+	/**
+	 * Creates a file that this checker can search from the ordered-by-hash SHA-1 text
+	 * file of the Pwned Passwords dataset, whose lines are formatted as
+	 * {@code HASH:COUNT}.
+	 * @param pwnedPasswordsFile the text file to read
+	 * @param hashFile the file to create or replace
+	 * @throws IOException if either file cannot be accessed
+	 * @throws IllegalArgumentException if a line is not a SHA-1 hash or the hashes are
+	 * not in ascending order
+	 */
+	public static void createHashFile(Path pwnedPasswordsFile, Path hashFile) throws IOException {
+		Assert.notNull(pwnedPasswordsFile, "pwnedPasswordsFile cannot be null");
+		Assert.notNull(hashFile, "hashFile cannot be null");
+		try (BufferedReader reader = Files.newBufferedReader(pwnedPasswordsFile, StandardCharsets.US_ASCII);
+				OutputStream output = Files.newOutputStream(hashFile)) {
+			byte[] previous = null;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				String value = line;
+				byte[] hash = parseHash(value);
+				Assert.isTrue(previous == null || Arrays.compareUnsigned(previous, hash) < 0,
+						() -> "Hashes must be in ascending order, but found " + value);
+				output.write(hash);
+				previous = hash;
+			}
+		}
+	}
+
+	private HashFile load() {
+		try (FileChannel channel = FileChannel.open(this.hashFile, StandardOpenOption.READ)) {
+			HashFile dataset = new HashFile(channel);
+			if (this.bloomFilterBitsPerHash > 0) {
+				dataset.bloomFilter = BloomFilter.of(dataset, this.bloomFilterBitsPerHash);
+			}
+			return dataset;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Could not map " + this.hashFile, ex);
+		}
+	}
+
+	private static byte[] parseHash(String line) {
+		int end = line.indexOf(':');
+		String hex = ((end != -1) ? line.substring(0, end) : line).trim();
+		Assert.isTrue(hex.length() == HASH_LENGTH * 2, () -> "Expected a SHA-1 hash, but found " + line);
+		byte[] hash = new byte[HASH_LENGTH];
+		for (int i = 0; i < HASH_LENGTH; i++) {
+			int high = Character.digit(hex.charAt(i * 2), 16);
+			int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+			Assert.isTrue(high != -1 && low != -1, () -> "Expected a SHA-1 hash, but found " + line);
+			hash[i] = (byte) ((high << 4) | low);
+		}
+		return hash;
+	}
+
+	private static MessageDigest getSha1Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-1");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new RuntimeException(ex.getMessage());
+		}
+	}
+
+	/**
+	 * A mapped file of ordered hashes. Since a single mapping is limited to 2GB, the file
+	 * is mapped in segments of whole hashes.
+	 */
+	private static final class HashFile {
+
+		private static final int HASHES_PER_SEGMENT = Integer.MAX_VALUE / HASH_LENGTH;
+
+		private final ByteBuffer[] segments;
+
+		private final long size;
+
+		private @Nullable BloomFilter bloomFilter;
+
+		HashFile(FileChannel channel) throws IOException {
+			long length = channel.size();
+			Assert.isTrue(length % HASH_LENGTH == 0,
+					() -> "The length of the hash file must be a multiple of " + HASH_LENGTH + " bytes");
+			this.size = length / HASH_LENGTH;
+			int count = (int) ((this.size + HASHES_PER_SEGMENT - 1) / HASHES_PER_SEGMENT);
+			this.segments = new ByteBuffer[count];
+			for (int i = 0; i < count; i++) {
+				long position = (long) i * HASHES_PER_SEGMENT * HASH_LENGTH;
+				long segmentLength = Math.min((long) HASHES_PER_SEGMENT * HASH_LENGTH, length - position);
+				this.segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, segmentLength);
+			}
+		}
+
+		boolean contains(byte[] hash) {
+			BloomFilter bloomFilter = this.bloomFilter;
+			if (bloomFilter != null && !bloomFilter.mightContain(hash)) {
+				return false;
+			}
+			ByteBuffer key = ByteBuffer.wrap(hash);
+			long low = 0;
+			long high = this.size - 1;
+			while (low <= high) {
+				long middle = (low + high) >>> 1;
+				int comparison = compare(middle, key);
+				if (comparison < 0) {
+					low = middle + 1;
+				}
+				else if (comparison > 0) {
+					high = middle - 1;
+				}
+				else {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		// compares the hash at the given index with the key, as unsigned big-endian values
+		private int compare(long index, ByteBuffer key) {
+			ByteBuffer segment = this.segments[(int) (index / HASHES_PER_SEGMENT)];
+			int offset = (int) (index % HASHES_PER_SEGMENT) * HASH_LENGTH;
+			int comparison = Long.compareUnsigned(segment.getLong(offset), key.getLong(0));
+			if (comparison == 0) {
+				comparison = Long.compareUnsigned(segment.getLong(offset + 8), key.getLong(8));
+			}
+			if (comparison == 0) {
+				comparison = Integer.compareUnsigned(segment.getInt(offset + 16), key.getInt(16));
+			}
+			return comparison;
+		}
+
+		void read(long index, byte[] hash) {
+			ByteBuffer segment = this.segments[(int) (index / HASHES_PER_SEGMENT)];
+			segment.get((int) (index % HASHES_PER_SEGMENT) * HASH_LENGTH, hash);
+		}
+
+	}
+
+	/**
+	 * A Bloom filter of SHA-1 hashes. Since the hashes are uniformly distributed, the
+	 * probe positions are derived from the hashes themselves by double hashing.
+	 */
+	private static final class BloomFilter {
+
+		private final long[] bits;
+
+		private final long bitCount;
+
+		private final int probes;
+
+		private BloomFilter(long bitCount, int probes) {
+			this.bits = new long[(int) ((bitCount + Long.SIZE - 1) / Long.SIZE)];
+			this.bitCount = bitCount;
+			this.probes = probes;
+		}
+
+		static BloomFilter of(HashFile dataset, int bitsPerHash) {
+			long bitCount = Math.min(Math.max(dataset.size * bitsPerHash, Long.SIZE),
+					(long) Integer.MAX_VALUE * Long.SIZE);
+			int probes = Math.max(1, (int) Math.round(bitsPerHash * Math.log(2)));
+			BloomFilter bloomFilter = new BloomFilter(bitCount, probes);
+			byte[] hash = new byte[HASH_LENGTH];
+			for (long i = 0; i < dataset.size; i++) {
+				dataset.read(i, hash);
+				bloomFilter.add(hash);
+			}
+			return bloomFilter;
+		}
+
+		void add(byte[] hash) {
+			ByteBuffer buffer = ByteBuffer.wrap(hash);
+			long first = buffer.getLong(0);
+			long second = buffer.getLong(8);
+			for (int i = 0; i < this.probes; i++) {
+				long bit = Long.remainderUnsigned(first + i * second, this.bitCount);
+				this.bits[(int) (bit >>> 6)] |= 1L << bit;
+			}
+		}
+
+		boolean mightContain(byte[] hash) {
+			ByteBuffer buffer = ByteBuffer.wrap(hash);
+			long first = buffer.getLong(0);
+			long second = buffer.getLong(8);
+			for (int i = 0; i < this.probes; i++) {
+				long bit = Long.remainderUnsigned(first + i * second, this.bitCount);
+				if ((this.bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+}
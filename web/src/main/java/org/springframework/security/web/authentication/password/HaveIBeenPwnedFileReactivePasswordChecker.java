@@ -0,0 +1,74 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.authentication.password;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.security.authentication.password.ReactiveCompromisedPasswordChecker;
+import org.springframework.util.Assert;
+
+/**
+ * Checks if the provided password was leaked by searching a local copy of the
+ * <a href="https://haveibeenpwned.com/Passwords">Pwned Passwords</a> dataset with a
+ * {@link HaveIBeenPwnedFilePasswordChecker}.
+ *
+ * <p>
+ * Since searching the memory-mapped file may read from the disk, the search runs on
+ * {@link Schedulers#boundedElastic()} by default. When the file is known to reside in
+ * memory, or when a Bloom filter answers most checks, {@link Schedulers#immediate()} can
+ * be used instead.
+ *
+ * @since 7.1
+ */
+public final class HaveIBeenPwnedFileReactivePasswordChecker implements ReactiveCompromisedPasswordChecker {
+
+	private final HaveIBeenPwnedFilePasswordChecker delegate;
+
+	private Scheduler scheduler = Schedulers.boundedElastic();
+
+	/**
+	 * Creates a new instance
+	 * @param delegate the {@link HaveIBeenPwnedFilePasswordChecker} to search with
+	 */
+	public HaveIBeenPwnedFileReactivePasswordChecker(HaveIBeenPwnedFilePasswordChecker delegate) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Mono<CompromisedPasswordDecision> check(@Nullable String password) {
+		if (password == null) {
+			return Mono.just(new CompromisedPasswordDecision(false));
+		}
+		return Mono.fromSupplier(() -> this.delegate.check(password)).subscribeOn(this.scheduler);
+	}
+
+	/**
+	 * Sets the {@link Scheduler} to search the file on. By default,
+	 * {@link Schedulers#boundedElastic()} is used.
+	 * @param scheduler the {@link Scheduler} to use
+	 */
+	public void setScheduler(Scheduler scheduler) {
+		Assert.notNull(scheduler, "scheduler cannot be null");
+		this.scheduler = scheduler;
+	}
+
+}
@@ -26,6 +26,7 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.security.core.context.ScopedValueSecurityContextHolderStrategy;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
@@ -77,6 +78,10 @@ public class SecurityContextHolderFilter extends GenericFilterBean {
 		}
 		request.setAttribute(FILTER_APPLIED, Boolean.TRUE);
 		Supplier<SecurityContext> deferredContext = this.securityContextRepository.loadDeferredContext(request);
+		if (this.securityContextHolderStrategy instanceof ScopedValueSecurityContextHolderStrategy scoped) {
+			doFilterInScope(scoped, deferredContext, request, response, chain);
+			return;
+		}
 		try {
 			this.securityContextHolderStrategy.setDeferredContext(deferredContext);
 			chain.doFilter(request, response);
@@ -87,6 +92,30 @@ public class SecurityContextHolderFilter extends GenericFilterBean {
 		}
 	}
 
+	/**
+	 * Invokes the filter chain in a new scope bound to the loaded {@link SecurityContext},
+	 * so it is discarded once the chain completes, without clearing it.
+	 */
+	private void doFilterInScope(ScopedValueSecurityContextHolderStrategy strategy,
+			Supplier<SecurityContext> deferredContext, HttpServletRequest request, HttpServletResponse response,
+			FilterChain chain) throws ServletException, IOException {
+		try {
+			strategy.callWhere(deferredContext, () -> {
+				chain.doFilter(request, response);
+				return null;
+			});
+		}
+		catch (IOException | ServletException | RuntimeException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw new ServletException(ex);
+		}
+		finally {
+			request.removeAttribute(FILTER_APPLIED);
+		}
+	}
+
 	/**
 	 * Sets the {@link SecurityContextHolderStrategy} to use. The default action is to use
 	 * the {@link SecurityContextHolderStrategy} stored in {@link SecurityContextHolder}.
@@ -25,10 +25,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.util.Assert;
@@ -117,23 +117,18 @@ public class StrictHttpFirewall implements HttpFirewall {
 	private static final List<String> FORBIDDEN_PARAGRAPH_SEPARATOR = Collections
 		.unmodifiableList(Arrays.asList("\u2029"));
 
-	private Set<String> encodedUrlBlocklist = new HashSet<>();
+	private final UrlBlocklist encodedUrlBlocklist = new UrlBlocklist();
 
-	private Set<String> decodedUrlBlocklist = new HashSet<>();
+	private final UrlBlocklist decodedUrlBlocklist = new UrlBlocklist();
 
 	private Set<String> allowedHttpMethods = createDefaultAllowedHttpMethods();
 
 	private Predicate<String> allowedHostnames = (hostname) -> true;
 
-	private static final Pattern ASSIGNED_AND_NOT_ISO_CONTROL_PATTERN = Pattern
-		.compile("[\\p{IsAssigned}&&[^\\p{IsControl}]]*");
-
 	private static final Predicate<String> ASSIGNED_AND_NOT_ISO_CONTROL_PREDICATE = (
-			s) -> ASSIGNED_AND_NOT_ISO_CONTROL_PATTERN.matcher(s).matches();
-
-	private static final Pattern HEADER_VALUE_PATTERN = Pattern.compile("[\\p{IsAssigned}&&[[^\\p{IsControl}]||\\t]]*");
+			s) -> isAssignedAndNotIsoControl(s, false);
 
-	private static final Predicate<String> HEADER_VALUE_PREDICATE = (s) -> HEADER_VALUE_PATTERN.matcher(s).matches();
+	private static final Predicate<String> HEADER_VALUE_PREDICATE = (s) -> isAssignedAndNotIsoControl(s, true);
 
 	private Predicate<String> allowedHeaderNames = ALLOWED_HEADER_NAMES;
 
@@ -543,19 +538,17 @@ public class StrictHttpFirewall implements HttpFirewall {
 	}
 
 	private void rejectedBlocklistedUrls(HttpServletRequest request) {
-		for (String forbidden : this.encodedUrlBlocklist) {
-			if (encodedUrlContains(request, forbidden)) {
-				throw new RequestRejectedException(
-						"The request was rejected because the URL contained a potentially malicious String \""
-								+ forbidden + "\"");
-			}
-		}
-		for (String forbidden : this.decodedUrlBlocklist) {
-			if (decodedUrlContains(request, forbidden)) {
-				throw new RequestRejectedException(
-						"The request was rejected because the URL contained a potentially malicious String \""
-								+ forbidden + "\"");
-			}
+		rejectBlocklisted(this.encodedUrlBlocklist.findIn(request.getContextPath()));
+		rejectBlocklisted(this.encodedUrlBlocklist.findIn(request.getRequestURI()));
+		rejectBlocklisted(this.decodedUrlBlocklist.findIn(request.getServletPath()));
+		rejectBlocklisted(this.decodedUrlBlocklist.findIn(request.getPathInfo()));
+	}
+
+	private static void rejectBlocklisted(@Nullable String forbidden) {
+		if (forbidden != null) {
+			throw new RequestRejectedException(
+					"The request was rejected because the URL contained a potentially malicious String \"" + forbidden
+							+ "\"");
 		}
 	}
 
@@ -600,20 +593,6 @@ public class StrictHttpFirewall implements HttpFirewall {
 		return true;
 	}
 
-	private static boolean encodedUrlContains(HttpServletRequest request, String value) {
-		if (valueContains(request.getContextPath(), value)) {
-			return true;
-		}
-		return valueContains(request.getRequestURI(), value);
-	}
-
-	private static boolean decodedUrlContains(HttpServletRequest request, String value) {
-		if (valueContains(request.getServletPath(), value)) {
-			return true;
-		}
-		return valueContains(request.getPathInfo(), value);
-	}
-
 	private static boolean containsOnlyPrintableAsciiCharacters(String uri) {
 		if (uri == null) {
 			return true;
@@ -628,8 +607,32 @@ public class StrictHttpFirewall implements HttpFirewall {
 		return true;
 	}
 
-	private static boolean valueContains(String value, String contains) {
-		return value != null && value.contains(contains);
+	/**
+	 * Checks that every code point of the value is assigned and is not an ISO control
+	 * character, with the exception of the tab character when {@code allowTab} is
+	 * {@code true}. This is equivalent to matching
+	 * {@code [\p{IsAssigned}&&[^\p{IsControl}]]*}, but avoids the regular expression
+	 * engine: ASCII is classified directly, and other code points with
+	 * {@link Character#getType(int)}.
+	 */
+	private static boolean isAssignedAndNotIsoControl(String value, boolean allowTab) {
+		int length = value.length();
+		for (int i = 0; i < length;) {
+			int codePoint = value.codePointAt(i);
+			if (codePoint < 0x80) {
+				if ((codePoint < 0x20 || codePoint == 0x7f) && !(allowTab && codePoint == '\t')) {
+					return false;
+				}
+				i++;
+				continue;
+			}
+			int type = Character.getType(codePoint);
+			if (type == Character.UNASSIGNED || type == Character.CONTROL) {
+				return false;
+			}
+			i += Character.charCount(codePoint);
+		}
+		return true;
 	}
 
 	/**
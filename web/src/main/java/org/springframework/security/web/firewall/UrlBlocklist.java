@@ -0,0 +1,236 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.firewall;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A mutable {@link Set} of forbidden URL strings that can be searched for in a single
+ * pass over a URL.
+ *
+ * <p>
+ * The strings are compiled into an Aho-Corasick automaton the first time
+ * {@link #findIn(String)} is invoked after the set was modified, so that checking a URL
+ * against the whole blocklist costs one scan of the URL rather than one
+ * {@link String#contains(CharSequence)} per forbidden string.
+ *
+ * <p>
+ * As with the {@link HashSet} it replaces, modifications are not thread-safe and are
+ * expected to happen while the firewall is being configured.
+ *
+ * @since 7.1
+ * @see StrictHttpFirewall#getEncodedUrlBlocklist()
+ * @see StrictHttpFirewall#getDecodedUrlBlocklist()
+ */
+public final class UrlBlocklist extends AbstractSet<String> {
+
+	private final Set<String> values = new HashSet<>();
+
+	private volatile @Nullable Automaton automaton;
+
+	@Override
+	public boolean add(String value) {
+		Assert.notNull(value, "value cannot be null");
+		boolean added = this.values.add(value);
+		if (added) {
+			this.automaton = null;
+		}
+		return added;
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		boolean removed = this.values.remove(value);
+		if (removed) {
+			this.automaton = null;
+		}
+		return removed;
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return this.values.contains(value);
+	}
+
+	@Override
+	public void clear() {
+		this.values.clear();
+		this.automaton = null;
+	}
+
+	@Override
+	public Iterator<String> iterator() {
+		Iterator<String> delegate = this.values.iterator();
+		return new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return delegate.hasNext();
+			}
+
+			@Override
+			public String next() {
+				return delegate.next();
+			}
+
+			@Override
+			public void remove() {
+				delegate.remove();
+				UrlBlocklist.this.automaton = null;
+			}
+
+		};
+	}
+
+	@Override
+	public int size() {
+		return this.values.size();
+	}
+
+	/**
+	 * Finds a forbidden string contained in the given value.
+	 * @param value the value to search, may be {@code null}
+	 * @return a forbidden string that {@code value} contains, or {@code null} if it
+	 * contains none or is {@code null}
+	 */
+	public @Nullable String findIn(@Nullable String value) {
+		if (value == null) {
+			return null;
+		}
+		Automaton automaton = this.automaton;
+		if (automaton == null) {
+			automaton = new Automaton(this.values);
+			this.automaton = automaton;
+		}
+		return automaton.findIn(value);
+	}
+
+	/**
+	 * An Aho-Corasick automaton, flattened into a transition table over the characters
+	 * that appear in the forbidden strings. All other characters share column zero.
+	 */
+	private static final class Automaton {
+
+		private static final int ASCII = 128;
+
+		private final int[] asciiColumns = new int[ASCII];
+
+		private final Map<Character, Integer> otherColumns = new HashMap<>();
+
+		private final int[][] transitions;
+
+		private final @Nullable String[] outputs;
+
+		Automaton(Collection<String> values) {
+			int columns = 1;
+			List<Map<Character, Integer>> trie = new ArrayList<>();
+			List<@Nullable String> matches = new ArrayList<>();
+			trie.add(new HashMap<>());
+			matches.add(null);
+			for (String value : values) {
+				int state = 0;
+				for (int i = 0; i < value.length(); i++) {
+					char ch = value.charAt(i);
+					if (column(ch) == 0) {
+						setColumn(ch, columns++);
+					}
+					Integer next = trie.get(state).get(ch);
+					if (next == null) {
+						next = trie.size();
+						trie.get(state).put(ch, next);
+						trie.add(new HashMap<>());
+						matches.add(null);
+					}
+					state = next;
+				}
+				matches.set(state, value);
+			}
+			this.transitions = new int[trie.size()][columns];
+			this.outputs = matches.toArray(new String[0]);
+			int[] failures = new int[trie.size()];
+			Queue<Integer> queue = new ArrayDeque<>();
+			for (Map.Entry<Character, Integer> child : trie.get(0).entrySet()) {
+				this.transitions[0][column(child.getKey())] = child.getValue();
+				queue.add(child.getValue());
+			}
+			while (!queue.isEmpty()) {
+				int state = queue.remove();
+				int failure = failures[state];
+				if (this.outputs[state] == null) {
+					this.outputs[state] = this.outputs[failure];
+				}
+				this.transitions[state] = Arrays.copyOf(this.transitions[failure], columns);
+				for (Map.Entry<Character, Integer> child : trie.get(state).entrySet()) {
+					int column = column(child.getKey());
+					failures[child.getValue()] = this.transitions[failure][column];
+					this.transitions[state][column] = child.getValue();
+					queue.add(child.getValue());
+				}
+			}
+		}
+
+		@Nullable String findIn(String value) {
+			String match = this.outputs[0];
+			if (match != null) {
+				return match;
+			}
+			int state = 0;
+			for (int i = 0; i < value.length(); i++) {
+				state = this.transitions[state][column(value.charAt(i))];
+				match = this.outputs[state];
+				if (match != null) {
+					return match;
+				}
+			}
+			return null;
+		}
+
+		private int column(char ch) {
+			if (ch < ASCII) {
+				return this.asciiColumns[ch];
+			}
+			Integer column = this.otherColumns.get(ch);
+			return (column != null) ? column : 0;
+		}
+
+		private void setColumn(char ch, int column) {
+			if (ch < ASCII) {
+				this.asciiColumns[ch] = column;
+			}
+			else {
+				this.otherColumns.put(ch, column);
+			}
+		}
+
+	}
+
+}
@@ -19,6 +19,7 @@ package org.springframework.security.web.server;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ThreadLocalRandom;
 
 import io.micrometer.common.KeyValue;
 import io.micrometer.common.KeyValues;
@@ -29,6 +30,7 @@ import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccess
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
+import org.springframework.security.web.FilterTimings;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
@@ -41,6 +43,11 @@ import org.springframework.web.server.WebHandler;
  * {@link org.springframework.security.web.server.WebFilterChainProxy.WebFilterChainDecorator}
  * that wraps the chain in before and after observations
  *
+ * <p>
+ * To reduce the overhead of observing every request, only a fraction of the requests can
+ * be observed with {@link #setSamplingProbability(double)}. The time spent in each filter
+ * by the other requests can then be recorded with {@link #setFilterTimings(FilterTimings)}.
+ *
  * @author Josh Cummings
  * @since 6.0
  */
@@ -54,18 +61,65 @@ public final class ObservationWebFilterChainDecorator implements WebFilterChainP
 
 	private final ObservationRegistry registry;
 
+	private double samplingProbability = 1.0;
+
+	private @Nullable FilterTimings filterTimings;
+
 	public ObservationWebFilterChainDecorator(ObservationRegistry registry) {
 		this.registry = registry;
 	}
 
+	/**
+	 * Sets the probability that a request is observed. Requests that are not sampled
+	 * create no {@link Observation}, and have the time spent in each filter recorded in
+	 * the {@link FilterTimings}, if any. The default is {@code 1.0}, meaning that every
+	 * request is observed.
+	 * @param samplingProbability the probability, between {@code 0.0} and {@code 1.0},
+	 * that a request is observed
+	 * @since 7.1
+	 * @see #setFilterTimings(FilterTimings)
+	 */
+	public void setSamplingProbability(double samplingProbability) {
+		Assert.isTrue(samplingProbability >= 0 && samplingProbability <= 1,
+				"samplingProbability must be between 0.0 and 1.0");
+		this.samplingProbability = samplingProbability;
+	}
+
+	/**
+	 * Sets the {@link FilterTimings} in which to record the time spent in each filter by
+	 * the requests that are not sampled for observation. For a {@link WebFilter}, this
+	 * is the time between the subscription to the filter and the completion of the
+	 * filter, minus the time spent in the rest of the chain.
+	 * @param filterTimings the {@link FilterTimings} to use
+	 * @since 7.1
+	 * @see #setSamplingProbability(double)
+	 */
+	public void setFilterTimings(FilterTimings filterTimings) {
+		Assert.notNull(filterTimings, "filterTimings cannot be null");
+		this.filterTimings = filterTimings;
+	}
+
 	@Override
 	public WebFilterChain decorate(WebFilterChain original) {
-		return wrapUnsecured(original);
+		WebFilterChain observed = wrapUnsecured(original);
+		if (this.samplingProbability >= 1.0) {
+			return observed;
+		}
+		return (exchange) -> Mono.defer(() -> sampled() ? observed.filter(exchange) : original.filter(exchange));
 	}
 
 	@Override
 	public WebFilterChain decorate(WebFilterChain original, List<WebFilter> filters) {
-		return new ObservationWebFilterChain(wrapSecured(original)::filter, wrap(filters));
+		WebFilterChain observed = new ObservationWebFilterChain(wrapSecured(original)::filter, wrap(filters));
+		if (this.samplingProbability >= 1.0) {
+			return observed;
+		}
+		WebFilterChain timed = new TimedWebFilterChain(original::filter, filters, this.filterTimings);
+		return (exchange) -> Mono.defer(() -> sampled() ? observed.filter(exchange) : timed.filter(exchange));
+	}
+
+	private boolean sampled() {
+		return ThreadLocalRandom.current().nextDouble() < this.samplingProbability;
 	}
 
 	private static @Nullable AroundWebFilterObservation observation(ServerWebExchange exchange) {
@@ -160,6 +214,96 @@ public final class ObservationWebFilterChainDecorator implements WebFilterChainP
 
 	}
 
+	private static final class TimedWebFilterChain implements WebFilterChain {
+
+		private final WebHandler handler;
+
+		private final @Nullable WebFilter currentFilter;
+
+		private final @Nullable TimedWebFilterChain chain;
+
+		private final @Nullable FilterTimings filterTimings;
+
+		TimedWebFilterChain(WebHandler handler, List<WebFilter> filters, @Nullable FilterTimings filterTimings) {
+			TimedWebFilterChain chain = new TimedWebFilterChain(handler, null, null, filterTimings);
+			ListIterator<WebFilter> iterator = filters.listIterator(filters.size());
+			while (iterator.hasPrevious()) {
+				chain = new TimedWebFilterChain(handler, iterator.previous(), chain, filterTimings);
+			}
+			this.handler = handler;
+			this.currentFilter = chain.currentFilter;
+			this.chain = chain.chain;
+			this.filterTimings = filterTimings;
+		}
+
+		private TimedWebFilterChain(WebHandler handler, @Nullable WebFilter currentFilter,
+				@Nullable TimedWebFilterChain chain, @Nullable FilterTimings filterTimings) {
+			this.handler = handler;
+			this.currentFilter = currentFilter;
+			this.chain = chain;
+			this.filterTimings = filterTimings;
+		}
+
+		@Override
+		public Mono<Void> filter(ServerWebExchange exchange) {
+			return Mono.defer(() -> {
+				WebFilter current = this.currentFilter;
+				TimedWebFilterChain next = this.chain;
+				if (current == null || next == null) {
+					return this.handler.handle(exchange);
+				}
+				FilterTimings timings = this.filterTimings;
+				if (timings == null) {
+					return current.filter(exchange, next);
+				}
+				Stopwatch stopwatch = new Stopwatch();
+				// doFinally runs only after the signal has gone downstream, so resume
+				// before the current filter observes completion
+				WebFilterChain timedNext = (e) -> next.filter(e)
+					.doOnSubscribe((subscription) -> stopwatch.pause())
+					.doOnTerminate(stopwatch::resume)
+					.doOnCancel(stopwatch::resume);
+				return current.filter(exchange, timedNext)
+					.doOnSubscribe((subscription) -> stopwatch.start())
+					.doFinally((signal) -> timings.record(current.getClass().getSimpleName(), stopwatch.stop()));
+			});
+		}
+
+	}
+
+	private static final class Stopwatch {
+
+		private long start;
+
+		private long pausedAt;
+
+		private long pausedNanos;
+
+		private boolean paused;
+
+		void start() {
+			this.start = System.nanoTime();
+		}
+
+		void pause() {
+			this.pausedAt = System.nanoTime();
+			this.paused = true;
+		}
+
+		void resume() {
+			if (this.paused) {
+				this.pausedNanos += System.nanoTime() - this.pausedAt;
+				this.paused = false;
+			}
+		}
+
+		long stop() {
+			resume();
+			return System.nanoTime() - this.start - this.pausedNanos;
+		}
+
+	}
+
 	static final class ObservationWebFilter implements WebFilter {
 
 		private final ObservationRegistry registry;
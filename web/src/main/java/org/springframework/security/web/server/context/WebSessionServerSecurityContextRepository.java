@@ -22,6 +22,7 @@ import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.log.LogMessage;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.util.Assert;
 import org.springframework.web.server.ServerWebExchange;
@@ -45,10 +46,15 @@ public class WebSessionServerSecurityContextRepository implements ServerSecurity
 	 */
 	public static final String DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME = "SPRING_SECURITY_CONTEXT";
 
+	private static final String STORED_AUTHENTICATION_ATTR_NAME = WebSessionServerSecurityContextRepository.class
+		.getName() + ".STORED_AUTHENTICATION";
+
 	private String springSecurityContextAttrName = DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
 
 	private boolean cacheSecurityContext;
 
+	private boolean saveChangedSecurityContextOnly;
+
 	/**
 	 * Sets the session attribute name used to save and load the {@link SecurityContext}
 	 * @param springSecurityContextAttrName the session attribute name to use to save and
@@ -69,20 +75,73 @@ public class WebSessionServerSecurityContextRepository implements ServerSecurity
 		this.cacheSecurityContext = cacheSecurityContext;
 	}
 
+	/**
+	 * If set to true, {@link #save(ServerWebExchange, SecurityContext)} will not write to
+	 * the {@link WebSession} nor change its id when the {@link SecurityContext} is equal
+	 * to the one already stored in the {@link WebSession}, or when a {@code null}
+	 * {@link SecurityContext} is saved and none is stored. This avoids starting and
+	 * writing sessions, for example to a remote session store, when nothing changed. A
+	 * {@link SecurityContext} that is changed in place, for example with
+	 * {@link SecurityContext#setAuthentication(Authentication)}, is detected by comparing
+	 * its {@link Authentication} with the one it held when it was loaded or saved with
+	 * the same {@link ServerWebExchange}. The default is false.
+	 * @param saveChangedSecurityContextOnly true if only changed {@link SecurityContext}s
+	 * should be saved, else false
+	 * @since 7.1
+	 */
+	public void setSaveChangedSecurityContextOnly(boolean saveChangedSecurityContextOnly) {
+		this.saveChangedSecurityContextOnly = saveChangedSecurityContextOnly;
+	}
+
 	@Override
 	public Mono<Void> save(ServerWebExchange exchange, @Nullable SecurityContext context) {
-		return exchange.getSession().doOnNext((session) -> {
+		Mono<WebSession> session = exchange.getSession();
+		if (this.saveChangedSecurityContextOnly) {
+			session = session.filter((webSession) -> isChanged(exchange, webSession, context));
+		}
+		return session.doOnNext((webSession) -> {
+			if (this.saveChangedSecurityContextOnly) {
+				rememberStoredAuthentication(exchange, context);
+			}
 			if (context == null) {
-				session.getAttributes().remove(this.springSecurityContextAttrName);
-				logger.debug(LogMessage.format("Removed SecurityContext stored in WebSession: '%s'", session));
+				webSession.getAttributes().remove(this.springSecurityContextAttrName);
+				logger.debug(LogMessage.format("Removed SecurityContext stored in WebSession: '%s'", webSession));
 			}
 			else {
-				session.getAttributes().put(this.springSecurityContextAttrName, context);
-				logger.debug(LogMessage.format("Saved SecurityContext '%s' in WebSession: '%s'", context, session));
+				webSession.getAttributes().put(this.springSecurityContextAttrName, context);
+				logger.debug(LogMessage.format("Saved SecurityContext '%s' in WebSession: '%s'", context, webSession));
 			}
 		}).flatMap(WebSession::changeSessionId);
 	}
 
+	private boolean isChanged(ServerWebExchange exchange, WebSession session, @Nullable SecurityContext context) {
+		Object stored = session.getAttribute(this.springSecurityContextAttrName);
+		if ((context != null) ? context.equals(stored) && !isChangedInPlace(exchange, context, stored)
+				: stored == null) {
+			logger.trace(LogMessage.format("Did not save unchanged SecurityContext in WebSession: '%s'", session));
+			return false;
+		}
+		return true;
+	}
+
+	private boolean isChangedInPlace(ServerWebExchange exchange, SecurityContext context, @Nullable Object stored) {
+		if (context != stored) {
+			// an equal but distinct SecurityContext holds an equal Authentication
+			return false;
+		}
+		StoredAuthentication storedAuthentication = exchange.getAttribute(STORED_AUTHENTICATION_ATTR_NAME);
+		return storedAuthentication == null || storedAuthentication.authentication() != context.getAuthentication();
+	}
+
+	private void rememberStoredAuthentication(ServerWebExchange exchange, @Nullable SecurityContext context) {
+		if (context == null) {
+			exchange.getAttributes().remove(STORED_AUTHENTICATION_ATTR_NAME);
+			return;
+		}
+		exchange.getAttributes()
+			.put(STORED_AUTHENTICATION_ATTR_NAME, new StoredAuthentication(context.getAuthentication()));
+	}
+
 	@Override
 	public Mono<SecurityContext> load(ServerWebExchange exchange) {
 		Mono<SecurityContext> result = exchange.getSession().flatMap((session) -> {
@@ -90,9 +149,16 @@ public class WebSessionServerSecurityContextRepository implements ServerSecurity
 			logger.debug((context != null)
 					? LogMessage.format("Found SecurityContext '%s' in WebSession: '%s'", context, session)
 					: LogMessage.format("No SecurityContext found in WebSession: '%s'", session));
+			if (this.saveChangedSecurityContextOnly) {
+				rememberStoredAuthentication(exchange, context);
+			}
 			return Mono.justOrEmpty(context);
 		});
 		return (this.cacheSecurityContext) ? result.cache() : result;
 	}
 
+	private record StoredAuthentication(@Nullable Authentication authentication) {
+
+	}
+
 }
@@ -27,7 +27,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
@@ -38,6 +37,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.SslInfo;
+import org.springframework.security.web.firewall.UrlBlocklist;
 import org.springframework.util.Assert;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.server.ServerWebExchange;
@@ -125,24 +125,19 @@ public class StrictServerWebExchangeFirewall implements ServerWebExchangeFirewal
 	private static final List<String> FORBIDDEN_PARAGRAPH_SEPARATOR = Collections
 		.unmodifiableList(Arrays.asList("\u2029"));
 
-	private Set<String> encodedUrlBlocklist = new HashSet<>();
+	private final UrlBlocklist encodedUrlBlocklist = new UrlBlocklist();
 
-	private Set<String> decodedUrlBlocklist = new HashSet<>();
+	private final UrlBlocklist decodedUrlBlocklist = new UrlBlocklist();
 
 	private Set<HttpMethod> allowedHttpMethods = createDefaultAllowedHttpMethods();
 
 	private Predicate<String> allowedHostnames = (hostname) -> true;
 
-	private static final Pattern ASSIGNED_AND_NOT_ISO_CONTROL_PATTERN = Pattern
-		.compile("[\\p{IsAssigned}&&[^\\p{IsControl}]]*");
-
 	private static final Predicate<String> ASSIGNED_AND_NOT_ISO_CONTROL_PREDICATE = (s) -> s == null
-			|| ASSIGNED_AND_NOT_ISO_CONTROL_PATTERN.matcher(s).matches();
-
-	private static final Pattern HEADER_VALUE_PATTERN = Pattern.compile("[\\p{IsAssigned}&&[[^\\p{IsControl}]||\\t]]*");
+			|| isAssignedAndNotIsoControl(s, false);
 
 	private static final Predicate<String> HEADER_VALUE_PREDICATE = (s) -> s == null
-			|| HEADER_VALUE_PATTERN.matcher(s).matches();
+			|| isAssignedAndNotIsoControl(s, true);
 
 	private Predicate<String> allowedHeaderNames = ALLOWED_HEADER_NAMES;
 
@@ -581,19 +576,16 @@ public class StrictServerWebExchangeFirewall implements ServerWebExchangeFirewal
 	}
 
 	private void rejectedBlocklistedUrls(ServerHttpRequest request) {
-		for (String forbidden : this.encodedUrlBlocklist) {
-			if (encodedUrlContains(request, forbidden)) {
-				throw new ServerExchangeRejectedException(
-						"The request was rejected because the URL contained a potentially malicious String \""
-								+ forbidden + "\"");
-			}
-		}
-		for (String forbidden : this.decodedUrlBlocklist) {
-			if (decodedUrlContains(request, forbidden)) {
-				throw new ServerExchangeRejectedException(
-						"The request was rejected because the URL contained a potentially malicious String \""
-								+ forbidden + "\"");
-			}
+		rejectBlocklisted(this.encodedUrlBlocklist.findIn(request.getPath().value()));
+		rejectBlocklisted(this.encodedUrlBlocklist.findIn(request.getURI().getRawPath()));
+		rejectBlocklisted(this.decodedUrlBlocklist.findIn(request.getURI().getPath()));
+	}
+
+	private static void rejectBlocklisted(@Nullable String forbidden) {
+		if (forbidden != null) {
+			throw new ServerExchangeRejectedException(
+					"The request was rejected because the URL contained a potentially malicious String \"" + forbidden
+							+ "\"");
 		}
 	}
 
@@ -658,17 +650,6 @@ public class StrictServerWebExchangeFirewall implements ServerWebExchangeFirewal
 		}
 	}
 
-	private static boolean encodedUrlContains(ServerHttpRequest request, String value) {
-		if (valueContains(request.getPath().value(), value)) {
-			return true;
-		}
-		return valueContains(request.getURI().getRawPath(), value);
-	}
-
-	private static boolean decodedUrlContains(ServerHttpRequest request, String value) {
-		return valueContains(request.getURI().getPath(), value);
-	}
-
 	private static boolean containsOnlyPrintableAsciiCharacters(String uri) {
 		if (uri == null) {
 			return true;
@@ -683,8 +664,32 @@ public class StrictServerWebExchangeFirewall implements ServerWebExchangeFirewal
 		return true;
 	}
 
-	private static boolean valueContains(String value, String contains) {
-		return value != null && value.contains(contains);
+	/**
+	 * Checks that every code point of the value is assigned and is not an ISO control
+	 * character, with the exception of the tab character when {@code allowTab} is
+	 * {@code true}. This is equivalent to matching
+	 * {@code [\p{IsAssigned}&&[^\p{IsControl}]]*}, but avoids the regular expression
+	 * engine: ASCII is classified directly, and other code points with
+	 * {@link Character#getType(int)}.
+	 */
+	private static boolean isAssignedAndNotIsoControl(String value, boolean allowTab) {
+		int length = value.length();
+		for (int i = 0; i < length;) {
+			int codePoint = value.codePointAt(i);
+			if (codePoint < 0x80) {
+				if ((codePoint < 0x20 || codePoint == 0x7f) && !(allowTab && codePoint == '\t')) {
+					return false;
+				}
+				i++;
+				continue;
+			}
+			int type = Character.getType(codePoint);
+			if (type == Character.UNASSIGNED || type == Character.CONTROL) {
+				return false;
+			}
+			i += Character.charCount(codePoint);
+		}
+		return true;
 	}
 
 	/**
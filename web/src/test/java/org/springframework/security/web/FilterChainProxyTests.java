@@ -42,6 +42,7 @@ import org.mockito.stubbing.Answer;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.ScopedValueSecurityContextHolderStrategy;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.web.firewall.FirewalledRequest;
@@ -222,6 +223,23 @@ public class FilterChainProxyTests {
 		verify(strategy).clearContext();
 	}
 
+	@Test
+	public void doFilterWhenScopedValueStrategyThenSecurityContextDiscarded() throws Exception {
+		ScopedValueSecurityContextHolderStrategy strategy = new ScopedValueSecurityContextHolderStrategy();
+		this.fcp.setSecurityContextHolderStrategy(strategy);
+		given(this.matcher.matches(any(HttpServletRequest.class))).willReturn(true);
+		willAnswer((Answer<Object>) (inv) -> {
+			assertThat(strategy.isBound()).isTrue();
+			strategy.getContext().setAuthentication(new TestingAuthenticationToken("username", "password"));
+			throw new ServletException("oops");
+		}).given(this.filter)
+			.doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
+		assertThatExceptionOfType(ServletException.class)
+			.isThrownBy(() -> this.fcp.doFilter(this.request, this.response, this.chain));
+		assertThat(strategy.isBound()).isFalse();
+		assertThat(strategy.getContext().getAuthentication()).isNull();
+	}
+
 	@Test
 	public void doFilterClearsSecurityContextHolderWithException() throws Exception {
 		given(this.matcher.matches(any(HttpServletRequest.class))).willReturn(true);
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FilterTimings}
+ */
+class FilterTimingsTests {
+
+	private final FilterTimings timings = new FilterTimings();
+
+	@Test
+	void recordThenSnapshot() {
+		for (int i = 1; i <= 100; i++) {
+			this.timings.record("CsrfFilter", i * 1000L);
+		}
+		this.timings.record("CorsFilter", 10);
+		FilterTimings.Snapshot csrf = this.timings.getSnapshots().get("CsrfFilter");
+		assertThat(this.timings.getSnapshots()).containsOnlyKeys("CorsFilter", "CsrfFilter");
+		assertThat(csrf.getCount()).isEqualTo(100);
+		assertThat(csrf.getTotalNanos()).isEqualTo(5050 * 1000L);
+		assertThat(csrf.getMaxNanos()).isEqualTo(100_000);
+		assertThat(csrf.getPercentileNanos(1)).isEqualTo(100_000);
+		assertThat(csrf.getPercentileNanos(0.5)).isBetween(50_000L, 65_535L);
+	}
+
+	@Test
+	void resetThenEmpty() {
+		this.timings.record("CsrfFilter", 1000);
+		this.timings.reset();
+		assertThat(this.timings.getSnapshots()).isEmpty();
+	}
+
+}
@@ -39,10 +39,12 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -65,6 +67,32 @@ public class ObservationFilterChainDecoratorTests {
 		verify(handler).onStart(any());
 	}
 
+	@Test
+	void decorateWhenNotSampledThenDoesNotObserveAndRecordsFilterTimings() throws Exception {
+		ObservationHandler<?> handler = mock(ObservationHandler.class);
+		given(handler.supportsContext(any())).willReturn(true);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		ObservationFilterChainDecorator decorator = new ObservationFilterChainDecorator(registry);
+		FilterTimings timings = new FilterTimings();
+		decorator.setSamplingProbability(0);
+		decorator.setFilterTimings(timings);
+		FilterChain chain = mock(FilterChain.class);
+		FilterChain decorated = decorator.decorate(chain, List.of(new BasicAuthenticationFilter()));
+		decorated.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse());
+		decorator.decorate(chain).doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse());
+		verify(chain, times(2)).doFilter(any(), any());
+		verify(handler, never()).onStart(any());
+		assertThat(timings.getSnapshots()).containsOnlyKeys("BasicAuthenticationFilter");
+		assertThat(timings.getSnapshots().get("BasicAuthenticationFilter").getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void setSamplingProbabilityWhenOutOfRangeThenIllegalArgumentException() {
+		ObservationFilterChainDecorator decorator = new ObservationFilterChainDecorator(ObservationRegistry.NOOP);
+		assertThatIllegalArgumentException().isThrownBy(() -> decorator.setSamplingProbability(1.5));
+	}
+
 	@Test
 	void decorateWhenNoopThenDoesNotObserve() throws Exception {
 		ObservationHandler<?> handler = mock(ObservationHandler.class);
@@ -21,10 +21,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.TestAuthentication;
 import org.springframework.security.authorization.AuthorizationResult;
 import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -148,4 +150,27 @@ class WebExpressionAuthorizationManagerTests {
 		assertThat(result.isGranted()).isTrue();
 	}
 
+	@Test
+	void authorizeWhenSpelCompilerModeThenExpressionCompiled() {
+		WebExpressionAuthorizationManager manager = WebExpressionAuthorizationManager.withDefaults()
+			.spelCompilerMode(SpelCompilerMode.IMMEDIATE)
+			.expression("hasRole('ADMIN')");
+		for (int i = 0; i < 3; i++) {
+			AuthorizationResult result = manager.authorize(TestAuthentication::authenticatedAdmin,
+					new RequestAuthorizationContext(new MockHttpServletRequest()));
+			assertThat(result.isGranted()).isTrue();
+		}
+		assertThat(ReflectionTestUtils.getField(ReflectionTestUtils.getField(manager, "expression"), "compiledAst"))
+			.isNotNull();
+		AuthorizationResult result = manager.authorize(TestAuthentication::authenticatedUser,
+				new RequestAuthorizationContext(new MockHttpServletRequest()));
+		assertThat(result.isGranted()).isFalse();
+	}
+
+	@Test
+	void spelCompilerModeWhenNullThenIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> WebExpressionAuthorizationManager.withDefaults().spelCompilerMode(null));
+	}
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.authentication.password;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link HaveIBeenPwnedFilePasswordChecker}
+ */
+class HaveIBeenPwnedFilePasswordCheckerTests {
+
+	private static final String PWNED_PASSWORDS = """
+			000000005AD76BD555C1D6D771DE417A4B87E4B4:10
+			21BD12DC183F740EE76F27B78EB39C8AD972A757:300185
+			5BAA61E4C9B93F3F0682250B6CF8331B7EE68FD8:52256179
+			FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF:1
+			""";
+
+	@TempDir
+	Path directory;
+
+	private Path hashFile;
+
+	@BeforeEach
+	void setup() throws IOException {
+		this.hashFile = createHashFile("pwned-passwords.bin", PWNED_PASSWORDS);
+	}
+
+	@Test
+	void checkWhenPasswordIsLeakedThenIsCompromised() {
+		HaveIBeenPwnedFilePasswordChecker passwordChecker = new HaveIBeenPwnedFilePasswordChecker(this.hashFile);
+		assertThat(passwordChecker.check("P@ssw0rd").isCompromised()).isTrue();
+		assertThat(passwordChecker.check("password").isCompromised()).isTrue();
+	}
+
+	@Test
+	void checkWhenPasswordNotLeakedThenNotCompromised() {
+		HaveIBeenPwnedFilePasswordChecker passwordChecker = new HaveIBeenPwnedFilePasswordChecker(this.hashFile);
+		assertThat(passwordChecker.check("My1nCr3d!bL3P@SS0W0RD").isCompromised()).isFalse();
+		assertThat(passwordChecker.check("123456").isCompromised()).isFalse();
+	}
+
+	@Test
+	void checkWhenNullPasswordThenNotCompromised() {
+		HaveIBeenPwnedFilePasswordChecker passwordChecker = new HaveIBeenPwnedFilePasswordChecker(this.hashFile);
+		assertThat(passwordChecker.check(null).isCompromised()).isFalse();
+	}
+
+	@Test
+	void checkWhenEmptyFileThenNotCompromised() throws IOException {
+		Path empty = createHashFile("empty.bin", "");
+		HaveIBeenPwnedFilePasswordChecker passwordChecker = new HaveIBeenPwnedFilePasswordChecker(empty, 10);
+		assertThat(passwordChecker.check("P@ssw0rd").isCompromised()).isFalse();
+	}
+
+	@Test
+	void checkWhenBloomFilterThenSameDecisions() {
+		HaveIBeenPwnedFilePasswordChecker passwordChecker = new HaveIBeenPwnedFilePasswordChecker(this.hashFile, 10);
+		assertThat(passwordChecker.check("P@ssw0rd").isCompromised()).isTrue();
+		assertThat(passwordChecker.check("password").isCompromised()).isTrue();
+		assertThat(passwordChecker.check("My1nCr3d!bL3P@SS0W0RD").isCompromised()).isFalse();
+		assertThat(passwordChecker.check("123456").isCompromised()).isFalse();
+	}
+
+	@Test
+	void refreshWhenFileReplacedThenUsesNewFile() throws IOException {
+		HaveIBeenPwnedFilePasswordChecker passwordChecker = new HaveIBeenPwnedFilePasswordChecker(this.hashFile, 10);
+		Path updated = createHashFile("updated.bin", """
+				7C4A8D09CA3762AF61E59520943DC26494F8941B:209972844
+				""");
+		Files.move(updated, this.hashFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		assertThat(passwordChecker.check("P@ssw0rd").isCompromised()).isTrue();
+		passwordChecker.refresh();
+		assertThat(passwordChecker.check("P@ssw0rd").isCompromised()).isFalse();
+		assertThat(passwordChecker.check("123456").isCompromised()).isTrue();
+	}
+
+	@Test
+	void constructorWhenFileMissingThenException() {
+		assertThatExceptionOfType(UncheckedIOException.class)
+			.isThrownBy(() -> new HaveIBeenPwnedFilePasswordChecker(this.directory.resolve("missing.bin")));
+	}
+
+	@Test
+	void constructorWhenTruncatedFileThenException() throws IOException {
+		Path truncated = this.directory.resolve("truncated.bin");
+		Files.write(truncated, new byte[30]);
+		assertThatIllegalArgumentException().isThrownBy(() -> new HaveIBeenPwnedFilePasswordChecker(truncated));
+	}
+
+	@Test
+	void createHashFileWhenNotOrderedThenException() throws IOException {
+		Path source = this.directory.resolve("unordered.txt");
+		Files.writeString(source, """
+				5BAA61E4C9B93F3F0682250B6CF8331B7EE68FD8:52256179
+				21BD12DC183F740EE76F27B78EB39C8AD972A757:300185
+				""");
+		assertThatIllegalArgumentException().isThrownBy(() -> HaveIBeenPwnedFilePasswordChecker
+			.createHashFile(source, this.directory.resolve("unordered.bin")));
+	}
+
+	@Test
+	void createHashFileWhenNotHashThenException() throws IOException {
+		Path source = this.directory.resolve("invalid.txt");
+		Files.writeString(source, "P@ssw0rd:1\n");
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> HaveIBeenPwnedFilePasswordChecker.createHashFile(source, this.directory.resolve("invalid.bin")));
+	}
+
+	private Path createHashFile(String name, String pwnedPasswords) throws IOException {
+		Path source = this.directory.resolve(name + ".txt");
+		Files.writeString(source, pwnedPasswords);
+		Path hashFile = this.directory.resolve(name);
+		HaveIBeenPwnedFilePasswordChecker.createHashFile(source, hashFile);
+		return hashFile;
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.authentication.password;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HaveIBeenPwnedFileReactivePasswordChecker}
+ */
+class HaveIBeenPwnedFileReactivePasswordCheckerTests {
+
+	@TempDir
+	Path directory;
+
+	private HaveIBeenPwnedFileReactivePasswordChecker passwordChecker;
+
+	@BeforeEach
+	void setup() throws IOException {
+		Path source = this.directory.resolve("pwned-passwords.txt");
+		Files.writeString(source, "21BD12DC183F740EE76F27B78EB39C8AD972A757:300185\n");
+		Path hashFile = this.directory.resolve("pwned-passwords.bin");
+		HaveIBeenPwnedFilePasswordChecker.createHashFile(source, hashFile);
+		this.passwordChecker = new HaveIBeenPwnedFileReactivePasswordChecker(
+				new HaveIBeenPwnedFilePasswordChecker(hashFile));
+	}
+
+	@Test
+	void checkWhenPasswordIsLeakedThenIsCompromised() {
+		StepVerifier.create(this.passwordChecker.check("P@ssw0rd"))
+			.assertNext((check) -> assertThat(check.isCompromised()).isTrue())
+			.verifyComplete();
+	}
+
+	@Test
+	void checkWhenPasswordNotLeakedThenNotCompromised() {
+		this.passwordChecker.setScheduler(Schedulers.immediate());
+		StepVerifier.create(this.passwordChecker.check("My1nCr3d!bL3P@SS0W0RD"))
+			.assertNext((check) -> assertThat(check.isCompromised()).isFalse())
+			.verifyComplete();
+	}
+
+	@Test
+	void checkWhenNullPasswordThenNotCompromised() {
+		StepVerifier.create(this.passwordChecker.check(null))
+			.assertNext((check) -> assertThat(check.isCompromised()).isFalse())
+			.verifyComplete();
+	}
+
+}
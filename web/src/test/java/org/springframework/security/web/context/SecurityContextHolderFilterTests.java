@@ -37,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.security.authentication.TestAuthentication;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ScopedValueSecurityContextHolderStrategy;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
@@ -114,6 +115,22 @@ class SecurityContextHolderFilterTests {
 		verify(this.strategy).clearContext();
 	}
 
+	@Test
+	void doFilterWhenScopedValueStrategyThenContextBoundForChain() throws Exception {
+		ScopedValueSecurityContextHolderStrategy scoped = new ScopedValueSecurityContextHolderStrategy();
+		SecurityContext expectedContext = new SecurityContextImpl(TestAuthentication.authenticatedUser());
+		given(this.repository.loadDeferredContext(this.requestArg.capture()))
+			.willReturn(new SupplierDeferredSecurityContext(() -> expectedContext, scoped));
+		FilterChain filterChain = (request, response) -> {
+			assertThat(scoped.isBound()).isTrue();
+			assertThat(scoped.getContext()).isEqualTo(expectedContext);
+		};
+		this.filter.setSecurityContextHolderStrategy(scoped);
+		this.filter.doFilter(this.request, this.response, filterChain);
+		assertThat(scoped.isBound()).isFalse();
+		verify(this.request).removeAttribute(FILTER_APPLIED);
+	}
+
 	@Test
 	void doFilterWhenFilterAppliedThenDoNothing() throws Exception {
 		given(this.request.getAttribute(FILTER_APPLIED)).willReturn(true);
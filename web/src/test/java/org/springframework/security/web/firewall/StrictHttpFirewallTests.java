@@ -18,6 +18,8 @@ package org.springframework.security.web.firewall;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Test;
@@ -928,4 +930,17 @@ public class StrictHttpFirewallTests {
 		assertThat(request.getDateHeader(null)).isEqualTo(-1);
 	}
 
+	@Test
+	public void allowedHeaderNamesAndValuesWhenAnyCodePointThenSameAsRegularExpression() {
+		Pattern names = Pattern.compile("[\\p{IsAssigned}&&[^\\p{IsControl}]]*");
+		Pattern values = Pattern.compile("[\\p{IsAssigned}&&[[^\\p{IsControl}]||\\t]]*");
+		Predicate<String> allowedNames = StrictHttpFirewall.ALLOWED_HEADER_NAMES;
+		Predicate<String> allowedValues = StrictHttpFirewall.ALLOWED_HEADER_VALUES;
+		for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+			String value = "a" + new String(Character.toChars(codePoint)) + "b";
+			assertThat(allowedNames.test(value)).isEqualTo(names.matcher(value).matches());
+			assertThat(allowedValues.test(value)).isEqualTo(values.matcher(value).matches());
+		}
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.firewall;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link UrlBlocklist}
+ */
+class UrlBlocklistTests {
+
+	private static final List<String> FORBIDDEN = List.of(";", "%3b", "%3B", "%2f", "%2F", "//", "%2f%2f", "\\",
+			"%5c", "\0", "%00", "\n", "%0a", "%0A", "\r", "%0d", "%0D", "%25", "%2e", "%2E", "%", " ", " ",
+			"abab", "bab", "aab");
+
+	private static final String ALPHABET = "ab/;%25%2e%2E%2f\\\0\n\r.  xX0aAdD";
+
+	private final UrlBlocklist blocklist = new UrlBlocklist();
+
+	@Test
+	void findInWhenContainsThenFound() {
+		this.blocklist.add("%2e");
+		this.blocklist.add(";");
+		assertThat(this.blocklist.findIn("/path;jsessionid=1")).isEqualTo(";");
+		assertThat(this.blocklist.findIn("/%2e%2e/admin")).isEqualTo("%2e");
+		assertThat(this.blocklist.findIn("/path")).isNull();
+		assertThat(this.blocklist.findIn(null)).isNull();
+	}
+
+	@Test
+	void addWhenNullThenIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.blocklist.add(null))
+			.withMessage("value cannot be null");
+	}
+
+	@Test
+	void findInWhenOverlappingThenFound() {
+		this.blocklist.add("abab");
+		this.blocklist.add("bab");
+		assertThat(this.blocklist.findIn("aabab")).isEqualTo("bab");
+		assertThat(this.blocklist.findIn("aaba")).isNull();
+	}
+
+	@Test
+	void findInWhenModifiedThenRecompiled() {
+		this.blocklist.add(";");
+		assertThat(this.blocklist.findIn("/a;b")).isEqualTo(";");
+		this.blocklist.remove(";");
+		assertThat(this.blocklist.findIn("/a;b")).isNull();
+		this.blocklist.add("//");
+		assertThat(this.blocklist.findIn("/a//b")).isEqualTo("//");
+		Iterator<String> values = this.blocklist.iterator();
+		values.next();
+		values.remove();
+		assertThat(this.blocklist.findIn("/a//b")).isNull();
+		this.blocklist.addAll(List.of("a", "b"));
+		this.blocklist.clear();
+		assertThat(this.blocklist.findIn("/a//b")).isNull();
+	}
+
+	@Test
+	void findInWhenEmptyStringThenAlwaysFound() {
+		this.blocklist.add("");
+		assertThat(this.blocklist.findIn("/path")).isEmpty();
+	}
+
+	@Test
+	void findInWhenRandomValuesThenSameAsContains() {
+		Random random = new Random(0);
+		for (int i = 0; i < 2000; i++) {
+			UrlBlocklist blocklist = new UrlBlocklist();
+			List<String> forbidden = new ArrayList<>();
+			for (String value : FORBIDDEN) {
+				if (random.nextBoolean()) {
+					blocklist.add(value);
+					forbidden.add(value);
+				}
+			}
+			for (int j = 0; j < 20; j++) {
+				StringBuilder value = new StringBuilder();
+				int length = random.nextInt(16);
+				for (int k = 0; k < length; k++) {
+					value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+				}
+				String url = value.toString();
+				String found = blocklist.findIn(url);
+				assertThat(found != null).isEqualTo(forbidden.stream().anyMatch(url::contains));
+				if (found != null) {
+					assertThat(url).contains(found);
+					assertThat(forbidden).contains(found);
+				}
+			}
+		}
+	}
+
+}
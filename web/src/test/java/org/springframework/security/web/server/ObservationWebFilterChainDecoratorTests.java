@@ -16,6 +16,7 @@
 
 package org.springframework.security.web.server;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -33,6 +34,7 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.web.FilterTimings;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
@@ -41,6 +43,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -64,6 +67,42 @@ public class ObservationWebFilterChainDecoratorTests {
 		verify(handler).onStart(any());
 	}
 
+	@Test
+	void decorateWhenNotSampledThenDoesNotObserveAndRecordsFilterTimings() {
+		ObservationHandler<?> handler = mock(ObservationHandler.class);
+		given(handler.supportsContext(any())).willReturn(true);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		ObservationWebFilterChainDecorator decorator = new ObservationWebFilterChainDecorator(registry);
+		FilterTimings timings = new FilterTimings();
+		decorator.setSamplingProbability(0);
+		decorator.setFilterTimings(timings);
+		WebFilterChain chain = mock(WebFilterChain.class);
+		given(chain.filter(any())).willReturn(Mono.empty());
+		WebFilterChain decorated = decorator.decorate(chain,
+				List.of(new BasicAuthenticationFilter(), new TerminatingFilter()));
+		decorated.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/").build())).block();
+		verify(handler, never()).onStart(any());
+		assertThat(timings.getSnapshots()).containsOnlyKeys("BasicAuthenticationFilter", "TerminatingFilter");
+		assertThat(timings.getSnapshots().get("TerminatingFilter").getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void decorateWhenNotSampledAndSlowHandlerThenFilterTimingsExcludeHandler() {
+		ObservationWebFilterChainDecorator decorator = new ObservationWebFilterChainDecorator(
+				ObservationRegistry.create());
+		FilterTimings timings = new FilterTimings();
+		decorator.setSamplingProbability(0);
+		decorator.setFilterTimings(timings);
+		WebFilterChain chain = mock(WebFilterChain.class);
+		given(chain.filter(any())).willReturn(Mono.delay(Duration.ofMillis(200)).then());
+		WebFilterChain decorated = decorator.decorate(chain, List.of(new BasicAuthenticationFilter()));
+		decorated.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/").build())).block();
+		assertThat(timings.getSnapshots().get("BasicAuthenticationFilter").getCount()).isEqualTo(1);
+		assertThat(timings.getSnapshots().get("BasicAuthenticationFilter").getMaxNanos())
+			.isLessThan(Duration.ofMillis(100).toNanos());
+	}
+
 	@Test
 	void decorateWhenNoopThenDoesNotObserve() {
 		ObservationHandler<?> handler = mock(ObservationHandler.class);
@@ -22,6 +22,7 @@ import reactor.test.publisher.PublisherProbe;
 
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.web.server.ServerWebExchange;
@@ -78,6 +79,61 @@ public class WebSessionServerSecurityContextRepositoryTests {
 		assertThat(session.getId()).isNotEqualTo(originalSessionId);
 	}
 
+	@Test
+	public void saveWhenSaveChangedSecurityContextOnlyAndUnchangedThenSessionIdNotChanged() {
+		this.repository.setSaveChangedSecurityContextOnly(true);
+		SecurityContext context = new SecurityContextImpl(new TestingAuthenticationToken("user", "password"));
+		this.repository.save(this.exchange, context).block();
+		String sessionId = this.exchange.getSession().block().getId();
+		this.repository.save(this.exchange, new SecurityContextImpl(context.getAuthentication())).block();
+		assertThat(this.exchange.getSession().block().getId()).isEqualTo(sessionId);
+		assertThat(this.repository.load(this.exchange).block()).isEqualTo(context);
+	}
+
+	@Test
+	public void saveWhenSaveChangedSecurityContextOnlyAndChangedThenSaved() {
+		this.repository.setSaveChangedSecurityContextOnly(true);
+		this.repository.save(this.exchange, new SecurityContextImpl(new TestingAuthenticationToken("user", "password")))
+			.block();
+		String sessionId = this.exchange.getSession().block().getId();
+		SecurityContext expected = new SecurityContextImpl(new TestingAuthenticationToken("admin", "password"));
+		this.repository.save(this.exchange, expected).block();
+		assertThat(this.exchange.getSession().block().getId()).isNotEqualTo(sessionId);
+		assertThat(this.repository.load(this.exchange).block()).isEqualTo(expected);
+	}
+
+	@Test
+	public void saveWhenSaveChangedSecurityContextOnlyAndLoadedContextUnchangedThenSessionIdNotChanged() {
+		this.repository.setSaveChangedSecurityContextOnly(true);
+		this.repository.save(this.exchange, new SecurityContextImpl(new TestingAuthenticationToken("user", "password")))
+			.block();
+		String sessionId = this.exchange.getSession().block().getId();
+		SecurityContext context = this.repository.load(this.exchange).block();
+		this.repository.save(this.exchange, context).block();
+		assertThat(this.exchange.getSession().block().getId()).isEqualTo(sessionId);
+	}
+
+	@Test
+	public void saveWhenSaveChangedSecurityContextOnlyAndChangedInPlaceThenSaved() {
+		this.repository.setSaveChangedSecurityContextOnly(true);
+		this.repository.save(this.exchange, new SecurityContextImpl(new TestingAuthenticationToken("user", "password")))
+			.block();
+		String sessionId = this.exchange.getSession().block().getId();
+		SecurityContext context = this.repository.load(this.exchange).block();
+		TestingAuthenticationToken admin = new TestingAuthenticationToken("admin", "password");
+		context.setAuthentication(admin);
+		this.repository.save(this.exchange, context).block();
+		assertThat(this.exchange.getSession().block().getId()).isNotEqualTo(sessionId);
+		assertThat(this.repository.load(this.exchange).block().getAuthentication()).isSameAs(admin);
+	}
+
+	@Test
+	public void saveWhenSaveChangedSecurityContextOnlyAndNullNotStoredThenSessionNotStarted() {
+		this.repository.setSaveChangedSecurityContextOnly(true);
+		this.repository.save(this.exchange, null).block();
+		assertThat(this.exchange.getSession().block().isStarted()).isFalse();
+	}
+
 	@Test
 	public void loadWhenNullThenNull() {
 		SecurityContext context = this.repository.load(this.exchange).block();
@@ -19,6 +19,8 @@ package org.springframework.security.web.server.firewall;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
@@ -547,4 +549,17 @@ class StrictServerWebExchangeFirewallTests {
 			.isThrownBy(() -> headers.get(invalidHeaderName));
 	}
 
+	@Test
+	public void allowedHeaderNamesAndValuesWhenAnyCodePointThenSameAsRegularExpression() {
+		Pattern names = Pattern.compile("[\\p{IsAssigned}&&[^\\p{IsControl}]]*");
+		Pattern values = Pattern.compile("[\\p{IsAssigned}&&[[^\\p{IsControl}]||\\t]]*");
+		Predicate<String> allowedNames = StrictServerWebExchangeFirewall.ALLOWED_HEADER_NAMES;
+		Predicate<String> allowedValues = StrictServerWebExchangeFirewall.ALLOWED_HEADER_VALUES;
+		for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+			String value = "a" + new String(Character.toChars(codePoint)) + "b";
+			assertThat(allowedNames.test(value)).isEqualTo(names.matcher(value).matches());
+			assertThat(allowedValues.test(value)).isEqualTo(values.matcher(value).matches());
+		}
+	}
+
 }
@@ -72,4 +72,23 @@ public final class UserVerificationRequirement implements Serializable {
 		return this.value;
 	}
 
+	/**
+	 * Gets an instance of {@link UserVerificationRequirement}.
+	 * @param value the value of the {@link UserVerificationRequirement}
+	 * @return the {@link UserVerificationRequirement}
+	 * @since 7.1
+	 */
+	public static UserVerificationRequirement valueOf(String value) {
+		switch (value) {
+			case "discouraged":
+				return DISCOURAGED;
+			case "preferred":
+				return PREFERRED;
+			case "required":
+				return REQUIRED;
+			default:
+				return new UserVerificationRequirement(value);
+		}
+	}
+
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.webauthn.authentication;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.crypto.encrypt.BytesEncryptor;
+import org.springframework.security.web.webauthn.api.Bytes;
+import org.springframework.security.web.webauthn.api.PublicKeyCredentialDescriptor;
+import org.springframework.security.web.webauthn.api.PublicKeyCredentialRequestOptions;
+import org.springframework.security.web.webauthn.api.PublicKeyCredentialType;
+import org.springframework.security.web.webauthn.api.UserVerificationRequirement;
+import org.springframework.util.Assert;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * A {@link PublicKeyCredentialRequestOptionsRepository} that stores the
+ * {@link PublicKeyCredentialRequestOptions} in an encrypted cookie, so that WebAuthn
+ * authentication does not require an {@link jakarta.servlet.http.HttpSession}.
+ *
+ * <p>
+ * The cookie contains the challenge, the rpId, the user verification requirement, the
+ * ids of the allowed credentials, as well as the time the options were issued at and
+ * their timeout. The cookie value is encrypted and authenticated with the provided
+ * {@link BytesEncryptor}, which should be an authenticated encryption, like
+ * {@link org.springframework.security.crypto.encrypt.Encryptors#stronger(CharSequence, CharSequence)}.
+ * Options whose timeout has elapsed are not loaded.
+ *
+ * <p>
+ * Since a cookie can be replayed, each challenge can only be loaded once: the challenges
+ * that were loaded are remembered in memory until their timeout elapses. Note that this
+ * means that, when multiple instances of the application are deployed, a challenge can
+ * be replayed against another instance within the timeout of the options.
+ *
+ * @since 7.1
+ */
+public final class CookiePublicKeyCredentialRequestOptionsRepository
+		implements PublicKeyCredentialRequestOptionsRepository {
+
+	static final String DEFAULT_COOKIE_NAME = "WEBAUTHN_REQUEST_OPTIONS";
+
+	private static final byte VERSION = 1;
+
+	private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(1);
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final BytesEncryptor encryptor;
+
+	private final Map<Bytes, Instant> loadedChallenges = new ConcurrentHashMap<>();
+
+	private volatile Instant nextCleanup = Instant.MIN;
+
+	private String cookieName = DEFAULT_COOKIE_NAME;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Creates a new instance
+	 * @param encryptor the {@link BytesEncryptor} used to encrypt and authenticate the
+	 * cookie value
+	 */
+	public CookiePublicKeyCredentialRequestOptionsRepository(BytesEncryptor encryptor) {
+		Assert.notNull(encryptor, "encryptor cannot be null");
+		this.encryptor = encryptor;
+	}
+
+	@Override
+	public void save(HttpServletRequest request, HttpServletResponse response,
+			@Nullable PublicKeyCredentialRequestOptions options) {
+		String value = (options != null) ? encode(options) : "";
+		ResponseCookie cookie = ResponseCookie.from(this.cookieName, value)
+			.secure(request.isSecure())
+			.path(getRequestContext(request))
+			.maxAge((options != null) ? options.getTimeout() : Duration.ZERO)
+			.httpOnly(true)
+			.sameSite("Lax")
+			.build();
+		response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+	}
+
+	@Override
+	public @Nullable PublicKeyCredentialRequestOptions load(HttpServletRequest request) {
+		Cookie cookie = WebUtils.getCookie(request, this.cookieName);
+		if (cookie == null || cookie.getValue() == null || cookie.getValue().isEmpty()) {
+			return null;
+		}
+		try {
+			return decode(cookie.getValue());
+		}
+		catch (RuntimeException | IOException ex) {
+			this.logger.debug("Unable to decode PublicKeyCredentialRequestOptions from cookie", ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Sets the name of the cookie. The default is {@code WEBAUTHN_REQUEST_OPTIONS}.
+	 * @param cookieName the name of the cookie
+	 */
+	public void setCookieName(String cookieName) {
+		Assert.hasText(cookieName, "cookieName cannot be empty");
+		this.cookieName = cookieName;
+	}
+
+	/**
+	 * Sets the {@link Clock} used when checking the timeout of the options. The default
+	 * is {@link Clock#systemUTC()}.
+	 * @param clock the {@link Clock} to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	private String encode(PublicKeyCredentialRequestOptions options) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeByte(VERSION);
+			out.writeLong(this.clock.millis());
+			out.writeLong(options.getTimeout().toMillis());
+			writeBytes(out, options.getChallenge());
+			writeString(out, options.getRpId());
+			UserVerificationRequirement userVerification = options.getUserVerification();
+			writeString(out, (userVerification != null) ? userVerification.getValue() : null);
+			List<Bytes> credentialIds = new ArrayList<>();
+			for (PublicKeyCredentialDescriptor descriptor : options.getAllowCredentials()) {
+				Bytes credentialId = descriptor.getId();
+				if (credentialId != null) {
+					credentialIds.add(credentialId);
+				}
+			}
+			out.writeShort(credentialIds.size());
+			for (Bytes credentialId : credentialIds) {
+				writeBytes(out, credentialId);
+			}
+			out.flush();
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(this.encryptor.encrypt(bytes.toByteArray()));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to encode PublicKeyCredentialRequestOptions", ex);
+		}
+	}
+
+	private @Nullable PublicKeyCredentialRequestOptions decode(String value) throws IOException {
+		byte[] decrypted = this.encryptor.decrypt(Base64.getUrlDecoder().decode(value));
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(decrypted));
+		if (in.readByte() != VERSION) {
+			this.logger.debug("Unsupported PublicKeyCredentialRequestOptions cookie version");
+			return null;
+		}
+		Instant issuedAt = Instant.ofEpochMilli(in.readLong());
+		Duration timeout = Duration.ofMillis(in.readLong());
+		Bytes challenge = readBytes(in);
+		String rpId = readString(in);
+		String userVerification = readString(in);
+		int credentialIdsCount = in.readUnsignedShort();
+		List<PublicKeyCredentialDescriptor> allowCredentials = new ArrayList<>(credentialIdsCount);
+		for (int i = 0; i < credentialIdsCount; i++) {
+			allowCredentials.add(PublicKeyCredentialDescriptor.builder()
+				.type(PublicKeyCredentialType.PUBLIC_KEY)
+				.id(readBytes(in))
+				.build());
+		}
+		Instant expiresAt = issuedAt.plus(timeout);
+		Instant now = this.clock.instant();
+		if (now.isAfter(expiresAt)) {
+			this.logger.debug("PublicKeyCredentialRequestOptions cookie expired");
+			return null;
+		}
+		if (!markLoaded(challenge, expiresAt, now)) {
+			this.logger.debug(LogMessage.format("Rejected replayed challenge %s", challenge));
+			return null;
+		}
+		return PublicKeyCredentialRequestOptions.builder()
+			.challenge(challenge)
+			.timeout(timeout)
+			.rpId(rpId)
+			.userVerification((userVerification != null) ? UserVerificationRequirement.valueOf(userVerification) : null)
+			.allowCredentials(allowCredentials)
+			.build();
+	}
+
+	private boolean markLoaded(Bytes challenge, Instant expiresAt, Instant now) {
+		if (now.isAfter(this.nextCleanup)) {
+			this.nextCleanup = now.plus(CLEANUP_INTERVAL);
+			this.loadedChallenges.values().removeIf(now::isAfter);
+		}
+		return this.loadedChallenges.putIfAbsent(challenge, expiresAt) == null;
+	}
+
+	private static void writeBytes(DataOutputStream out, Bytes bytes) throws IOException {
+		out.writeShort(bytes.getBytes().length);
+		out.write(bytes.getBytes());
+	}
+
+	private static Bytes readBytes(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readUnsignedShort()];
+		in.readFully(bytes);
+		return new Bytes(bytes);
+	}
+
+	private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static @Nullable String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static String getRequestContext(HttpServletRequest request) {
+		String contextPath = request.getContextPath();
+		return (contextPath.length() > 0) ? contextPath : "/";
+	}
+
+}
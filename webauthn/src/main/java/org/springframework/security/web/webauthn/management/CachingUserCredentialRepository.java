@@ -0,0 +1,261 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.webauthn.management;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.core.log.LogMessage;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.web.webauthn.api.AuthenticatorTransport;
+import org.springframework.security.web.webauthn.api.Bytes;
+import org.springframework.security.web.webauthn.api.CredentialRecord;
+import org.springframework.security.web.webauthn.api.ImmutableCredentialRecord;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A {@link UserCredentialRepository} that caches the {@link CredentialRecord}s of a
+ * delegate {@link UserCredentialRepository}, such as
+ * {@link JdbcUserCredentialRepository}, in a Spring defined {@link Cache} keyed by
+ * credential id. Caching policies, like expiry and size bounds, are delegated to the
+ * {@link Cache} implementation.
+ *
+ * <p>
+ * By default, {@link #save(CredentialRecord)} writes through to the delegate. When
+ * {@link #setWriteBehindInterval(Duration)} is set, saves of credentials that are already
+ * known and that only change their signature count and last used time, like the updates
+ * performed on each WebAuthn authentication, are instead coalesced in memory and
+ * periodically written to the delegate with
+ * {@link UserCredentialRepository#updateUsage(java.util.Collection)}, which only stores
+ * their signature count and last used time and does not recreate deleted credentials.
+ * New credentials and any other change, like a new label, are always written through.
+ * The periodic writes are started by {@link #afterPropertiesSet()} and stopped by
+ * {@link #destroy()}.
+ *
+ * <p>
+ * The signature count held in memory never decreases: when a pending record is replaced,
+ * the highest signature count is retained, so that a late or concurrent save cannot
+ * regress the counter used for detecting cloned authenticators.
+ *
+ * @since 7.1
+ */
+public final class CachingUserCredentialRepository
+		implements UserCredentialRepository, InitializingBean, DisposableBean {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final UserCredentialRepository delegate;
+
+	private final Cache cache;
+
+	private final Map<Bytes, CredentialRecord> pending = new ConcurrentHashMap<>();
+
+	private @Nullable Duration writeBehindInterval;
+
+	private @Nullable ThreadPoolTaskScheduler taskScheduler;
+
+	/**
+	 * Constructs a {@code CachingUserCredentialRepository} using the provided parameters.
+	 * @param delegate the {@link UserCredentialRepository} to cache
+	 * @param cache the {@link Cache} to store the {@link CredentialRecord}s in
+	 */
+	public CachingUserCredentialRepository(UserCredentialRepository delegate, Cache cache) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(cache, "cache cannot be null");
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	@Override
+	public void delete(Bytes credentialId) {
+		Assert.notNull(credentialId, "credentialId cannot be null");
+		this.pending.remove(credentialId);
+		this.cache.evict(credentialId.toBase64UrlString());
+		this.delegate.delete(credentialId);
+	}
+
+	@Override
+	public void save(CredentialRecord credentialRecord) {
+		Assert.notNull(credentialRecord, "credentialRecord cannot be null");
+		Bytes credentialId = credentialRecord.getCredentialId();
+		if (this.taskScheduler != null) {
+			CredentialRecord known = findByCredentialId(credentialId);
+			if (known != null && isUsageUpdate(known, credentialRecord)) {
+				this.pending.compute(credentialId, (id, current) -> {
+					CredentialRecord latest = latest(current, credentialRecord);
+					this.cache.put(id.toBase64UrlString(), latest);
+					return latest;
+				});
+				return;
+			}
+		}
+		CredentialRecord latest = latest(this.pending.remove(credentialId), credentialRecord);
+		this.delegate.save(latest);
+		this.cache.put(credentialId.toBase64UrlString(), latest);
+	}
+
+	@Override
+	public @Nullable CredentialRecord findByCredentialId(Bytes credentialId) {
+		Assert.notNull(credentialId, "credentialId cannot be null");
+		CredentialRecord pendingRecord = this.pending.get(credentialId);
+		if (pendingRecord != null) {
+			return pendingRecord;
+		}
+		String key = credentialId.toBase64UrlString();
+		CredentialRecord cached = this.cache.get(key, CredentialRecord.class);
+		if (cached != null) {
+			return cached;
+		}
+		CredentialRecord credentialRecord = this.delegate.findByCredentialId(credentialId);
+		if (credentialRecord != null) {
+			this.cache.put(key, credentialRecord);
+		}
+		return credentialRecord;
+	}
+
+	@Override
+	public List<CredentialRecord> findByUserId(Bytes userId) {
+		Assert.notNull(userId, "userId cannot be null");
+		List<CredentialRecord> credentialRecords = this.delegate.findByUserId(userId);
+		if (this.pending.isEmpty()) {
+			return credentialRecords;
+		}
+		List<CredentialRecord> result = new ArrayList<>(credentialRecords.size());
+		for (CredentialRecord credentialRecord : credentialRecords) {
+			CredentialRecord pendingRecord = this.pending.get(credentialRecord.getCredentialId());
+			result.add((pendingRecord != null) ? pendingRecord : credentialRecord);
+		}
+		return result;
+	}
+
+	/**
+	 * Writes the signature count and last used time of the pending
+	 * {@link CredentialRecord}s to the delegate. This is invoked periodically when
+	 * {@link #setWriteBehindInterval(Duration)} is set, as well as when this repository is
+	 * destroyed.
+	 */
+	public void flush() {
+		List<CredentialRecord> credentialRecords = new ArrayList<>();
+		for (Bytes credentialId : this.pending.keySet()) {
+			CredentialRecord credentialRecord = this.pending.remove(credentialId);
+			if (credentialRecord != null) {
+				credentialRecords.add(credentialRecord);
+			}
+		}
+		if (credentialRecords.isEmpty()) {
+			return;
+		}
+		try {
+			this.delegate.updateUsage(credentialRecords);
+			this.logger.debug(LogMessage.format("Wrote %d pending credential records", credentialRecords.size()));
+		}
+		catch (RuntimeException ex) {
+			for (CredentialRecord credentialRecord : credentialRecords) {
+				this.pending.merge(credentialRecord.getCredentialId(), credentialRecord,
+						(current, failed) -> latest(failed, current));
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Enables writing saves of already known credentials behind, with the given interval
+	 * between two writes of the pending {@link CredentialRecord}s. Writing behind starts
+	 * with {@link #afterPropertiesSet()}. By default, all saves are written through to
+	 * the delegate.
+	 * @param writeBehindInterval the interval between two writes of the pending
+	 * {@link CredentialRecord}s
+	 */
+	public void setWriteBehindInterval(Duration writeBehindInterval) {
+		Assert.notNull(writeBehindInterval, "writeBehindInterval cannot be null");
+		Assert.isTrue(!writeBehindInterval.isNegative() && !writeBehindInterval.isZero(),
+				"writeBehindInterval must be positive");
+		this.writeBehindInterval = writeBehindInterval;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (this.writeBehindInterval == null || this.taskScheduler != null) {
+			return;
+		}
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.setThreadNamePrefix("spring-webauthn-credentials-");
+		taskScheduler.setDaemon(true);
+		taskScheduler.initialize();
+		taskScheduler.scheduleWithFixedDelay(this::flush, this.writeBehindInterval);
+		this.taskScheduler = taskScheduler;
+	}
+
+	@Override
+	public void destroy() {
+		if (this.taskScheduler != null) {
+			this.taskScheduler.shutdown();
+			this.taskScheduler = null;
+		}
+		flush();
+	}
+
+	private static boolean isUsageUpdate(CredentialRecord known, CredentialRecord credentialRecord) {
+		return ObjectUtils.nullSafeEquals(typeOf(known), typeOf(credentialRecord))
+				&& Arrays.equals(known.getPublicKey().getBytes(), credentialRecord.getPublicKey().getBytes())
+				&& known.isUvInitialized() == credentialRecord.isUvInitialized()
+				&& transportsOf(known).equals(transportsOf(credentialRecord))
+				&& known.isBackupEligible() == credentialRecord.isBackupEligible()
+				&& known.isBackupState() == credentialRecord.isBackupState()
+				&& known.getUserEntityUserId().equals(credentialRecord.getUserEntityUserId())
+				&& ObjectUtils.nullSafeEquals(known.getAttestationObject(), credentialRecord.getAttestationObject())
+				&& ObjectUtils.nullSafeEquals(known.getAttestationClientDataJSON(),
+						credentialRecord.getAttestationClientDataJSON())
+				&& ObjectUtils.nullSafeEquals(known.getLabel(), credentialRecord.getLabel())
+				&& ObjectUtils.nullSafeEquals(known.getCreated(), credentialRecord.getCreated());
+	}
+
+	private static @Nullable String typeOf(CredentialRecord credentialRecord) {
+		return (credentialRecord.getCredentialType() != null) ? credentialRecord.getCredentialType().getValue() : null;
+	}
+
+	private static Set<String> transportsOf(CredentialRecord credentialRecord) {
+		return credentialRecord.getTransports()
+			.stream()
+			.map(AuthenticatorTransport::getValue)
+			.collect(Collectors.toSet());
+	}
+
+	private static CredentialRecord latest(@Nullable CredentialRecord current, CredentialRecord credentialRecord) {
+		if (current == null || current.getSignatureCount() <= credentialRecord.getSignatureCount()) {
+			return credentialRecord;
+		}
+		return ImmutableCredentialRecord.fromCredentialRecord(credentialRecord)
+			.signatureCount(current.getSignatureCount())
+			.build();
+	}
+
+}
@@ -23,6 +23,7 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -31,6 +32,7 @@ import java.util.function.Function;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.jdbc.core.RowMapper;
@@ -131,6 +133,14 @@ public final class JdbcUserCredentialRepository implements UserCredentialReposit
 			+ " WHERE " + ID_FILTER;
 	// @formatter:on
 
+	// @formatter:off
+	private static final String UPDATE_CREDENTIAL_RECORD_USAGE_SQL = "UPDATE " + TABLE_NAME
+			+ " SET signature_count = ?, " +
+			"last_used = ?"
+			+ " WHERE " + ID_FILTER
+			+ "AND signature_count <= ?";
+	// @formatter:on
+
 	/**
 	 * Constructs a {@code JdbcUserCredentialRepository} using the provided parameters.
 	 * @param jdbcOperations the JDBC operations
@@ -165,11 +175,50 @@ public final class JdbcUserCredentialRepository implements UserCredentialReposit
 	}
 
 	private int updateCredentialRecord(CredentialRecord record) {
+		PreparedStatementSetter pss = updateCredentialRecordParameters(record);
+		return this.jdbcOperations.update(UPDATE_CREDENTIAL_RECORD_SQL, pss);
+	}
+
+	private PreparedStatementSetter updateCredentialRecordParameters(CredentialRecord record) {
 		List<SqlParameterValue> parameters = this.credentialRecordParametersMapper.apply(record);
 		SqlParameterValue credentialId = parameters.remove(0);
 		parameters.add(credentialId);
-		PreparedStatementSetter pss = new BlobArgumentPreparedStatementSetter(this.setBytes, parameters.toArray());
-		return this.jdbcOperations.update(UPDATE_CREDENTIAL_RECORD_SQL, pss);
+		return new BlobArgumentPreparedStatementSetter(this.setBytes, parameters.toArray());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * The {@code signature_count} and {@code last_used} columns are updated with a single
+	 * JDBC batch. Records that do not exist are not inserted, and records whose stored
+	 * signature count is higher than the given one are left unchanged.
+	 */
+	@Override
+	public void updateUsage(Collection<CredentialRecord> records) {
+		Assert.notNull(records, "records cannot be null");
+		if (records.isEmpty()) {
+			return;
+		}
+		List<CredentialRecord> batch = new ArrayList<>(records);
+		this.jdbcOperations.batchUpdate(UPDATE_CREDENTIAL_RECORD_USAGE_SQL, new BatchPreparedStatementSetter() {
+
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				CredentialRecord record = batch.get(i);
+				Instant lastUsed = record.getLastUsed();
+				ps.setLong(1, record.getSignatureCount());
+				ps.setTimestamp(2, (lastUsed != null) ? Timestamp.from(lastUsed) : null);
+				ps.setString(3, record.getCredentialId().toBase64UrlString());
+				ps.setLong(4, record.getSignatureCount());
+			}
+
+			@Override
+			public int getBatchSize() {
+				return batch.size();
+			}
+
+		});
 	}
 
 	@Override
@@ -16,12 +16,14 @@
 
 package org.springframework.security.web.webauthn.management;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.security.web.webauthn.api.Bytes;
 import org.springframework.security.web.webauthn.api.CredentialRecord;
+import org.springframework.security.web.webauthn.api.ImmutableCredentialRecord;
 import org.springframework.security.web.webauthn.api.PublicKeyCredentialUserEntity;
 
 /**
@@ -44,6 +46,30 @@ public interface UserCredentialRepository {
 	 */
 	void save(CredentialRecord credentialRecord);
 
+	/**
+	 * Updates the signature count and the last used time of the given
+	 * {@link CredentialRecord}s, leaving their other attributes unchanged. Records that no
+	 * longer exist, or whose stored signature count is higher than the given one, are
+	 * ignored, so that a late update never moves the signature count backwards. By
+	 * default, each existing record is looked up with
+	 * {@link #findByCredentialId(Bytes)} and saved with {@link #save(CredentialRecord)},
+	 * implementations can override this method to update the records in a single batch.
+	 * @param credentialRecords the {@link CredentialRecord}s holding the signature count
+	 * and last used time to store.
+	 * @since 7.1
+	 */
+	default void updateUsage(Collection<CredentialRecord> credentialRecords) {
+		for (CredentialRecord credentialRecord : credentialRecords) {
+			CredentialRecord existing = findByCredentialId(credentialRecord.getCredentialId());
+			if (existing != null && existing.getSignatureCount() <= credentialRecord.getSignatureCount()) {
+				save(ImmutableCredentialRecord.fromCredentialRecord(existing)
+					.signatureCount(credentialRecord.getSignatureCount())
+					.lastUsed(credentialRecord.getLastUsed())
+					.build());
+			}
+		}
+	}
+
 	/**
 	 * Finds an entry by credential id.
 	 * @param credentialId {@link CredentialRecord#getCredentialId()}
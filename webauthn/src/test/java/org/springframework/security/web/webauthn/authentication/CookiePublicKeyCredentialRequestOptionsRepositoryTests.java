@@ -0,0 +1,126 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.webauthn.authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.encrypt.Encryptors;
+import org.springframework.security.web.webauthn.api.Bytes;
+import org.springframework.security.web.webauthn.api.PublicKeyCredentialDescriptor;
+import org.springframework.security.web.webauthn.api.PublicKeyCredentialRequestOptions;
+import org.springframework.security.web.webauthn.api.TestPublicKeyCredentialRequestOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link CookiePublicKeyCredentialRequestOptionsRepository}.
+ */
+class CookiePublicKeyCredentialRequestOptionsRepositoryTests {
+
+	private static final String COOKIE_NAME = CookiePublicKeyCredentialRequestOptionsRepository.DEFAULT_COOKIE_NAME;
+
+	private CookiePublicKeyCredentialRequestOptionsRepository repository = new CookiePublicKeyCredentialRequestOptionsRepository(
+			Encryptors.stronger("password", "5c0744940b5c369b"));
+
+	private MockHttpServletRequest request = new MockHttpServletRequest();
+
+	private MockHttpServletResponse response = new MockHttpServletResponse();
+
+	@Test
+	void constructorWhenNullEncryptorThenIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CookiePublicKeyCredentialRequestOptionsRepository(null));
+	}
+
+	@Test
+	void saveThenLoadWithoutSession() {
+		PublicKeyCredentialRequestOptions expected = TestPublicKeyCredentialRequestOptions.create()
+			.allowCredentials(List.of(PublicKeyCredentialDescriptor.builder()
+				.id(Bytes.fromBase64("NauGCN7bZ5jEBwThcde51g"))
+				.build()))
+			.build();
+		this.repository.save(this.request, this.response, expected);
+		Cookie cookie = this.response.getCookie(COOKIE_NAME);
+		assertThat(cookie).isNotNull();
+		assertThat(cookie.isHttpOnly()).isTrue();
+		assertThat(cookie.getValue()).doesNotContain(expected.getChallenge().toBase64UrlString());
+		this.request.setCookies(cookie);
+		PublicKeyCredentialRequestOptions loaded = this.repository.load(this.request);
+		assertThat(loaded).isNotNull();
+		assertThat(loaded.getChallenge()).isEqualTo(expected.getChallenge());
+		assertThat(loaded.getRpId()).isEqualTo(expected.getRpId());
+		assertThat(loaded.getTimeout()).isEqualTo(expected.getTimeout());
+		assertThat(loaded.getUserVerification()).isEqualTo(expected.getUserVerification());
+		assertThat(loaded.getAllowCredentials()).extracting(PublicKeyCredentialDescriptor::getId)
+			.containsExactly(Bytes.fromBase64("NauGCN7bZ5jEBwThcde51g"));
+		assertThat(this.request.getSession(false)).isNull();
+	}
+
+	@Test
+	void loadWhenReplayedThenNull() {
+		PublicKeyCredentialRequestOptions expected = TestPublicKeyCredentialRequestOptions.create().build();
+		this.repository.save(this.request, this.response, expected);
+		this.request.setCookies(this.response.getCookie(COOKIE_NAME));
+		assertThat(this.repository.load(this.request)).isNotNull();
+		assertThat(this.repository.load(this.request)).isNull();
+	}
+
+	@Test
+	void loadWhenExpiredThenNull() {
+		PublicKeyCredentialRequestOptions expected = TestPublicKeyCredentialRequestOptions.create().build();
+		this.repository.save(this.request, this.response, expected);
+		this.request.setCookies(this.response.getCookie(COOKIE_NAME));
+		Instant later = Instant.now().plus(expected.getTimeout()).plus(Duration.ofMinutes(1));
+		this.repository.setClock(Clock.fixed(later, ZoneOffset.UTC));
+		assertThat(this.repository.load(this.request)).isNull();
+	}
+
+	@Test
+	void loadWhenTamperedThenNull() {
+		PublicKeyCredentialRequestOptions expected = TestPublicKeyCredentialRequestOptions.create().build();
+		this.repository.save(this.request, this.response, expected);
+		String value = this.response.getCookie(COOKIE_NAME).getValue();
+		char last = value.charAt(value.length() - 1);
+		String tampered = value.substring(0, value.length() - 1) + ((last == 'A') ? 'B' : 'A');
+		this.request.setCookies(new Cookie(COOKIE_NAME, tampered));
+		assertThat(this.repository.load(this.request)).isNull();
+	}
+
+	@Test
+	void loadWhenNoCookieThenNull() {
+		assertThat(this.repository.load(this.request)).isNull();
+	}
+
+	@Test
+	void saveWhenNullThenCookieRemoved() {
+		this.repository.save(this.request, this.response, null);
+		Cookie cookie = this.response.getCookie(COOKIE_NAME);
+		assertThat(cookie.getMaxAge()).isZero();
+		assertThat(cookie.getValue()).isEmpty();
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2004-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.webauthn.management;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.security.web.webauthn.api.CredentialRecord;
+import org.springframework.security.web.webauthn.api.ImmutableCredentialRecord;
+import org.springframework.security.web.webauthn.api.TestCredentialRecords;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link CachingUserCredentialRepository}
+ */
+class CachingUserCredentialRepositoryTests {
+
+	private final UserCredentialRepository delegate = spy(new MapUserCredentialRepository());
+
+	private final ConcurrentMapCache cache = new ConcurrentMapCache("credentials");
+
+	private final CachingUserCredentialRepository userCredentials = new CachingUserCredentialRepository(
+			this.delegate, this.cache);
+
+	@AfterEach
+	void cleanup() {
+		this.userCredentials.destroy();
+	}
+
+	@Test
+	void constructorWhenNullDelegateThenIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CachingUserCredentialRepository(null, this.cache));
+	}
+
+	@Test
+	void constructorWhenNullCacheThenIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CachingUserCredentialRepository(this.delegate, null));
+	}
+
+	@Test
+	void findByCredentialIdWhenCachedThenDelegateInvokedOnce() {
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.delegate.save(credentialRecord);
+		assertThat(this.userCredentials.findByCredentialId(credentialRecord.getCredentialId()))
+			.isEqualTo(credentialRecord);
+		assertThat(this.userCredentials.findByCredentialId(credentialRecord.getCredentialId()))
+			.isEqualTo(credentialRecord);
+		verify(this.delegate).findByCredentialId(credentialRecord.getCredentialId());
+	}
+
+	@Test
+	void findByCredentialIdWhenNotFoundThenNotCached() {
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		assertThat(this.userCredentials.findByCredentialId(credentialRecord.getCredentialId())).isNull();
+		assertThat(this.cache.getNativeCache()).isEmpty();
+	}
+
+	@Test
+	void saveWhenWriteThroughThenSavedAndCached() {
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.userCredentials.save(credentialRecord);
+		this.userCredentials.save(credentialRecord);
+		verify(this.delegate, times(2)).save(credentialRecord);
+		assertThat(this.userCredentials.findByCredentialId(credentialRecord.getCredentialId()))
+			.isEqualTo(credentialRecord);
+		verify(this.delegate, never()).findByCredentialId(any());
+	}
+
+	@Test
+	void saveWhenWriteBehindAndNewCredentialThenWrittenThrough() {
+		writeBehind();
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.userCredentials.save(credentialRecord);
+		verify(this.delegate).save(credentialRecord);
+	}
+
+	@Test
+	void saveWhenWriteBehindAndKnownCredentialThenCoalescedUntilFlush() {
+		writeBehind();
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.userCredentials.save(credentialRecord);
+		CredentialRecord first = ImmutableCredentialRecord.fromCredentialRecord(credentialRecord)
+			.signatureCount(101)
+			.build();
+		CredentialRecord second = ImmutableCredentialRecord.fromCredentialRecord(credentialRecord)
+			.signatureCount(102)
+			.build();
+		this.userCredentials.save(first);
+		this.userCredentials.save(second);
+		verify(this.delegate, never()).updateUsage(anyCollection());
+		assertThat(this.userCredentials.findByCredentialId(credentialRecord.getCredentialId())).isEqualTo(second);
+		assertThat(this.userCredentials.findByUserId(credentialRecord.getUserEntityUserId())).containsExactly(second);
+		this.userCredentials.flush();
+		verify(this.delegate).updateUsage(List.of(second));
+		assertThat(this.delegate.findByCredentialId(credentialRecord.getCredentialId()).getSignatureCount())
+			.isEqualTo(102);
+	}
+
+	@Test
+	void saveWhenWriteBehindAndLowerSignatureCountThenSignatureCountRetained() {
+		writeBehind();
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.userCredentials.save(credentialRecord);
+		this.userCredentials.save(
+				ImmutableCredentialRecord.fromCredentialRecord(credentialRecord).signatureCount(110).build());
+		this.userCredentials
+			.save(ImmutableCredentialRecord.fromCredentialRecord(credentialRecord).signatureCount(105).build());
+		CredentialRecord found = this.userCredentials.findByCredentialId(credentialRecord.getCredentialId());
+		assertThat(found.getSignatureCount()).isEqualTo(110);
+		this.userCredentials.flush();
+		assertThat(this.delegate.findByCredentialId(credentialRecord.getCredentialId()).getSignatureCount())
+			.isEqualTo(110);
+	}
+
+	@Test
+	void saveWhenWriteBehindAndKnownCredentialChangedThenWrittenThrough() {
+		writeBehind();
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.userCredentials.save(credentialRecord);
+		this.userCredentials.save(
+				ImmutableCredentialRecord.fromCredentialRecord(credentialRecord).signatureCount(101).build());
+		CredentialRecord renamed = ImmutableCredentialRecord.fromCredentialRecord(credentialRecord)
+			.label("renamed")
+			.backupState(!credentialRecord.isBackupState())
+			.build();
+		this.userCredentials.save(renamed);
+		CredentialRecord saved = this.delegate.findByCredentialId(credentialRecord.getCredentialId());
+		assertThat(saved.getLabel()).isEqualTo("renamed");
+		assertThat(saved.isBackupState()).isEqualTo(renamed.isBackupState());
+		assertThat(saved.getSignatureCount()).isEqualTo(101);
+		assertThat(this.userCredentials.findByCredentialId(credentialRecord.getCredentialId()).getLabel())
+			.isEqualTo("renamed");
+		this.userCredentials.flush();
+		verify(this.delegate, never()).updateUsage(anyCollection());
+	}
+
+	@Test
+	void deleteWhenPendingThenDiscarded() {
+		writeBehind();
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.userCredentials.save(credentialRecord);
+		this.userCredentials.save(
+				ImmutableCredentialRecord.fromCredentialRecord(credentialRecord).signatureCount(101).build());
+		this.userCredentials.delete(credentialRecord.getCredentialId());
+		this.userCredentials.flush();
+		assertThat(this.userCredentials.findByCredentialId(credentialRecord.getCredentialId())).isNull();
+		verify(this.delegate, never()).updateUsage(anyCollection());
+	}
+
+	@Test
+	void flushWhenDeletedFromDelegateThenNotRecreated() {
+		writeBehind();
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.userCredentials.save(credentialRecord);
+		this.userCredentials.save(
+				ImmutableCredentialRecord.fromCredentialRecord(credentialRecord).signatureCount(101).build());
+		this.delegate.delete(credentialRecord.getCredentialId());
+		this.userCredentials.flush();
+		assertThat(this.delegate.findByCredentialId(credentialRecord.getCredentialId())).isNull();
+	}
+
+	@Test
+	void flushWhenDelegateChangedThenOnlyUsageWritten() {
+		writeBehind();
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.userCredentials.save(credentialRecord);
+		this.userCredentials.save(
+				ImmutableCredentialRecord.fromCredentialRecord(credentialRecord).signatureCount(101).build());
+		this.delegate
+			.save(ImmutableCredentialRecord.fromCredentialRecord(credentialRecord).label("renamed").build());
+		this.userCredentials.flush();
+		CredentialRecord found = this.delegate.findByCredentialId(credentialRecord.getCredentialId());
+		assertThat(found.getLabel()).isEqualTo("renamed");
+		assertThat(found.getSignatureCount()).isEqualTo(101);
+	}
+
+	@Test
+	void saveWhenWriteBehindIntervalSetAndNotStartedThenWrittenThrough() {
+		this.userCredentials.setWriteBehindInterval(Duration.ofHours(1));
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.fullUserCredential().build();
+		this.userCredentials.save(credentialRecord);
+		this.userCredentials.save(credentialRecord);
+		verify(this.delegate, times(2)).save(credentialRecord);
+	}
+
+	@Test
+	void setWriteBehindIntervalWhenZeroThenIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.userCredentials.setWriteBehindInterval(Duration.ZERO));
+	}
+
+	private void writeBehind() {
+		this.userCredentials.setWriteBehindInterval(Duration.ofHours(1));
+		this.userCredentials.afterPropertiesSet();
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.security.web.webauthn.management;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
@@ -28,6 +30,7 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 import org.springframework.security.web.webauthn.api.AuthenticatorTransport;
+import org.springframework.security.web.webauthn.api.Bytes;
 import org.springframework.security.web.webauthn.api.CredentialRecord;
 import org.springframework.security.web.webauthn.api.ImmutableCredentialRecord;
 import org.springframework.security.web.webauthn.api.PublicKeyCredentialType;
@@ -155,6 +158,58 @@ public class JdbcUserCredentialRepositoryTests {
 		assertThat(record.isBackupEligible()).isFalse();
 	}
 
+	@Test
+	void updateUsageWhenRecordsExistThenOnlyUsageUpdated() {
+		CredentialRecord existing = TestCredentialRecords.fullUserCredential().build();
+		this.jdbcUserCredentialRepository.save(existing);
+		Instant lastUsed = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		CredentialRecord updated = ImmutableCredentialRecord.fromCredentialRecord(existing)
+			.signatureCount(300)
+			.lastUsed(lastUsed)
+			.label("stale")
+			.build();
+
+		this.jdbcUserCredentialRepository.updateUsage(List.of(updated));
+
+		CredentialRecord found = this.jdbcUserCredentialRepository.findByCredentialId(existing.getCredentialId());
+		assertThat(found.getSignatureCount()).isEqualTo(300);
+		assertThat(found.getLastUsed()).isEqualTo(lastUsed);
+		assertThat(found.getLabel()).isEqualTo(existing.getLabel());
+	}
+
+	@Test
+	void updateUsageWhenOlderUpdateAfterNewerThenSignatureCountNotDecreased() {
+		CredentialRecord existing = TestCredentialRecords.fullUserCredential().build();
+		this.jdbcUserCredentialRepository.save(existing);
+		Instant lastUsed = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		CredentialRecord older = ImmutableCredentialRecord.fromCredentialRecord(existing)
+			.signatureCount(200)
+			.lastUsed(lastUsed.minusSeconds(60))
+			.build();
+		CredentialRecord newer = ImmutableCredentialRecord.fromCredentialRecord(existing)
+			.signatureCount(300)
+			.lastUsed(lastUsed)
+			.build();
+
+		this.jdbcUserCredentialRepository.updateUsage(List.of(newer));
+		this.jdbcUserCredentialRepository.updateUsage(List.of(older));
+
+		CredentialRecord found = this.jdbcUserCredentialRepository.findByCredentialId(existing.getCredentialId());
+		assertThat(found.getSignatureCount()).isEqualTo(300);
+		assertThat(found.getLastUsed()).isEqualTo(lastUsed);
+	}
+
+	@Test
+	void updateUsageWhenRecordDoesNotExistThenNotInserted() {
+		CredentialRecord missing = TestCredentialRecords.fullUserCredential()
+			.credentialId(Bytes.fromBase64("vKBFhsWT3gQnn-gHdT4VXIvjDkVXVYg5w8CLGHPunMM"))
+			.build();
+
+		this.jdbcUserCredentialRepository.updateUsage(List.of(missing));
+
+		assertThat(this.jdbcUserCredentialRepository.findByCredentialId(missing.getCredentialId())).isNull();
+	}
+
 	@Test
 	void findCredentialRecordByUserIdWhenRecordExistsThenReturnsSaved() {
 		CredentialRecord userCredential = TestCredentialRecords.fullUserCredential().build();
@@ -17,6 +17,7 @@
 package org.springframework.security.web.webauthn.management;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -144,4 +145,20 @@ class MapUserCredentialRepositoryTests {
 			.containsOnly(newCredentialRecord);
 	}
 
+	@Test
+	void updateUsageWhenOlderUpdateAfterNewerThenSignatureCountNotDecreased() {
+		ImmutableCredentialRecord credentialRecord = TestCredentialRecords.userCredential().build();
+		this.userCredentials.save(credentialRecord);
+		CredentialRecord newer = ImmutableCredentialRecord.fromCredentialRecord(credentialRecord)
+			.signatureCount(credentialRecord.getSignatureCount() + 2)
+			.build();
+		CredentialRecord older = ImmutableCredentialRecord.fromCredentialRecord(credentialRecord)
+			.signatureCount(credentialRecord.getSignatureCount() + 1)
+			.build();
+		this.userCredentials.updateUsage(List.of(newer));
+		this.userCredentials.updateUsage(List.of(older));
+		assertThat(this.userCredentials.findByCredentialId(credentialRecord.getCredentialId()).getSignatureCount())
+			.isEqualTo(newer.getSignatureCount());
+	}
+
 }